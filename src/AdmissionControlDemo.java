@@ -0,0 +1,113 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import admission.*;
+import service.ServiceFactory;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class AdmissionControlDemo {
+    private static final int SLOT_COUNT = 5000;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 1000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Admission Control Demo (stadium ingress: " + THREADS * ATTEMPTS_PER_THREAD
+                + " arrivals for " + SLOT_COUNT + " slots) ===\n");
+
+        System.out.println("1. Every caller goes straight to parkVehicle");
+        ParkingLot rawLot = buildLot();
+        runIngress(rawLot, (vehicle, gate) -> {
+            try {
+                rawLot.parkVehicle(vehicle, gate);
+                return AdmissionStatus.ADMITTED;
+            } catch (RuntimeException e) {
+                return AdmissionStatus.LOT_FULL;
+            }
+        });
+
+        System.out.println("\n2. Callers go through per-gate admission control");
+        ParkingLot controlledLot = buildLot();
+        AdmissionController controller = new AdmissionController(controlledLot, 20000, 1000, 4, 5);
+        runIngress(controlledLot, (vehicle, gate) -> controller.admit(vehicle, gate).getStatus());
+        for (GateAdmissionMetrics metrics : controller.getAllMetrics().values()) {
+            System.out.println("   " + metrics + " shed=" + metrics.getShedCount());
+        }
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private interface ParkAttempt {
+        AdmissionStatus attempt(Vehicle vehicle, Gate gate);
+    }
+
+    private static void runIngress(ParkingLot parkingLot, ParkAttempt parkAttempt) throws Exception {
+        List<Gate> entryGates = Arrays.asList(parkingLot.getGates().get(0), parkingLot.getGates().get(1));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> results = new ArrayList<>();
+        Map<AdmissionStatus, LongAdderCount> outcomes = new ConcurrentHashMap<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            results.add(executor.submit(() -> {
+                long[] latencies = new long[ATTEMPTS_PER_THREAD];
+                Gate gate = entryGates.get(thread % entryGates.size());
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    Vehicle vehicle = new Vehicle("CAR-" + thread + "-" + i, VehicleType.CAR, FuelType.PETROL, new ArrayList<>());
+                    long attemptStart = System.nanoTime();
+                    AdmissionStatus status = parkAttempt.attempt(vehicle, gate);
+                    latencies[i] = System.nanoTime() - attemptStart;
+                    outcomes.computeIfAbsent(status, s -> new LongAdderCount()).increment();
+                }
+                return latencies;
+            }));
+        }
+        long[] all = new long[THREADS * ATTEMPTS_PER_THREAD];
+        int filled = 0;
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            System.arraycopy(latencies, 0, all, filled, latencies.length);
+            filled += latencies.length;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(all);
+        System.out.printf("   finished in %.0f ms, occupied=%d, outcomes=%s%n", elapsedNanos / 1e6,
+                parkingLot.getOccupiedSlotCount(), new TreeMap<>(outcomes));
+        System.out.printf("   attempt latency p50=%dus p99=%dus p99.9=%dus max=%dus%n",
+                all[all.length / 2] / 1000, all[(int) (all.length * 0.99)] / 1000,
+                all[(int) (all.length * 0.999)] / 1000, all[all.length - 1] / 1000);
+    }
+
+    private static final class LongAdderCount {
+        private final java.util.concurrent.atomic.LongAdder count = new java.util.concurrent.atomic.LongAdder();
+
+        void increment() {
+            count.increment();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(count.sum());
+        }
+    }
+
+    private static ParkingLot buildLot() {
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate entryGate2 = new Gate("ENTRY-2", GateType.ENTRY);
+        List<Gate> gates = new ArrayList<>(Arrays.asList(entryGate1, entryGate2));
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + i)
+                .withSlotType(SlotType.MEDIUM)
+                .withService(ServiceFactory.getCleaningService())
+                .withDistance(entryGate1, i)
+                .withDistance(entryGate2, SLOT_COUNT - i)
+                .build());
+        }
+        return new ParkingLot(gates, slots, new FixedPricingStrategy(), new NearestMatchingSlotStrategy());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Bytes allocated per park and per unpark, default mode against low-allocation mode.
+ *
+ * Allocation is read from the JDK's per-thread allocation counter
+ * (com.sun.management.ThreadMXBean), the same figure JMH's gc profiler reports as
+ * gc.alloc.rate.norm. Each mode is warmed up before it is measured.
+ */
+public class AllocationBenchmarkDemo {
+    private static final int SLOT_COUNT = 500;
+    private static final int VEHICLES = 400;
+    private static final int WARMUP_ROUNDS = 500;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("Per-thread allocation counters are not supported by this JVM");
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        System.out.println("=== Allocation Benchmark (" + SLOT_COUNT + " slots, " + VEHICLES + " vehicles, "
+                + rounds + " rounds of park-all/unpark-all) ===\n");
+
+        for (boolean lowAllocation : new boolean[] {false, true}) {
+            System.out.println(lowAllocation ? "Low-allocation mode (pooled tickets):" : "Default mode:");
+            Gate entryGate = new Gate("ENTRY-1", GateType.ENTRY);
+            Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+            ParkingLot lot = buildLot(entryGate, exitGate);
+            if (lowAllocation) {
+                lot.enableLowAllocationMode(VEHICLES);
+            }
+            Vehicle[] vehicles = buildVehicles();
+            Ticket[] tickets = new Ticket[VEHICLES];
+            long[] bytes = new long[2];
+
+            run(lot, vehicles, tickets, entryGate, exitGate, WARMUP_ROUNDS, threads, bytes);
+            Arrays.fill(bytes, 0);
+            long gcCount = gcCount();
+            long gcMillis = gcMillis();
+            long start = System.nanoTime();
+            run(lot, vehicles, tickets, entryGate, exitGate, rounds, threads, bytes);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long operations = (long) rounds * VEHICLES;
+
+            System.out.printf("   park   %6.1f bytes/op%n", (double) bytes[0] / operations);
+            System.out.printf("   unpark %6.1f bytes/op%n", (double) bytes[1] / operations);
+            System.out.printf("   %,.0f stays/s, %d collections taking %d ms%n",
+                    operations / seconds, gcCount() - gcCount, gcMillis() - gcMillis);
+            if (lowAllocation) {
+                System.out.println("   " + lot.getTicketPool());
+            }
+            System.out.println();
+        }
+
+        System.out.println("=== Benchmark completed ===");
+    }
+
+    /**
+     * Park every vehicle, then unpark (and in low-allocation mode release) every ticket,
+     * adding the bytes allocated by each call to bytes[0] (park) and bytes[1] (unpark)
+     */
+    private static void run(ParkingLot lot, Vehicle[] vehicles, Ticket[] tickets, Gate entryGate, Gate exitGate,
+                            int rounds, com.sun.management.ThreadMXBean threads, long[] bytes) {
+        long threadId = Thread.currentThread().getId();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < vehicles.length; i++) {
+                long before = threads.getThreadAllocatedBytes(threadId);
+                tickets[i] = lot.parkVehicle(vehicles[i], entryGate);
+                bytes[0] += threads.getThreadAllocatedBytes(threadId) - before;
+            }
+            for (int i = 0; i < vehicles.length; i++) {
+                long before = threads.getThreadAllocatedBytes(threadId);
+                lot.unparkVehicle(tickets[i], exitGate);
+                bytes[1] += threads.getThreadAllocatedBytes(threadId) - before;
+                lot.releaseTicket(tickets[i]);
+            }
+        }
+    }
+
+    private static ParkingLot buildLot(Gate entryGate, Gate exitGate) {
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            ParkingSlotBuilder builder = new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + String.format("%04d", i))
+                .withSlotType(i % 10 == 0 ? SlotType.LARGE : SlotType.MEDIUM)
+                .withService(ServiceFactory.getCleaningService())
+                .withDistance(entryGate, i);
+            if (i % 4 == 1) {
+                builder.withService(ServiceFactory.getEVChargingService());
+            }
+            slots.add(builder.build());
+        }
+        return new ParkingLot(new ArrayList<>(Arrays.asList(entryGate, exitGate)), slots,
+                new FixedPricingStrategy(), new NearestMatchingSlotStrategy());
+    }
+
+    private static Vehicle[] buildVehicles() {
+        Vehicle[] vehicles = new Vehicle[VEHICLES];
+        for (int i = 0; i < VEHICLES; i++) {
+            List<Service> services = i % 3 == 0
+                ? Arrays.asList(ServiceFactory.getCleaningService()) : new ArrayList<>();
+            vehicles[i] = new Vehicle("CAR-" + i, i % 20 == 0 ? VehicleType.TRUCK : VehicleType.CAR,
+                    FuelType.PETROL, services);
+        }
+        return vehicles;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import billing.*;
+import simulation.*;
+import clock.VirtualClock;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class BillingDemo {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    public static void main(String[] args) throws IOException {
+        int syntheticEntries = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        System.out.println("=== Billing Ledger Demo ===\n");
+
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate entryGate2 = new Gate("ENTRY-2", GateType.ENTRY);
+        Gate exitGate1 = new Gate("EXIT-1", GateType.EXIT);
+        Gate exitGate2 = new Gate("EXIT-2", GateType.EXIT);
+        List<Gate> gates = new ArrayList<>(Arrays.asList(entryGate1, entryGate2, exitGate1, exitGate2));
+
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ParkingSlotBuilder builder = new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + String.format("%04d", i))
+                .withSlotType(i % 10 == 0 ? SlotType.LARGE : (i % 5 == 0 ? SlotType.SMALL : SlotType.MEDIUM))
+                .withService(ServiceFactory.getCleaningService())
+                .withDistance(entryGate1, i)
+                .withDistance(entryGate2, 1000 - i);
+            if (i % 4 == 1) {
+                builder.withService(ServiceFactory.getEVChargingService());
+            }
+            slots.add(builder.build());
+        }
+
+        Path ledgerFile = Files.createTempFile("billing-ledger", ".csv");
+        System.out.println("1. Two simulated days through a lot that records every fee breakdown");
+        TrafficProfile profile = new TrafficProfileBuilder()
+            .withSeed(11L)
+            .withArrivalsPerHour(500)
+            .withVehicleType(VehicleType.CAR, 0.7)
+            .withVehicleType(VehicleType.BIKE, 0.2)
+            .withVehicleType(VehicleType.TRUCK, 0.1)
+            .withFuelType(FuelType.PETROL, 0.8)
+            .withFuelType(FuelType.ELECTRIC, 0.2)
+            .withService(ServiceFactory.getCleaningService(), 0.2)
+            .withService(ServiceFactory.getEVChargingService(), 0.15)
+            .withEntryGate("ENTRY-1")
+            .withEntryGate("ENTRY-2")
+            .withExitGate("EXIT-1")
+            .withExitGate("EXIT-2")
+            .build();
+        ParkingLot parkingLot = new ParkingLot(gates, slots, new FixedPricingStrategy(), new BestFitSlotStrategy());
+        try (BillingLedger ledger = new BillingLedger(ledgerFile)) {
+            parkingLot.setBillingLedger(ledger);
+            SimulationReport report = new TrafficSimulator(parkingLot).run(new TrafficGenerator(profile, 0, 2 * DAY_MILLIS));
+            System.out.println("   " + report.getParked() + " stays, " + ledger.getEntriesWritten() + " ledger entries");
+        }
+
+        RevenueAggregator aggregator = new RevenueAggregator(Runtime.getRuntime().availableProcessors());
+        RevenueTotals day1 = aggregator.aggregate(ledgerFile, 0, DAY_MILLIS);
+        System.out.println("   Day 1 totals: " + day1);
+
+        System.out.println("\n2. Appending " + syntheticEntries + " synthetic entries and aggregating in parallel");
+        Random random = new Random(42);
+        VehicleType[] vehicleTypes = VehicleType.values();
+        try (BillingLedger ledger = new BillingLedger(ledgerFile)) {
+            for (int i = 0; i < syntheticEntries; i++) {
+                VehicleType vehicleType = vehicleTypes[random.nextInt(vehicleTypes.length)];
+                List<Service> services = random.nextInt(4) == 0
+                    ? Arrays.asList(ServiceFactory.getCleaningService()) : new ArrayList<>();
+                Vehicle vehicle = new Vehicle("V-" + i, vehicleType, FuelType.PETROL, services);
+                Ticket ticket = new Ticket("TKT-S" + i, vehicle, slots.get(random.nextInt(slots.size())),
+                        2 * DAY_MILLIS, entryGate1);
+                long exitTimeMillis = 2 * DAY_MILLIS + (long) i * DAY_MILLIS / syntheticEntries;
+                ledger.record(ticket, random.nextBoolean() ? exitGate1 : exitGate2, exitTimeMillis,
+                        parkingLot.getPricingStrategy().calculateBreakdown(ticket, exitTimeMillis + random.nextInt(5 * 3_600_000)));
+            }
+        }
+        System.out.printf("   Ledger file: %,d bytes%n", Files.size(ledgerFile));
+
+        RevenueTotals sequential = null;
+        for (int parallelism : new int[] {1, 4}) {
+            long start = System.nanoTime();
+            RevenueTotals totals = new RevenueAggregator(parallelism).aggregate(ledgerFile, 0, Long.MAX_VALUE);
+            System.out.printf("   parallelism=%d: %d entries in %.0f ms, total %s%n", parallelism, totals.getEntries(),
+                    (System.nanoTime() - start) / 1e6, FeeBreakdown.formatCents(totals.getTotalCents()));
+            if (sequential == null) {
+                sequential = totals;
+            } else if (sequential.getTotalCents() != totals.getTotalCents() || sequential.getEntries() != totals.getEntries()) {
+                throw new IllegalStateException("Parallel aggregation disagrees with the sequential run");
+            }
+        }
+        System.out.println("   Day 3 totals: " + aggregator.aggregate(ledgerFile, 2 * DAY_MILLIS, 3 * DAY_MILLIS));
+
+        Files.deleteIfExists(ledgerFile);
+
+        System.out.println("\n3. Itemised receipts, formatted off the exit path only when asked for");
+        VirtualClock clock = new VirtualClock(DAY_MILLIS);
+        List<ParkingSlot> receiptSlots = new ArrayList<>(Arrays.asList(
+            new ParkingSlotBuilder().withSlotId("EV-01").withSlotType(SlotType.MEDIUM)
+                .withService(ServiceFactory.getCleaningService()).withService(ServiceFactory.getEVChargingService())
+                .withDistance(entryGate1, 5).build(),
+            new ParkingSlotBuilder().withSlotId("STD-01").withSlotType(SlotType.MEDIUM)
+                .withDistance(entryGate1, 10).build()));
+        ParkingLot receiptLot = new ParkingLot(gates, receiptSlots, new FixedPricingStrategy(),
+                new NearestMatchingSlotStrategy(), clock);
+        Ticket evTicket = receiptLot.parkVehicle(new Vehicle("EV-7", VehicleType.CAR, FuelType.ELECTRIC,
+                Arrays.asList(ServiceFactory.getEVChargingService(), ServiceFactory.getCleaningService())), entryGate1);
+        Ticket carTicket = receiptLot.parkVehicle(new Vehicle("CAR-9", VehicleType.CAR, FuelType.PETROL,
+                new ArrayList<>()), entryGate1);
+        clock.advance(150, TimeUnit.MINUTES);
+        receiptLot.payFee(carTicket, receiptLot.quoteFee(carTicket).getAmountDue());
+        receiptLot.unparkVehicle(evTicket, exitGate1);
+        receiptLot.unparkVehicle(carTicket, exitGate2);
+        try (ReceiptFormatter formatter = new ReceiptFormatter()) {
+            System.out.print(formatter.format(evTicket, ReceiptFormat.TEXT).join());
+            System.out.println(formatter.format(carTicket, ReceiptFormat.JSON).join());
+        }
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+import strategy.*;
+import stress.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Headless concurrency stress run; exits with status 1 if any invariant is violated.
+ * Usage: java ConcurrencyStressDemo [runsPerScenario] [seed]
+ */
+public class ConcurrencyStressDemo {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 3000;
+    private static final int SLOT_COUNT = 32;
+
+    public static void main(String[] args) throws InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        System.out.println("=== Concurrency Stress Demo (" + THREADS + " threads x " + OPERATIONS_PER_THREAD
+                + " operations, " + SLOT_COUNT + " slots, " + runs + " runs per scenario) ===\n");
+
+        Map<String, Supplier<SlotAllotmentStrategy>> scenarios = new LinkedHashMap<>();
+        scenarios.put("nearest", NearestMatchingSlotStrategy::new);
+        scenarios.put("best-fit", BestFitSlotStrategy::new);
+        scenarios.put("ev-aware", () -> new EVAwareSlotStrategy(0.9, 40, 2));
+        scenarios.put("zone-guided", ZoneGuidedSlotStrategy::new);
+
+        ConcurrencyStressHarness harness = new ConcurrencyStressHarness(THREADS, OPERATIONS_PER_THREAD, SLOT_COUNT);
+        int failedRuns = 0;
+        for (Map.Entry<String, Supplier<SlotAllotmentStrategy>> scenario : scenarios.entrySet()) {
+            for (int gateCacheBatch : new int[] {0, 4}) {
+                String name = scenario.getKey() + (gateCacheBatch > 0 ? " + gate caches" : "");
+                for (int run = 0; run < runs; run++) {
+                    StressRunResult result = harness.run(name, scenario.getValue(), gateCacheBatch, seed + run);
+                    System.out.println(result);
+                    if (!result.isClean()) {
+                        failedRuns++;
+                        for (String violation : result.getViolations()) {
+                            System.out.println("   " + violation);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (failedRuns > 0) {
+            System.out.println("\n=== " + failedRuns + " run(s) found violations ===");
+            System.exit(1);
+        }
+        System.out.println("\n=== All runs clean ===");
+    }
+}
\ No newline at end of file
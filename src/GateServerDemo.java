@@ -0,0 +1,88 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import gateway.*;
+import service.ServiceFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.*;
+
+public class GateServerDemo {
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Gate Protocol Server Demo ===\n");
+
+        ParkingLot parkingLot = buildLot();
+        GateRequestHandler handler = new GateRequestHandler(parkingLot);
+        InetSocketAddress loopback = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+        try (GateServer server = new GateServer(handler, loopback)) {
+            server.start();
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            System.out.println("1. Gate server listening on " + address);
+
+            System.out.println("\n2. One gate's conversation (pipelined in a single write)");
+            try (GateConnection gate = new SocketGateConnection(address)) {
+                List<String> requests = Arrays.asList(
+                        "PARK 1 ENTRY-1 CAR-001 CAR ELECTRIC EV_CHARGING",
+                        "PARK 2 ENTRY-1 BIKE-001 BIKE PETROL",
+                        "OCCUPANCY 3",
+                        "PARK 4 ENTRY-1 JET-001 PLANE KEROSENE");
+                List<String> responses = gate.exchange(requests);
+                print(requests, responses);
+
+                String carTicket = GateProtocol.field(responses.get(0), 2);
+                String bikeTicket = GateProtocol.field(responses.get(1), 2);
+                requests = Arrays.asList(
+                        "QUOTE 5 " + carTicket,
+                        "UNPARK 6 " + carTicket + " EXIT-1",
+                        "UNPARK 7 " + carTicket + " EXIT-1",
+                        "UNPARK 8 " + bikeTicket + " EXIT-1");
+                print(requests, gate.exchange(requests));
+            }
+
+            System.out.println("\n3. Loopback load: 4 connections, no pipelining");
+            GateLoadClient socketClient = new GateLoadClient(() -> new SocketGateConnection(address), "ENTRY-1", "EXIT-1");
+            socketClient.run(4, 200, 1);
+            System.out.println("   " + socketClient.run(4, 2000, 1));
+
+            System.out.println("\n4. Loopback load: 4 connections, pipeline depth 32");
+            socketClient.run(4, 50, 32);
+            System.out.println("   " + socketClient.run(4, 250, 32));
+            System.out.println("   Server handled " + server.getRequestsHandled() + " requests on "
+                    + server.getConnectionsAccepted() + " connections");
+        }
+
+        System.out.println("\n5. Same load against the in-process stand-in (no sockets)");
+        GateLoadClient localClient = new GateLoadClient(() -> new LocalGateConnection(handler), "ENTRY-1", "EXIT-1");
+        localClient.run(4, 50, 32);
+        System.out.println("   " + localClient.run(4, 250, 32));
+        System.out.println("   Slots still occupied: " + parkingLot.getOccupiedSlotCount());
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static void print(List<String> requests, List<String> responses) {
+        for (int i = 0; i < requests.size(); i++) {
+            System.out.println("   > " + requests.get(i));
+            System.out.println("   < " + responses.get(i));
+        }
+    }
+
+    private static ParkingLot buildLot() {
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate exitGate1 = new Gate("EXIT-1", GateType.EXIT);
+        List<Gate> gates = new ArrayList<>(Arrays.asList(entryGate1, exitGate1));
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ParkingSlotBuilder builder = new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + String.format("%04d", i))
+                .withSlotType(i % 10 == 0 ? SlotType.LARGE : SlotType.MEDIUM)
+                .withDistance(entryGate1, i);
+            if (i % 8 == 1) {
+                builder.withService(ServiceFactory.getEVChargingService());
+            }
+            slots.add(builder.build());
+        }
+        return new ParkingLot(gates, slots, new FixedPricingStrategy(), new BestFitSlotStrategy());
+    }
+}
\ No newline at end of file
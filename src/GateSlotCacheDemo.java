@@ -0,0 +1,118 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import simulation.*;
+import service.ServiceFactory;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class GateSlotCacheDemo {
+    private static final int SLOT_COUNT = 2000;
+    private static final int THREADS_PER_GATE = 4;
+    private static final int PARKS_PER_THREAD = 50_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Gate Slot Cache Demo ===\n");
+
+        System.out.println("1. Concurrent park/unpark from two entry gates, shared slot lock only");
+        ParkingLot sharedLot = buildLot(new BestFitSlotStrategy());
+        runContention(sharedLot);
+
+        System.out.println("\n2. Same load with gate-local caches (batch of 16 slots per gate)");
+        ParkingLot cachedLot = buildLot(new BestFitSlotStrategy());
+        cachedLot.enableGateCaches(16, 60_000);
+        runContention(cachedLot);
+        for (Map.Entry<Gate, GateCacheStats> entry : cachedLot.getGateCacheStatsByGate().entrySet()) {
+            System.out.println("   " + entry.getKey().getGateId() + ": " + entry.getValue());
+        }
+        cachedLot.releaseGateCaches();
+        System.out.println("   After releasing caches, available slots: " + cachedLot.getAvailableSlotCount()
+                + " / " + SLOT_COUNT);
+
+        System.out.println("\n3. Placement drift on a simulated day (nearest-slot strategy)");
+        TrafficProfile profile = new TrafficProfileBuilder()
+            .withSeed(7L)
+            .withArrivalsPerHour(900)
+            .withMedianDwellMillis(90 * 60 * 1000L)
+            .withVehicleType(VehicleType.CAR, 0.8)
+            .withVehicleType(VehicleType.BIKE, 0.2)
+            .withEntryGate("ENTRY-1")
+            .withEntryGate("ENTRY-2")
+            .withExitGate("EXIT-1")
+            .build();
+        SimulationReport baseline = new TrafficSimulator(buildLot(new NearestMatchingSlotStrategy())).run(
+                new TrafficGenerator(profile, 0, 24L * 60 * 60 * 1000));
+        System.out.println("   no cache rejected=" + baseline.getRejected());
+        for (int batchSize : new int[] {4, 16, 64}) {
+            ParkingLot simLot = buildLot(new NearestMatchingSlotStrategy());
+            simLot.enableGateCaches(batchSize, 10 * 60 * 1000L);
+            SimulationReport report = new TrafficSimulator(simLot).run(
+                    new TrafficGenerator(profile, 0, 24L * 60 * 60 * 1000));
+            System.out.println("   batch=" + batchSize + " rejected=" + report.getRejected()
+                    + " " + simLot.getGateCacheStats());
+        }
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static void runContention(ParkingLot parkingLot) throws Exception {
+        List<Gate> entryGates = Arrays.asList(parkingLot.getGates().get(0), parkingLot.getGates().get(1));
+        Gate exitGate = parkingLot.getGates().get(2);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_PER_GATE * entryGates.size());
+        List<Future<Integer>> results = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS_PER_GATE * entryGates.size(); t++) {
+            final Gate gate = entryGates.get(t % entryGates.size());
+            final Vehicle vehicle = new Vehicle("CAR-" + t, VehicleType.CAR, FuelType.PETROL, new ArrayList<>());
+            results.add(executor.submit(() -> {
+                // Each thread keeps a few cars parked so the lot stays partly occupied
+                ArrayDeque<Ticket> parked = new ArrayDeque<>();
+                int failures = 0;
+                for (int i = 0; i < PARKS_PER_THREAD; i++) {
+                    try {
+                        parked.add(parkingLot.parkVehicle(vehicle, gate));
+                    } catch (RuntimeException e) {
+                        failures++;
+                    }
+                    if (parked.size() > 20) {
+                        parkingLot.unparkVehicle(parked.poll(), exitGate);
+                    }
+                }
+                for (Ticket ticket : parked) {
+                    parkingLot.unparkVehicle(ticket, exitGate);
+                }
+                return failures;
+            }));
+        }
+        int failures = 0;
+        for (Future<Integer> result : results) {
+            failures += result.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        long parks = (long) THREADS_PER_GATE * entryGates.size() * PARKS_PER_THREAD;
+        System.out.printf("   %d parks in %.0f ms (%.0f parks/ms), failures=%d, occupied after run=%d%n",
+                parks, elapsedNanos / 1e6, parks / (elapsedNanos / 1e6), failures, parkingLot.getOccupiedSlotCount());
+    }
+
+    private static ParkingLot buildLot(SlotAllotmentStrategy slotAllotmentStrategy) {
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate entryGate2 = new Gate("ENTRY-2", GateType.ENTRY);
+        Gate exitGate1 = new Gate("EXIT-1", GateType.EXIT);
+        List<Gate> gates = new ArrayList<>(Arrays.asList(entryGate1, entryGate2, exitGate1));
+
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + String.format("%04d", i))
+                .withSlotType(i % 5 == 0 ? SlotType.SMALL : SlotType.MEDIUM)
+                .withService(ServiceFactory.getCleaningService())
+                .withDistance(entryGate1, i)
+                .withDistance(entryGate2, SLOT_COUNT - i)
+                .build());
+        }
+        return new ParkingLot(gates, slots, new FixedPricingStrategy(), slotAllotmentStrategy);
+    }
+}
\ No newline at end of file
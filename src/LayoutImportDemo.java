@@ -0,0 +1,111 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import layout.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class LayoutImportDemo {
+    private static final int SLOT_COUNT = 100_000;
+    private static final int ENTRY_GATES = 20;
+    private static final int EXIT_GATES = 20;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Layout Import Demo ===\n");
+
+        Path dir = Files.createTempDirectory("lot-layout");
+        Path gatesFile = dir.resolve("gates.csv");
+        Path slotsFile = dir.resolve("slots.csv");
+        writeLayout(gatesFile, slotsFile);
+        System.out.printf("1. Exported a %d-slot, %d-gate layout (%.1f MB)%n",
+                SLOT_COUNT, ENTRY_GATES + EXIT_GATES, Files.size(slotsFile) / 1e6);
+
+        System.out.println("\n2. Importing it");
+        LayoutLoader loader = new LayoutLoader();
+        LotLayout layout = null;
+        for (int run = 1; run <= 3; run++) {
+            long start = System.nanoTime();
+            layout = loader.load(gatesFile, slotsFile);
+            System.out.printf("   run %d: %d slots, %d gates in %.0f ms%n", run, layout.getSlotCount(),
+                    layout.getGates().size(), (System.nanoTime() - start) / 1e6);
+        }
+
+        System.out.println("\n3. Parking against the imported lot");
+        ParkingLot parkingLot = layout.toParkingLot(new FixedPricingStrategy(), new NearestMatchingSlotStrategy());
+        Gate entryGate = layout.getGates().get(7);
+        Vehicle truck = new Vehicle("TRUCK-001", VehicleType.TRUCK, FuelType.DIESEL, new ArrayList<>());
+        Ticket ticket = parkingLot.parkVehicle(truck, entryGate);
+        System.out.println("   Truck at " + entryGate.getGateId() + " -> " + ticket.getSlot().getSlotId()
+                + " (" + ticket.getSlot().getSlotType() + ", " + ticket.getSlot().getZone()
+                + ", distance " + ticket.getSlot().getDistanceFromGate(entryGate) + ")");
+        System.out.println("   Available slots: " + parkingLot.getAvailableSlotCount());
+
+        System.out.println("\n4. Validation");
+        String header = "slotId,slotType,zone,services,ENTRY-1,EXIT-1\n";
+        showError(loader, gatesFile, dir, header + "A-1,MEDIUM,ZONE-A,,10,20\nA-1,MEDIUM,ZONE-A,,11,21\n");
+        showError(loader, gatesFile, dir, header + "A-1,MEDIUM,ZONE-A,VALET,10,20\n");
+        showError(loader, gatesFile, dir, header + "A-1,HUGE,ZONE-A,,10,20\n");
+        showError(loader, gatesFile, dir, header + "A-1,MEDIUM,ZONE-A,,,20\n");
+        showError(loader, gatesFile, dir, header + "A-1,MEDIUM,,,10,20\n");
+        showError(loader, gatesFile, dir, "slotId,slotType,zone,services,ENTRY-99\nA-1,MEDIUM,ZONE-A,,10\n");
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static void showError(LayoutLoader loader, Path gatesFile, Path dir, String slotsCsv) throws IOException {
+        Path badFile = dir.resolve("bad-slots.csv");
+        Files.write(badFile, slotsCsv.getBytes());
+        try {
+            loader.load(gatesFile, badFile);
+            System.out.println("   accepted?!");
+        } catch (IllegalArgumentException e) {
+            System.out.println("   rejected: " + e.getMessage());
+        }
+    }
+
+    private static void writeLayout(Path gatesFile, Path slotsFile) throws IOException {
+        List<String> gateIds = new ArrayList<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(gatesFile)) {
+            writer.write("gateId,gateType\n");
+            for (int g = 1; g <= ENTRY_GATES; g++) {
+                gateIds.add("ENTRY-" + g);
+                writer.write("ENTRY-" + g + ",ENTRY\n");
+            }
+            for (int g = 1; g <= EXIT_GATES; g++) {
+                gateIds.add("EXIT-" + g);
+                writer.write("EXIT-" + g + ",EXIT\n");
+            }
+        }
+
+        // Gates spread around a 400 x 250 grid; distance is Manhattan from the gate
+        Random random = new Random(41);
+        int[][] gatePositions = new int[gateIds.size()][];
+        for (int g = 0; g < gatePositions.length; g++) {
+            gatePositions[g] = new int[] {random.nextInt(400), random.nextInt(250)};
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(slotsFile)) {
+            writer.write("slotId,slotType,zone,services," + String.join(",", gateIds) + "\n");
+            StringBuilder row = new StringBuilder();
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                int x = i % 400;
+                int y = i / 400;
+                row.setLength(0);
+                row.append("S-").append(i).append(',')
+                   .append(i % 10 == 0 ? "LARGE" : (i % 5 == 0 ? "SMALL" : "MEDIUM")).append(',')
+                   .append("ZONE-").append((char) ('A' + y / 25)).append(',')
+                   .append(i % 8 == 1 ? "EV_CHARGING;CLEANING" : (i % 3 == 0 ? "CLEANING" : ""));
+                for (int[] position : gatePositions) {
+                    row.append(',').append(Math.abs(position[0] - x) + Math.abs(position[1] - y));
+                }
+                writer.write(row.append('\n').toString());
+            }
+        }
+    }
+}
\ No newline at end of file
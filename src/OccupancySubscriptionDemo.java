@@ -0,0 +1,243 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import occupancy.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OccupancySubscriptionDemo {
+    private static final int LEVELS = 4;
+    private static final String[] ZONES = {"A", "B", "C"};
+    private static final int SLOTS_PER_ZONE = 150;
+    private static final int SUBSCRIBERS = 10_000;
+    private static final long INTERVAL_MILLIS = 50;
+    private static final int OPERATIONS = 200_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Occupancy Subscription Demo ===\n");
+        List<String> problems = new ArrayList<>();
+
+        Gate entryGate = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        ParkingLot plainLot = buildLot(entryGate, exitGate);
+        ParkingLot subscribedLot = buildLot(entryGate, exitGate);
+
+        System.out.println("1. " + SUBSCRIBERS + " subscribers spread over the lot, levels, zones and slot types");
+        List<OccupancyScope> scopes = new ArrayList<>();
+        scopes.add(OccupancyScope.lot());
+        for (int level = 1; level <= LEVELS; level++) {
+            scopes.add(OccupancyScope.zone("L" + level));
+            for (String zone : ZONES) {
+                scopes.add(OccupancyScope.zone("L" + level + "/" + zone));
+            }
+        }
+        for (SlotType slotType : SlotType.values()) {
+            scopes.add(OccupancyScope.slotType(slotType));
+        }
+
+        OccupancySubscriptionHub hub = new OccupancySubscriptionHub(subscribedLot, INTERVAL_MILLIS);
+        AtomicLong callbacks = new AtomicLong();
+        List<LatestValue> fastSubscribers = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            LatestValue subscriber = new LatestValue(callbacks);
+            subscriber.subscription = hub.subscribe(scopes.get(i % scopes.size()), subscriber);
+            fastSubscribers.add(subscriber);
+        }
+        // A signage controller that takes 200 ms per update - far longer than the tick
+        LatestValue slowSign = new LatestValue(new AtomicLong()) {
+            @Override
+            public void onOccupancyChanged(OccupancyUpdate update) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onOccupancyChanged(update);
+            }
+        };
+        slowSign.subscription = hub.subscribeLot(slowSign);
+        System.out.println("   Scopes: " + scopes.size() + ", subscriptions: " + hub.getSubscriberCount()
+                + ", tick every " + INTERVAL_MILLIS + " ms");
+
+        System.out.println("\n2. Same park/unpark sequence on a lot without and with the hub attached (after a warm-up run)");
+        runTraffic(buildLot(entryGate, exitGate), entryGate, exitGate);
+        AtomicLong slotEvents = new AtomicLong();
+        subscribedLot.addSlotStateListener(new SlotStateListener() {
+            @Override
+            public void reset(List<ParkingSlot> slots) {
+            }
+
+            @Override
+            public void onSlotAdded(ParkingSlot slot) {
+            }
+
+            @Override
+            public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+                slotEvents.incrementAndGet();
+            }
+        });
+        long plainNanos = runTraffic(plainLot, entryGate, exitGate);
+        long subscribedNanos = runTraffic(subscribedLot, entryGate, exitGate);
+        System.out.printf("   Without subscribers: %.0f ns/op, with %d subscribers: %.0f ns/op%n",
+                (double) plainNanos / OPERATIONS, hub.getSubscriberCount(), (double) subscribedNanos / OPERATIONS);
+        System.out.println("   Park/unpark only bump the hub's counters; callbacks run on the delivery threads ("
+                + Runtime.getRuntime().availableProcessors() + " CPU(s) shared with the traffic thread)");
+        if (plainLot.getAvailableSlotCount() != subscribedLot.getAvailableSlotCount()) {
+            problems.add("the two lots ended with different free counts");
+        }
+
+        System.out.println("\n3. Letting the dispatcher settle");
+        waitForFinalValues(hub, fastSubscribers, slowSign, 10_000);
+        System.out.println("   Slot events during the run: " + slotEvents.get());
+        System.out.println("   Dispatcher ticks with changes: " + hub.getTickCount()
+                + ", updates computed: " + hub.getPublishedCount());
+        System.out.println("   Subscriber callbacks: " + callbacks.get()
+                + " (polling each tick instead would take the lot lock " + SUBSCRIBERS + " times per tick)");
+        System.out.println("   Slow sign: " + slowSign.subscription.getDeliveredCount() + " updates shown, "
+                + slowSign.subscription.getCoalescedCount() + " superseded before it got to them");
+
+        int stale = 0;
+        for (LatestValue subscriber : fastSubscribers) {
+            OccupancyScope scope = subscriber.subscription.getScope();
+            if (subscriber.lastFree != countFree(subscribedLot, scope)) {
+                stale++;
+            }
+        }
+        System.out.println("   Subscribers whose last update differs from a locked recount: " + stale);
+        if (stale > 0) {
+            problems.add(stale + " subscribers did not receive the final counts");
+        }
+        if (slowSign.lastFree != subscribedLot.getAvailableSlotCount()) {
+            problems.add("the slow subscriber never caught up with the final count");
+        }
+        if (hub.getPublishedCount() > hub.getTickCount() * scopes.size()) {
+            problems.add("more updates computed than changed scopes per tick");
+        }
+
+        System.out.println("\n4. Cancelling and closing");
+        LatestValue cancelled = fastSubscribers.get(0);
+        long before = cancelled.subscription.getDeliveredCount();
+        cancelled.subscription.cancel();
+        ParkingSlot slot = subscribedLot.parkVehicle(new Vehicle("AFTER-CANCEL", VehicleType.CAR, FuelType.PETROL,
+                new ArrayList<>()), entryGate).getSlot();
+        Thread.sleep(INTERVAL_MILLIS * 4);
+        System.out.println("   Parked in " + slot.getSlotId() + "; cancelled subscriber got "
+                + (cancelled.subscription.getDeliveredCount() - before) + " more updates, hub now has "
+                + hub.getSubscriberCount() + " subscriptions");
+        if (cancelled.subscription.getDeliveredCount() != before) {
+            problems.add("a cancelled subscription was still notified");
+        }
+        hub.close();
+
+        if (problems.isEmpty()) {
+            System.out.println("\n=== Demo completed successfully! ===");
+        } else {
+            System.out.println("\nProblems found:");
+            for (String problem : problems) {
+                System.out.println("   - " + problem);
+            }
+            System.exit(1);
+        }
+    }
+
+    private static long runTraffic(ParkingLot lot, Gate entryGate, Gate exitGate) {
+        Random random = new Random(11);
+        List<Ticket> tickets = new ArrayList<>();
+        int capacity = LEVELS * ZONES.length * SLOTS_PER_ZONE;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            boolean park = tickets.isEmpty() || (tickets.size() < capacity && random.nextInt(100) < 52);
+            if (park) {
+                VehicleType vehicleType = random.nextInt(8) == 0 ? VehicleType.TRUCK : VehicleType.CAR;
+                try {
+                    tickets.add(lot.parkVehicle(new Vehicle("V-" + i, vehicleType, FuelType.PETROL,
+                            new ArrayList<>()), entryGate));
+                } catch (RuntimeException e) {
+                    // No slot for this vehicle type right now
+                }
+            } else {
+                lot.unparkVehicle(tickets.remove(random.nextInt(tickets.size())), exitGate);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void waitForFinalValues(OccupancySubscriptionHub hub, List<LatestValue> subscribers,
+                                           LatestValue slowSign, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            boolean settled = slowSign.lastFree == hub.getFreeSlots(OccupancyScope.lot());
+            for (int i = 0; settled && i < subscribers.size(); i++) {
+                LatestValue subscriber = subscribers.get(i);
+                settled = subscriber.lastFree == hub.getFreeSlots(subscriber.subscription.getScope());
+            }
+            if (settled) {
+                return;
+            }
+            Thread.sleep(INTERVAL_MILLIS);
+        }
+    }
+
+    /**
+     * Free slots in a scope counted the polling way, from the lot's slot list
+     */
+    private static int countFree(ParkingLot lot, OccupancyScope scope) {
+        int free = 0;
+        for (ParkingSlot slot : lot.getSlots()) {
+            boolean inScope;
+            switch (scope.getType()) {
+                case SLOT_TYPE:
+                    inScope = slot.getSlotType() == scope.getSlotType();
+                    break;
+                case ZONE:
+                    inScope = slot.getZone().equals(scope.getZonePath())
+                            || slot.getZone().startsWith(scope.getZonePath() + "/");
+                    break;
+                default:
+                    inScope = true;
+            }
+            if (inScope && slot.getAvailability().isFree()) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    private static ParkingLot buildLot(Gate entryGate, Gate exitGate) {
+        List<ParkingSlot> slots = new ArrayList<>();
+        int distance = 0;
+        for (int level = 1; level <= LEVELS; level++) {
+            for (String zone : ZONES) {
+                for (int i = 0; i < SLOTS_PER_ZONE; i++) {
+                    slots.add(new ParkingSlotBuilder()
+                        .withSlotId(String.format("L%d-%s-%03d", level, zone, i))
+                        .withSlotType(i % 10 == 0 ? SlotType.LARGE : SlotType.MEDIUM)
+                        .withZone("L" + level + "/" + zone)
+                        .withDistance(entryGate, distance++)
+                        .build());
+                }
+            }
+        }
+        return new ParkingLot(new ArrayList<>(Arrays.asList(entryGate, exitGate)), slots,
+                new FixedPricingStrategy(), new NearestMatchingSlotStrategy());
+    }
+
+    /**
+     * Remembers the last free count it was sent, like a sign or an app screen
+     */
+    private static class LatestValue implements OccupancySubscriber {
+        private final AtomicLong callbacks;
+        private volatile int lastFree = OccupancyUpdate.NO_PREVIOUS;
+        private OccupancySubscription subscription;
+
+        LatestValue(AtomicLong callbacks) {
+            this.callbacks = callbacks;
+        }
+
+        @Override
+        public void onOccupancyChanged(OccupancyUpdate update) {
+            lastFree = update.getFreeSlots();
+            callbacks.incrementAndGet();
+        }
+    }
+}
\ No newline at end of file
@@ -3,7 +3,9 @@ import enums.*;
 import strategy.*;
 import service.ServiceFactory;
 import service.interfaces.Service;
+import clock.VirtualClock;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class ParkingLotDemo {
     public static void main(String[] args) {
@@ -57,8 +59,11 @@ public class ParkingLotDemo {
         PricingStrategy pricingStrategy = new FixedPricingStrategy();
         SlotAllotmentStrategy slotAllotmentStrategy = new NearestMatchingSlotStrategy();
         
+        // Virtual clock so time can be simulated without sleeping
+        VirtualClock clock = new VirtualClock(System.currentTimeMillis());
+        
         // Create parking lot
-        ParkingLot parkingLot = new ParkingLot(gates, slots, pricingStrategy, slotAllotmentStrategy);
+        ParkingLot parkingLot = new ParkingLot(gates, slots, pricingStrategy, slotAllotmentStrategy, clock);
         
         // Create vehicles
         Vehicle bike = new Vehicle("BIKE-001", VehicleType.BIKE, FuelType.PETROL, 
@@ -83,7 +88,7 @@ public class ParkingLotDemo {
             System.out.println();
             
             // Simulate some time passing
-            Thread.sleep(1000);
+            clock.advance(10, TimeUnit.MINUTES);
             
             // Park electric car
             Ticket carTicket = parkingLot.parkVehicle(electricCar, entryGate1);
@@ -94,7 +99,7 @@ public class ParkingLotDemo {
             System.out.println();
             
             // Simulate some time passing
-            Thread.sleep(1000);
+            clock.advance(10, TimeUnit.MINUTES);
             
             // Park truck
             Ticket truckTicket = parkingLot.parkVehicle(truck, entryGate2);
@@ -105,8 +110,8 @@ public class ParkingLotDemo {
             System.out.println();
             
             // Simulate parking duration
-            System.out.println("2. Simulating parking duration (2 seconds)...\n");
-            Thread.sleep(2000);
+            System.out.println("2. Simulating parking duration (2 hours)...\n");
+            clock.advance(2, TimeUnit.HOURS);
             
             System.out.println("3. Unparking vehicles...\n");
             
@@ -122,9 +127,19 @@ public class ParkingLotDemo {
             System.out.println("  Parking Fee: $" + String.format("%.2f", carFee));
             System.out.println();
             
-            // Unpark truck
-            double truckFee = parkingLot.unparkVehicle(truckTicket, exitGate1);
+            // Truck driver pays at a kiosk first, then walks to the truck
+            FeeQuote truckQuote = parkingLot.quoteFee(truckTicket);
+            System.out.println("✓ Truck fee quoted at kiosk: $" + String.format("%.2f", truckQuote.getAmountDue())
+                    + " (valid until " + new Date(truckQuote.getValidUntilMillis()) + ")");
+            long paidUntil = parkingLot.payFee(truckTicket, truckQuote.getAmountDue());
+            System.out.println("  Paid - exit without charge until " + new Date(paidUntil));
+            clock.advance(5, TimeUnit.MINUTES);
+            
+            // Unpark truck - already paid, so nothing is due at the gate
+            double truckDue = parkingLot.unparkVehicle(truckTicket, exitGate1);
+            double truckFee = truckQuote.getAmountDue() + truckDue;
             System.out.println("✓ Truck unparked successfully!");
+            System.out.println("  Due at exit: $" + String.format("%.2f", truckDue));
             System.out.println("  Parking Fee: $" + String.format("%.2f", truckFee));
             System.out.println();
             
@@ -134,6 +149,27 @@ public class ParkingLotDemo {
             System.out.println("Total revenue: $" + String.format("%.2f", bikeFee + carFee + truckFee));
             System.out.println("All parking slots are now available again.");
             
+            // Slot lifecycle beyond free/occupied
+            System.out.println("\n4. Maintenance closure and post-service cleaning...\n");
+            parkingLot.closeSlot(slot2);
+            parkingLot.setCleaningAfterServicedStays(true);
+            Ticket secondCarTicket = parkingLot.parkVehicle(electricCar, entryGate1);
+            System.out.println("✓ SLOT-002 closed for maintenance - electric car sent to " + secondCarTicket.getSlot().getSlotId());
+            clock.advance(45, TimeUnit.MINUTES);
+            parkingLot.unparkVehicle(secondCarTicket, exitGate1);
+            System.out.println("✓ Electric car left after charging - " + secondCarTicket.getSlot().getSlotId()
+                    + " is now " + secondCarTicket.getSlot().getAvailability());
+            printSlotCounts(parkingLot);
+            try {
+                parkingLot.reopenSlot(slot4);
+            } catch (IllegalStateException e) {
+                System.out.println("✓ Rejected invalid transition: " + e.getMessage());
+            }
+            parkingLot.markSlotCleaned(slot4);
+            parkingLot.reopenSlot(slot2);
+            System.out.println("✓ SLOT-004 cleaned and SLOT-002 reopened");
+            printSlotCounts(parkingLot);
+            
         } catch (Exception e) {
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
@@ -141,4 +177,12 @@ public class ParkingLotDemo {
         
         System.out.println("\n=== Demo completed successfully! ===");
     }
+
+    private static void printSlotCounts(ParkingLot parkingLot) {
+        StringBuilder counts = new StringBuilder("  Slots by state:");
+        for (SlotAvailability availability : SlotAvailability.values()) {
+            counts.append(' ').append(availability).append('=').append(parkingLot.getSlotCount(availability));
+        }
+        System.out.println(counts);
+    }
 }
\ No newline at end of file
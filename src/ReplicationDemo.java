@@ -0,0 +1,193 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import replication.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+public class ReplicationDemo {
+    private static final int SLOTS = 500;
+    private static final int CLIENTS = 16;
+    private static final int PARKED_PER_CLIENT = 20;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Replication Demo ===\n");
+
+        try (LocalReplicationCluster cluster = new LocalReplicationCluster(3, ReplicationDemo::buildLot)) {
+            ReplicaNode leader = cluster.awaitLeader(2000);
+            System.out.println("1. Three replicas in one JVM; " + leader.getNodeId() + " leads term " + leader.getCurrentTerm());
+
+            System.out.println("\n2. " + CLIENTS + " gate clients parking and unparking through the leader for 1s");
+            Map<String, Ticket> held = new ConcurrentHashMap<>();
+            LoadResult steady = runLoad(cluster, held, 1000, null);
+            System.out.println("   " + steady);
+            System.out.printf("   Leader ships %.1f entries per append message%n", leader.getAverageBatchSize());
+
+            System.out.println("\n3. Follower reads (occupied slots, applied log index)");
+            printNodes(cluster);
+
+            System.out.println("\n4. Isolating the leader mid-load, healing it 1s later");
+            String isolated = leader.getNodeId();
+            LoadResult failover = runLoad(cluster, held, 1500, () -> {
+                sleep(300);
+                cluster.isolate(isolated);
+                System.out.println("   " + isolated + " isolated");
+                sleep(800);
+                ReplicaNode newLeader = cluster.awaitLeader(2000);
+                System.out.println("   " + newLeader.getNodeId() + " now leads term " + newLeader.getCurrentTerm());
+                cluster.heal(isolated);
+                System.out.println("   " + isolated + " healed");
+            });
+            System.out.println("   " + failover);
+
+            System.out.println("\n5. After convergence");
+            if (!cluster.awaitConvergence(3000)) {
+                throw new IllegalStateException("Replicas did not converge");
+            }
+            printNodes(cluster);
+            verify(cluster, held, steady.unknown + failover.unknown);
+        }
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    /**
+     * Each client keeps up to PARKED_PER_CLIENT vehicles parked, unparking its oldest once full
+     */
+    private static LoadResult runLoad(LocalReplicationCluster cluster, Map<String, Ticket> held,
+                                      long durationMillis, Runnable fault) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS + 1);
+        AtomicLong operations = new AtomicLong();
+        AtomicLong unknown = new AtomicLong();
+        long deadline = System.currentTimeMillis() + durationMillis;
+        long start = System.nanoTime();
+        List<Future<?>> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            final int client = c;
+            clients.add(executor.submit(() -> {
+                Deque<Ticket> mine = new ArrayDeque<>();
+                for (Ticket ticket : held.values()) {
+                    if (ticket.getVehicle().getVehicleId().startsWith("C" + client + "-")) {
+                        mine.add(ticket);
+                    }
+                }
+                long sequence = System.nanoTime();
+                while (System.currentTimeMillis() < deadline) {
+                    try {
+                        if (mine.size() >= PARKED_PER_CLIENT) {
+                            Ticket oldest = mine.poll();
+                            held.remove(oldest.getTicketId());
+                            cluster.unpark(oldest.getTicketId(), "EXIT-1");
+                        } else {
+                            Vehicle vehicle = new Vehicle("C" + client + "-" + (sequence++), VehicleType.CAR,
+                                    FuelType.PETROL, new ArrayList<>());
+                            Ticket ticket = cluster.park(vehicle, client % 2 == 0 ? "ENTRY-1" : "ENTRY-2");
+                            mine.add(ticket);
+                            held.put(ticket.getTicketId(), ticket);
+                        }
+                        operations.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // Leadership changed before the entry committed - outcome unknown
+                        unknown.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        if (fault != null) {
+            executor.submit(fault).get();
+        }
+        for (Future<?> client : clients) {
+            client.get();
+        }
+        executor.shutdown();
+        return new LoadResult(operations.get(), unknown.get(), System.nanoTime() - start);
+    }
+
+    private static void verify(LocalReplicationCluster cluster, Map<String, Ticket> held, long unknown) {
+        Set<String> heldSlots = new HashSet<>();
+        for (Ticket ticket : held.values()) {
+            if (!heldSlots.add(ticket.getSlot().getSlotId())) {
+                throw new IllegalStateException("Slot allotted twice: " + ticket.getSlot().getSlotId());
+            }
+        }
+        Set<String> reference = null;
+        for (ReplicaNode node : cluster.getNodes()) {
+            if (node.getTickFailures() > 0) {
+                throw new IllegalStateException(node.getNodeId() + " had " + node.getTickFailures() + " failed ticks");
+            }
+            ParkingLot lot = node.getParkingLot();
+            for (Ticket ticket : held.values()) {
+                Ticket active = lot.getActiveTicket(ticket.getTicketId());
+                if (active == null || !active.getSlot().getSlotId().equals(ticket.getSlot().getSlotId())) {
+                    throw new IllegalStateException(node.getNodeId() + " lost acknowledged ticket " + ticket.getTicketId());
+                }
+            }
+            Set<String> occupied = new TreeSet<>();
+            for (ParkingSlot slot : lot.getSlots()) {
+                if (slot.getAvailability() == SlotAvailability.OCCUPIED) {
+                    occupied.add(slot.getSlotId());
+                }
+            }
+            if (reference == null) {
+                reference = occupied;
+            } else if (!reference.equals(occupied)) {
+                throw new IllegalStateException(node.getNodeId() + " disagrees on occupied slots");
+            }
+        }
+        System.out.println("   " + held.size() + " acknowledged tickets held by clients, each on its own slot on every replica");
+        System.out.println("   " + reference.size() + " occupied slots on every replica ("
+                + (reference.size() - held.size()) + " from the " + unknown + " writes with unknown outcome)");
+    }
+
+    private static void printNodes(LocalReplicationCluster cluster) {
+        for (ReplicaNode node : cluster.getNodes()) {
+            System.out.printf("   %s %-8s term=%d commit=%d applied=%d occupied=%d%n", node.getNodeId(), node.getRole(),
+                    node.getCurrentTerm(), node.getCommitIndex(), node.getAppliedIndex(), node.getOccupiedSlotCount());
+        }
+    }
+
+    private static ParkingLot buildLot() {
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate entryGate2 = new Gate("ENTRY-2", GateType.ENTRY);
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new ParkingSlotBuilder()
+                .withSlotId(String.format("SLOT-%03d", i))
+                .withSlotType(SlotType.MEDIUM)
+                .withDistance(entryGate1, i)
+                .withDistance(entryGate2, SLOTS - i)
+                .build());
+        }
+        return new ParkingLot(new ArrayList<>(Arrays.asList(entryGate1, entryGate2, exitGate)), slots,
+                new FixedPricingStrategy(), new NearestMatchingSlotStrategy());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class LoadResult {
+        private final long operations;
+        private final long unknown;
+        private final long nanos;
+
+        LoadResult(long operations, long unknown, long nanos) {
+            this.operations = operations;
+            this.unknown = unknown;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d committed operations in %.0f ms (%.0f ops/s), %d with unknown outcome",
+                    operations, nanos / 1e6, operations * 1e9 / nanos, unknown);
+        }
+    }
+}
\ No newline at end of file
@@ -3,7 +3,9 @@ import enums.*;
 import strategy.*;
 import service.ServiceFactory;
 import service.interfaces.Service;
+import clock.VirtualClock;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class ServiceBasedPricingDemo {
     public static void main(String[] args) {
@@ -51,8 +53,11 @@ public class ServiceBasedPricingDemo {
         PricingStrategy pricingStrategy = new FixedPricingStrategy();
         SlotAllotmentStrategy slotAllotmentStrategy = new NearestMatchingSlotStrategy();
         
+        // Virtual clock so the 2-hour stay doesn't take 2 hours
+        VirtualClock clock = new VirtualClock(System.currentTimeMillis());
+        
         // Create parking lot
-        ParkingLot parkingLot = new ParkingLot(gates, slots, pricingStrategy, slotAllotmentStrategy);
+        ParkingLot parkingLot = new ParkingLot(gates, slots, pricingStrategy, slotAllotmentStrategy, clock);
         
         // Create vehicles with different service requirements
         Vehicle basicCar = new Vehicle("CAR-BASIC", VehicleType.CAR, FuelType.PETROL, 
@@ -93,11 +98,7 @@ public class ServiceBasedPricingDemo {
         
         // Simulate parking duration
         System.out.println("=== Simulating 2-hour parking duration ===\n");
-        try {
-            Thread.sleep(2000); // 2 seconds = simulated 2 hours for demo
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        clock.advance(2, TimeUnit.HOURS);
         
         // Unpark and show pricing breakdown
         System.out.println("=== Unparking and Pricing Breakdown ===");
@@ -0,0 +1,125 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import clock.VirtualClock;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import service.scheduler.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class ServiceSchedulingDemo {
+    private static final long MINUTE = 60_000L;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Service Scheduling Demo ===\n");
+        List<String> problems = new ArrayList<>();
+
+        Gate entryGate = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        Service evCharging = ServiceFactory.getEVChargingService();
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            slots.add(new ParkingSlotBuilder()
+                .withSlotId("EV-" + i)
+                .withSlotType(SlotType.MEDIUM)
+                .withZone("ZONE-A")
+                .withService(evCharging)
+                .withDistance(entryGate, i)
+                .build());
+        }
+        ParkingLot parkingLot = new ParkingLot(new ArrayList<>(Arrays.asList(entryGate, exitGate)), slots,
+                new FixedPricingStrategy(), new NearestMatchingSlotStrategy());
+        VirtualClock clock = new VirtualClock(0);
+        parkingLot.setClock(clock);
+
+        // One charger in the zone, 60 minutes per charge
+        ServiceScheduler scheduler = new ServiceScheduler();
+        scheduler.registerCapacity(evCharging, "ZONE-A", 1, 60 * MINUTE);
+        scheduler.addListener(new ServiceJobListener() {
+            @Override
+            public void onJobStarted(ServiceJob job) {
+                print("started", job);
+            }
+
+            @Override
+            public void onJobCompleted(ServiceJob job) {
+                print("completed", job);
+            }
+
+            @Override
+            public void onJobCancelled(ServiceJob job) {
+                print("cancelled", job);
+            }
+        });
+        parkingLot.setServiceScheduler(scheduler);
+        scheduler.startTicker(parkingLot.getClock(), 10);
+
+        System.out.println("1. Three EVs park and need charging; the zone has one charger");
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Vehicle vehicle = new Vehicle("EV-CAR-" + i, VehicleType.CAR, FuelType.ELECTRIC,
+                    new ArrayList<>(Arrays.asList(evCharging)));
+            tickets.add(parkingLot.parkVehicle(vehicle, entryGate));
+            clock.advance(1, TimeUnit.MINUTES);
+        }
+        report(scheduler, evCharging);
+        expect(problems, scheduler, evCharging, 1, 2, 0, "after parking");
+
+        System.out.println("\n2. EV-CAR-1 leaves after 20 minutes, before its charge is done");
+        clock.advance(17, TimeUnit.MINUTES);
+        parkingLot.unparkVehicle(tickets.get(0), exitGate);
+        report(scheduler, evCharging);
+        expect(problems, scheduler, evCharging, 1, 1, 0, "after the early exit");
+
+        System.out.println("\n3. An hour of lot time passes; the ticker reads the lot's virtual clock");
+        clock.advance(61, TimeUnit.MINUTES);
+        waitForCompletions(scheduler, evCharging, 1);
+        report(scheduler, evCharging);
+        expect(problems, scheduler, evCharging, 1, 0, 1, "after an hour");
+
+        System.out.println("\n4. The remaining EVs leave; nothing is left queued or running");
+        parkingLot.unparkVehicle(tickets.get(1), exitGate);
+        parkingLot.unparkVehicle(tickets.get(2), exitGate);
+        report(scheduler, evCharging);
+        expect(problems, scheduler, evCharging, 0, 0, 1, "after everyone left");
+        scheduler.stopTicker();
+
+        if (problems.isEmpty()) {
+            System.out.println("\n=== Demo completed successfully! ===");
+        } else {
+            System.out.println("\nProblems found:");
+            for (String problem : problems) {
+                System.out.println("   - " + problem);
+            }
+            System.exit(1);
+        }
+    }
+
+    private static void print(String event, ServiceJob job) {
+        System.out.println("   [" + job.getTicket().getVehicle().getVehicleId() + "] " + job.getService().getName()
+                + " " + event);
+    }
+
+    private static void report(ServiceScheduler scheduler, Service service) {
+        System.out.println("   Charger: " + scheduler.getRunningCount(service, "ZONE-A") + " running, "
+                + scheduler.getQueuedCount(service, "ZONE-A") + " queued, "
+                + scheduler.getCompletedCount(service, "ZONE-A") + " completed");
+    }
+
+    private static void expect(List<String> problems, ServiceScheduler scheduler, Service service,
+                               int running, int queued, long completed, String when) {
+        if (scheduler.getRunningCount(service, "ZONE-A") != running
+                || scheduler.getQueuedCount(service, "ZONE-A") != queued
+                || scheduler.getCompletedCount(service, "ZONE-A") != completed) {
+            problems.add("unexpected charger state " + when);
+        }
+    }
+
+    private static void waitForCompletions(ServiceScheduler scheduler, Service service, long completed)
+            throws InterruptedException {
+        for (int i = 0; i < 200 && scheduler.getCompletedCount(service, "ZONE-A") < completed; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
\ No newline at end of file
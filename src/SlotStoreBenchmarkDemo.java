@@ -0,0 +1,97 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import service.ServiceFactory;
+import java.util.*;
+
+public class SlotStoreBenchmarkDemo {
+    private static final int GATE_COUNT = 4;
+    private static final int SCAN_ROUNDS = 20;
+
+    public static void main(String[] args) {
+        int slotCount = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        System.out.println("=== Slot Store Benchmark (" + slotCount + " slots, " + GATE_COUNT + " gates) ===\n");
+
+        List<Gate> gates = new ArrayList<>();
+        for (int g = 0; g < GATE_COUNT; g++) {
+            gates.add(new Gate("ENTRY-" + (g + 1), GateType.ENTRY));
+        }
+
+        // Object model: one ParkingSlot per slot with its own list and map
+        long before = usedHeap();
+        List<ParkingSlot> objectSlots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            ParkingSlotBuilder builder = new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + i)
+                .withSlotType(slotTypeFor(i))
+                .withService(ServiceFactory.getCleaningService());
+            for (int g = 0; g < GATE_COUNT; g++) {
+                builder.withDistance(gates.get(g), (i * 7 + g * 13) % 10_000);
+            }
+            objectSlots.add(builder.build());
+        }
+        long objectBytes = usedHeap() - before;
+
+        // Struct-of-arrays store with the same content
+        before = usedHeap();
+        SlotStore store = new SlotStore(gates, slotCount);
+        long cleaningMask = 1L << ServiceFactory.getServiceId(ServiceFactory.getCleaningService());
+        int[] distances = new int[GATE_COUNT];
+        for (int i = 0; i < slotCount; i++) {
+            for (int g = 0; g < GATE_COUNT; g++) {
+                distances[g] = (i * 7 + g * 13) % 10_000;
+            }
+            store.add("SLOT-" + i, slotTypeFor(i), SlotAvailability.AVAILABLE, cleaningMask, distances, "DEFAULT");
+        }
+        long storeBytes = usedHeap() - before;
+
+        System.out.println("Heap per slot:");
+        System.out.printf("  ParkingSlot objects: %,d bytes%n", objectBytes / slotCount);
+        System.out.printf("  SlotStore arrays:    %,d bytes%n%n", storeBytes / slotCount);
+
+        // Worst case for a scan: everything occupied except the last slot
+        for (int i = 0; i < slotCount - 1; i++) {
+            objectSlots.get(i).setAvailability(SlotAvailability.OCCUPIED);
+            store.setAvailability(i, SlotAvailability.OCCUPIED);
+        }
+        Vehicle car = new Vehicle("CAR-001", VehicleType.CAR, FuelType.PETROL,
+                                  Arrays.asList(ServiceFactory.getCleaningService()));
+        SlotAllotmentStrategy strategy = new NearestMatchingSlotStrategy();
+
+        System.out.println("Full-scan throughput (NearestMatchingSlotStrategy):");
+        System.out.printf("  ParkingSlot objects: %,.0f slots/ms%n",
+                          scanRate(strategy, car, gates.get(0), objectSlots, slotCount));
+        System.out.printf("  SlotStore arrays:    %,.0f slots/ms%n",
+                          scanRate(strategy, car, gates.get(0), store.asSlotList(), slotCount));
+
+        System.out.println("\n=== Benchmark completed ===");
+    }
+
+    private static double scanRate(SlotAllotmentStrategy strategy, Vehicle vehicle, Gate gate,
+                                   List<ParkingSlot> slots, int slotCount) {
+        // Warm up, then time
+        for (int i = 0; i < SCAN_ROUNDS; i++) {
+            strategy.findSlot(vehicle, gate, slots);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < SCAN_ROUNDS; i++) {
+            if (strategy.findSlot(vehicle, gate, slots) == null) {
+                throw new IllegalStateException("Expected the last slot to be found");
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        return (double) slotCount * SCAN_ROUNDS / millis;
+    }
+
+    private static SlotType slotTypeFor(int i) {
+        return i % 10 == 0 ? SlotType.LARGE : (i % 5 == 0 ? SlotType.SMALL : SlotType.MEDIUM);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
\ No newline at end of file
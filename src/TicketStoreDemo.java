@@ -0,0 +1,131 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import store.*;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import clock.VirtualClock;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class TicketStoreDemo {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    public static void main(String[] args) throws IOException {
+        int ticketCount = args.length > 0 ? Integer.parseInt(args[0]) : 300_000;
+        System.out.println("=== Ticket Store Demo (" + ticketCount + " long-stay tickets) ===\n");
+
+        Gate entryGate = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        List<Gate> gates = new ArrayList<>(Arrays.asList(entryGate, exitGate));
+        ParkingSlot slot = new ParkingSlotBuilder()
+            .withSlotId("SLOT-0")
+            .withSlotType(SlotType.LARGE)
+            .withDistance(entryGate, 1)
+            .build();
+        List<Service> services = Arrays.asList(ServiceFactory.getCleaningService());
+
+        System.out.println("1. Heap held by active tickets");
+        long before = usedHeap();
+        Map<String, Ticket> heapTickets = new HashMap<>();
+        for (int i = 0; i < ticketCount; i++) {
+            Vehicle vehicle = new Vehicle("CAR-" + i, VehicleType.CAR, FuelType.PETROL, new ArrayList<>(services));
+            heapTickets.put("TKT-" + i, new Ticket("TKT-" + i, vehicle, slot, i * 1000L, entryGate));
+        }
+        long heapBytes = usedHeap() - before;
+        System.out.printf("   Ticket objects in a HashMap: %,d bytes on heap (%d bytes/ticket)%n",
+                heapBytes, heapBytes / ticketCount);
+
+        before = usedHeap();
+        TicketStore offHeap = TicketStore.inMemory(ticketCount);
+        for (Ticket ticket : heapTickets.values()) {
+            offHeap.openTicket(ticket, 0, 0);
+        }
+        heapTickets = null;
+        long storeHeapBytes = usedHeap() - before;
+        System.out.printf("   TicketStore: %,d bytes on heap (%d bytes/ticket) + %,d bytes off-heap%n",
+                storeHeapBytes, storeHeapBytes / ticketCount, (long) ticketCount * 112);
+
+        System.out.println("\n2. Closing tickets over three days and reconciling day 2");
+        long start = System.nanoTime();
+        for (int i = 0; i < ticketCount; i++) {
+            long exitTimeMillis = (long) i * 3 * DAY_MILLIS / ticketCount;
+            offHeap.closeTicket("TKT-" + i, exitTimeMillis, 1, 50.0 + i % 7);
+        }
+        long closeNanos = System.nanoTime() - start;
+        long[] totals = new long[2];
+        start = System.nanoTime();
+        long visited = offHeap.scanClosedByExitTime(DAY_MILLIS, 2 * DAY_MILLIS, record -> {
+            totals[0]++;
+            totals[1] += record.getFeeCents();
+        });
+        long scanNanos = System.nanoTime() - start;
+        System.out.printf("   Closed %d tickets in %.1f ms; active=%d closed=%d%n",
+                ticketCount, closeNanos / 1e6, offHeap.getActiveCount(), offHeap.getClosedCount());
+        System.out.printf("   Day 2: %d tickets, revenue $%.2f (scan %.1f ms, %d visited)%n",
+                totals[0], totals[1] / 100.0, scanNanos / 1e6, visited);
+
+        System.out.println("\n3. Parking lot with a memory-mapped store that survives a restart");
+        Path directory = Files.createTempDirectory("ticket-store");
+        VirtualClock clock = new VirtualClock(0);
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            slots.add(new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + i)
+                .withSlotType(SlotType.MEDIUM)
+                .withDistance(entryGate, i)
+                .build());
+        }
+        ParkingLot parkingLot = new ParkingLot(gates, slots, new FixedPricingStrategy(),
+                new NearestMatchingSlotStrategy(), clock);
+
+        List<String> ticketIds = new ArrayList<>();
+        try (TicketStore mapped = TicketStore.open(directory, 1000)) {
+            for (int i = 0; i < 5; i++) {
+                Vehicle vehicle = new Vehicle("CAR-" + i, VehicleType.CAR, FuelType.PETROL, new ArrayList<>());
+                Ticket ticket = parkingLot.parkVehicle(vehicle, entryGate);
+                mapped.openTicket(ticket, slots.indexOf(ticket.getSlot()), gates.indexOf(entryGate));
+                ticketIds.add(ticket.getTicketId());
+            }
+            System.out.println("   Parked 5 vehicles, store holds " + mapped.getActiveCount() + " active tickets");
+        }
+
+        clock.advance(30, TimeUnit.DAYS);
+        try (TicketStore reopened = TicketStore.open(directory, 1000)) {
+            System.out.println("   Reopened store: " + reopened.getActiveCount() + " active tickets");
+            double revenue = 0.0;
+            for (String ticketId : ticketIds) {
+                Ticket ticket = reopened.restore(ticketId, slots, gates);
+                double fee = parkingLot.unparkVehicle(ticket, exitGate);
+                reopened.closeTicket(ticketId, clock.currentTimeMillis(), gates.indexOf(exitGate), fee);
+                revenue += fee;
+            }
+            System.out.printf("   Unparked after 30 days: revenue $%.2f, closed log holds %d tickets%n",
+                    revenue, reopened.getClosedCount());
+        }
+        try (TicketStore audit = TicketStore.open(directory, 1000)) {
+            audit.scanClosedByExitTime(0, Long.MAX_VALUE, record -> System.out.printf(
+                    "   audit: %s %s slot=%d stayed %d days, paid $%.2f%n", record.getTicketId(), record.getVehicleId(),
+                    record.getSlotIndex(), (record.getExitTimeMillis() - record.getEntryTimeMillis()) / DAY_MILLIS,
+                    record.getFeeCents() / 100.0));
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import strategy.pipeline.*;
+import simulation.*;
+import occupancy.*;
+import service.ServiceFactory;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class TrafficSimulationDemo {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Traffic Simulation Demo ===\n");
+
+        TrafficProfile profile = new TrafficProfileBuilder()
+            .withSeed(2024L)
+            .withArrivalsPerHour(900)
+            .withMedianDwellMillis(90 * 60 * 1000L)
+            .withDwellSigma(0.9)
+            .withVehicleType(VehicleType.CAR, 0.75)
+            .withVehicleType(VehicleType.BIKE, 0.15)
+            .withVehicleType(VehicleType.TRUCK, 0.10)
+            .withFuelType(FuelType.PETROL, 0.6)
+            .withFuelType(FuelType.DIESEL, 0.2)
+            .withFuelType(FuelType.ELECTRIC, 0.2)
+            .withService(ServiceFactory.getCleaningService(), 0.1)
+            .withEntryGate("ENTRY-1")
+            .withEntryGate("ENTRY-2")
+            .withExitGate("EXIT-1")
+            .build();
+
+        System.out.println("1. One simulated day, nearest-slot allotment");
+        ParkingLot nearestLot = buildLot(new NearestMatchingSlotStrategy());
+        TrafficSimulator nearestSim = new TrafficSimulator(nearestLot);
+        Path logFile = Files.createTempFile("parking-traffic", ".csv");
+        try (EventLogWriter recorder = new EventLogWriter(Files.newBufferedWriter(logFile))) {
+            nearestSim.setRecorder(recorder);
+            System.out.println(nearestSim.run(new TrafficGenerator(profile, 0, DAY_MILLIS)));
+        }
+
+        System.out.println("\n2. Same seeded traffic, EV-aware allotment");
+        ParkingLot evLot = buildLot(new EVAwareSlotStrategy(0.9, 40, 2));
+        System.out.println(new TrafficSimulator(evLot).run(new TrafficGenerator(profile, 0, DAY_MILLIS)));
+
+        System.out.println("\n3. Same seeded traffic, best-fit allotment (cost-aware upsizing)");
+        ParkingLot bestFitLot = buildLot(new BestFitSlotStrategy());
+        System.out.println(new TrafficSimulator(bestFitLot).run(new TrafficGenerator(profile, 0, DAY_MILLIS)));
+
+        System.out.println("\n4. Same seeded traffic, composed pipeline (EV priority + upsize cost, ZONE-3 for EVs only)");
+        SlotPipeline pipeline = new SlotPipelineBuilder()
+            .withFilter(SlotFilters.reservedZone("ZONE-3", vehicle -> vehicle.getFuelType() == FuelType.ELECTRIC))
+            .withScorer(SlotScorers.evPriority(30))
+            .withScorer(SlotScorers.upsize(40))
+            .build();
+        ParkingLot pipelineLot = buildLot(pipeline);
+        System.out.println(new TrafficSimulator(pipelineLot).run(new TrafficGenerator(profile, 0, DAY_MILLIS)));
+        System.out.println("   Sources used: " + pipeline.getSourceSelections());
+        System.out.println("   Filter order (pass rate): " + pipeline.getFilterPassRates());
+
+        System.out.println("\n5. Replaying the recorded log from run 1 against the EV-aware lot");
+        ParkingLot replayLot = buildLot(new EVAwareSlotStrategy(0.9, 40, 2));
+        try (EventLogReader reader = new EventLogReader(Files.newBufferedReader(logFile))) {
+            System.out.println(new TrafficSimulator(replayLot).run(reader));
+        }
+        Files.deleteIfExists(logFile);
+
+        System.out.println("\n6. Same seeded traffic, nearest-slot allotment with surge pricing (from 70% fill, up to 2x)");
+        ParkingLot surgeLot = buildLot(new NearestMatchingSlotStrategy());
+        OccupancyTracker occupancyTracker = new OccupancyTracker(surgeLot);
+        surgeLot.setPricingStrategy(new SurgePricingStrategy(new FixedPricingStrategy(), occupancyTracker, 0.7, 2.0));
+        System.out.println(new TrafficSimulator(surgeLot).run(new TrafficGenerator(profile, 0, DAY_MILLIS)));
+        for (SlotType slotType : SlotType.values()) {
+            System.out.printf("   %s: average fill over the day %.1f%%%n", slotType,
+                    100 * occupancyTracker.getAverageFill(slotType, 0, DAY_MILLIS));
+        }
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static ParkingLot buildLot(SlotAllotmentStrategy slotAllotmentStrategy) {
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate entryGate2 = new Gate("ENTRY-2", GateType.ENTRY);
+        Gate exitGate1 = new Gate("EXIT-1", GateType.EXIT);
+        List<Gate> gates = new ArrayList<>(Arrays.asList(entryGate1, entryGate2, exitGate1));
+
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            SlotType slotType = i % 10 == 0 ? SlotType.LARGE : (i % 5 == 0 ? SlotType.SMALL : SlotType.MEDIUM);
+            ParkingSlotBuilder builder = new ParkingSlotBuilder()
+                .withSlotId("SLOT-" + String.format("%04d", i))
+                .withSlotType(slotType)
+                .withZone("ZONE-" + (i / 500))
+                .withService(ServiceFactory.getCleaningService())
+                .withDistance(entryGate1, i)
+                .withDistance(entryGate2, 2000 - i);
+            if (i % 8 == 1) {
+                builder.withService(ServiceFactory.getEVChargingService());
+            }
+            slots.add(builder.build());
+        }
+        return new ParkingLot(gates, slots, new FixedPricingStrategy(), slotAllotmentStrategy);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import profile.*;
+import service.ServiceFactory;
+import clock.VirtualClock;
+import java.util.*;
+
+public class VisitorCacheDemo {
+    private static final long HOUR_MILLIS = 60L * 60 * 1000;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+    private static final int REGISTERED_VEHICLES = 50_000;
+    private static final int CACHE_SIZE = 2_000;
+    private static final int LOOKUPS = 500_000;
+
+    public static void main(String[] args) {
+        System.out.println("=== Visitor Cache Demo ===\n");
+
+        Map<String, VehicleProfile> registry = buildRegistry();
+        long[] sourceLoads = new long[1];
+        ProfileSource source = vehicleId -> {
+            sourceLoads[0]++;
+            return registry.get(vehicleId);
+        };
+
+        System.out.println("1. " + LOOKUPS + " entries: 60% registered (skewed popularity), 40% one-off visitors");
+        String[] trace = buildTrace();
+        VehicleProfileCache cache = new VehicleProfileCache(source, CACHE_SIZE);
+        for (String vehicleId : trace) {
+            cache.get(vehicleId);
+        }
+        long tinyLfuLoads = sourceLoads[0];
+        System.out.println("   W-TinyLFU (" + CACHE_SIZE + " entries): " + cache.getStats());
+
+        sourceLoads[0] = 0;
+        long lruHits = 0;
+        Map<String, VehicleProfile> lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VehicleProfile> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        for (String vehicleId : trace) {
+            if (lru.get(vehicleId) != null) {
+                lruHits++;
+            } else {
+                VehicleProfile loaded = source.load(vehicleId);
+                if (loaded != null) {
+                    lru.put(vehicleId, loaded);
+                }
+            }
+        }
+        System.out.printf("   Plain LRU (%d entries): hit rate %.1f%%%n", CACHE_SIZE, 100.0 * lruHits / trace.length);
+        System.out.println("   Source lookups: W-TinyLFU " + tinyLfuLoads + ", LRU " + sourceLoads[0]);
+
+        System.out.println("\n2. Parking registered vehicles through the cache");
+        VirtualClock clock = new VirtualClock(0);
+        Gate entryGate = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        ProfileAwareSlotStrategy strategy = new ProfileAwareSlotStrategy(new NearestMatchingSlotStrategy(), cache);
+        ParkingLot parkingLot = new ParkingLot(new ArrayList<>(Arrays.asList(entryGate, exitGate)),
+                buildSlots(entryGate), new PermitDiscountPricingStrategy(new FixedPricingStrategy()), strategy, clock);
+        parkingLot.setVehicleProfileCache(cache);
+
+        Ticket permitTicket = parkingLot.parkRegisteredVehicle("REG-00000", entryGate);
+        Ticket visitorTicket = parkingLot.parkVehicle(new Vehicle("VISITOR-1", VehicleType.CAR, FuelType.PETROL,
+                new ArrayList<>()), entryGate);
+        Ticket zoneTicket = parkingLot.parkRegisteredVehicle("REG-00001", entryGate);
+        print("Permit holder", permitTicket);
+        print("Visitor", visitorTicket);
+        print("Zone preference", zoneTicket);
+        System.out.println("   Preferred slot hits: " + strategy.getPreferredSlotHits()
+                + ", preferred zone hits: " + strategy.getPreferredZoneHits());
+
+        clock.setTimeMillis(3 * HOUR_MILLIS - 1);
+        System.out.println("\n3. Fees after just under three hours");
+        System.out.println("   Permit holder (50% off base): "
+                + parkingLot.getPricingStrategy().calculateBreakdown(permitTicket, clock.currentTimeMillis()));
+        System.out.println("   Visitor:                      "
+                + parkingLot.getPricingStrategy().calculateBreakdown(visitorTicket, clock.currentTimeMillis()));
+        System.out.printf("   Permit holder pays $%.2f at exit%n", parkingLot.unparkVehicle(permitTicket, exitGate));
+
+        try {
+            parkingLot.parkRegisteredVehicle("NOT-REGISTERED", entryGate);
+        } catch (IllegalArgumentException e) {
+            System.out.println("   " + e.getMessage());
+        }
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static Map<String, VehicleProfile> buildRegistry() {
+        Map<String, VehicleProfile> registry = new HashMap<>();
+        for (int i = 0; i < REGISTERED_VEHICLES; i++) {
+            VehicleProfileBuilder builder = new VehicleProfileBuilder()
+                .withVehicleId(String.format("REG-%05d", i))
+                .withVehicleType(i % 10 == 0 ? VehicleType.BIKE : VehicleType.CAR);
+            if (i % 3 == 0) {
+                builder.withPermit(PermitStatus.ACTIVE, 30 * DAY_MILLIS, 0.5);
+            }
+            if (i % 7 == 0) {
+                builder.withFuelType(FuelType.ELECTRIC).withService(ServiceFactory.getEVChargingService());
+            }
+            if (i == 0) {
+                builder.withPreferredSlot("SLOT-042");
+            } else if (i % 2 == 1) {
+                builder.withPreferredZone("ZONE-B");
+            }
+            registry.put(String.format("REG-%05d", i), builder.build());
+        }
+        return registry;
+    }
+
+    /**
+     * Registered vehicles drawn with Zipf-like popularity, interleaved with never-repeating visitors
+     */
+    private static String[] buildTrace() {
+        Random random = new Random(42);
+        double[] cumulative = new double[REGISTERED_VEHICLES];
+        double total = 0;
+        for (int i = 0; i < REGISTERED_VEHICLES; i++) {
+            total += 1.0 / Math.pow(i + 1, 0.9);
+            cumulative[i] = total;
+        }
+        String[] trace = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (random.nextDouble() < 0.6) {
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                int rank = index >= 0 ? index : Math.min(-index - 1, REGISTERED_VEHICLES - 1);
+                trace[i] = String.format("REG-%05d", rank);
+            } else {
+                trace[i] = "VISITOR-" + i;
+            }
+        }
+        return trace;
+    }
+
+    private static List<ParkingSlot> buildSlots(Gate entryGate) {
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            slots.add(new ParkingSlotBuilder()
+                .withSlotId(String.format("SLOT-%03d", i))
+                .withSlotType(i % 10 == 0 ? SlotType.SMALL : SlotType.MEDIUM)
+                .withZone(i < 100 ? "ZONE-A" : "ZONE-B")
+                .withService(ServiceFactory.getEVChargingService())
+                .withDistance(entryGate, i)
+                .build());
+        }
+        return slots;
+    }
+
+    private static void print(String label, Ticket ticket) {
+        ParkingSlot slot = ticket.getSlot();
+        System.out.println("   " + label + ": " + ticket.getVehicle().getVehicleId() + " -> " + slot.getSlotId()
+                + " (" + slot.getZone() + ", profile " + (ticket.getProfile() != null ? "attached" : "none") + ")");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+import models.*;
+import enums.*;
+import strategy.*;
+import zone.*;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.util.*;
+
+public class ZoneGuidanceDemo {
+    private static final int LEVELS = 4;
+    private static final String[] ZONES = {"A", "B", "C"};
+    private static final int ROWS = 6;
+    private static final int SLOTS_PER_ROW = 40;
+    private static final int OPERATIONS = 200_000;
+
+    public static void main(String[] args) {
+        System.out.println("=== Zone Guidance Demo (" + LEVELS + " levels x " + ZONES.length + " zones x " + ROWS
+                + " rows x " + SLOTS_PER_ROW + " slots) ===\n");
+
+        Gate entryGate1 = new Gate("ENTRY-1", GateType.ENTRY);
+        Gate entryGate2 = new Gate("ENTRY-2", GateType.ENTRY);
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        ZoneGuidedSlotStrategy guided = new ZoneGuidedSlotStrategy();
+        ParkingLot guidedLot = buildLot(guided, entryGate1, entryGate2, exitGate);
+        ParkingLot scanningLot = buildLot(new NearestMatchingSlotStrategy(), entryGate1, entryGate2, exitGate);
+        ZoneTree tree = guided.getZoneTree();
+
+        System.out.println("1. Same random park/unpark sequence through the zone tree and through a full scan");
+        Random random = new Random(7);
+        List<Ticket> guidedTickets = new ArrayList<>();
+        List<Ticket> scanningTickets = new ArrayList<>();
+        List<Service> evCharging = Arrays.asList(ServiceFactory.getEVChargingService());
+        int disagreements = 0;
+        long guidedNanos = 0;
+        long scanningNanos = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            // Hover around 87% full so the search has to skip full zones
+            boolean park = guidedTickets.isEmpty() || random.nextInt(100) < (guidedTickets.size() < 2500 ? 70 : 45);
+            if (park) {
+                VehicleType vehicleType = random.nextInt(10) == 0 ? VehicleType.TRUCK : VehicleType.CAR;
+                List<Service> services = random.nextInt(20) == 0 ? evCharging : new ArrayList<>();
+                Vehicle vehicle = new Vehicle("V-" + i, vehicleType, FuelType.PETROL, services);
+                Gate gate = random.nextBoolean() ? entryGate1 : entryGate2;
+                long start = System.nanoTime();
+                Ticket guidedTicket = tryPark(guidedLot, vehicle, gate);
+                guidedNanos += System.nanoTime() - start;
+                start = System.nanoTime();
+                Ticket scanningTicket = tryPark(scanningLot, vehicle, gate);
+                scanningNanos += System.nanoTime() - start;
+                String guidedSlot = guidedTicket == null ? "none" : guidedTicket.getSlot().getSlotId();
+                String scanningSlot = scanningTicket == null ? "none" : scanningTicket.getSlot().getSlotId();
+                if (!guidedSlot.equals(scanningSlot)) {
+                    disagreements++;
+                }
+                if (guidedTicket != null && scanningTicket != null) {
+                    guidedTickets.add(guidedTicket);
+                    scanningTickets.add(scanningTicket);
+                }
+            } else {
+                int index = random.nextInt(guidedTickets.size());
+                guidedLot.unparkVehicle(guidedTickets.remove(index), exitGate);
+                scanningLot.unparkVehicle(scanningTickets.remove(index), exitGate);
+            }
+        }
+        System.out.printf("   Slot choices that differ: %d; park time guided %.0f ms, full scan %.0f ms%n",
+                disagreements, guidedNanos / 1e6, scanningNanos / 1e6);
+
+        System.out.println("\n2. Guidance signs (free car slots / free EV chargers)");
+        for (ZoneNode level : tree.getRoot().getChildren()) {
+            StringBuilder sign = new StringBuilder();
+            sign.append(String.format("   %-3s %4d/%-4d |", level.getName(), level.getFreeCountFor(VehicleType.CAR),
+                    level.getFreeCount(ServiceFactory.getEVChargingService())));
+            for (ZoneNode zone : level.getChildren()) {
+                sign.append(String.format(" %s %3d/%-3d", zone.getName(), zone.getFreeCountFor(VehicleType.CAR),
+                        zone.getFreeCount(ServiceFactory.getEVChargingService())));
+            }
+            System.out.println(sign);
+        }
+        ZoneNode row = tree.getNode("L1/A/R1");
+        System.out.println("   Row sign " + row + ", trucks: " + row.getFreeCountFor(VehicleType.TRUCK));
+
+        System.out.println("\n3. Sign reads against counting under the lot");
+        int reads = 100_000;
+        long start = System.nanoTime();
+        long signTotal = 0;
+        for (int i = 0; i < reads; i++) {
+            signTotal += tree.getNode("L" + (1 + i % LEVELS)).getFreeCountFor(VehicleType.CAR);
+        }
+        long treeNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < reads / 100; i++) {
+            countFree(guidedLot.getSlots(), "L" + (1 + i % LEVELS) + "/");
+        }
+        long scanNanos = (System.nanoTime() - start) * 100;
+        System.out.printf("   %d level signs (average %.1f free): tree %.1f ms, scanning the slots %.1f ms (extrapolated)%n",
+                reads, (double) signTotal / reads, treeNanos / 1e6, scanNanos / 1e6);
+
+        System.out.println("\n4. Checking every node against a scan");
+        int mismatches = check(tree.getRoot(), guidedLot.getSlots());
+        if (mismatches > 0 || tree.getRoot().getFreeCount() != guidedLot.getAvailableSlotCount()) {
+            throw new IllegalStateException(mismatches + " zone nodes disagree with the slots");
+        }
+        System.out.println("   All " + countNodes(tree.getRoot()) + " nodes match; lot-wide free: "
+                + tree.getRoot().getFreeCount());
+
+        System.out.println("\n=== Demo completed successfully! ===");
+    }
+
+    private static Ticket tryPark(ParkingLot lot, Vehicle vehicle, Gate gate) {
+        try {
+            return lot.parkVehicle(vehicle, gate);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int countFree(List<ParkingSlot> slots, String zonePrefix) {
+        int free = 0;
+        for (ParkingSlot slot : slots) {
+            if (slot.getZone().startsWith(zonePrefix) && slot.getAvailability().isFree()
+                    && SlotCompatibility.isSlotCompatible(VehicleType.CAR, slot.getSlotType())) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    private static int check(ZoneNode node, List<ParkingSlot> slots) {
+        int free = 0;
+        int total = 0;
+        String prefix = node.getPath() + "/";
+        for (ParkingSlot slot : slots) {
+            if (node.isRoot() || slot.getZone().equals(node.getPath()) || slot.getZone().startsWith(prefix)) {
+                total++;
+                if (slot.getAvailability().isFree()) {
+                    free++;
+                }
+            }
+        }
+        int mismatches = free == node.getFreeCount() && total == node.getTotalCount() ? 0 : 1;
+        for (ZoneNode child : node.getChildren()) {
+            mismatches += check(child, slots);
+        }
+        return mismatches;
+    }
+
+    private static int countNodes(ZoneNode node) {
+        int count = 1;
+        for (ZoneNode child : node.getChildren()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static ParkingLot buildLot(SlotAllotmentStrategy strategy, Gate entryGate1, Gate entryGate2, Gate exitGate) {
+        List<ParkingSlot> slots = new ArrayList<>();
+        int index = 0;
+        for (int level = 1; level <= LEVELS; level++) {
+            for (int zone = 0; zone < ZONES.length; zone++) {
+                for (int row = 1; row <= ROWS; row++) {
+                    for (int position = 0; position < SLOTS_PER_ROW; position++, index++) {
+                        ParkingSlotBuilder builder = new ParkingSlotBuilder()
+                            .withSlotId(String.format("L%d-%s%d-%02d", level, ZONES[zone], row, position))
+                            .withSlotType(position % 10 == 9 ? SlotType.LARGE : SlotType.MEDIUM)
+                            .withZone("L" + level + "/" + ZONES[zone] + "/R" + row)
+                            .withDistance(entryGate1, index)
+                            .withDistance(entryGate2, (LEVELS - level) * 10_000 + zone * 1_000 + row * 50 + position);
+                        if (position % 8 == 3) {
+                            builder.withService(ServiceFactory.getEVChargingService());
+                        }
+                        slots.add(builder.build());
+                    }
+                }
+            }
+        }
+        return new ParkingLot(new ArrayList<>(Arrays.asList(entryGate1, entryGate2, exitGate)), slots,
+                new FixedPricingStrategy(), strategy);
+    }
+}
\ No newline at end of file
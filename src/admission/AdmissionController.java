@@ -0,0 +1,152 @@
+package admission;
+
+import enums.AdmissionStatus;
+import models.Gate;
+import models.ParkingLot;
+import models.Ticket;
+import models.Vehicle;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-gate admission control in front of ParkingLot.parkVehicle.
+ *
+ * Each request goes through cheap checks before it may wait on the lot:
+ * 1. lot full - the lot's lock-free free slot count is zero
+ * 2. rate limit - the gate's token bucket is empty
+ * 3. bounded queue - too many callers from this gate are already waiting
+ * 4. deadline - the lot's locks could not be taken within the gate's max wait
+ * Under overload callers get a quick "lot full / try later" answer instead of
+ * piling up on the slot lock.
+ */
+public class AdmissionController {
+    private final ParkingLot parkingLot;
+    private final Map<Gate, GateState> gateStates = new ConcurrentHashMap<>();
+    private volatile GateLimits defaultLimits;
+
+    /**
+     * @param permitsPerSecond sustained admissions per gate
+     * @param burst            admissions a gate may take at once after a quiet period
+     * @param maxQueueDepth    callers per gate allowed to wait on the lot at the same time
+     * @param maxWaitMillis    how long an admitted caller may wait for the lot's locks
+     */
+    public AdmissionController(ParkingLot parkingLot, double permitsPerSecond, int burst,
+                               int maxQueueDepth, long maxWaitMillis) {
+        this.parkingLot = parkingLot;
+        this.defaultLimits = new GateLimits(permitsPerSecond, burst, maxQueueDepth, maxWaitMillis);
+    }
+
+    /**
+     * Override the limits for one gate, e.g. to favour the main entrance. Resets its counters.
+     */
+    public void configureGate(Gate gate, double permitsPerSecond, int burst, int maxQueueDepth, long maxWaitMillis) {
+        gateStates.put(gate, new GateState(new GateLimits(permitsPerSecond, burst, maxQueueDepth, maxWaitMillis)));
+    }
+
+    /**
+     * Admit and park the vehicle, or shed the request with the reason.
+     * Requests the lot rejects outright (IllegalArgumentException, IllegalStateException,
+     * e.g. a vehicle that is already inside) are rethrown rather than counted as shed.
+     */
+    public AdmissionResult admit(Vehicle vehicle, Gate entryGate) {
+        GateState state = gateStates.computeIfAbsent(entryGate, gate -> new GateState(defaultLimits));
+
+        if (parkingLot.getFreeSlotEstimate() <= 0) {
+            return state.shed(AdmissionStatus.LOT_FULL);
+        }
+        if (!state.bucket.tryAcquire(parkingLot.getClock().currentTimeMillis())) {
+            return state.shed(AdmissionStatus.RATE_LIMITED);
+        }
+        int depth = state.queueDepth.incrementAndGet();
+        if (depth > state.limits.maxQueueDepth) {
+            state.queueDepth.decrementAndGet();
+            return state.shed(AdmissionStatus.QUEUE_FULL);
+        }
+        state.maxQueueDepth.accumulateAndGet(depth, Math::max);
+        try {
+            Ticket ticket = parkingLot.tryParkVehicle(vehicle, entryGate, state.limits.maxWaitMillis, TimeUnit.MILLISECONDS);
+            if (ticket == null) {
+                return state.shed(AdmissionStatus.TIMED_OUT);
+            }
+            state.count(AdmissionStatus.ADMITTED);
+            return new AdmissionResult(AdmissionStatus.ADMITTED, ticket);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // Not a capacity answer - e.g. anti-passback refusing a vehicle already inside
+            throw e;
+        } catch (RuntimeException e) {
+            // No suitable slot after all - the free count raced with other gates
+            return state.shed(AdmissionStatus.LOT_FULL);
+        } finally {
+            state.queueDepth.decrementAndGet();
+        }
+    }
+
+    public GateAdmissionMetrics getMetrics(Gate gate) {
+        GateState state = gateStates.get(gate);
+        return state == null ? new GateAdmissionMetrics(gate.getGateId(), new EnumMap<>(AdmissionStatus.class), 0, 0)
+                : state.snapshot(gate);
+    }
+
+    public Map<Gate, GateAdmissionMetrics> getAllMetrics() {
+        Map<Gate, GateAdmissionMetrics> metrics = new LinkedHashMap<>();
+        for (Map.Entry<Gate, GateState> entry : gateStates.entrySet()) {
+            metrics.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return metrics;
+    }
+
+    private static final class GateLimits {
+        private final double permitsPerSecond;
+        private final int burst;
+        private final int maxQueueDepth;
+        private final long maxWaitMillis;
+
+        GateLimits(double permitsPerSecond, int burst, int maxQueueDepth, long maxWaitMillis) {
+            if (maxQueueDepth <= 0 || maxWaitMillis < 0) {
+                throw new IllegalArgumentException("Queue depth must be positive and max wait non-negative");
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.maxQueueDepth = maxQueueDepth;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+    }
+
+    private static final class GateState {
+        private final GateLimits limits;
+        private final TokenBucket bucket;
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+        private final Map<AdmissionStatus, LongAdder> outcomes = new EnumMap<>(AdmissionStatus.class);
+
+        GateState(GateLimits limits) {
+            this.limits = limits;
+            this.bucket = new TokenBucket(limits.permitsPerSecond, limits.burst);
+            for (AdmissionStatus status : AdmissionStatus.values()) {
+                outcomes.put(status, new LongAdder());
+            }
+        }
+
+        AdmissionResult shed(AdmissionStatus status) {
+            count(status);
+            return new AdmissionResult(status, null);
+        }
+
+        void count(AdmissionStatus status) {
+            outcomes.get(status).increment();
+        }
+
+        GateAdmissionMetrics snapshot(Gate gate) {
+            Map<AdmissionStatus, Long> counts = new EnumMap<>(AdmissionStatus.class);
+            for (Map.Entry<AdmissionStatus, LongAdder> entry : outcomes.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().sum());
+            }
+            return new GateAdmissionMetrics(gate.getGateId(), counts, queueDepth.get(), maxQueueDepth.get());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package admission;
+
+import enums.AdmissionStatus;
+import models.Ticket;
+
+/**
+ * Outcome of an admission attempt - a ticket when admitted, otherwise the reason it was shed
+ */
+public class AdmissionResult {
+    private final AdmissionStatus status;
+    private final Ticket ticket;
+
+    AdmissionResult(AdmissionStatus status, Ticket ticket) {
+        this.status = status;
+        this.ticket = ticket;
+    }
+
+    public boolean isAdmitted() {
+        return status == AdmissionStatus.ADMITTED;
+    }
+
+    // Getters
+    public AdmissionStatus getStatus() {
+        return status;
+    }
+
+    public Ticket getTicket() {
+        return ticket;
+    }
+}
\ No newline at end of file
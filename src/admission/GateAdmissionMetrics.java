@@ -0,0 +1,57 @@
+package admission;
+
+import enums.AdmissionStatus;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Snapshot of one gate's admission counters
+ */
+public class GateAdmissionMetrics {
+    private final String gateId;
+    private final Map<AdmissionStatus, Long> outcomes;
+    private final int queueDepth;
+    private final int maxQueueDepth;
+
+    public GateAdmissionMetrics(String gateId, Map<AdmissionStatus, Long> outcomes, int queueDepth, int maxQueueDepth) {
+        this.gateId = gateId;
+        this.outcomes = new EnumMap<>(outcomes);
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    public long getCount(AdmissionStatus status) {
+        return outcomes.getOrDefault(status, 0L);
+    }
+
+    /**
+     * Requests answered with anything but ADMITTED
+     */
+    public long getShedCount() {
+        long shed = 0;
+        for (Map.Entry<AdmissionStatus, Long> entry : outcomes.entrySet()) {
+            if (entry.getKey() != AdmissionStatus.ADMITTED) {
+                shed += entry.getValue();
+            }
+        }
+        return shed;
+    }
+
+    // Getters
+    public String getGateId() {
+        return gateId;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    @Override
+    public String toString() {
+        return gateId + " " + outcomes + " queue=" + queueDepth + " maxQueue=" + maxQueueDepth;
+    }
+}
\ No newline at end of file
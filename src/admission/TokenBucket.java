@@ -0,0 +1,48 @@
+package admission;
+
+/**
+ * Token bucket rate limiter driven by caller-supplied time, so it follows the
+ * lot's Clock (virtual in simulations).
+ */
+public class TokenBucket {
+    private final double permitsPerMilli;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillMillis = Long.MIN_VALUE;
+
+    /**
+     * @param permitsPerSecond sustained rate
+     * @param burst            tokens that can be spent at once after an idle period
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.permitsPerMilli = permitsPerSecond / 1000.0;
+        this.capacity = burst;
+        this.tokens = burst;
+    }
+
+    public synchronized boolean tryAcquire(long nowMillis) {
+        refill(nowMillis);
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    public synchronized double getAvailableTokens(long nowMillis) {
+        refill(nowMillis);
+        return tokens;
+    }
+
+    private void refill(long nowMillis) {
+        if (lastRefillMillis != Long.MIN_VALUE && nowMillis > lastRefillMillis) {
+            tokens = Math.min(capacity, tokens + (nowMillis - lastRefillMillis) * permitsPerMilli);
+        }
+        if (lastRefillMillis == Long.MIN_VALUE || nowMillis > lastRefillMillis) {
+            lastRefillMillis = nowMillis;
+        }
+    }
+}
\ No newline at end of file
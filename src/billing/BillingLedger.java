@@ -0,0 +1,91 @@
+package billing;
+
+import models.Gate;
+import models.Ticket;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only CSV ledger of every fee breakdown, one line per closed stay:
+ *
+ *   exitTimeMillis,ticketId,vehicleType,slotType,entryGateId,exitGateId,billedHours,baseCents,SERVICE:cents|...,totalCents
+ *
+ * Amounts are whole cents. RevenueAggregator streams the file back in parallel chunks.
+ */
+public class BillingLedger implements Closeable {
+    static final String HEADER = "exitTimeMillis,ticketId,vehicleType,slotType,entryGateId,exitGateId,billedHours,baseCents,services,totalCents";
+
+    private final Path file;
+    private final BufferedWriter writer;
+    private long entries;
+
+    /**
+     * Open the ledger for appending, writing the header if the file is new
+     */
+    public BillingLedger(Path file) throws IOException {
+        this.file = file;
+        boolean isNew = !Files.exists(file) || Files.size(file) == 0;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (isNew) {
+            writeLine(HEADER);
+        }
+    }
+
+    public synchronized void record(Ticket ticket, Gate exitGate, long exitTimeMillis, FeeBreakdown breakdown) {
+        StringBuilder line = new StringBuilder(128);
+        line.append(exitTimeMillis).append(',')
+            .append(ticket.getTicketId()).append(',')
+            .append(ticket.getVehicle().getVehicleType()).append(',')
+            .append(ticket.getSlot().getSlotType()).append(',')
+            .append(ticket.getEntryGate().getGateId()).append(',')
+            .append(exitGate.getGateId()).append(',')
+            .append(breakdown.getBilledHours()).append(',')
+            .append(breakdown.getBaseCents()).append(',');
+        for (int service = 0; service < breakdown.getServiceCount(); service++) {
+            if (service > 0) {
+                line.append('|');
+            }
+            line.append(breakdown.getServiceName(service)).append(':').append(breakdown.getServiceCents(service));
+        }
+        line.append(',').append(breakdown.getTotalCents());
+        writeLine(line.toString());
+        entries++;
+    }
+
+    public synchronized void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush billing ledger", e);
+        }
+    }
+
+    public synchronized long getEntriesWritten() {
+        return entries;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write billing ledger", e);
+        }
+    }
+}
\ No newline at end of file
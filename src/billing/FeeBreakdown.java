@@ -0,0 +1,133 @@
+package billing;
+
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Itemised fee for one stay, in whole cents: base parking plus one line per matched service.
+ *
+ * Service lines are kept as parallel primitive arrays keyed by ServiceFactory service ID,
+ * so building a breakdown on the exit path costs two small arrays and no strings.
+ * Names and formatted text are only produced when someone asks (see ReceiptFormatter).
+ */
+public class FeeBreakdown {
+    private static final int[] NO_SERVICE_IDS = new int[0];
+    private static final long[] NO_SERVICE_CENTS = new long[0];
+
+    private final long billedHours;
+    private final long baseCents;
+    private final int[] serviceIds;
+    private final long[] serviceCents;
+    private final long totalCents;
+
+    /**
+     * @param serviceIds   service ID of each line; the arrays are owned by the breakdown, not copied
+     * @param serviceCents cents charged for the service at the same index
+     */
+    public FeeBreakdown(long billedHours, long baseCents, int[] serviceIds, long[] serviceCents) {
+        if (serviceIds.length != serviceCents.length) {
+            throw new IllegalArgumentException("Service IDs and amounts must have the same length");
+        }
+        this.billedHours = billedHours;
+        this.baseCents = baseCents;
+        this.serviceIds = serviceIds;
+        this.serviceCents = serviceCents;
+        long total = baseCents;
+        for (long cents : serviceCents) {
+            total += cents;
+        }
+        this.totalCents = total;
+    }
+
+    /**
+     * Breakdown for a strategy that only knows its total
+     */
+    public static FeeBreakdown ofTotal(long totalCents) {
+        return ofBase(0, totalCents);
+    }
+
+    /**
+     * Breakdown without service lines; shares one pair of empty arrays
+     */
+    public static FeeBreakdown ofBase(long billedHours, long baseCents) {
+        return new FeeBreakdown(billedHours, baseCents, NO_SERVICE_IDS, NO_SERVICE_CENTS);
+    }
+
+    /**
+     * Same service lines with a different base fee, e.g. after a surcharge or discount.
+     * The service arrays are shared, not copied.
+     */
+    public FeeBreakdown withBaseCents(long baseCents) {
+        return new FeeBreakdown(billedHours, baseCents, serviceIds, serviceCents);
+    }
+
+    /**
+     * Cents for an amount in currency units, rounded half-up
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    public static String formatCents(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long abs = Math.abs(cents);
+        return String.format("%s$%d.%02d", sign, abs / 100, abs % 100);
+    }
+
+    public int getServiceCount() {
+        return serviceIds.length;
+    }
+
+    public int getServiceId(int line) {
+        return serviceIds[line];
+    }
+
+    public long getServiceCents(int line) {
+        return serviceCents[line];
+    }
+
+    /**
+     * Name of the service on a line, resolved through ServiceFactory
+     */
+    public String getServiceName(int line) {
+        Service service = ServiceFactory.getServiceById(serviceIds[line]);
+        return service != null ? service.getName() : "SERVICE-" + serviceIds[line];
+    }
+
+    /**
+     * Service lines by name, in line order. Built on each call - meant for display, not the exit path.
+     */
+    public Map<String, Long> getServiceCents() {
+        Map<String, Long> byName = new LinkedHashMap<>();
+        for (int line = 0; line < serviceIds.length; line++) {
+            byName.merge(getServiceName(line), serviceCents[line], Long::sum);
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
+    // Getters
+    public long getBilledHours() {
+        return billedHours;
+    }
+
+    public long getBaseCents() {
+        return baseCents;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(billedHours).append("h base ").append(formatCents(baseCents));
+        for (int line = 0; line < serviceIds.length; line++) {
+            text.append(" + ").append(getServiceName(line)).append(' ').append(formatCents(serviceCents[line]));
+        }
+        return text.append(" = ").append(formatCents(totalCents)).toString();
+    }
+}
\ No newline at end of file
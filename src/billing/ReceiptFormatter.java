@@ -0,0 +1,151 @@
+package billing;
+
+import enums.ReceiptFormat;
+import models.Ticket;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Turns a settled ticket's fee breakdown into a customer receipt, on demand.
+ *
+ * The exit gate only records the breakdown on the ticket; nothing is formatted unless
+ * a receipt is asked for, and then the work runs on this formatter's executor so the
+ * caller (a kiosk, a mail job) never holds up the gate.
+ */
+public class ReceiptFormatter implements AutoCloseable {
+    private final Executor executor;
+    // Set when the formatter created its own executor and must shut it down
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Format on a single daemon thread owned by the formatter
+     */
+    public ReceiptFormatter() {
+        this.ownedExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "receipt-formatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor = ownedExecutor;
+    }
+
+    public ReceiptFormatter(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+        this.ownedExecutor = null;
+    }
+
+    /**
+     * Receipt for a ticket that has been unparked, formatted asynchronously
+     */
+    public CompletableFuture<String> format(Ticket ticket, ReceiptFormat format) {
+        checkSettled(ticket);
+        return CompletableFuture.supplyAsync(() -> formatNow(ticket, format), executor);
+    }
+
+    /**
+     * Receipt formatted on the calling thread, for callers already off the exit path
+     */
+    public String formatNow(Ticket ticket, ReceiptFormat format) {
+        checkSettled(ticket);
+        switch (format) {
+            case TEXT:
+                return formatText(ticket);
+            case JSON:
+                return formatJson(ticket);
+            default:
+                throw new IllegalArgumentException("Unsupported receipt format: " + format);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static void checkSettled(Ticket ticket) {
+        if (ticket == null) {
+            throw new IllegalArgumentException("Ticket cannot be null");
+        }
+        if (!ticket.hasExited()) {
+            throw new IllegalStateException("Ticket has not been settled at an exit gate: " + ticket.getTicketId());
+        }
+    }
+
+    private static String formatText(Ticket ticket) {
+        FeeBreakdown breakdown = ticket.getFeeBreakdown();
+        StringBuilder text = new StringBuilder(256);
+        text.append("Receipt ").append(ticket.getTicketId()).append('\n');
+        text.append(String.format("Vehicle   %s (%s)%n", ticket.getVehicle().getVehicleId(), ticket.getVehicle().getVehicleType()));
+        text.append(String.format("Slot      %s (%s)%n", ticket.getSlot().getSlotId(), ticket.getSlot().getSlotType()));
+        text.append(String.format("Entered   %s at %s%n", ticket.getEntryGate().getGateId(), Instant.ofEpochMilli(ticket.getEntryTimeMillis())));
+        text.append(String.format("Exited    %s at %s%n", ticket.getExitGate().getGateId(), Instant.ofEpochMilli(ticket.getExitTimeMillis())));
+        appendLine(text, "Parking, " + breakdown.getBilledHours() + "h", breakdown.getBaseCents());
+        for (int line = 0; line < breakdown.getServiceCount(); line++) {
+            appendLine(text, breakdown.getServiceName(line), breakdown.getServiceCents(line));
+        }
+        appendLine(text, "Total", breakdown.getTotalCents());
+        long paidCents = FeeBreakdown.toCents(ticket.getAmountPaid());
+        if (paidCents != 0) {
+            appendLine(text, "Prepaid", paidCents);
+        }
+        appendLine(text, "Charged at exit", FeeBreakdown.toCents(ticket.getAmountCharged()));
+        return text.toString();
+    }
+
+    private static void appendLine(StringBuilder text, String label, long cents) {
+        text.append(String.format("%-24s %12s%n", label, FeeBreakdown.formatCents(cents)));
+    }
+
+    private static String formatJson(Ticket ticket) {
+        FeeBreakdown breakdown = ticket.getFeeBreakdown();
+        StringBuilder json = new StringBuilder(256);
+        json.append('{');
+        appendField(json, "ticketId", ticket.getTicketId()).append(',');
+        appendField(json, "vehicleId", ticket.getVehicle().getVehicleId()).append(',');
+        appendField(json, "vehicleType", ticket.getVehicle().getVehicleType().name()).append(',');
+        appendField(json, "slotId", ticket.getSlot().getSlotId()).append(',');
+        appendField(json, "entryGateId", ticket.getEntryGate().getGateId()).append(',');
+        appendField(json, "exitGateId", ticket.getExitGate().getGateId()).append(',');
+        json.append("\"entryTimeMillis\":").append(ticket.getEntryTimeMillis()).append(',');
+        json.append("\"exitTimeMillis\":").append(ticket.getExitTimeMillis()).append(',');
+        json.append("\"billedHours\":").append(breakdown.getBilledHours()).append(',');
+        json.append("\"baseCents\":").append(breakdown.getBaseCents()).append(',');
+        json.append("\"services\":[");
+        for (int line = 0; line < breakdown.getServiceCount(); line++) {
+            if (line > 0) {
+                json.append(',');
+            }
+            json.append("{\"serviceId\":").append(breakdown.getServiceId(line)).append(',');
+            appendField(json, "name", breakdown.getServiceName(line)).append(',');
+            json.append("\"cents\":").append(breakdown.getServiceCents(line)).append('}');
+        }
+        json.append("],");
+        json.append("\"totalCents\":").append(breakdown.getTotalCents()).append(',');
+        json.append("\"prepaidCents\":").append(FeeBreakdown.toCents(ticket.getAmountPaid())).append(',');
+        json.append("\"chargedCents\":").append(FeeBreakdown.toCents(ticket.getAmountCharged()));
+        return json.append('}').toString();
+    }
+
+    private static StringBuilder appendField(StringBuilder json, String name, String value) {
+        json.append('"').append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+}
\ No newline at end of file
@@ -0,0 +1,246 @@
+package billing;
+
+import enums.SlotType;
+import enums.VehicleType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-of-day job that totals a BillingLedger file.
+ *
+ * The file is split into byte ranges, one per worker; each worker streams its range
+ * through a small direct buffer and owns the lines that start inside it, so memory use does not grow
+ * with the ledger and no line is counted twice. Partial totals are merged at the end.
+ */
+public class RevenueAggregator {
+    private static final int READ_BUFFER_BYTES = 1 << 16;
+
+    private final int parallelism;
+
+    public RevenueAggregator(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Totals for entries with fromMillis <= exit time < toMillis
+     */
+    public RevenueTotals aggregate(Path ledgerFile, long fromMillis, long toMillis) throws IOException {
+        long size;
+        try (FileChannel channel = FileChannel.open(ledgerFile, StandardOpenOption.READ)) {
+            size = channel.size();
+        }
+        int chunks = (int) Math.max(1, Math.min(parallelism, size / READ_BUFFER_BYTES));
+
+        ExecutorService executor = Executors.newFixedThreadPool(chunks);
+        try {
+            List<Future<RevenueTotals>> partials = new ArrayList<>();
+            for (int i = 0; i < chunks; i++) {
+                long start = size * i / chunks;
+                long end = size * (i + 1) / chunks;
+                partials.add(executor.submit(() -> aggregateRange(ledgerFile, start, end, fromMillis, toMillis)));
+            }
+            RevenueTotals totals = new RevenueTotals();
+            for (Future<RevenueTotals> partial : partials) {
+                totals.merge(partial.get());
+            }
+            return totals;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Revenue aggregation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IllegalStateException("Revenue aggregation failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static RevenueTotals aggregateRange(Path ledgerFile, long start, long end, long fromMillis, long toMillis) {
+        LineParser parser = new LineParser(fromMillis, toMillis);
+        try (FileChannel channel = FileChannel.open(ledgerFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+            // Start one byte early: if that byte ends a line, the line at 'start' is ours
+            long position = Math.max(0, start - 1);
+            boolean skipping = start > 0;
+            long lineStart = start;
+            while (lineStart < end || parser.hasPartialLine()) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                buffer.flip();
+                for (int i = 0; i < read; i++) {
+                    byte b = buffer.get(i);
+                    position++;
+                    if (skipping) {
+                        skipping = b != '\n';
+                        lineStart = position;
+                    } else if (b == '\n') {
+                        parser.endLine();
+                        lineStart = position;
+                        if (lineStart >= end) {
+                            break;
+                        }
+                    } else {
+                        parser.append(b);
+                    }
+                }
+            }
+            parser.endLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read billing ledger", e);
+        }
+        return parser.totals;
+    }
+
+    /**
+     * Parses ledger lines straight from bytes into one worker's totals.
+     * Gate and service names are interned per worker, so steady-state parsing allocates nothing.
+     */
+    private static final class LineParser {
+        private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+        private static final SlotType[] SLOT_TYPES = SlotType.values();
+
+        private final RevenueTotals totals = new RevenueTotals();
+        private final long fromMillis;
+        private final long toMillis;
+        private final List<String> names = new ArrayList<>();
+        private byte[] line = new byte[256];
+        private int length;
+
+        LineParser(long fromMillis, long toMillis) {
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+        }
+
+        void append(byte b) {
+            if (b == '\r') {
+                return;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+
+        boolean hasPartialLine() {
+            return length > 0;
+        }
+
+        void endLine() {
+            if (length > 0 && line[0] >= '0' && line[0] <= '9') {
+                parse();
+            }
+            // Anything else is the header or a blank line
+            length = 0;
+        }
+
+        private void parse() {
+            int[] commas = new int[9];
+            int found = 0;
+            for (int i = 0; i < length && found < commas.length; i++) {
+                if (line[i] == ',') {
+                    commas[found++] = i;
+                }
+            }
+            if (found < commas.length) {
+                throw new IllegalArgumentException("Malformed ledger line: " + text());
+            }
+            long exitTimeMillis = parseLong(0, commas[0]);
+            if (exitTimeMillis < fromMillis || exitTimeMillis >= toMillis) {
+                return;
+            }
+            VehicleType vehicleType = VEHICLE_TYPES[enumOrdinal(VEHICLE_TYPES, commas[1] + 1, commas[2])];
+            SlotType slotType = SLOT_TYPES[enumOrdinal(SLOT_TYPES, commas[2] + 1, commas[3])];
+            String exitGateId = name(commas[4] + 1, commas[5]);
+            long baseCents = parseLong(commas[6] + 1, commas[7]);
+            long totalCents = parseLong(commas[8] + 1, length);
+            totals.addEntry(vehicleType, slotType, exitGateId, baseCents, totalCents);
+
+            int serviceStart = commas[7] + 1;
+            int servicesEnd = commas[8];
+            while (serviceStart < servicesEnd) {
+                int serviceEnd = serviceStart;
+                while (serviceEnd < servicesEnd && line[serviceEnd] != '|') {
+                    serviceEnd++;
+                }
+                int colon = serviceStart;
+                while (colon < serviceEnd && line[colon] != ':') {
+                    colon++;
+                }
+                totals.addService(name(serviceStart, colon), parseLong(colon + 1, serviceEnd));
+                serviceStart = serviceEnd + 1;
+            }
+        }
+
+        private int enumOrdinal(Enum<?>[] values, int start, int end) {
+            for (Enum<?> value : values) {
+                if (matches(value.name(), start, end)) {
+                    return value.ordinal();
+                }
+            }
+            throw new IllegalArgumentException("Unknown value in ledger line: " + text());
+        }
+
+        private String name(int start, int end) {
+            for (String name : names) {
+                if (matches(name, start, end)) {
+                    return name;
+                }
+            }
+            String name = new String(line, start, end - start, StandardCharsets.US_ASCII);
+            names.add(name);
+            return name;
+        }
+
+        private boolean matches(String value, int start, int end) {
+            if (value.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) != line[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long parseLong(int start, int end) {
+            if (start >= end) {
+                throw new IllegalArgumentException("Missing number in ledger line: " + text());
+            }
+            boolean negative = line[start] == '-';
+            long value = 0;
+            for (int i = negative ? start + 1 : start; i < end; i++) {
+                int digit = line[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new IllegalArgumentException("Bad number in ledger line: " + text());
+                }
+                value = value * 10 + digit;
+            }
+            return negative ? -value : value;
+        }
+
+        private String text() {
+            return new String(line, 0, length, StandardCharsets.US_ASCII);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package billing;
+
+import enums.SlotType;
+import enums.VehicleType;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Revenue in cents broken down by vehicle type, slot type, exit gate and service.
+ * Partial totals from parallel workers are combined with merge().
+ */
+public class RevenueTotals {
+    private long entries;
+    private long totalCents;
+    private long baseCents;
+    private final long[] byVehicleType = new long[VehicleType.values().length];
+    private final long[] bySlotType = new long[SlotType.values().length];
+    private final Map<String, Long> byExitGate = new TreeMap<>();
+    private final Map<String, Long> byService = new TreeMap<>();
+
+    void addEntry(VehicleType vehicleType, SlotType slotType, String exitGateId, long baseCents, long totalCents) {
+        this.entries++;
+        this.totalCents += totalCents;
+        this.baseCents += baseCents;
+        this.byVehicleType[vehicleType.ordinal()] += totalCents;
+        this.bySlotType[slotType.ordinal()] += totalCents;
+        this.byExitGate.merge(exitGateId, totalCents, Long::sum);
+    }
+
+    void addService(String serviceName, long cents) {
+        byService.merge(serviceName, cents, Long::sum);
+    }
+
+    public RevenueTotals merge(RevenueTotals other) {
+        entries += other.entries;
+        totalCents += other.totalCents;
+        baseCents += other.baseCents;
+        for (int i = 0; i < byVehicleType.length; i++) {
+            byVehicleType[i] += other.byVehicleType[i];
+        }
+        for (int i = 0; i < bySlotType.length; i++) {
+            bySlotType[i] += other.bySlotType[i];
+        }
+        other.byExitGate.forEach((gateId, cents) -> byExitGate.merge(gateId, cents, Long::sum));
+        other.byService.forEach((service, cents) -> byService.merge(service, cents, Long::sum));
+        return this;
+    }
+
+    // Getters
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public long getBaseCents() {
+        return baseCents;
+    }
+
+    public long getCents(VehicleType vehicleType) {
+        return byVehicleType[vehicleType.ordinal()];
+    }
+
+    public long getCents(SlotType slotType) {
+        return bySlotType[slotType.ordinal()];
+    }
+
+    public Map<String, Long> getCentsByExitGate() {
+        return Collections.unmodifiableMap(byExitGate);
+    }
+
+    public Map<String, Long> getCentsByService() {
+        return Collections.unmodifiableMap(byService);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("entries=").append(entries)
+            .append(" total=").append(FeeBreakdown.formatCents(totalCents))
+            .append(" base=").append(FeeBreakdown.formatCents(baseCents));
+        text.append("\n  by vehicle type:");
+        for (VehicleType vehicleType : VehicleType.values()) {
+            text.append(' ').append(vehicleType).append('=').append(FeeBreakdown.formatCents(getCents(vehicleType)));
+        }
+        text.append("\n  by slot type:");
+        for (SlotType slotType : SlotType.values()) {
+            text.append(' ').append(slotType).append('=').append(FeeBreakdown.formatCents(getCents(slotType)));
+        }
+        text.append("\n  by exit gate:");
+        byExitGate.forEach((gateId, cents) -> text.append(' ').append(gateId).append('=').append(FeeBreakdown.formatCents(cents)));
+        text.append("\n  by service:");
+        byService.forEach((service, cents) -> text.append(' ').append(service).append('=').append(FeeBreakdown.formatCents(cents)));
+        return text.toString();
+    }
+}
\ No newline at end of file
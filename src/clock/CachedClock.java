@@ -0,0 +1,40 @@
+package clock;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coarse-grained wall clock for the hot path.
+ *
+ * A single daemon thread refreshes a volatile timestamp every resolutionMillis, so
+ * readers pay one volatile load instead of a system call. Good enough for billing,
+ * which rounds to whole hours.
+ */
+public class CachedClock implements Clock, AutoCloseable {
+    private final ScheduledExecutorService refresher;
+    private volatile long nowMillis = System.currentTimeMillis();
+
+    public CachedClock(long resolutionMillis) {
+        if (resolutionMillis <= 0) {
+            throw new IllegalArgumentException("Clock resolution must be positive");
+        }
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cached-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleAtFixedRate(() -> nowMillis = System.currentTimeMillis(),
+                resolutionMillis, resolutionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return nowMillis;
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package clock;
+
+/**
+ * Source of the current time in epoch milliseconds.
+ * Injected into ParkingLot so production can use a cheap cached clock
+ * and simulations can run on virtual time.
+ */
+public interface Clock {
+    long currentTimeMillis();
+}
\ No newline at end of file
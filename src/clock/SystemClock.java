@@ -0,0 +1,16 @@
+package clock;
+
+/**
+ * Wall-clock time straight from System.currentTimeMillis()
+ */
+public final class SystemClock implements Clock {
+    public static final SystemClock INSTANCE = new SystemClock();
+
+    private SystemClock() {
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Manually advanced clock for simulations and demos.
+ * Time never moves backwards, so durations computed from it are never negative.
+ */
+public class VirtualClock implements Clock {
+    private final AtomicLong nowMillis;
+
+    public VirtualClock(long startMillis) {
+        this.nowMillis = new AtomicLong(startMillis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return nowMillis.get();
+    }
+
+    public void setTimeMillis(long timeMillis) {
+        long current = nowMillis.get();
+        if (timeMillis < current) {
+            throw new IllegalArgumentException("Virtual time cannot move backwards: " + timeMillis + " < " + current);
+        }
+        nowMillis.set(timeMillis);
+    }
+
+    public long advance(long amount, TimeUnit unit) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Cannot advance by a negative amount");
+        }
+        return nowMillis.addAndGet(unit.toMillis(amount));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package enums;
+
+public enum AdmissionStatus {
+    ADMITTED,
+    // Quick answers for an overloaded lot - nothing waited on the slot lock
+    LOT_FULL,
+    RATE_LIMITED,
+    QUEUE_FULL,
+    // Waited, but could not be served before the deadline - try later
+    TIMED_OUT
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package enums;
+
+public enum LogOperationType {
+    PARK,
+    UNPARK,
+    // Appended by a new leader so entries from earlier terms can commit
+    NOOP
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package enums;
+
+public enum OccupancyScopeType {
+    LOT,
+    // A node of the zone tree - a level, zone or row and everything under it
+    ZONE,
+    SLOT_TYPE
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package enums;
+
+public enum PermitStatus {
+    // Pays the normal tariff
+    NONE,
+    ACTIVE,
+    EXPIRED,
+    SUSPENDED
+}
\ No newline at end of file
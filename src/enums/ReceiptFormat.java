@@ -0,0 +1,6 @@
+package enums;
+
+public enum ReceiptFormat {
+    TEXT,
+    JSON
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package enums;
+
+public enum ReplicaRole {
+    FOLLOWER,
+    CANDIDATE,
+    LEADER
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package enums;
+
+public enum ReplicationMessageType {
+    APPEND_ENTRIES,
+    APPEND_RESULT,
+    REQUEST_VOTE,
+    VOTE_RESULT
+}
\ No newline at end of file
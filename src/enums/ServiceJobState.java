@@ -0,0 +1,8 @@
+package enums;
+
+public enum ServiceJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package enums;
+
+public enum SimulationEventType {
+    ARRIVAL,
+    DEPARTURE
+}
\ No newline at end of file
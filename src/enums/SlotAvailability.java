@@ -1,6 +1,47 @@
 package enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Slot lifecycle states and the transitions allowed between them:
+ *
+ *   AVAILABLE      -> OCCUPIED, RESERVED, OUT_OF_SERVICE
+ *   RESERVED       -> OCCUPIED, AVAILABLE
+ *   OCCUPIED       -> AVAILABLE, CLEANING
+ *   CLEANING       -> AVAILABLE, OUT_OF_SERVICE
+ *   OUT_OF_SERVICE -> AVAILABLE
+ */
 public enum SlotAvailability {
     AVAILABLE,
-    OCCUPIED
+    OCCUPIED,
+    // Free, but pre-claimed by an entry gate's local slot cache
+    RESERVED,
+    // Closed for maintenance - not offered to vehicles until reopened
+    OUT_OF_SERVICE,
+    // Vacated after a serviced stay and waiting to be cleaned
+    CLEANING;
+
+    private static final Map<SlotAvailability, Set<SlotAvailability>> TRANSITIONS = new EnumMap<>(SlotAvailability.class);
+
+    static {
+        TRANSITIONS.put(AVAILABLE, EnumSet.of(OCCUPIED, RESERVED, OUT_OF_SERVICE));
+        TRANSITIONS.put(RESERVED, EnumSet.of(OCCUPIED, AVAILABLE));
+        TRANSITIONS.put(OCCUPIED, EnumSet.of(AVAILABLE, CLEANING));
+        TRANSITIONS.put(CLEANING, EnumSet.of(AVAILABLE, OUT_OF_SERVICE));
+        TRANSITIONS.put(OUT_OF_SERVICE, EnumSet.of(AVAILABLE));
+    }
+
+    public boolean canTransitionTo(SlotAvailability to) {
+        return TRANSITIONS.get(this).contains(to);
+    }
+
+    /**
+     * True for states in which the slot can take a vehicle without staff action
+     */
+    public boolean isFree() {
+        return this == AVAILABLE || this == RESERVED;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package enums;
+
+public enum StressOperationType {
+    PARK,
+    UNPARK,
+    ADD_SLOT,
+    COUNT_OCCUPIED
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package enums;
+
+public enum StressOutcome {
+    OK,
+    // No suitable slot
+    FULL,
+    // Refused by anti-passback: vehicle already inside, or ticket not active
+    REFUSED
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package forecast;
+
+import enums.VehicleType;
+import models.Ticket;
+import models.Vehicle;
+import service.ServiceFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Online model of how long vehicles stay, learned from completed stays.
+ *
+ * Stays are segmented by VehicleType and the set of required services (a truck booked
+ * for maintenance stays differently from a bike), each segment with its own
+ * DwellTimeSketch. A segment is only trusted once it has minSegmentSamples stays;
+ * until then estimates fall back to the vehicle type's sketch and then the whole lot's.
+ *
+ * record() touches three sketches and nothing else, so learning from an unpark is O(1).
+ */
+public class DwellTimeEstimator {
+    private static final int DEFAULT_MIN_SEGMENT_SAMPLES = 30;
+    private static final long DEFAULT_MAX_WEIGHT = 4096;
+
+    private final int minSegmentSamples;
+    private final long maxWeight;
+    // Segment sketches keyed by required-service mask, per vehicle type (read-only map once built)
+    private final Map<VehicleType, Map<Long, DwellTimeSketch>> bySegment = new EnumMap<>(VehicleType.class);
+    private final DwellTimeSketch[] byVehicleType = new DwellTimeSketch[VehicleType.values().length];
+    private final DwellTimeSketch overall;
+
+    public DwellTimeEstimator() {
+        this(DEFAULT_MIN_SEGMENT_SAMPLES, DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * @param minSegmentSamples stays a segment needs before its own sketch is used
+     * @param maxWeight         samples each sketch holds before older ones are decayed
+     */
+    public DwellTimeEstimator(int minSegmentSamples, long maxWeight) {
+        if (minSegmentSamples < 1) {
+            throw new IllegalArgumentException("Min segment samples must be positive");
+        }
+        this.minSegmentSamples = minSegmentSamples;
+        this.maxWeight = maxWeight;
+        this.overall = new DwellTimeSketch(maxWeight);
+        for (VehicleType vehicleType : VehicleType.values()) {
+            byVehicleType[vehicleType.ordinal()] = new DwellTimeSketch(maxWeight);
+            bySegment.put(vehicleType, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Learn from a completed stay
+     */
+    public void record(Ticket ticket, long exitTimeMillis) {
+        long dwellMillis = Math.max(0, exitTimeMillis - ticket.getEntryTimeMillis());
+        Vehicle vehicle = ticket.getVehicle();
+        bySegment.get(vehicle.getVehicleType())
+                .computeIfAbsent(serviceMask(vehicle), mask -> new DwellTimeSketch(maxWeight))
+                .add(dwellMillis);
+        byVehicleType[vehicle.getVehicleType().ordinal()].add(dwellMillis);
+        overall.add(dwellMillis);
+    }
+
+    /**
+     * Expected stay for the vehicle at the given quantile (0.5 for the median),
+     * or -1 before any stay has been recorded
+     */
+    public long estimateDwellMillis(Vehicle vehicle, double quantile) {
+        return sketchFor(vehicle).quantile(quantile);
+    }
+
+    /**
+     * Share of the lot's occupied slots (0..1) held by stays shorter than this vehicle's
+     * median stay - how deep into the occupied part of the lot it belongs if shorter stays
+     * are kept nearer the gate. 0 until the lot has minSegmentSamples stays, so a cold model
+     * allots like nearest-slot.
+     */
+    public double dwellRank(Vehicle vehicle) {
+        if (overall.getSampleCount() < minSegmentSamples) {
+            return 0.0;
+        }
+        return overall.timeShareBelow(sketchFor(vehicle).quantile(0.5));
+    }
+
+    /**
+     * Probability that a vehicle still parked on this ticket leaves within horizonMillis of nowMillis
+     */
+    public double probabilityLeavingWithin(Ticket ticket, long nowMillis, long horizonMillis) {
+        DwellTimeSketch sketch = sketchFor(ticket.getVehicle());
+        if (sketch.getWeight() == 0) {
+            return 0.0;
+        }
+        long elapsed = Math.max(0, nowMillis - ticket.getEntryTimeMillis());
+        double stayedSoFar = sketch.cdf(elapsed);
+        double remaining = 1.0 - stayedSoFar;
+        if (remaining <= 1e-9) {
+            // Already longer than anything seen - treat as about to leave
+            return 1.0;
+        }
+        return Math.max(0.0, (sketch.cdf(elapsed + horizonMillis) - stayedSoFar) / remaining);
+    }
+
+    /**
+     * Expected number of the given parked vehicles that leave within horizonMillis
+     */
+    public double expectedDepartures(Iterable<Ticket> activeTickets, long nowMillis, long horizonMillis) {
+        double expected = 0.0;
+        for (Ticket ticket : activeTickets) {
+            expected += probabilityLeavingWithin(ticket, nowMillis, horizonMillis);
+        }
+        return expected;
+    }
+
+    public long getSampleCount() {
+        return overall.getSampleCount();
+    }
+
+    public int getSegmentCount() {
+        int segments = 0;
+        for (Map<Long, DwellTimeSketch> byServices : bySegment.values()) {
+            segments += byServices.size();
+        }
+        return segments;
+    }
+
+    private DwellTimeSketch sketchFor(Vehicle vehicle) {
+        DwellTimeSketch segment = bySegment.get(vehicle.getVehicleType()).get(serviceMask(vehicle));
+        if (segment != null && segment.getSampleCount() >= minSegmentSamples) {
+            return segment;
+        }
+        DwellTimeSketch typeSketch = byVehicleType[vehicle.getVehicleType().ordinal()];
+        return typeSketch.getSampleCount() >= minSegmentSamples ? typeSketch : overall;
+    }
+
+    private static long serviceMask(Vehicle vehicle) {
+        return ServiceFactory.getServiceMask(vehicle.getRequiredServices());
+    }
+}
\ No newline at end of file
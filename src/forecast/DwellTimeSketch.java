@@ -0,0 +1,146 @@
+package forecast;
+
+/**
+ * Streaming histogram of dwell times with log-spaced buckets.
+ *
+ * Bucket i covers [MIN_MILLIS * GROWTH^(i-1), MIN_MILLIS * GROWTH^i); bucket 0 holds
+ * everything under a minute and the last bucket everything from about two weeks on. With a growth
+ * factor of 1.1 a quantile read back is within about 5% of the true value.
+ *
+ * add() is O(1). Once maxWeight samples have been added every count is halved, which
+ * costs one pass over the fixed bucket array every maxWeight/2 samples (amortised O(1))
+ * and lets the sketch follow changes in behaviour instead of averaging over all time.
+ *
+ * Thread-safe; methods are synchronized on the sketch.
+ */
+public class DwellTimeSketch {
+    static final long MIN_MILLIS = 60_000L;
+    static final long MAX_MILLIS = 14L * 24 * 60 * 60 * 1000;
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 2 + (int) Math.ceil(Math.log((double) MAX_MILLIS / MIN_MILLIS) / LOG_GROWTH);
+
+    private final long[] counts = new long[BUCKETS];
+    private final long maxWeight;
+    private long weight;
+    private long samples;
+
+    public DwellTimeSketch(long maxWeight) {
+        if (maxWeight < 2) {
+            throw new IllegalArgumentException("Max weight must be at least 2");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    public synchronized void add(long dwellMillis) {
+        counts[bucketOf(dwellMillis)]++;
+        samples++;
+        if (++weight >= maxWeight) {
+            weight = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] >>= 1;
+                weight += counts[i];
+            }
+        }
+    }
+
+    /**
+     * Dwell time at the given quantile (0..1), or -1 if the sketch is empty
+     */
+    public synchronized long quantile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        if (weight == 0) {
+            return -1;
+        }
+        double target = q * weight;
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (cumulative + counts[i] >= target) {
+                double within = (target - cumulative) / counts[i];
+                return Math.round(lowerBound(i) + within * (upperBound(i) - lowerBound(i)));
+            }
+            cumulative += counts[i];
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Fraction of recorded stays no longer than dwellMillis, interpolated within a bucket
+     */
+    public synchronized double cdf(long dwellMillis) {
+        if (weight == 0) {
+            return 0.0;
+        }
+        int bucket = bucketOf(dwellMillis);
+        long below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += counts[i];
+        }
+        double lower = lowerBound(bucket);
+        double within = Math.min(1.0, Math.max(0.0, (dwellMillis - lower) / (upperBound(bucket) - lower)));
+        return (below + within * counts[bucket]) / weight;
+    }
+
+    /**
+     * Share of total parked time (0..1) spent by stays no longer than dwellMillis.
+     * By Little's law this is also the share of occupied slots those stays hold at any moment.
+     */
+    public synchronized double timeShareBelow(long dwellMillis) {
+        if (weight == 0) {
+            return 0.0;
+        }
+        int bucket = bucketOf(dwellMillis);
+        double below = 0.0;
+        double total = 0.0;
+        for (int i = 0; i < BUCKETS; i++) {
+            double mass = counts[i] * midpoint(i);
+            total += mass;
+            if (i < bucket) {
+                below += mass;
+            }
+        }
+        double lower = lowerBound(bucket);
+        double within = Math.min(1.0, Math.max(0.0, (dwellMillis - lower) / (upperBound(bucket) - lower)));
+        below += within * counts[bucket] * midpoint(bucket);
+        return total == 0.0 ? 0.0 : below / total;
+    }
+
+    /**
+     * Stays recorded since creation, before any decay
+     */
+    public synchronized long getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * Current decayed weight - the number of samples quantiles are drawn from
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    private static int bucketOf(long dwellMillis) {
+        if (dwellMillis < MIN_MILLIS) {
+            return 0;
+        }
+        int bucket = 1 + (int) (Math.log((double) dwellMillis / MIN_MILLIS) / LOG_GROWTH);
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long lowerBound(int bucket) {
+        return bucket == 0 ? 0 : (long) (MIN_MILLIS * Math.pow(GROWTH, bucket - 1));
+    }
+
+    private static double midpoint(int bucket) {
+        return (lowerBound(bucket) + upperBound(bucket)) / 2.0;
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) (MIN_MILLIS * Math.pow(GROWTH, bucket));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package gateway;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Client side of the gate protocol
+ */
+public interface GateConnection extends Closeable {
+    /**
+     * Send the request lines back to back, then wait for one response per request.
+     * @return the response lines in request order, without terminators
+     */
+    List<String> exchange(List<String> requestLines) throws IOException;
+}
\ No newline at end of file
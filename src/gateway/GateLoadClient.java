@@ -0,0 +1,127 @@
+package gateway;
+
+import simulation.LatencyRecorder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load generator for the gate protocol, for throughput and latency tests on one machine.
+ *
+ * Each connection runs on its own thread and repeats a cycle of pipelined batches:
+ * pipelineDepth PARKs, then a QUOTE for each ticket plus one OCCUPANCY, then an UNPARK
+ * for each ticket. Every batch is one round trip and its latency is recorded. Works the
+ * same over SocketGateConnection (loopback) and LocalGateConnection (no network).
+ */
+public class GateLoadClient {
+    private final Callable<GateConnection> connectionFactory;
+    private final String entryGateId;
+    private final String exitGateId;
+
+    public GateLoadClient(Callable<GateConnection> connectionFactory, String entryGateId, String exitGateId) {
+        this.connectionFactory = connectionFactory;
+        this.entryGateId = entryGateId;
+        this.exitGateId = exitGateId;
+    }
+
+    public GateLoadReport run(int connections, int cyclesPerConnection, int pipelineDepth) {
+        if (connections < 1 || cyclesPerConnection < 1 || pipelineDepth < 1) {
+            throw new IllegalArgumentException("Connections, cycles and pipeline depth must be positive");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            List<Future<ConnectionResult>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int c = 0; c < connections; c++) {
+                final int connection = c;
+                futures.add(executor.submit(() -> runConnection(connection, cyclesPerConnection, pipelineDepth)));
+            }
+            LatencyRecorder batchLatency = new LatencyRecorder();
+            long requests = 0;
+            long errors = 0;
+            for (Future<ConnectionResult> future : futures) {
+                ConnectionResult result = future.get();
+                batchLatency.add(result.batchLatency);
+                requests += result.requests;
+                errors += result.errors;
+            }
+            return new GateLoadReport(connections, pipelineDepth, requests, errors,
+                    System.nanoTime() - start, batchLatency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for load connections", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new IllegalStateException("Load connection failed", cause);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private ConnectionResult runConnection(int connection, int cycles, int pipelineDepth) throws Exception {
+        ConnectionResult result = new ConnectionResult();
+        long nextRequestId = 0;
+        try (GateConnection gate = connectionFactory.call()) {
+            List<String> batch = new ArrayList<>(pipelineDepth + 1);
+            List<String> ticketIds = new ArrayList<>(pipelineDepth);
+            for (int cycle = 0; cycle < cycles; cycle++) {
+                batch.clear();
+                for (int i = 0; i < pipelineDepth; i++) {
+                    batch.add(GateProtocol.PARK + " " + nextRequestId++ + " " + entryGateId
+                            + " LOAD-" + connection + "-" + cycle + "-" + i + " CAR PETROL");
+                }
+                ticketIds.clear();
+                for (String response : exchange(gate, batch, result)) {
+                    if (GateProtocol.isOk(response)) {
+                        ticketIds.add(GateProtocol.field(response, 2));
+                    }
+                }
+
+                batch.clear();
+                for (String ticketId : ticketIds) {
+                    batch.add(GateProtocol.QUOTE + " " + nextRequestId++ + " " + ticketId);
+                }
+                batch.add(GateProtocol.OCCUPANCY + " " + nextRequestId++);
+                exchange(gate, batch, result);
+
+                batch.clear();
+                for (String ticketId : ticketIds) {
+                    batch.add(GateProtocol.UNPARK + " " + nextRequestId++ + " " + ticketId + " " + exitGateId);
+                }
+                if (!batch.isEmpty()) {
+                    exchange(gate, batch, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<String> exchange(GateConnection gate, List<String> batch, ConnectionResult result)
+            throws IOException {
+        long start = System.nanoTime();
+        List<String> responses = gate.exchange(batch);
+        result.batchLatency.record(System.nanoTime() - start);
+        result.requests += batch.size();
+        for (String response : responses) {
+            if (!GateProtocol.isOk(response)) {
+                result.errors++;
+            }
+        }
+        return responses;
+    }
+
+    private static final class ConnectionResult {
+        final LatencyRecorder batchLatency = new LatencyRecorder();
+        long requests;
+        long errors;
+    }
+}
\ No newline at end of file
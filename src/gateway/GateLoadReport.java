@@ -0,0 +1,56 @@
+package gateway;
+
+import simulation.LatencyRecorder;
+
+/**
+ * Outcome of a GateLoadClient run: request counts, throughput and round-trip latency
+ * of each pipelined batch
+ */
+public class GateLoadReport {
+    private final int connections;
+    private final int pipelineDepth;
+    private final long requests;
+    private final long errors;
+    private final long wallDurationNanos;
+    private final LatencyRecorder batchLatency;
+
+    GateLoadReport(int connections, int pipelineDepth, long requests, long errors,
+                   long wallDurationNanos, LatencyRecorder batchLatency) {
+        this.connections = connections;
+        this.pipelineDepth = pipelineDepth;
+        this.requests = requests;
+        this.errors = errors;
+        this.wallDurationNanos = wallDurationNanos;
+        this.batchLatency = batchLatency;
+    }
+
+    public double getRequestsPerSecond() {
+        return wallDurationNanos == 0 ? 0.0 : requests / (wallDurationNanos / 1e9);
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getWallDurationNanos() {
+        return wallDurationNanos;
+    }
+
+    public LatencyRecorder getBatchLatency() {
+        return batchLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "connections=%d depth=%d requests=%d errors=%d in %.0fms, %.0f req/s%n"
+                + "  batch round trip p50=%dus p99=%dus p99.9=%dus max=%dus",
+                connections, pipelineDepth, requests, errors, wallDurationNanos / 1e6, getRequestsPerSecond(),
+                batchLatency.percentile(50) / 1000, batchLatency.percentile(99) / 1000,
+                batchLatency.percentile(99.9) / 1000, batchLatency.getMaxNanos() / 1000);
+    }
+}
\ No newline at end of file
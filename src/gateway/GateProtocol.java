@@ -0,0 +1,66 @@
+package gateway;
+
+/**
+ * Line protocol spoken between physical gates and the lot.
+ *
+ * Every request and response is one line of ASCII ending in '\n' ('\r' before it is
+ * ignored), with fields separated by single spaces. The second field of every request is
+ * a client-chosen request ID that is echoed back, so a client may pipeline any number of
+ * requests on one connection; responses come back in request order.
+ *
+ *   PARK <id> <entryGateId> <vehicleId> <VehicleType> <FuelType> [service,service...]
+ *     -> OK <id> <ticketId> <slotId>
+ *   UNPARK <id> <ticketId> <exitGateId>
+ *     -> OK <id> <amountDueCents>
+ *   QUOTE <id> <ticketId>
+ *     -> OK <id> <totalFeeCents> <amountDueCents> <validUntilMillis>
+ *   OCCUPANCY <id>
+ *     -> OK <id> <count per SlotAvailability, in declaration order>
+ *
+ * Failures answer ERR <id> <code> <message>, with the codes below. Request IDs longer
+ * than MAX_REQUEST_ID_LENGTH are answered ERR - BAD_REQUEST.
+ */
+public final class GateProtocol {
+    public static final String PARK = "PARK";
+    public static final String UNPARK = "UNPARK";
+    public static final String QUOTE = "QUOTE";
+    public static final String OCCUPANCY = "OCCUPANCY";
+
+    public static final String OK = "OK";
+    public static final String ERR = "ERR";
+
+    public static final String BAD_REQUEST = "BAD_REQUEST";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String LOT_FULL = "LOT_FULL";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String SERVER_ERROR = "SERVER_ERROR";
+
+    // Longest request line accepted, terminator included
+    public static final int MAX_LINE_BYTES = 512;
+    // Upper bound on a response line, terminator included
+    public static final int MAX_RESPONSE_BYTES = 512;
+    // Longest request ID accepted; it is echoed in every response
+    public static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private GateProtocol() {
+    }
+
+    public static boolean isOk(String responseLine) {
+        return responseLine.startsWith(OK + " ");
+    }
+
+    /**
+     * Field at the given position of a line (0 is the OK/ERR or command word)
+     */
+    public static String field(String line, int index) {
+        int start = 0;
+        for (int i = 0; i < index; i++) {
+            start = line.indexOf(' ', start) + 1;
+            if (start == 0) {
+                return null;
+            }
+        }
+        int end = line.indexOf(' ', start);
+        return end < 0 ? line.substring(start) : line.substring(start, end);
+    }
+}
\ No newline at end of file
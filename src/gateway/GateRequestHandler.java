@@ -0,0 +1,172 @@
+package gateway;
+
+import billing.FeeBreakdown;
+import enums.FuelType;
+import enums.SlotAvailability;
+import enums.VehicleType;
+import models.FeeQuote;
+import models.Gate;
+import models.ParkingLot;
+import models.Ticket;
+import models.Vehicle;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes GateProtocol requests against a ParkingLot.
+ *
+ * Transport-independent: GateServer feeds it lines read from sockets and
+ * LocalGateConnection calls it directly, so gate software can be tested in-process
+ * against exactly the same protocol. Safe for concurrent use - all state lives in the lot.
+ */
+public class GateRequestHandler {
+    private final ParkingLot parkingLot;
+    private final Map<String, Gate> gatesById = new HashMap<>();
+
+    public GateRequestHandler(ParkingLot parkingLot) {
+        this.parkingLot = parkingLot;
+        for (Gate gate : parkingLot.getGates()) {
+            gatesById.put(gate.getGateId(), gate);
+        }
+    }
+
+    /**
+     * Handle one request line (without its terminator) and append the response line
+     * (without its terminator) to response
+     */
+    public void handle(String line, StringBuilder response) {
+        String[] fields = line.split(" ");
+        if (fields.length < 2 || fields[1].isEmpty()) {
+            error(response, "-", GateProtocol.BAD_REQUEST, "Expected <COMMAND> <requestId> ...");
+            return;
+        }
+        String requestId = fields[1];
+        if (requestId.length() > GateProtocol.MAX_REQUEST_ID_LENGTH) {
+            error(response, "-", GateProtocol.BAD_REQUEST,
+                    "Request ID longer than " + GateProtocol.MAX_REQUEST_ID_LENGTH + " characters");
+            return;
+        }
+        int start = response.length();
+        try {
+            switch (fields[0]) {
+                case GateProtocol.PARK:
+                    park(requestId, fields, response);
+                    break;
+                case GateProtocol.UNPARK:
+                    unpark(requestId, fields, response);
+                    break;
+                case GateProtocol.QUOTE:
+                    quote(requestId, fields, response);
+                    break;
+                case GateProtocol.OCCUPANCY:
+                    occupancy(requestId, response);
+                    break;
+                default:
+                    error(response, requestId, GateProtocol.BAD_REQUEST, "Unknown command " + fields[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            error(response, requestId, GateProtocol.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            error(response, requestId, GateProtocol.CONFLICT, e.getMessage());
+        } catch (RuntimeException e) {
+            error(response, requestId, GateProtocol.SERVER_ERROR, e.toString());
+        }
+        // OK answers echo IDs from the lot (tickets, slots) too; never exceed the server's per-request space
+        if (response.length() - start > GateProtocol.MAX_RESPONSE_BYTES - 1) {
+            response.setLength(start);
+            error(response, requestId, GateProtocol.SERVER_ERROR, "Response too long");
+        }
+    }
+
+    private void park(String requestId, String[] fields, StringBuilder response) {
+        expectFields(fields, 6, 7, "PARK <id> <entryGateId> <vehicleId> <VehicleType> <FuelType> [services]");
+        Gate entryGate = gate(fields[2]);
+        List<Service> services = new ArrayList<>();
+        if (fields.length == 7) {
+            for (String name : fields[6].split(",")) {
+                Service service = ServiceFactory.getServiceByName(name);
+                if (service == null) {
+                    throw new IllegalArgumentException("Unknown service " + name);
+                }
+                services.add(service);
+            }
+        }
+        Vehicle vehicle = new Vehicle(fields[3], VehicleType.valueOf(fields[4]), FuelType.valueOf(fields[5]), services);
+
+        Ticket ticket;
+        try {
+            ticket = parkingLot.parkVehicle(vehicle, entryGate);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // The lot signals "no suitable slot" with a plain RuntimeException
+            error(response, requestId, GateProtocol.LOT_FULL, e.getMessage());
+            return;
+        }
+        ok(response, requestId).append(' ').append(ticket.getTicketId())
+                .append(' ').append(ticket.getSlot().getSlotId());
+    }
+
+    private void unpark(String requestId, String[] fields, StringBuilder response) {
+        expectFields(fields, 4, 4, "UNPARK <id> <ticketId> <exitGateId>");
+        Ticket ticket = parkingLot.getActiveTicket(fields[2]);
+        if (ticket == null) {
+            error(response, requestId, GateProtocol.NOT_FOUND, "No parked vehicle for ticket " + fields[2]);
+            return;
+        }
+        double amountDue = parkingLot.unparkVehicle(ticket, gate(fields[3]));
+        ok(response, requestId).append(' ').append(FeeBreakdown.toCents(amountDue));
+    }
+
+    private void quote(String requestId, String[] fields, StringBuilder response) {
+        expectFields(fields, 3, 3, "QUOTE <id> <ticketId>");
+        Ticket ticket = parkingLot.getActiveTicket(fields[2]);
+        if (ticket == null) {
+            error(response, requestId, GateProtocol.NOT_FOUND, "No parked vehicle for ticket " + fields[2]);
+            return;
+        }
+        FeeQuote quote = parkingLot.quoteFee(ticket);
+        ok(response, requestId)
+                .append(' ').append(FeeBreakdown.toCents(quote.getTotalFee()))
+                .append(' ').append(FeeBreakdown.toCents(quote.getAmountDue()))
+                .append(' ').append(quote.getValidUntilMillis());
+    }
+
+    private void occupancy(String requestId, StringBuilder response) {
+        ok(response, requestId);
+        for (SlotAvailability availability : SlotAvailability.values()) {
+            response.append(' ').append(parkingLot.getSlotCount(availability));
+        }
+    }
+
+    private Gate gate(String gateId) {
+        Gate gate = gatesById.get(gateId);
+        if (gate == null) {
+            throw new IllegalArgumentException("Unknown gate " + gateId);
+        }
+        return gate;
+    }
+
+    private static void expectFields(String[] fields, int min, int max, String usage) {
+        if (fields.length < min || fields.length > max) {
+            throw new IllegalArgumentException("Usage: " + usage);
+        }
+    }
+
+    private static StringBuilder ok(StringBuilder response, String requestId) {
+        return response.append(GateProtocol.OK).append(' ').append(requestId);
+    }
+
+    private static void error(StringBuilder response, String requestId, String code, String message) {
+        String detail = message == null ? "" : message.replace('\n', ' ');
+        response.append(GateProtocol.ERR).append(' ').append(requestId).append(' ').append(code).append(' ').append(detail);
+        // Keep within MAX_RESPONSE_BYTES so the server's per-request space check holds
+        if (response.length() > GateProtocol.MAX_RESPONSE_BYTES - 1) {
+            response.setLength(GateProtocol.MAX_RESPONSE_BYTES - 1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package gateway;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking GateProtocol server on a single selector thread.
+ *
+ * Each connection owns a direct input and output buffer. A read parses every complete
+ * line it finds, so a client that pipelines requests gets all of them handled and
+ * answered with a single write; nothing is copied through heap byte arrays, and direct
+ * buffers let the socket write go straight from the buffer without the JDK's temporary
+ * copy. When a client stops reading its responses the output buffer fills, the server
+ * stops reading from that client until it drains, and other connections carry on.
+ *
+ * Requests run on the selector thread. ParkingLot operations are short lock-guarded
+ * updates, so this is cheaper than handing each one to a worker.
+ */
+public class GateServer implements Closeable {
+    private static final int INPUT_BUFFER_BYTES = 16 * 1024;
+    private static final int OUTPUT_BUFFER_BYTES = 64 * 1024;
+
+    private final GateRequestHandler handler;
+    private final InetSocketAddress bindAddress;
+    private final AtomicLong connectionsAccepted = new AtomicLong();
+    private final AtomicLong requestsHandled = new AtomicLong();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    /**
+     * @param bindAddress address to listen on; port 0 picks a free port (see getPort)
+     */
+    public GateServer(GateRequestHandler handler, InetSocketAddress bindAddress) {
+        this.handler = handler;
+        this.bindAddress = bindAddress;
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) {
+            throw new IllegalStateException("Gate server is already running");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(bindAddress);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        selectorThread = new Thread(this::runLoop, "gate-server-" + getPort());
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public long getConnectionsAccepted() {
+        return connectionsAccepted.get();
+    }
+
+    public long getRequestsHandled() {
+        return requestsHandled.get();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isWritable()) {
+                                connection.flush();
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                connection.read();
+                            }
+                        }
+                    } catch (IOException e) {
+                        // One broken client must not take the gate server down
+                        key.cancel();
+                        key.channel().close();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            running = false;
+            throw new UncheckedIOException("Gate server selector failed", e);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+        connectionsAccepted.incrementAndGet();
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer input = ByteBuffer.allocateDirect(INPUT_BUFFER_BYTES);
+        private final ByteBuffer output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+        private final StringBuilder line = new StringBuilder(GateProtocol.MAX_LINE_BYTES);
+        private final StringBuilder response = new StringBuilder(GateProtocol.MAX_RESPONSE_BYTES);
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            int read = channel.read(input);
+            if (read < 0) {
+                key.cancel();
+                channel.close();
+                return;
+            }
+            processRequests();
+            flush();
+        }
+
+        /**
+         * Handle every complete line in the input buffer while there is room for the answers
+         */
+        private void processRequests() throws IOException {
+            input.flip();
+            int lineStart = input.position();
+            boolean outputFull = false;
+            for (int i = lineStart; i < input.limit(); i++) {
+                if (input.get(i) != '\n') {
+                    continue;
+                }
+                if (output.remaining() < GateProtocol.MAX_RESPONSE_BYTES) {
+                    outputFull = true;
+                    break;
+                }
+                line.setLength(0);
+                int end = i > lineStart && input.get(i - 1) == '\r' ? i - 1 : i;
+                for (int j = lineStart; j < end; j++) {
+                    line.append((char) (input.get(j) & 0xFF));
+                }
+                response.setLength(0);
+                handler.handle(line.toString(), response);
+                requestsHandled.incrementAndGet();
+                for (int j = 0; j < response.length(); j++) {
+                    output.put((byte) response.charAt(j));
+                }
+                output.put((byte) '\n');
+                lineStart = i + 1;
+            }
+            input.position(lineStart);
+            if (!outputFull && input.remaining() >= GateProtocol.MAX_LINE_BYTES) {
+                throw new IOException("Request line longer than " + GateProtocol.MAX_LINE_BYTES + " bytes");
+            }
+            input.compact();
+        }
+
+        void flush() throws IOException {
+            output.flip();
+            channel.write(output);
+            output.compact();
+            if (output.position() > 0) {
+                // Client is behind on reading - wait for it before taking more requests
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+                if (input.position() > 0 && hasCompleteLine()) {
+                    processRequests();
+                    flush();
+                }
+            }
+        }
+
+        private boolean hasCompleteLine() {
+            for (int i = 0; i < input.position(); i++) {
+                if (input.get(i) == '\n') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package gateway;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process stand-in for a network gate connection: requests go straight to a
+ * GateRequestHandler, with the same protocol and answers as over a socket.
+ */
+public class LocalGateConnection implements GateConnection {
+    private final GateRequestHandler handler;
+    private final StringBuilder response = new StringBuilder(GateProtocol.MAX_RESPONSE_BYTES);
+
+    public LocalGateConnection(GateRequestHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public List<String> exchange(List<String> requestLines) {
+        List<String> responses = new ArrayList<>(requestLines.size());
+        for (String requestLine : requestLines) {
+            response.setLength(0);
+            handler.handle(requestLine, response);
+            responses.add(response.toString());
+        }
+        return responses;
+    }
+
+    @Override
+    public void close() {
+    }
+}
\ No newline at end of file
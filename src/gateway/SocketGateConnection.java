@@ -0,0 +1,82 @@
+package gateway;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Blocking client connection to a GateServer. A batch of requests is encoded into one
+ * direct buffer and written together, so the server sees them pipelined.
+ */
+public class SocketGateConnection implements GateConnection {
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer output = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final ByteBuffer input = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final StringBuilder line = new StringBuilder(GateProtocol.MAX_RESPONSE_BYTES);
+
+    public SocketGateConnection(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        this.channel.socket().setTcpNoDelay(true);
+        this.input.flip();
+    }
+
+    @Override
+    public List<String> exchange(List<String> requestLines) throws IOException {
+        List<String> responses = new ArrayList<>(requestLines.size());
+        int sent = 0;
+        while (sent < requestLines.size()) {
+            // Send as much as fits, then collect those answers before sending more
+            output.clear();
+            int batchEnd = sent;
+            while (batchEnd < requestLines.size()
+                    && output.remaining() >= requestLines.get(batchEnd).length() + 1) {
+                String request = requestLines.get(batchEnd++);
+                for (int i = 0; i < request.length(); i++) {
+                    output.put((byte) request.charAt(i));
+                }
+                output.put((byte) '\n');
+            }
+            if (batchEnd == sent) {
+                throw new IllegalArgumentException("Request line too long: " + requestLines.get(sent).length());
+            }
+            output.flip();
+            while (output.hasRemaining()) {
+                channel.write(output);
+            }
+            for (; sent < batchEnd; sent++) {
+                responses.add(readLine());
+            }
+        }
+        return responses;
+    }
+
+    private String readLine() throws IOException {
+        line.setLength(0);
+        while (true) {
+            while (input.hasRemaining()) {
+                byte b = input.get();
+                if (b == '\n') {
+                    return line.toString();
+                }
+                line.append((char) (b & 0xFF));
+            }
+            input.clear();
+            int read = channel.read(input);
+            input.flip();
+            if (read < 0) {
+                throw new EOFException("Gate server closed the connection");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,340 @@
+package layout;
+
+import enums.GateType;
+import enums.SlotAvailability;
+import enums.SlotType;
+import models.Gate;
+import models.SlotStore;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports a lot layout exported from a spreadsheet as two CSV files.
+ *
+ * Gates file - one gate per row:
+ *   gateId,gateType
+ *   ENTRY-1,ENTRY
+ *
+ * Slots file - one slot per row, one distance column per gate (named by gate ID);
+ * services are ';'-separated standard service names, an empty distance means the
+ * slot cannot be reached from that gate:
+ *   slotId,slotType,zone,services,ENTRY-1,EXIT-1
+ *   A-0001,MEDIUM,ZONE-A,EV_CHARGING;CLEANING,12,240
+ *
+ * The slots file is parsed in one pass straight from a small direct buffer into a
+ * SlotStore, so apart from the store itself memory use does not grow with the file.
+ * Services are resolved through ServiceFactory (shared instances, compact masks) and
+ * zone names are interned. Every row is validated; the first problem is reported as an
+ * IllegalArgumentException naming the file and line.
+ */
+public class LayoutLoader {
+    private static final int READ_BUFFER_BYTES = 1 << 16;
+    private static final String[] FIXED_COLUMNS = {"slotId", "slotType", "zone", "services"};
+
+    public LotLayout load(Path gatesFile, Path slotsFile) throws IOException {
+        List<Gate> gates = loadGates(gatesFile);
+        SlotStore store = loadSlots(slotsFile, gates);
+        return new LotLayout(gates, store);
+    }
+
+    public List<Gate> loadGates(Path gatesFile) throws IOException {
+        List<Gate> gates = new ArrayList<>();
+        Set<String> gateIds = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(gatesFile, StandardCharsets.US_ASCII)) {
+            String header = reader.readLine();
+            if (header == null || !header.trim().equals("gateId,gateType")) {
+                throw new IllegalArgumentException(gatesFile.getFileName() + ":1: expected header gateId,gateType");
+            }
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.trim().split(",", -1);
+                String where = gatesFile.getFileName() + ":" + lineNumber + ": ";
+                if (fields.length != 2 || fields[0].isEmpty()) {
+                    throw new IllegalArgumentException(where + "expected gateId,gateType");
+                }
+                if (!gateIds.add(fields[0])) {
+                    throw new IllegalArgumentException(where + "duplicate gate " + fields[0]);
+                }
+                GateType gateType;
+                try {
+                    gateType = GateType.valueOf(fields[1]);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(where + "unknown gate type " + fields[1]);
+                }
+                gates.add(new Gate(fields[0], gateType));
+            }
+        }
+        if (gates.isEmpty()) {
+            throw new IllegalArgumentException(gatesFile.getFileName() + ": no gates defined");
+        }
+        return gates;
+    }
+
+    public SlotStore loadSlots(Path slotsFile, List<Gate> gates) throws IOException {
+        try (FileChannel channel = FileChannel.open(slotsFile, StandardOpenOption.READ)) {
+            RowParser parser = new RowParser(slotsFile.getFileName().toString(), gates, channel.size());
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b == '\n') {
+                        parser.endLine();
+                    } else {
+                        parser.append(b);
+                    }
+                }
+                buffer.clear();
+            }
+            parser.endLine();
+            return parser.finish();
+        }
+    }
+
+    /**
+     * Parses slot rows from bytes into a SlotStore
+     */
+    private static final class RowParser {
+        private static final SlotType[] SLOT_TYPES = SlotType.values();
+
+        private final String fileName;
+        private final List<Gate> gates;
+        private final long fileSize;
+        private final Set<String> slotIds = new HashSet<>();
+        private final Map<String, String> zones = new HashMap<>();
+        private final List<String> serviceCells = new ArrayList<>();
+        private final List<Long> serviceMasks = new ArrayList<>();
+        private boolean[] entryGate;
+        // Store gate index for each distance column
+        private int[] columnGates;
+        private int[] distances;
+        private int[] fieldStarts;
+        private SlotStore store;
+        private String lastZone;
+        private byte[] line = new byte[512];
+        private int length;
+        private int lineNumber;
+
+        RowParser(String fileName, List<Gate> gates, long fileSize) {
+            this.fileName = fileName;
+            this.gates = gates;
+            this.fileSize = fileSize;
+        }
+
+        void append(byte b) {
+            if (b == '\r') {
+                return;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+
+        void endLine() {
+            lineNumber++;
+            if (length > 0) {
+                if (columnGates == null) {
+                    parseHeader();
+                } else {
+                    parseRow();
+                }
+            }
+            length = 0;
+        }
+
+        SlotStore finish() {
+            if (columnGates == null) {
+                throw new IllegalArgumentException(fileName + ": missing header");
+            }
+            return store != null ? store : new SlotStore(gates, 0);
+        }
+
+        private void parseHeader() {
+            String[] columns = new String(line, 0, length, StandardCharsets.US_ASCII).split(",", -1);
+            for (int i = 0; i < FIXED_COLUMNS.length; i++) {
+                if (columns.length <= i || !columns[i].equals(FIXED_COLUMNS[i])) {
+                    throw error("header must start with " + String.join(",", FIXED_COLUMNS) + ",<gateId>...");
+                }
+            }
+            Map<String, Integer> gateIndex = new HashMap<>();
+            for (int g = 0; g < gates.size(); g++) {
+                gateIndex.put(gates.get(g).getGateId(), g);
+            }
+            columnGates = new int[columns.length - FIXED_COLUMNS.length];
+            Set<String> seen = new HashSet<>();
+            for (int c = 0; c < columnGates.length; c++) {
+                String gateId = columns[FIXED_COLUMNS.length + c];
+                Integer index = gateIndex.get(gateId);
+                if (index == null) {
+                    throw error("distance column for unknown gate " + gateId);
+                }
+                if (!seen.add(gateId)) {
+                    throw error("duplicate distance column for gate " + gateId);
+                }
+                columnGates[c] = index;
+            }
+            entryGate = new boolean[gates.size()];
+            for (int g = 0; g < gates.size(); g++) {
+                entryGate[g] = gates.get(g).getGateType() == GateType.ENTRY;
+            }
+            distances = new int[gates.size()];
+            fieldStarts = new int[columns.length + 1];
+        }
+
+        private void parseRow() {
+            int fields = 0;
+            fieldStarts[fields++] = 0;
+            for (int i = 0; i < length; i++) {
+                if (line[i] == ',') {
+                    if (fields == fieldStarts.length - 1) {
+                        throw error("expected " + (fieldStarts.length - 1) + " columns");
+                    }
+                    fieldStarts[fields++] = i + 1;
+                }
+            }
+            if (fields != fieldStarts.length - 1) {
+                throw error("expected " + (fieldStarts.length - 1) + " columns, found " + fields);
+            }
+            fieldStarts[fields] = length + 1;
+
+            String slotId = text(0);
+            if (slotId.isEmpty()) {
+                throw error("missing slotId");
+            }
+            if (!slotIds.add(slotId)) {
+                throw error("duplicate slotId " + slotId);
+            }
+            SlotType slotType = slotType(1);
+            String zone = zone(2);
+            long serviceMask = serviceMask(3);
+
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            boolean reachable = false;
+            for (int c = 0; c < columnGates.length; c++) {
+                int distance = distance(FIXED_COLUMNS.length + c);
+                distances[columnGates[c]] = distance;
+                reachable |= distance != Integer.MAX_VALUE && entryGate[columnGates[c]];
+            }
+            if (!reachable) {
+                throw error("slot " + slotId + " cannot be reached from any entry gate");
+            }
+
+            if (store == null) {
+                // Size the store from the first row instead of growing it repeatedly
+                int estimate = (int) Math.min(Integer.MAX_VALUE - 8, fileSize / (length + 1) + 16);
+                store = new SlotStore(gates, estimate + estimate / 8);
+            }
+            store.add(slotId, slotType, SlotAvailability.AVAILABLE, serviceMask, distances, zone);
+        }
+
+        private SlotType slotType(int field) {
+            for (SlotType slotType : SLOT_TYPES) {
+                if (matches(slotType.name(), field)) {
+                    return slotType;
+                }
+            }
+            throw error("unknown slot type " + text(field));
+        }
+
+        private String zone(int field) {
+            if (lastZone != null && matches(lastZone, field)) {
+                return lastZone;
+            }
+            String zone = text(field);
+            if (zone.isEmpty()) {
+                throw error("missing zone");
+            }
+            lastZone = zones.computeIfAbsent(zone, z -> z);
+            return lastZone;
+        }
+
+        /**
+         * Layouts repeat a handful of service combinations, so masks are cached per cell text
+         */
+        private long serviceMask(int field) {
+            for (int i = 0; i < serviceCells.size(); i++) {
+                if (matches(serviceCells.get(i), field)) {
+                    return serviceMasks.get(i);
+                }
+            }
+            String cell = text(field);
+            long mask = 0L;
+            if (!cell.isEmpty()) {
+                for (String name : cell.split(";")) {
+                    Service service = ServiceFactory.getServiceByName(name);
+                    if (service == null) {
+                        throw error("unknown service " + name);
+                    }
+                    mask |= 1L << ServiceFactory.getServiceId(service);
+                }
+            }
+            serviceCells.add(cell);
+            serviceMasks.add(mask);
+            return mask;
+        }
+
+        private int distance(int field) {
+            int start = fieldStarts[field];
+            int end = fieldStarts[field + 1] - 1;
+            if (start == end) {
+                return Integer.MAX_VALUE;
+            }
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = line[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw error("bad distance " + text(field));
+                }
+                value = value * 10 + digit;
+                if (value >= Integer.MAX_VALUE) {
+                    throw error("distance out of range " + text(field));
+                }
+            }
+            return (int) value;
+        }
+
+        private boolean matches(String value, int field) {
+            int start = fieldStarts[field];
+            int end = fieldStarts[field + 1] - 1;
+            if (value.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) != line[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String text(int field) {
+            int start = fieldStarts[field];
+            return new String(line, start, fieldStarts[field + 1] - 1 - start, StandardCharsets.US_ASCII);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(fileName + ":" + lineNumber + ": " + message);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package layout;
+
+import models.Gate;
+import models.ParkingLot;
+import models.ParkingSlot;
+import models.SlotStore;
+import strategy.PricingStrategy;
+import strategy.SlotAllotmentStrategy;
+import java.util.List;
+
+/**
+ * Gates and slots read by LayoutLoader. Slots live in a SlotStore, so an imported
+ * layout costs a few primitive arrays rather than one object graph per slot.
+ */
+public class LotLayout {
+    private final List<Gate> gates;
+    private final SlotStore slotStore;
+
+    LotLayout(List<Gate> gates, SlotStore slotStore) {
+        this.gates = gates;
+        this.slotStore = slotStore;
+    }
+
+    public ParkingLot toParkingLot(PricingStrategy pricingStrategy, SlotAllotmentStrategy slotAllotmentStrategy) {
+        return new ParkingLot(gates, getSlots(), pricingStrategy, slotAllotmentStrategy);
+    }
+
+    // Getters
+    public List<Gate> getGates() {
+        return gates;
+    }
+
+    public SlotStore getSlotStore() {
+        return slotStore;
+    }
+
+    public List<ParkingSlot> getSlots() {
+        return slotStore.asSlotList();
+    }
+
+    public int getSlotCount() {
+        return slotStore.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package models;
+
+/**
+ * Fee for a ticket as of a point in time, valid until the pricing strategy's next
+ * billing boundary. Returned by ParkingLot.quoteFee without releasing the slot.
+ */
+public class FeeQuote {
+    private final String ticketId;
+    private final double totalFee;
+    private final double amountPaid;
+    private final long quotedAtMillis;
+    private final long validUntilMillis;
+
+    public FeeQuote(String ticketId, double totalFee, double amountPaid, long quotedAtMillis, long validUntilMillis) {
+        this.ticketId = ticketId;
+        this.totalFee = totalFee;
+        this.amountPaid = amountPaid;
+        this.quotedAtMillis = quotedAtMillis;
+        this.validUntilMillis = validUntilMillis;
+    }
+
+    /**
+     * True if the quoted total still applies at the given time
+     */
+    public boolean isValidAt(long timeMillis) {
+        return timeMillis >= quotedAtMillis && timeMillis <= validUntilMillis;
+    }
+
+    /**
+     * Outstanding amount - the total less what has already been pre-paid
+     */
+    public double getAmountDue() {
+        return Math.max(0.0, totalFee - amountPaid);
+    }
+
+    // Getters
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public double getTotalFee() {
+        return totalFee;
+    }
+
+    public double getAmountPaid() {
+        return amountPaid;
+    }
+
+    public long getQuotedAtMillis() {
+        return quotedAtMillis;
+    }
+
+    public long getValidUntilMillis() {
+        return validUntilMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package models;
+
+/**
+ * Snapshot of gate slot cache behaviour, for one gate or summed over all gates.
+ *
+ * Drift is the extra distance a vehicle was sent compared with the strictly nearest
+ * free slot that fit it (reserved slots of any gate included), measured on a sample
+ * of parks.
+ */
+public class GateCacheStats {
+    private final long hits;
+    private final long misses;
+    private final int reservedSlots;
+    private final long returnedSlots;
+    private final long driftSamples;
+    private final long totalDrift;
+    private final int maxDrift;
+
+    public GateCacheStats(long hits, long misses, int reservedSlots, long returnedSlots,
+                          long driftSamples, long totalDrift, int maxDrift) {
+        this.hits = hits;
+        this.misses = misses;
+        this.reservedSlots = reservedSlots;
+        this.returnedSlots = returnedSlots;
+        this.driftSamples = driftSamples;
+        this.totalDrift = totalDrift;
+        this.maxDrift = maxDrift;
+    }
+
+    public GateCacheStats plus(GateCacheStats other) {
+        return new GateCacheStats(hits + other.hits, misses + other.misses,
+                reservedSlots + other.reservedSlots, returnedSlots + other.returnedSlots,
+                driftSamples + other.driftSamples, totalDrift + other.totalDrift,
+                Math.max(maxDrift, other.maxDrift));
+    }
+
+    /**
+     * Fraction of parks served from gate-local state without taking the slot lock
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public double getMeanDrift() {
+        return driftSamples == 0 ? 0.0 : (double) totalDrift / driftSamples;
+    }
+
+    // Getters
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int getReservedSlots() {
+        return reservedSlots;
+    }
+
+    public long getReturnedSlots() {
+        return returnedSlots;
+    }
+
+    public long getDriftSamples() {
+        return driftSamples;
+    }
+
+    public int getMaxDrift() {
+        return maxDrift;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d hitRate=%.1f%% reserved=%d returned=%d drift(mean=%.2f max=%d over %d samples)",
+                hits, misses, getHitRate() * 100, reservedSlots, returnedSlots, getMeanDrift(), maxDrift, driftSamples);
+    }
+}
\ No newline at end of file
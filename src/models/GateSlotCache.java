@@ -0,0 +1,179 @@
+package models;
+
+import enums.SlotType;
+import enums.VehicleType;
+import strategy.SlotAllotmentStrategy;
+import strategy.SlotCompatibility;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Small batch of free slots pre-claimed (RESERVED) by one entry gate.
+ *
+ * Slots are kept in ascending distance from the gate; a park at the gate takes the
+ * first compatible one while holding only this cache's lock, so busy gates stop
+ * contending on the lot-wide slot lock for every vehicle.
+ *
+ * Lock order is cache lock, then the lot's slot lock. Code that already holds the slot
+ * lock may only tryLock() a cache. A gate that runs out may wait for another gate's
+ * cache while holding its own, but only for a bounded time and without the slot lock.
+ */
+class GateSlotCache {
+    private final Gate gate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<ParkingSlot> reserved = new ArrayList<>();
+
+    // Guarded by lock
+    private long lastUsedMillis;
+    private long hits;
+    private long misses;
+    private long returned;
+    private long parksSinceSample;
+    private long driftSamples;
+    private long totalDrift;
+    private int maxDrift;
+
+    GateSlotCache(Gate gate) {
+        this.gate = gate;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    boolean tryLock() {
+        return lock.tryLock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    /**
+     * Remove and return the nearest reserved slot of the vehicle's smallest fitting type
+     * that the strategy's policy allows for the vehicle, or null. Upsizing and anything
+     * the policy refuses here are left to the strategy on a miss.
+     */
+    ParkingSlot take(Vehicle vehicle, SlotAllotmentStrategy strategy) {
+        SlotType bestFit = smallestFit(vehicle.getVehicleType());
+        for (int i = 0; i < reserved.size(); i++) {
+            ParkingSlot slot = reserved.get(i);
+            if (slot.getSlotType() == bestFit
+                    && SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices())
+                    && strategy.isEligible(vehicle, gate, slot)) {
+                reserved.remove(i);
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    void add(ParkingSlot slot) {
+        int distance = slot.getDistanceFromGate(gate);
+        int position = reserved.size();
+        while (position > 0 && reserved.get(position - 1).getDistanceFromGate(gate) > distance) {
+            position--;
+        }
+        reserved.add(position, slot);
+    }
+
+    /**
+     * Swap a newly freed slot in for the farthest reserved slot of the same type when it
+     * is nearer to this gate, so the cache does not hold on to stale far-away slots.
+     * @return the slot to hand back to the shared pool (the freed slot itself if no swap)
+     */
+    ParkingSlot offerNearer(ParkingSlot freed) {
+        int distance = freed.getDistanceFromGate(gate);
+        for (int i = reserved.size() - 1; i >= 0; i--) {
+            ParkingSlot candidate = reserved.get(i);
+            if (candidate.getDistanceFromGate(gate) <= distance) {
+                break;
+            }
+            if (candidate.getSlotType() == freed.getSlotType()
+                    && candidate.getSupportedServices().equals(freed.getSupportedServices())) {
+                reserved.remove(i);
+                add(freed);
+                return candidate;
+            }
+        }
+        return freed;
+    }
+
+    /**
+     * Give up one reserved slot, e.g. so it can be closed; the caller returns it to the shared pool
+     */
+    boolean remove(ParkingSlot slot) {
+        if (!reserved.remove(slot)) {
+            return false;
+        }
+        returned++;
+        return true;
+    }
+
+    /**
+     * Hand back every reserved slot; the caller returns them to the shared pool
+     */
+    List<ParkingSlot> drain() {
+        List<ParkingSlot> drained = new ArrayList<>(reserved);
+        reserved.clear();
+        returned += drained.size();
+        return drained;
+    }
+
+    int size() {
+        return reserved.size();
+    }
+
+    boolean isIdle(long nowMillis, long idleMillis) {
+        return !reserved.isEmpty() && nowMillis - lastUsedMillis >= idleMillis;
+    }
+
+    void recordHit(long nowMillis) {
+        hits++;
+        lastUsedMillis = nowMillis;
+    }
+
+    void recordMiss(long nowMillis) {
+        misses++;
+        lastUsedMillis = nowMillis;
+    }
+
+    /**
+     * True once every sampleInterval parks - drift is only measured on those
+     */
+    boolean shouldSampleDrift(int sampleInterval) {
+        if (++parksSinceSample < sampleInterval) {
+            return false;
+        }
+        parksSinceSample = 0;
+        return true;
+    }
+
+    void recordDrift(int drift) {
+        driftSamples++;
+        totalDrift += drift;
+        maxDrift = Math.max(maxDrift, drift);
+    }
+
+    private static SlotType smallestFit(VehicleType vehicleType) {
+        for (SlotType slotType : SlotType.values()) {
+            if (SlotCompatibility.isSlotCompatible(vehicleType, slotType)) {
+                return slotType;
+            }
+        }
+        return null;
+    }
+
+    Gate getGate() {
+        return gate;
+    }
+
+    GateCacheStats stats() {
+        return new GateCacheStats(hits, misses, reserved.size(), returned, driftSamples, totalDrift, maxDrift);
+    }
+}
\ No newline at end of file
@@ -1,11 +1,27 @@
 package models;
 
+import billing.BillingLedger;
+import billing.FeeBreakdown;
+import clock.Clock;
+import clock.SystemClock;
 import enums.SlotAvailability;
+import forecast.DwellTimeEstimator;
+import profile.VehicleProfileCache;
+import service.scheduler.ServiceScheduler;
 import strategy.PricingStrategy;
+import strategy.SlotCompatibility;
 import strategy.SlotAllotmentStrategy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Date;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -17,22 +33,98 @@ import java.util.concurrent.locks.ReentrantLock;
  * - Ensures slot state changes are visible to all threads
  * - Uses synchronized methods for gate operations (less frequent)
  * - Provides thread-safe utility methods for slot counting
+ * - Publishes slot state changes to SlotStateListeners under the slot lock, so
+ *   indexed strategies never observe a half-applied change. The exception is a gate
+ *   cache hit's RESERVED to OCCUPIED, published under the cache's lock only (see
+ *   SlotStateListener); no free slot appears or disappears in that transition
+ * - Optionally gives each entry gate a local cache of pre-claimed (RESERVED) slots,
+ *   refilled in batches under the slot lock, so most parks only take the gate's lock.
+ *   A hit still has to pass the strategy's isEligible check
+ * - Moves slots between states with compare-and-set, checked against the transition
+ *   table in SlotAvailability, and keeps a lock-free count of slots in each state
+ * - Resolves registered vehicles' profiles from an optional cache before taking any lock
+ * - Enforces anti-passback without locks: a vehicle ID can only be inside once, and only
+ *   tickets this lot issued and has not yet seen leave are accepted at the exit
  */
 public class ParkingLot {
     private List<Gate> gates;
     private List<ParkingSlot> slots;
     private PricingStrategy pricingStrategy;
     private SlotAllotmentStrategy slotAllotmentStrategy;
+    // Time source for ticket and fee timestamps - virtual in simulations
+    private volatile Clock clock;
     
     // Lock for thread-safe slot allocation and deallocation
     private final ReentrantLock slotLock = new ReentrantLock();
+    
+    private final List<SlotStateListener> slotStateListeners = new CopyOnWriteArrayList<>();
+    
+    // Slots in each state (by ordinal), kept in step with every transition so counts and
+    // "lot full" can be answered without taking slotLock
+    private final AtomicIntegerArray slotCounts = new AtomicIntegerArray(SlotAvailability.values().length);
+    
+    // Deadline value meaning "wait as long as it takes"
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    // Exit time value meaning "read the clock when the slot is released"
+    private static final long CLOCK_EXIT_TIME = Long.MIN_VALUE;
+
+    // Gate-local slot caches - disabled while gateCacheBatchSize is 0
+    private final Map<Gate, GateSlotCache> gateCaches = new ConcurrentHashMap<>();
+    private volatile int gateCacheBatchSize;
+    private volatile long gateCacheIdleMillis;
+    private static final int DRIFT_SAMPLE_INTERVAL = 32;
+    // How long a full gate waits for each busy cache it reclaims from
+    private static final long GATE_CACHE_RECLAIM_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    // Cached fee quotes by ticket ID, and how long a pre-paid ticket has to reach the exit
+    private final Map<String, FeeQuote> feeQuotes = new ConcurrentHashMap<>();
+    private volatile long paymentGracePeriodMillis = DEFAULT_PAYMENT_GRACE_MILLIS;
+    private static final long DEFAULT_PAYMENT_GRACE_MILLIS = 15L * 60 * 1000;
+    private static final double PAYMENT_TOLERANCE = 1e-9;
+
+    // Optional record of every stay's fee breakdown for finance
+    private volatile BillingLedger billingLedger;
+
+    // Tickets of vehicles currently parked, by ticket ID
+    private final Map<String, Ticket> activeTickets = new ConcurrentHashMap<>();
+    // IDs of vehicles inside or being parked - claimed before a slot is looked for
+    private final Set<String> vehiclesInside = ConcurrentHashMap.newKeySet();
+
+    // Optional model of stay lengths, fed from every unpark
+    private volatile DwellTimeEstimator dwellTimeEstimator;
+
+    // Optional scheduler for the services parked vehicles require
+    private volatile ServiceScheduler serviceScheduler;
+    // Departure assumed for service priority while the dwell estimator has no data
+    private static final long DEFAULT_EXPECTED_STAY_MILLIS = 2L * 60 * 60 * 1000;
+
+    // Whether slots vacated after a stay with services wait in CLEANING before reuse
+    private volatile boolean cleaningAfterServicedStays;
+
+    // Optional cache of registered vehicles' profiles, attached to their tickets
+    private volatile VehicleProfileCache vehicleProfileCache;
+
+    // Reusable ticket records - low-allocation mode is off while this is null
+    private volatile TicketPool ticketPool;
 
     public ParkingLot(List<Gate> gates, List<ParkingSlot> slots, 
                      PricingStrategy pricingStrategy, SlotAllotmentStrategy slotAllotmentStrategy) {
+        this(gates, slots, pricingStrategy, slotAllotmentStrategy, SystemClock.INSTANCE);
+    }
+
+    public ParkingLot(List<Gate> gates, List<ParkingSlot> slots, 
+                     PricingStrategy pricingStrategy, SlotAllotmentStrategy slotAllotmentStrategy, Clock clock) {
         this.gates = gates;
         this.slots = slots;
         this.pricingStrategy = pricingStrategy;
         this.slotAllotmentStrategy = slotAllotmentStrategy;
+        this.clock = clock;
+        countSlotStates(slots);
+        
+        // Indexed strategies keep themselves current from slot events
+        if (slotAllotmentStrategy instanceof SlotStateListener) {
+            addSlotStateListener((SlotStateListener) slotAllotmentStrategy);
+        }
     }
 
     /**
@@ -40,7 +132,68 @@ public class ParkingLot {
      * Thread-safe implementation using ReentrantLock to prevent concurrent slot allocation
      */
     public Ticket parkVehicle(Vehicle vehicle, Gate entryGate) {
-        slotLock.lock();
+        return park(vehicle, entryGate, NO_DEADLINE);
+    }
+
+    /**
+     * Parks a registered vehicle by ID, using the Vehicle held in its cached profile
+     */
+    public Ticket parkRegisteredVehicle(String vehicleId, Gate entryGate) {
+        VehicleProfileCache cache = vehicleProfileCache;
+        if (cache == null) {
+            throw new IllegalStateException("No vehicle profile cache configured");
+        }
+        VehicleProfile profile = cache.get(vehicleId);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown vehicle: " + vehicleId);
+        }
+        return park(profile.getVehicle(), entryGate, profile, NO_DEADLINE);
+    }
+
+    /**
+     * Like parkVehicle, but gives up if the lot's locks cannot be taken within the timeout
+     * @return the ticket, or null if the timeout expired first
+     */
+    public Ticket tryParkVehicle(Vehicle vehicle, Gate entryGate, long timeout, TimeUnit unit) {
+        return park(vehicle, entryGate, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    private Ticket park(Vehicle vehicle, Gate entryGate, long deadlineNanos) {
+        VehicleProfileCache cache = vehicleProfileCache;
+        VehicleProfile profile = cache == null ? null : cache.get(vehicle.getVehicleId());
+        return park(vehicle, entryGate, profile, deadlineNanos);
+    }
+
+    /**
+     * Claim the vehicle's ID for the duration of the stay, then park it. The claim is
+     * dropped again if no ticket is issued.
+     */
+    private Ticket park(Vehicle vehicle, Gate entryGate, VehicleProfile profile, long deadlineNanos) {
+        String vehicleId = vehicle.getVehicleId();
+        if (!vehiclesInside.add(vehicleId)) {
+            throw new IllegalStateException("Vehicle is already inside: " + vehicleId);
+        }
+        Ticket ticket = null;
+        try {
+            ticket = allot(vehicle, entryGate, profile, deadlineNanos);
+            if (ticket != null) {
+                scheduleServices(ticket);
+            }
+            return ticket;
+        } finally {
+            if (ticket == null) {
+                vehiclesInside.remove(vehicleId);
+            }
+        }
+    }
+
+    private Ticket allot(Vehicle vehicle, Gate entryGate, VehicleProfile profile, long deadlineNanos) {
+        if (gateCacheBatchSize > 0) {
+            return parkFromGateCache(vehicle, entryGate, profile, deadlineNanos);
+        }
+        if (!acquire(slotLock, deadlineNanos)) {
+            return null;
+        }
         try {
             // Find an appropriate slot using the slot allotment strategy
             ParkingSlot assignedSlot = slotAllotmentStrategy.findSlot(vehicle, entryGate, slots);
@@ -59,13 +212,12 @@ public class ParkingLot {
             }
             
             // Mark the slot as occupied atomically
-            assignedSlot.setAvailability(SlotAvailability.OCCUPIED);
+            changeAvailability(assignedSlot, SlotAvailability.AVAILABLE, SlotAvailability.OCCUPIED);
             
             // Create and return ticket
-            String ticketId = generateTicketId();
-            Date entryTime = new Date();
+            long entryTimeMillis = clock.currentTimeMillis();
             
-            return new Ticket(ticketId, vehicle, assignedSlot, entryTime, entryGate);
+            return issueTicket(vehicle, assignedSlot, entryTimeMillis, entryGate, profile);
         } finally {
             slotLock.unlock();
         }
@@ -74,12 +226,62 @@ public class ParkingLot {
     /**
      * Unparks a vehicle by freeing the slot and calculating the parking fee
      * Thread-safe implementation using ReentrantLock to ensure slot state changes are visible
+     * Returns the amount still due at the exit gate - zero for a ticket pre-paid within its grace period
      */
     public double unparkVehicle(Ticket ticket, Gate exitGate) {
+        return unpark(ticket, exitGate, CLOCK_EXIT_TIME);
+    }
+
+    /**
+     * Apply a park decided elsewhere - by a replication leader, or while rebuilding state
+     * from a log - with the given ticket ID, slot and entry time. No strategy is consulted.
+     * Lots that apply replicated operations should not enable gate caches.
+     */
+    public Ticket applyPark(String ticketId, Vehicle vehicle, ParkingSlot slot, long entryTimeMillis, Gate entryGate) {
+        String vehicleId = vehicle.getVehicleId();
+        if (!vehiclesInside.add(vehicleId)) {
+            throw new IllegalStateException("Vehicle is already inside: " + vehicleId);
+        }
+        boolean parked = false;
+        slotLock.lock();
+        try {
+            changeAvailability(slot, SlotAvailability.AVAILABLE, SlotAvailability.OCCUPIED);
+            parked = true;
+        } finally {
+            slotLock.unlock();
+            if (!parked) {
+                vehiclesInside.remove(vehicleId);
+            }
+        }
+        Ticket ticket = new Ticket(ticketId, vehicle, slot, entryTimeMillis, entryGate);
+        activeTickets.put(ticketId, ticket);
+        return ticket;
+    }
+
+    /**
+     * Apply an unpark decided elsewhere, stamped with the given exit time
+     * @return the amount due at the exit gate
+     */
+    public double applyUnpark(String ticketId, Gate exitGate, long exitTimeMillis) {
+        Ticket ticket = activeTickets.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalStateException("No parked vehicle for ticket " + ticketId);
+        }
+        return unpark(ticket, exitGate, exitTimeMillis);
+    }
+
+    private double unpark(Ticket ticket, Gate exitGate, long fixedExitTimeMillis) {
         if (ticket == null) {
             throw new IllegalArgumentException("Ticket cannot be null");
         }
+        // Anti-passback: only a ticket this lot issued is accepted, and only once
+        Ticket issued = activeTickets.get(ticket.getTicketId());
+        if (!isSameStay(issued, ticket) || !activeTickets.remove(ticket.getTicketId(), issued)) {
+            throw new IllegalStateException("Ticket was not issued by this lot or has already been used: "
+                    + ticket.getTicketId());
+        }
         
+        long exitTimeMillis;
         slotLock.lock();
         try {
             // Get the parking slot from ticket
@@ -87,20 +289,587 @@ public class ParkingLot {
             
             // Verify the slot is currently occupied (defensive programming)
             if (slot.getAvailability() != SlotAvailability.OCCUPIED) {
+                activeTickets.put(ticket.getTicketId(), issued);
                 throw new IllegalStateException("Attempting to unpark from a slot that is not occupied: " + slot.getSlotId());
             }
             
-            // Free the parking slot atomically
-            slot.setAvailability(SlotAvailability.AVAILABLE);
-            
-            // Calculate parking fee (can be done outside lock, but keeping it inside for consistency)
-            Date exitTime = new Date();
-            double fee = pricingStrategy.calculateFee(ticket, exitTime);
+            if (cleaningAfterServicedStays && !ticket.getVehicle().getRequiredServices().isEmpty()) {
+                // Held back until staff call markSlotCleaned
+                changeAvailability(slot, SlotAvailability.OCCUPIED, SlotAvailability.CLEANING);
+            } else {
+                // Free the parking slot atomically, or let a gate cache keep it if it is nearer
+                // than one of the slots that cache holds
+                changeAvailability(slot, SlotAvailability.OCCUPIED, SlotAvailability.AVAILABLE);
+                offerToGateCaches(slot);
+            }
             
-            return fee;
+            exitTimeMillis = fixedExitTimeMillis == CLOCK_EXIT_TIME ? clock.currentTimeMillis() : fixedExitTimeMillis;
+            releaseIdleGateCaches(exitTimeMillis, null);
         } finally {
             slotLock.unlock();
         }
+        
+        vehiclesInside.remove(ticket.getVehicle().getVehicleId());
+        DwellTimeEstimator estimator = dwellTimeEstimator;
+        if (estimator != null) {
+            estimator.record(ticket, exitTimeMillis);
+        }
+        ServiceScheduler scheduler = serviceScheduler;
+        if (scheduler != null) {
+            // Left before its services were done - free their capacity for the next vehicle
+            scheduler.onVehicleLeft(ticket, exitTimeMillis);
+        }
+
+        // The fee only depends on the ticket, so it is settled outside the slot lock.
+        // The breakdown is only priced here when the ledger or an unpaid exit needs it;
+        // a pre-paid or quoted exit stays O(1) and the ticket prices it on demand.
+        // Receipts are built later, off the exit path, by a ReceiptFormatter.
+        PricingStrategy pricing = pricingStrategy;
+        BillingLedger ledger = billingLedger;
+        FeeQuote quote = feeQuotes.remove(ticket.getTicketId());
+        FeeBreakdown breakdown = ledger != null || !isSettledAtExit(ticket, exitTimeMillis, quote)
+                ? pricing.calculateBreakdown(ticket, exitTimeMillis)
+                : null;
+        if (ledger != null) {
+            ledger.record(ticket, exitGate, exitTimeMillis, breakdown);
+        }
+        double amountDue = amountDueAtExit(ticket, exitTimeMillis, quote, breakdown);
+        ticket.recordExit(exitGate, exitTimeMillis, breakdown, pricing, amountDue);
+        return amountDue;
+    }
+
+    /**
+     * Hand the new stay's required services to the scheduler, outside the lot's locks.
+     * Departure is estimated from the dwell model when there is one.
+     */
+    private void scheduleServices(Ticket ticket) {
+        ServiceScheduler scheduler = serviceScheduler;
+        if (scheduler == null || ticket.getVehicle().getRequiredServices().isEmpty()) {
+            return;
+        }
+        long expectedStayMillis = DEFAULT_EXPECTED_STAY_MILLIS;
+        DwellTimeEstimator estimator = dwellTimeEstimator;
+        if (estimator != null) {
+            long estimate = estimator.estimateDwellMillis(ticket.getVehicle(), 0.5);
+            if (estimate >= 0) {
+                expectedStayMillis = estimate;
+            }
+        }
+        long entryTimeMillis = ticket.getEntryTimeMillis();
+        scheduler.onVehicleParked(ticket, entryTimeMillis + expectedStayMillis, entryTimeMillis);
+    }
+
+    /**
+     * Current fee for a parked vehicle without releasing its slot, e.g. for a pay kiosk.
+     * Quotes are cached per ticket until the pricing strategy's next billing boundary.
+     */
+    public FeeQuote quoteFee(Ticket ticket) {
+        if (ticket == null) {
+            throw new IllegalArgumentException("Ticket cannot be null");
+        }
+        if (!isTicketActive(ticket)) {
+            throw new IllegalStateException("Ticket is not for a parked vehicle: " + ticket.getTicketId());
+        }
+        long nowMillis = clock.currentTimeMillis();
+        double amountPaid = ticket.getAmountPaid();
+        FeeQuote cached = feeQuotes.get(ticket.getTicketId());
+        if (cached != null && cached.isValidAt(nowMillis) && cached.getAmountPaid() == amountPaid) {
+            return cached;
+        }
+        FeeQuote quote = new FeeQuote(ticket.getTicketId(), pricingStrategy.calculateFee(ticket, nowMillis),
+                amountPaid, nowMillis, pricingStrategy.nextBillingBoundary(ticket, nowMillis));
+        feeQuotes.put(ticket.getTicketId(), quote);
+        return quote;
+    }
+
+    /**
+     * Pre-pay the current quote. The vehicle may then exit without further charge until the
+     * later of the quote's billing boundary and the end of the grace period; after that the
+     * difference is charged at the exit gate.
+     * @return the time (epoch millis) until which the ticket is paid up
+     */
+    public long payFee(Ticket ticket, double amount) {
+        FeeQuote quote = quoteFee(ticket);
+        if (amount < quote.getAmountDue() - PAYMENT_TOLERANCE) {
+            throw new IllegalArgumentException("Payment of " + amount + " is less than the amount due: " + quote.getAmountDue());
+        }
+        long paidUntilMillis = Math.max(quote.getValidUntilMillis(), quote.getQuotedAtMillis() + paymentGracePeriodMillis);
+        ticket.recordPayment(amount, paidUntilMillis);
+        feeQuotes.remove(ticket.getTicketId());
+        return ticket.getPaidUntilMillis();
+    }
+
+    /**
+     * True if the fee at exit is known without pricing the stay: the ticket is paid up
+     * or its last quote is still valid
+     */
+    private static boolean isSettledAtExit(Ticket ticket, long exitTimeMillis, FeeQuote quote) {
+        return ticket.isPaidAt(exitTimeMillis) || (quote != null && quote.isValidAt(exitTimeMillis));
+    }
+
+    /**
+     * O(1) for a ticket paid up at exit time or with a still-valid quote;
+     * otherwise the breakdown's total less anything already paid
+     */
+    private double amountDueAtExit(Ticket ticket, long exitTimeMillis, FeeQuote quote, FeeBreakdown breakdown) {
+        if (ticket.isPaidAt(exitTimeMillis)) {
+            return 0.0;
+        }
+        double totalFee = quote != null && quote.isValidAt(exitTimeMillis)
+                ? quote.getTotalFee()
+                : breakdown.getTotalCents() / 100.0;
+        return Math.max(0.0, totalFee - ticket.getAmountPaid());
+    }
+
+    /**
+     * Park from the entry gate's cache of reserved slots, refilling it on a miss.
+     * A hit only takes the gate's own lock.
+     */
+    private Ticket parkFromGateCache(Vehicle vehicle, Gate entryGate, VehicleProfile profile, long deadlineNanos) {
+        GateSlotCache cache = gateCaches.computeIfAbsent(entryGate, GateSlotCache::new);
+        if (!acquire(cache.getLock(), deadlineNanos)) {
+            return null;
+        }
+        try {
+            long entryTimeMillis = clock.currentTimeMillis();
+            ParkingSlot assignedSlot = cache.take(vehicle, slotAllotmentStrategy);
+            if (assignedSlot != null) {
+                cache.recordHit(entryTimeMillis);
+                changeAvailability(assignedSlot, SlotAvailability.RESERVED, SlotAvailability.OCCUPIED);
+                if (cache.shouldSampleDrift(DRIFT_SAMPLE_INTERVAL) && acquire(slotLock, deadlineNanos)) {
+                    try {
+                        sampleDrift(cache, vehicle, assignedSlot);
+                    } finally {
+                        slotLock.unlock();
+                    }
+                }
+            } else {
+                assignedSlot = refillGateCache(cache, vehicle, entryTimeMillis, deadlineNanos);
+                if (assignedSlot == null) {
+                    return null;
+                }
+            }
+            return issueTicket(vehicle, assignedSlot, entryTimeMillis, entryGate, profile);
+        } finally {
+            cache.unlock();
+        }
+    }
+
+    /**
+     * Allot a slot for the vehicle through the strategy and pre-claim up to a batch of
+     * the next ones it would pick, all in one slot lock acquisition.
+     * Caller must hold the cache's lock. Returns null if the deadline passes first.
+     */
+    private ParkingSlot refillGateCache(GateSlotCache cache, Vehicle vehicle, long nowMillis, long deadlineNanos) {
+        if (!acquire(slotLock, deadlineNanos)) {
+            return null;
+        }
+        try {
+            releaseIdleGateCaches(nowMillis, cache);
+            Gate entryGate = cache.getGate();
+            ParkingSlot assignedSlot = slotAllotmentStrategy.findSlot(vehicle, entryGate, slots);
+            if (assignedSlot == null || assignedSlot.getAvailability() != SlotAvailability.AVAILABLE) {
+                // Lot looks full - pull back what the gates are holding before giving up
+                if (!releaseAllGateCaches(cache)) {
+                    // The owner of a busy cache may be waiting for slotLock, so let go of it first
+                    slotLock.unlock();
+                    try {
+                        reclaimBusyGateCaches(cache, deadlineNanos);
+                    } finally {
+                        slotLock.lock();
+                    }
+                }
+                assignedSlot = slotAllotmentStrategy.findSlot(vehicle, entryGate, slots);
+                if (assignedSlot == null || assignedSlot.getAvailability() != SlotAvailability.AVAILABLE) {
+                    throw new RuntimeException("No suitable parking slot available for vehicle: " + vehicle.getVehicleId());
+                }
+            }
+            changeAvailability(assignedSlot, SlotAvailability.AVAILABLE, SlotAvailability.OCCUPIED);
+            cache.recordMiss(nowMillis);
+
+            int batchSize = gateCacheBatchSize;
+            while (cache.size() < batchSize) {
+                ParkingSlot next = slotAllotmentStrategy.findSlot(vehicle, entryGate, slots);
+                if (next == null || next.getAvailability() != SlotAvailability.AVAILABLE) {
+                    break;
+                }
+                changeAvailability(next, SlotAvailability.AVAILABLE, SlotAvailability.RESERVED);
+                cache.add(next);
+            }
+
+            if (cache.shouldSampleDrift(DRIFT_SAMPLE_INTERVAL)) {
+                sampleDrift(cache, vehicle, assignedSlot);
+            }
+            return assignedSlot;
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    /**
+     * Compare the allotted slot with the strictly nearest free slot that fits the vehicle.
+     * Caller must hold slotLock and the cache's lock.
+     */
+    private void sampleDrift(GateSlotCache cache, Vehicle vehicle, ParkingSlot assignedSlot) {
+        Gate entryGate = cache.getGate();
+        int assignedDistance = assignedSlot.getDistanceFromGate(entryGate);
+        int nearest = assignedDistance;
+        for (ParkingSlot slot : slots) {
+            if (!slot.getAvailability().isFree()
+                    || !SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slot.getSlotType())
+                    || !SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices())) {
+                continue;
+            }
+            nearest = Math.min(nearest, slot.getDistanceFromGate(entryGate));
+        }
+        cache.recordDrift(assignedDistance - nearest);
+    }
+
+    /**
+     * Return the slots of caches that have not been used for the idle period.
+     * Caller must hold slotLock; busy caches are skipped rather than waited for.
+     */
+    private void releaseIdleGateCaches(long nowMillis, GateSlotCache heldCache) {
+        if (gateCaches.isEmpty()) {
+            return;
+        }
+        long idleMillis = gateCacheIdleMillis;
+        for (GateSlotCache cache : gateCaches.values()) {
+            if (cache == heldCache || !cache.tryLock()) {
+                continue;
+            }
+            try {
+                if (cache.isIdle(nowMillis, idleMillis)) {
+                    returnReservedSlots(cache);
+                }
+            } finally {
+                cache.unlock();
+            }
+        }
+    }
+
+    /**
+     * Offer a just-freed slot to the gate caches; at most one swaps it in.
+     * Caller must hold slotLock; busy caches are skipped.
+     */
+    private void offerToGateCaches(ParkingSlot freed) {
+        if (gateCaches.isEmpty()) {
+            return;
+        }
+        for (GateSlotCache cache : gateCaches.values()) {
+            if (!cache.tryLock()) {
+                continue;
+            }
+            try {
+                ParkingSlot released = cache.offerNearer(freed);
+                if (released != freed) {
+                    changeAvailability(freed, SlotAvailability.AVAILABLE, SlotAvailability.RESERVED);
+                    changeAvailability(released, SlotAvailability.RESERVED, SlotAvailability.AVAILABLE);
+                    return;
+                }
+            } finally {
+                cache.unlock();
+            }
+        }
+    }
+
+    /**
+     * Return every cache's slots to the shared pool. Caller must hold slotLock
+     * and, if it holds a cache lock, pass that cache in.
+     * @return false if a busy cache was skipped
+     */
+    private boolean releaseAllGateCaches(GateSlotCache heldCache) {
+        boolean released = true;
+        for (GateSlotCache cache : gateCaches.values()) {
+            if (cache == heldCache) {
+                returnReservedSlots(cache);
+            } else if (cache.tryLock()) {
+                try {
+                    returnReservedSlots(cache);
+                } finally {
+                    cache.unlock();
+                }
+            } else {
+                released = false;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Return the slots of the caches other than heldCache, waiting for busy ones.
+     * Caller must hold heldCache's lock but not slotLock. Each wait is bounded: two
+     * gates running out together wait for each other's cache, and each has already
+     * emptied its own.
+     */
+    private void reclaimBusyGateCaches(GateSlotCache heldCache, long deadlineNanos) {
+        long waitUntil = System.nanoTime() + GATE_CACHE_RECLAIM_WAIT_NANOS;
+        if (deadlineNanos != NO_DEADLINE && deadlineNanos - waitUntil < 0) {
+            waitUntil = deadlineNanos;
+        }
+        for (GateSlotCache cache : gateCaches.values()) {
+            if (cache == heldCache || !acquire(cache.getLock(), waitUntil)) {
+                continue;
+            }
+            try {
+                slotLock.lock();
+                try {
+                    returnReservedSlots(cache);
+                } finally {
+                    slotLock.unlock();
+                }
+            } finally {
+                cache.unlock();
+            }
+        }
+    }
+
+    private void returnReservedSlots(GateSlotCache cache) {
+        for (ParkingSlot slot : cache.drain()) {
+            changeAvailability(slot, SlotAvailability.RESERVED, SlotAvailability.AVAILABLE);
+        }
+    }
+
+    /**
+     * Move a slot from one state to another with compare-and-set, update the state counts
+     * and publish the change to listeners. Fails if the transition is not allowed or the
+     * slot has left the expected state.
+     * Caller must hold slotLock, except for RESERVED to OCCUPIED which the owning
+     * gate cache applies under its own lock
+     */
+    private void changeAvailability(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (!slot.compareAndSetAvailability(from, to)) {
+            throw new IllegalStateException("Slot " + slot.getSlotId() + " is no longer " + from
+                    + " (now " + slot.getAvailability() + ")");
+        }
+        slotCounts.decrementAndGet(from.ordinal());
+        slotCounts.incrementAndGet(to.ordinal());
+        for (SlotStateListener listener : slotStateListeners) {
+            listener.onAvailabilityChanged(slot, from, to);
+        }
+    }
+
+    /**
+     * Take the lock, giving up at the deadline (System.nanoTime); NO_DEADLINE waits like lock()
+     */
+    private static boolean acquire(Lock lock, long deadlineNanos) {
+        if (deadlineNanos == NO_DEADLINE) {
+            lock.lock();
+            return true;
+        }
+        try {
+            return lock.tryLock(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void countSlotStates(List<ParkingSlot> slots) {
+        int[] counts = new int[slotCounts.length()];
+        for (ParkingSlot slot : slots) {
+            counts[slot.getAvailability().ordinal()]++;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            slotCounts.set(i, counts[i]);
+        }
+    }
+
+    /**
+     * Take a free slot out of service for maintenance. A slot held by a gate cache is
+     * taken back from it first; occupied slots must be vacated before they can be closed.
+     */
+    public void closeSlot(ParkingSlot slot) {
+        // Caches are locked before slotLock, the same order parks use
+        for (GateSlotCache cache : gateCaches.values()) {
+            cache.getLock().lock();
+            try {
+                if (cache.remove(slot)) {
+                    slotLock.lock();
+                    try {
+                        changeAvailability(slot, SlotAvailability.RESERVED, SlotAvailability.AVAILABLE);
+                    } finally {
+                        slotLock.unlock();
+                    }
+                }
+            } finally {
+                cache.unlock();
+            }
+        }
+        transitionUnderLock(slot, SlotAvailability.OUT_OF_SERVICE);
+    }
+
+    /**
+     * Return a slot closed by closeSlot to use
+     */
+    public void reopenSlot(ParkingSlot slot) {
+        transitionUnderLock(slot, SlotAvailability.AVAILABLE, SlotAvailability.OUT_OF_SERVICE);
+    }
+
+    /**
+     * Release a slot held in CLEANING after a serviced stay
+     */
+    public void markSlotCleaned(ParkingSlot slot) {
+        transitionUnderLock(slot, SlotAvailability.AVAILABLE, SlotAvailability.CLEANING);
+    }
+
+    /**
+     * Move the slot from its current state, which must be one of the expected ones when given
+     */
+    private void transitionUnderLock(ParkingSlot slot, SlotAvailability to, SlotAvailability... expected) {
+        slotLock.lock();
+        try {
+            SlotAvailability from = slot.getAvailability();
+            if (expected.length > 0 && !Arrays.asList(expected).contains(from)) {
+                throw new IllegalStateException("Slot " + slot.getSlotId() + " is " + from + ", expected " + Arrays.toString(expected));
+            }
+            changeAvailability(slot, from, to);
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    /**
+     * Register a listener for slot state changes. It is first reset with the current slots.
+     */
+    public void addSlotStateListener(SlotStateListener listener) {
+        slotLock.lock();
+        try {
+            listener.reset(slots);
+            slotStateListeners.add(listener);
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    public void removeSlotStateListener(SlotStateListener listener) {
+        slotStateListeners.remove(listener);
+    }
+
+    /**
+     * Give every entry gate a local cache of up to batchSize pre-claimed slots.
+     * Caches not used for idleMillis (lot clock) hand their slots back.
+     */
+    public void enableGateCaches(int batchSize, long idleMillis) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Gate cache batch size must be positive");
+        }
+        if (idleMillis < 0) {
+            throw new IllegalArgumentException("Gate cache idle time cannot be negative");
+        }
+        this.gateCacheIdleMillis = idleMillis;
+        this.gateCacheBatchSize = batchSize;
+    }
+
+    /**
+     * Low-allocation mode: tickets come from a pool of up to poolSize reusable records
+     * with fixed IDs, so a warmed-up park allocates no Ticket and no ID string. Callers
+     * return each ticket with releaseTicket once they are done with it (receipt printed,
+     * stay recorded); tickets not returned are simply not reused.
+     */
+    public void enableLowAllocationMode(int poolSize) {
+        this.ticketPool = new TicketPool(poolSize);
+    }
+
+    /**
+     * Back to a fresh ticket with a random ID per stay. Outstanding pooled tickets stay valid.
+     */
+    public void disableLowAllocationMode() {
+        this.ticketPool = null;
+    }
+
+    /**
+     * Hand a ticket back for reuse in low-allocation mode. The caller must not use the
+     * ticket afterwards - the record will carry a later stay. Tickets not from the
+     * current pool are ignored.
+     * @return true if the record was returned to the pool
+     */
+    public boolean releaseTicket(Ticket ticket) {
+        if (ticket == null) {
+            throw new IllegalArgumentException("Ticket cannot be null");
+        }
+        if (activeTickets.get(ticket.getTicketId()) == ticket) {
+            throw new IllegalStateException("Ticket is still in use for a parked vehicle: " + ticket.getTicketId());
+        }
+        TicketPool pool = ticketPool;
+        return pool != null && pool.release(ticket);
+    }
+
+    /**
+     * The ticket pool in low-allocation mode, or null
+     */
+    public TicketPool getTicketPool() {
+        return ticketPool;
+    }
+
+    /**
+     * Turn gate caches off and return all reserved slots to the shared pool
+     */
+    public void disableGateCaches() {
+        gateCacheBatchSize = 0;
+        releaseGateCaches();
+    }
+
+    /**
+     * Return all reserved slots to the shared pool; caches refill on their next miss
+     */
+    public void releaseGateCaches() {
+        for (GateSlotCache cache : gateCaches.values()) {
+            cache.lock();
+            try {
+                slotLock.lock();
+                try {
+                    returnReservedSlots(cache);
+                } finally {
+                    slotLock.unlock();
+                }
+            } finally {
+                cache.unlock();
+            }
+        }
+    }
+
+    /**
+     * Gate cache statistics summed over all gates
+     */
+    public GateCacheStats getGateCacheStats() {
+        GateCacheStats total = new GateCacheStats(0, 0, 0, 0, 0, 0, 0);
+        for (GateCacheStats stats : getGateCacheStatsByGate().values()) {
+            total = total.plus(stats);
+        }
+        return total;
+    }
+
+    public Map<Gate, GateCacheStats> getGateCacheStatsByGate() {
+        Map<Gate, GateCacheStats> statsByGate = new LinkedHashMap<>();
+        for (GateSlotCache cache : gateCaches.values()) {
+            cache.lock();
+            try {
+                statsByGate.put(cache.getGate(), cache.stats());
+            } finally {
+                cache.unlock();
+            }
+        }
+        return statsByGate;
+    }
+
+    private Ticket issueTicket(Vehicle vehicle, ParkingSlot slot, long entryTimeMillis, Gate entryGate,
+                               VehicleProfile profile) {
+        TicketPool pool = ticketPool;
+        Ticket ticket = pool == null ? null : pool.acquire(vehicle, slot, entryTimeMillis, entryGate, profile);
+        if (ticket == null) {
+            ticket = new Ticket(generateTicketId(), vehicle, slot, entryTimeMillis, entryGate);
+            ticket.setProfile(profile);
+            // Eight random hex digits can collide with a live ticket. Replacing that ticket
+            // would make its own exit look forged, so draw again instead.
+            while (activeTickets.putIfAbsent(ticket.getTicketId(), ticket) != null) {
+                ticket.setTicketId(generateTicketId());
+            }
+        } else {
+            // Pooled IDs are fixed per record and unique among live tickets
+            activeTickets.put(ticket.getTicketId(), ticket);
+        }
+        return ticket;
     }
 
     /**
@@ -127,21 +896,111 @@ public class ParkingLot {
         return slotAllotmentStrategy;
     }
 
+    public Clock getClock() {
+        return clock;
+    }
+
+    public BillingLedger getBillingLedger() {
+        return billingLedger;
+    }
+
+    public DwellTimeEstimator getDwellTimeEstimator() {
+        return dwellTimeEstimator;
+    }
+
+    public ServiceScheduler getServiceScheduler() {
+        return serviceScheduler;
+    }
+
+    public VehicleProfileCache getVehicleProfileCache() {
+        return vehicleProfileCache;
+    }
+
+    public boolean isCleaningAfterServicedStays() {
+        return cleaningAfterServicedStays;
+    }
+
+    public long getPaymentGracePeriodMillis() {
+        return paymentGracePeriodMillis;
+    }
+
     // Setters
     public void setGates(List<Gate> gates) {
         this.gates = gates;
     }
 
     public void setSlots(List<ParkingSlot> slots) {
-        this.slots = slots;
+        releaseGateCaches();
+        slotLock.lock();
+        try {
+            this.slots = slots;
+            countSlotStates(slots);
+            for (SlotStateListener listener : slotStateListeners) {
+                listener.reset(slots);
+            }
+        } finally {
+            slotLock.unlock();
+        }
     }
 
     public void setPricingStrategy(PricingStrategy pricingStrategy) {
         this.pricingStrategy = pricingStrategy;
+        // Quotes were made under the old tariff
+        feeQuotes.clear();
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Record every unpark's fee breakdown in the ledger (null to stop)
+     */
+    public void setBillingLedger(BillingLedger billingLedger) {
+        this.billingLedger = billingLedger;
+    }
+
+    public void setDwellTimeEstimator(DwellTimeEstimator dwellTimeEstimator) {
+        this.dwellTimeEstimator = dwellTimeEstimator;
+    }
+
+    /**
+     * Schedule every parked vehicle's required services, and cancel what is left of them
+     * when it exits (null to stop)
+     */
+    public void setServiceScheduler(ServiceScheduler serviceScheduler) {
+        this.serviceScheduler = serviceScheduler;
+    }
+
+    /**
+     * Look up every parking vehicle in the cache and attach its profile to the ticket (null to stop)
+     */
+    public void setVehicleProfileCache(VehicleProfileCache vehicleProfileCache) {
+        this.vehicleProfileCache = vehicleProfileCache;
+    }
+
+    /**
+     * Hold slots in CLEANING after stays that used services, until markSlotCleaned is called
+     */
+    public void setCleaningAfterServicedStays(boolean cleaningAfterServicedStays) {
+        this.cleaningAfterServicedStays = cleaningAfterServicedStays;
+    }
+
+    public void setPaymentGracePeriodMillis(long paymentGracePeriodMillis) {
+        if (paymentGracePeriodMillis < 0) {
+            throw new IllegalArgumentException("Grace period cannot be negative");
+        }
+        this.paymentGracePeriodMillis = paymentGracePeriodMillis;
     }
 
     public void setSlotAllotmentStrategy(SlotAllotmentStrategy slotAllotmentStrategy) {
+        if (this.slotAllotmentStrategy instanceof SlotStateListener) {
+            removeSlotStateListener((SlotStateListener) this.slotAllotmentStrategy);
+        }
         this.slotAllotmentStrategy = slotAllotmentStrategy;
+        if (slotAllotmentStrategy instanceof SlotStateListener) {
+            addSlotStateListener((SlotStateListener) slotAllotmentStrategy);
+        }
     }
     
     /**
@@ -151,6 +1010,10 @@ public class ParkingLot {
         slotLock.lock();
         try {
             this.slots.add(slot);
+            slotCounts.incrementAndGet(slot.getAvailability().ordinal());
+            for (SlotStateListener listener : slotStateListeners) {
+                listener.onSlotAdded(slot);
+            }
         } finally {
             slotLock.unlock();
         }
@@ -165,29 +1028,88 @@ public class ParkingLot {
     
     /**
      * Get available slot count (thread-safe)
+     * Slots reserved by gate caches are still free and are counted
      */
     public int getAvailableSlotCount() {
-        slotLock.lock();
-        try {
-            return (int) slots.stream()
-                    .filter(slot -> slot.getAvailability() == SlotAvailability.AVAILABLE)
-                    .count();
-        } finally {
-            slotLock.unlock();
+        return getSlotCount(SlotAvailability.AVAILABLE) + getSlotCount(SlotAvailability.RESERVED);
+    }
+    
+    /**
+     * Lock-free count of free slots (available or reserved by a gate cache).
+     * May be momentarily stale; meant for fast admission decisions, not accounting.
+     */
+    public int getFreeSlotEstimate() {
+        return getAvailableSlotCount();
+    }
+    
+    /**
+     * Number of slots currently in the given state (lock-free)
+     */
+    public int getSlotCount(SlotAvailability availability) {
+        return slotCounts.get(availability.ordinal());
+    }
+    
+    /**
+     * Expected number of free slots horizonMillis from now: the free slots now plus the
+     * parked vehicles the dwell time estimator expects to leave by then. Arrivals are not
+     * forecast. Without an estimator this is just getFreeSlotEstimate().
+     */
+    public double getExpectedFreeSlots(long horizonMillis) {
+        DwellTimeEstimator estimator = dwellTimeEstimator;
+        double free = getFreeSlotEstimate();
+        if (estimator == null) {
+            return free;
+        }
+        return free + estimator.expectedDepartures(activeTickets.values(), clock.currentTimeMillis(), horizonMillis);
+    }
+    
+    /**
+     * Ticket issued by this lot for a vehicle still parked, or null
+     */
+    public Ticket getActiveTicket(String ticketId) {
+        return activeTickets.get(ticketId);
+    }
+    
+    /**
+     * True if the vehicle has entered (or is entering) and not yet left
+     */
+    public boolean isVehicleInside(String vehicleId) {
+        return vehiclesInside.contains(vehicleId);
+    }
+
+    /**
+     * True if this lot issued the ticket and its vehicle has not yet left
+     */
+    public boolean isTicketActive(Ticket ticket) {
+        return ticket != null && isSameStay(activeTickets.get(ticket.getTicketId()), ticket);
+    }
+
+    /**
+     * True if the presented ticket is the issued one, or a copy of it restored from a
+     * ticket store - same vehicle, slot and entry time. Forged tickets reusing a live
+     * ticket ID fail this check.
+     */
+    private static boolean isSameStay(Ticket issued, Ticket presented) {
+        if (issued == presented) {
+            return issued != null;
         }
+        return issued != null
+                && issued.getEntryTimeMillis() == presented.getEntryTimeMillis()
+                && issued.getVehicle().getVehicleId().equals(presented.getVehicle().getVehicleId())
+                && issued.getSlot().getSlotId().equals(presented.getSlot().getSlotId());
+    }
+
+    /**
+     * Number of tickets issued and not yet unparked
+     */
+    public int getActiveTicketCount() {
+        return activeTickets.size();
     }
     
     /**
      * Get occupied slot count (thread-safe)
      */
     public int getOccupiedSlotCount() {
-        slotLock.lock();
-        try {
-            return (int) slots.stream()
-                    .filter(slot -> slot.getAvailability() == SlotAvailability.OCCUPIED)
-                    .count();
-        } finally {
-            slotLock.unlock();
-        }
+        return getSlotCount(SlotAvailability.OCCUPIED);
     }
 }
\ No newline at end of file
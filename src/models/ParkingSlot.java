@@ -3,28 +3,65 @@ package models;
 import enums.SlotType;
 import enums.SlotAvailability;
 import service.interfaces.Service;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 import java.util.Map;
 
 public class ParkingSlot {
     private String slotId;
     private SlotType slotType;
-    private SlotAvailability availability;
+    // Volatile: gate caches move their reserved slots to OCCUPIED outside the slot lock.
+    // Lot state changes go through compareAndSetAvailability.
+    private volatile SlotAvailability availability;
     private List<Service> supportedServices;
     private Map<Gate, Integer> distanceFromGate;
+    private String zone;
+
+    private static final VarHandle AVAILABILITY;
+
+    static {
+        try {
+            AVAILABILITY = MethodHandles.lookup().findVarHandle(ParkingSlot.class, "availability", SlotAvailability.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     // Package-private constructor - only accessible via ParkingSlotBuilder
     ParkingSlot(String slotId, SlotType slotType, SlotAvailability availability, 
-               List<Service> supportedServices, Map<Gate, Integer> distanceFromGate) {
+               List<Service> supportedServices, Map<Gate, Integer> distanceFromGate, String zone) {
         this.slotId = slotId;
         this.slotType = slotType;
         this.availability = availability;
         this.supportedServices = supportedServices;
         this.distanceFromGate = distanceFromGate;
+        this.zone = zone;
     }
 
+    /**
+     * Distance from the gate, or Integer.MAX_VALUE if the gate cannot reach the slot.
+     * A plain get: getOrDefault would box the default on every call.
+     */
     public int getDistanceFromGate(Gate gate) {
-        return distanceFromGate.getOrDefault(gate, Integer.MAX_VALUE);
+        Integer distance = distanceFromGate.get(gate);
+        return distance == null ? Integer.MAX_VALUE : distance;
+    }
+
+    /**
+     * Atomically move the slot from one state to another
+     * @return false if the slot was no longer in the expected state
+     * @throws IllegalStateException if the transition is not in SlotAvailability's table
+     */
+    public boolean compareAndSetAvailability(SlotAvailability expected, SlotAvailability next) {
+        checkTransition(expected, next);
+        return AVAILABILITY.compareAndSet(this, expected, next);
+    }
+
+    void checkTransition(SlotAvailability expected, SlotAvailability next) {
+        if (!expected.canTransitionTo(next)) {
+            throw new IllegalStateException("Slot " + getSlotId() + " cannot go from " + expected + " to " + next);
+        }
     }
 
     // Getters
@@ -48,6 +85,10 @@ public class ParkingSlot {
         return distanceFromGate;
     }
 
+    public String getZone() {
+        return zone;
+    }
+
     // Setters
     public void setSlotId(String slotId) {
         this.slotId = slotId;
@@ -57,6 +98,9 @@ public class ParkingSlot {
         this.slotType = slotType;
     }
 
+    /**
+     * Unchecked write for setting up slots; a lot's slots change state via compareAndSetAvailability
+     */
     public void setAvailability(SlotAvailability availability) {
         this.availability = availability;
     }
@@ -68,4 +112,8 @@ public class ParkingSlot {
     public void setDistanceFromGate(Map<Gate, Integer> distanceFromGate) {
         this.distanceFromGate = distanceFromGate;
     }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
 }
\ No newline at end of file
@@ -9,11 +9,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 public class ParkingSlotBuilder {
+    public static final String DEFAULT_ZONE = "DEFAULT";
+
     private String slotId;
     private SlotType slotType;
     private SlotAvailability availability = SlotAvailability.AVAILABLE;
     private List<Service> supportedServices = new ArrayList<>();
     private Map<Gate, Integer> distanceFromGate = new HashMap<>();
+    private String zone = DEFAULT_ZONE;
 
     public ParkingSlotBuilder withSlotId(String slotId) {
         this.slotId = slotId;
@@ -40,12 +43,24 @@ public class ParkingSlotBuilder {
         return this;
     }
 
+    /**
+     * Zone (or electrical circuit / crew area) the slot belongs to.
+     * Shared resources such as chargers and cleaning crews are budgeted per zone.
+     */
+    public ParkingSlotBuilder withZone(String zone) {
+        this.zone = zone;
+        return this;
+    }
+
     public ParkingSlot build() {
         if (slotId == null || slotType == null) {
             throw new IllegalArgumentException("SlotId and SlotType are required");
         }
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
         return new ParkingSlot(slotId, slotType, availability, 
                               new ArrayList<>(supportedServices), 
-                              new HashMap<>(distanceFromGate));
+                              new HashMap<>(distanceFromGate), zone);
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package models;
+
+import enums.SlotAvailability;
+import java.util.List;
+
+/**
+ * Receives slot lifecycle events from a ParkingLot so indexes and counters can be
+ * kept up to date incrementally instead of rescanning the slot list.
+ *
+ * ParkingLot delivers these events while holding its slot lock. The one exception is
+ * RESERVED to OCCUPIED, which a gate slot cache applies under its own lock, concurrently
+ * with events delivered under the slot lock. Listeners that only track AVAILABLE must
+ * ignore it; listeners that count free slots (RESERVED is free, OCCUPIED is not) must
+ * update their counts with atomics or their own monitor, as ZoneTree and
+ * OccupancyTracker do.
+ *
+ * Every event is a transition from SlotAvailability's table that has already been applied
+ * with compare-and-set; OUT_OF_SERVICE and CLEANING are simply further not-free states.
+ */
+public interface SlotStateListener {
+    /**
+     * Rebuild from scratch - called on registration and when the lot's slot list is replaced
+     */
+    void reset(List<ParkingSlot> slots);
+
+    void onSlotAdded(ParkingSlot slot);
+
+    void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to);
+}
\ No newline at end of file
@@ -0,0 +1,368 @@
+package models;
+
+import enums.SlotAvailability;
+import enums.SlotType;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import strategy.SlotCompatibility;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Struct-of-arrays backing store for very large lots.
+ *
+ * Instead of one ParkingSlot object (with its own ArrayList and HashMap) per slot, the
+ * store keeps each attribute in a parallel primitive array:
+ * - slot type and availability as byte ordinals
+ * - supported services as a bitmask of ServiceFactory service IDs
+ * - distances as one int[] per gate, so a scan for one gate reads memory sequentially
+ *
+ * asSlotList() exposes the store as a List<ParkingSlot> of lightweight flyweight views,
+ * so it can be handed straight to a ParkingLot. Strategies that recognise the store
+ * (see backing()) can scan the arrays directly.
+ *
+ * Like ParkingLot's slot list, the store is not thread-safe on its own; mutations
+ * go through the lot under its slot lock. Slot states are the exception: they are
+ * read and compare-and-set as volatile array elements, like ParkingSlot's field, and
+ * gate caches do so without the slot lock. States therefore live in fixed-size chunks
+ * that never move once allocated - growing the store only adds chunks - so a
+ * compare-and-set can never land in an array a concurrent resize is discarding.
+ *
+ * Each row's flyweight view is created on first use and then reused, and service lists
+ * are shared per service bitmask, so repeated lookups do not allocate.
+ */
+public class SlotStore {
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+    private static final SlotAvailability[] AVAILABILITIES = SlotAvailability.values();
+    private static final VarHandle STATE = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final int STATE_CHUNK_BITS = 12;
+    private static final int STATE_CHUNK_SIZE = 1 << STATE_CHUNK_BITS;
+    private static final int STATE_CHUNK_MASK = STATE_CHUNK_SIZE - 1;
+    // Read-only after creation, so sharing them between stores and threads is safe
+    private static final Map<Long, List<Service>> SERVICES_BY_MASK = new ConcurrentHashMap<>();
+
+    private final Map<Gate, Integer> gateIndex = new HashMap<>();
+    private Gate[] gates;
+
+    private String[] slotIds;
+    private byte[] slotTypes;
+    // Chunks are only ever appended; the outer array is replaced, never the chunks
+    private volatile byte[][] stateChunks;
+    private long[] serviceMasks;
+    private String[] zones;
+    private int[][] distancesByGate;
+    // Flyweight per row, created on first use
+    private StoredParkingSlot[] views;
+    private int size;
+
+    private final SlotListView listView = new SlotListView();
+
+    public SlotStore(List<Gate> gates, int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.gates = new Gate[0];
+        this.slotIds = new String[capacity];
+        this.slotTypes = new byte[capacity];
+        this.stateChunks = new byte[0][];
+        this.views = new StoredParkingSlot[capacity];
+        this.serviceMasks = new long[capacity];
+        this.zones = new String[capacity];
+        this.distancesByGate = new int[0][];
+        addStateChunks(capacity);
+        for (Gate gate : gates) {
+            addGate(gate);
+        }
+    }
+
+    /**
+     * The store behind a slot list created by asSlotList(), or null for ordinary lists
+     */
+    public static SlotStore backing(List<ParkingSlot> slots) {
+        return slots instanceof SlotListView ? ((SlotListView) slots).store() : null;
+    }
+
+    public int addGate(Gate gate) {
+        Integer existing = gateIndex.get(gate);
+        if (existing != null) {
+            return existing;
+        }
+        int index = gates.length;
+        gates = Arrays.copyOf(gates, index + 1);
+        gates[index] = gate;
+        distancesByGate = Arrays.copyOf(distancesByGate, index + 1);
+        int[] distances = new int[slotIds.length];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distancesByGate[index] = distances;
+        gateIndex.put(gate, index);
+        return index;
+    }
+
+    /**
+     * Append a slot. distances[g] is the distance from the gate at gate index g
+     * (Integer.MAX_VALUE when unreachable); the array may be shorter than the gate count.
+     */
+    public int add(String slotId, SlotType slotType, SlotAvailability availability,
+                   long serviceMask, int[] distances, String zone) {
+        if (slotId == null || slotType == null || availability == null || zone == null) {
+            throw new IllegalArgumentException("SlotId, SlotType, availability and zone are required");
+        }
+        ensureCapacity(size + 1);
+        int index = size++;
+        slotIds[index] = slotId;
+        slotTypes[index] = (byte) slotType.ordinal();
+        setAvailability(index, availability);
+        serviceMasks[index] = serviceMask;
+        zones[index] = zone;
+        for (int g = 0; g < distancesByGate.length; g++) {
+            distancesByGate[g][index] = g < distances.length ? distances[g] : Integer.MAX_VALUE;
+        }
+        return index;
+    }
+
+    /**
+     * Copy an object-model slot into the store. Gates it references are registered as needed.
+     */
+    public int add(ParkingSlot slot) {
+        for (Gate gate : slot.getDistanceFromGate().keySet()) {
+            addGate(gate);
+        }
+        int[] distances = new int[gates.length];
+        for (int g = 0; g < gates.length; g++) {
+            distances[g] = slot.getDistanceFromGate(gates[g]);
+        }
+        return add(slot.getSlotId(), slot.getSlotType(), slot.getAvailability(),
+                ServiceFactory.getServiceMask(slot.getSupportedServices()), distances, slot.getZone());
+    }
+
+    /**
+     * Nearest available slot for the vehicle from the gate, by a primitive scan over the
+     * arrays. Same rules as NearestMatchingSlotStrategy.
+     * @return slot index, or -1 if none fits
+     */
+    public int findNearestAvailable(Vehicle vehicle, Gate entryGate) {
+        Integer g = gateIndex.get(entryGate);
+        if (g == null) {
+            return -1;
+        }
+        int typeMask = 0;
+        for (SlotType slotType : SLOT_TYPES) {
+            if (SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slotType)) {
+                typeMask |= 1 << slotType.ordinal();
+            }
+        }
+        long requiredMask = ServiceFactory.getServiceMask(vehicle.getRequiredServices());
+        byte available = (byte) SlotAvailability.AVAILABLE.ordinal();
+        int[] distances = distancesByGate[g];
+        byte[][] chunks = stateChunks;
+
+        int best = -1;
+        int minDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (chunks[i >>> STATE_CHUNK_BITS][i & STATE_CHUNK_MASK] != available
+                    || (typeMask & (1 << slotTypes[i])) == 0
+                    || (serviceMasks[i] & requiredMask) != requiredMask) {
+                continue;
+            }
+            if (distances[i] < minDistance) {
+                minDistance = distances[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    public int countByAvailability(SlotAvailability availability) {
+        byte state = (byte) availability.ordinal();
+        byte[][] chunks = stateChunks;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (chunks[i >>> STATE_CHUNK_BITS][i & STATE_CHUNK_MASK] == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public List<ParkingSlot> asSlotList() {
+        return listView;
+    }
+
+    /**
+     * The row's flyweight view. Views are cached; a race may create a second one, which
+     * is harmless since views of the same row are equal.
+     */
+    public ParkingSlot slot(int index) {
+        checkIndex(index);
+        StoredParkingSlot[] cached = views;
+        StoredParkingSlot view = index < cached.length ? cached[index] : null;
+        if (view == null) {
+            view = new StoredParkingSlot(this, index);
+            if (index < cached.length) {
+                cached[index] = view;
+            }
+        }
+        return view;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int gateCount() {
+        return gates.length;
+    }
+
+    public int getGateIndex(Gate gate) {
+        Integer index = gateIndex.get(gate);
+        return index == null ? -1 : index;
+    }
+
+    // Per-slot accessors used by the flyweight views
+    public String getSlotId(int index) {
+        return slotIds[index];
+    }
+
+    public SlotType getSlotType(int index) {
+        return SLOT_TYPES[slotTypes[index]];
+    }
+
+    public SlotAvailability getAvailability(int index) {
+        return AVAILABILITIES[(byte) STATE.getVolatile(stateChunk(index), index & STATE_CHUNK_MASK)];
+    }
+
+    public long getServiceMask(int index) {
+        return serviceMasks[index];
+    }
+
+    public String getZone(int index) {
+        return zones[index];
+    }
+
+    public int getDistance(int index, int gateIndex) {
+        return gateIndex < 0 ? Integer.MAX_VALUE : distancesByGate[gateIndex][index];
+    }
+
+    public int getDistance(int index, Gate gate) {
+        return getDistance(index, getGateIndex(gate));
+    }
+
+    Gate getGate(int gateIndex) {
+        return gates[gateIndex];
+    }
+
+    public void setSlotId(int index, String slotId) {
+        slotIds[index] = slotId;
+    }
+
+    public void setSlotType(int index, SlotType slotType) {
+        slotTypes[index] = (byte) slotType.ordinal();
+    }
+
+    public void setAvailability(int index, SlotAvailability availability) {
+        STATE.setVolatile(stateChunk(index), index & STATE_CHUNK_MASK, (byte) availability.ordinal());
+    }
+
+    public boolean compareAndSetAvailability(int index, SlotAvailability expected, SlotAvailability next) {
+        return STATE.compareAndSet(stateChunk(index), index & STATE_CHUNK_MASK,
+                (byte) expected.ordinal(), (byte) next.ordinal());
+    }
+
+    public void setServiceMask(int index, long serviceMask) {
+        serviceMasks[index] = serviceMask;
+    }
+
+    public void setZone(int index, String zone) {
+        zones[index] = zone;
+    }
+
+    public void setDistance(int index, Gate gate, int distance) {
+        distancesByGate[addGate(gate)][index] = distance;
+    }
+
+    /**
+     * Shared read-only service list for a bitmask
+     */
+    static List<Service> servicesOf(long serviceMask) {
+        return SERVICES_BY_MASK.computeIfAbsent(serviceMask,
+                mask -> Collections.unmodifiableList(ServiceFactory.getServices(mask)));
+    }
+
+    private byte[] stateChunk(int index) {
+        return stateChunks[index >>> STATE_CHUNK_BITS];
+    }
+
+    /**
+     * Make room for at least capacity states by appending chunks. Caller holds the slot lock
+     * (or owns the store exclusively); lock-free readers see either the old or new outer array,
+     * both holding the same chunk objects.
+     */
+    private void addStateChunks(int capacity) {
+        byte[][] chunks = stateChunks;
+        int needed = (capacity + STATE_CHUNK_MASK) >>> STATE_CHUNK_BITS;
+        if (needed <= chunks.length) {
+            return;
+        }
+        byte[][] grown = Arrays.copyOf(chunks, needed);
+        for (int c = chunks.length; c < needed; c++) {
+            grown[c] = new byte[STATE_CHUNK_SIZE];
+        }
+        stateChunks = grown;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Slot index " + index + " out of range for size " + size);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= slotIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, slotIds.length + (slotIds.length >> 1));
+        slotIds = Arrays.copyOf(slotIds, capacity);
+        slotTypes = Arrays.copyOf(slotTypes, capacity);
+        views = Arrays.copyOf(views, capacity);
+        addStateChunks(capacity);
+        serviceMasks = Arrays.copyOf(serviceMasks, capacity);
+        zones = Arrays.copyOf(zones, capacity);
+        for (int g = 0; g < distancesByGate.length; g++) {
+            int oldLength = distancesByGate[g].length;
+            distancesByGate[g] = Arrays.copyOf(distancesByGate[g], capacity);
+            Arrays.fill(distancesByGate[g], oldLength, capacity, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * List view handing out flyweights; add() copies an object-model slot into the store
+     */
+    private final class SlotListView extends AbstractList<ParkingSlot> implements RandomAccess {
+        @Override
+        public ParkingSlot get(int index) {
+            return slot(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean add(ParkingSlot slot) {
+            SlotStore.this.add(slot);
+            modCount++;
+            return true;
+        }
+
+        SlotStore store() {
+            return SlotStore.this;
+        }
+    }
+}
\ No newline at end of file
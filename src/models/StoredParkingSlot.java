@@ -0,0 +1,129 @@
+package models;
+
+import enums.SlotAvailability;
+import enums.SlotType;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flyweight ParkingSlot view over one row of a SlotStore.
+ * Holds only the store and row index; every accessor reads or writes the arrays.
+ * Two views of the same row are equal, so they can be used interchangeably as keys.
+ */
+final class StoredParkingSlot extends ParkingSlot {
+    private final SlotStore store;
+    private final int index;
+
+    StoredParkingSlot(SlotStore store, int index) {
+        super(null, null, null, null, null, null);
+        this.store = store;
+        this.index = index;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public int getDistanceFromGate(Gate gate) {
+        return store.getDistance(index, gate);
+    }
+
+    @Override
+    public String getSlotId() {
+        return store.getSlotId(index);
+    }
+
+    @Override
+    public SlotType getSlotType() {
+        return store.getSlotType(index);
+    }
+
+    @Override
+    public SlotAvailability getAvailability() {
+        return store.getAvailability(index);
+    }
+
+    @Override
+    public List<Service> getSupportedServices() {
+        return SlotStore.servicesOf(store.getServiceMask(index));
+    }
+
+    @Override
+    public Map<Gate, Integer> getDistanceFromGate() {
+        Map<Gate, Integer> distances = new HashMap<>();
+        for (int g = 0; g < store.gateCount(); g++) {
+            int distance = store.getDistance(index, g);
+            if (distance != Integer.MAX_VALUE) {
+                distances.put(store.getGate(g), distance);
+            }
+        }
+        return distances;
+    }
+
+    @Override
+    public String getZone() {
+        return store.getZone(index);
+    }
+
+    @Override
+    public void setSlotId(String slotId) {
+        store.setSlotId(index, slotId);
+    }
+
+    @Override
+    public void setSlotType(SlotType slotType) {
+        store.setSlotType(index, slotType);
+    }
+
+    @Override
+    public boolean compareAndSetAvailability(SlotAvailability expected, SlotAvailability next) {
+        checkTransition(expected, next);
+        return store.compareAndSetAvailability(index, expected, next);
+    }
+
+    @Override
+    public void setAvailability(SlotAvailability availability) {
+        store.setAvailability(index, availability);
+    }
+
+    @Override
+    public void setSupportedServices(List<Service> supportedServices) {
+        store.setServiceMask(index, ServiceFactory.getServiceMask(supportedServices));
+    }
+
+    @Override
+    public void setDistanceFromGate(Map<Gate, Integer> distanceFromGate) {
+        for (int g = 0; g < store.gateCount(); g++) {
+            store.setDistance(index, store.getGate(g), Integer.MAX_VALUE);
+        }
+        for (Map.Entry<Gate, Integer> entry : distanceFromGate.entrySet()) {
+            store.setDistance(index, entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void setZone(String zone) {
+        store.setZone(index, zone);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof StoredParkingSlot)) {
+            return false;
+        }
+        StoredParkingSlot that = (StoredParkingSlot) other;
+        return store == that.store && index == that.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(store) * 31 + index;
+    }
+}
\ No newline at end of file
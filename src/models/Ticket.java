@@ -1,22 +1,47 @@
 package models;
 
+import billing.FeeBreakdown;
+import strategy.PricingStrategy;
 import java.util.Date;
 
 public class Ticket {
     private String ticketId;
     private Vehicle vehicle;
     private ParkingSlot slot;
-    private Date entryTime;
+    // Epoch millis - kept primitive so issuing a ticket doesn't allocate a Date
+    private long entryTimeMillis;
     private Gate entryGate;
+    // Pre-payment at a kiosk - the ticket may exit without further charge until paidUntilMillis
+    private double amountPaid;
+    private long paidUntilMillis = NOT_PAID;
+    // Registered vehicle's profile at entry, or null for an unknown visitor
+    private VehicleProfile profile;
+    // Settled at the exit gate - the itemised fee is kept unformatted for receipts
+    private Gate exitGate;
+    private long exitTimeMillis = NOT_EXITED;
+    private FeeBreakdown feeBreakdown;
+    // Prices the breakdown on first request when the exit did not need it (pre-paid exits)
+    private PricingStrategy breakdownPricing;
+    private double amountCharged;
+    // Low-allocation mode: the pool that owns this record, and whether it is in its free list
+    private TicketPool pool;
+    private boolean pooled;
 
-    public Ticket(String ticketId, Vehicle vehicle, ParkingSlot slot, Date entryTime, Gate entryGate) {
+    public static final long NOT_PAID = Long.MIN_VALUE;
+    public static final long NOT_EXITED = Long.MIN_VALUE;
+
+    public Ticket(String ticketId, Vehicle vehicle, ParkingSlot slot, long entryTimeMillis, Gate entryGate) {
         this.ticketId = ticketId;
         this.vehicle = vehicle;
         this.slot = slot;
-        this.entryTime = entryTime;
+        this.entryTimeMillis = entryTimeMillis;
         this.entryGate = entryGate;
     }
 
+    public Ticket(String ticketId, Vehicle vehicle, ParkingSlot slot, Date entryTime, Gate entryGate) {
+        this(ticketId, vehicle, slot, entryTime.getTime(), entryGate);
+    }
+
     // Getters
     public String getTicketId() {
         return ticketId;
@@ -31,13 +56,63 @@ public class Ticket {
     }
 
     public Date getEntryTime() {
-        return entryTime;
+        return new Date(entryTimeMillis);
+    }
+
+    public long getEntryTimeMillis() {
+        return entryTimeMillis;
     }
 
     public Gate getEntryGate() {
         return entryGate;
     }
 
+    public VehicleProfile getProfile() {
+        return profile;
+    }
+
+    public synchronized double getAmountPaid() {
+        return amountPaid;
+    }
+
+    public synchronized long getPaidUntilMillis() {
+        return paidUntilMillis;
+    }
+
+    public synchronized boolean isPaidAt(long timeMillis) {
+        return paidUntilMillis != NOT_PAID && timeMillis <= paidUntilMillis;
+    }
+
+    public synchronized boolean hasExited() {
+        return exitTimeMillis != NOT_EXITED;
+    }
+
+    public synchronized Gate getExitGate() {
+        return exitGate;
+    }
+
+    public synchronized long getExitTimeMillis() {
+        return exitTimeMillis;
+    }
+
+    /**
+     * Itemised fee for the whole stay, or null until the vehicle has exited
+     */
+    public synchronized FeeBreakdown getFeeBreakdown() {
+        if (feeBreakdown == null && breakdownPricing != null) {
+            feeBreakdown = breakdownPricing.calculateBreakdown(this, exitTimeMillis);
+            breakdownPricing = null;
+        }
+        return feeBreakdown;
+    }
+
+    /**
+     * Amount charged at the exit gate, after any pre-payment
+     */
+    public synchronized double getAmountCharged() {
+        return amountCharged;
+    }
+
     // Setters
     public void setTicketId(String ticketId) {
         this.ticketId = ticketId;
@@ -52,10 +127,75 @@ public class Ticket {
     }
 
     public void setEntryTime(Date entryTime) {
-        this.entryTime = entryTime;
+        this.entryTimeMillis = entryTime.getTime();
+    }
+
+    public void setEntryTimeMillis(long entryTimeMillis) {
+        this.entryTimeMillis = entryTimeMillis;
     }
 
     public void setEntryGate(Gate entryGate) {
         this.entryGate = entryGate;
     }
+
+    public void setProfile(VehicleProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Record a payment covering the stay until paidUntilMillis
+     */
+    public synchronized void recordPayment(double amount, long paidUntilMillis) {
+        this.amountPaid += amount;
+        this.paidUntilMillis = Math.max(this.paidUntilMillis, paidUntilMillis);
+    }
+
+    /**
+     * Reset a pooled record for a new stay, keeping its ticket ID
+     */
+    synchronized void reissue(Vehicle vehicle, ParkingSlot slot, long entryTimeMillis, Gate entryGate,
+                              VehicleProfile profile) {
+        this.vehicle = vehicle;
+        this.slot = slot;
+        this.entryTimeMillis = entryTimeMillis;
+        this.entryGate = entryGate;
+        this.profile = profile;
+        this.amountPaid = 0.0;
+        this.paidUntilMillis = NOT_PAID;
+        this.exitGate = null;
+        this.exitTimeMillis = NOT_EXITED;
+        this.feeBreakdown = null;
+        this.breakdownPricing = null;
+        this.amountCharged = 0.0;
+    }
+
+    TicketPool getPool() {
+        return pool;
+    }
+
+    void setPool(TicketPool pool) {
+        this.pool = pool;
+    }
+
+    boolean isPooled() {
+        return pooled;
+    }
+
+    void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Record the settlement at the exit gate
+     * @param feeBreakdown the itemised fee, or null to have pricingStrategy work it out
+     *                     if and when a receipt asks for it
+     */
+    public synchronized void recordExit(Gate exitGate, long exitTimeMillis, FeeBreakdown feeBreakdown,
+                                        PricingStrategy pricingStrategy, double amountCharged) {
+        this.exitGate = exitGate;
+        this.exitTimeMillis = exitTimeMillis;
+        this.feeBreakdown = feeBreakdown;
+        this.breakdownPricing = feeBreakdown == null ? pricingStrategy : null;
+        this.amountCharged = amountCharged;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package models;
+
+/**
+ * Reusable ticket records for a lot's low-allocation mode, like the numbered tokens
+ * some garages hand out instead of printed tickets.
+ *
+ * Each record is created once with a fixed ID ("TKT-P000001") and is reissued for
+ * later stays after the caller hands it back with ParkingLot.releaseTicket. Parking
+ * then allocates no Ticket and no ID string; a pool that runs dry falls back to
+ * ordinary tickets until records come back.
+ *
+ * Pooled IDs are unique among live tickets only - records that keep a ticket's ID
+ * beyond its stay should also keep its entry time.
+ *
+ * The free list is a plain array under the pool's monitor, so taking and returning
+ * records does not allocate.
+ */
+public class TicketPool {
+    private static final String ID_PREFIX = "TKT-P";
+
+    private final Ticket[] free;
+    private int freeCount;
+    private int created;
+    private long reissued;
+    private long fallbacks;
+
+    public TicketPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ticket pool capacity must be positive");
+        }
+        this.free = new Ticket[capacity];
+    }
+
+    /**
+     * A record for a new stay: a returned one if any, a new one while under capacity
+     * @return the record, or null if every record is out
+     */
+    synchronized Ticket acquire(Vehicle vehicle, ParkingSlot slot, long entryTimeMillis, Gate entryGate,
+                                VehicleProfile profile) {
+        Ticket ticket;
+        if (freeCount > 0) {
+            ticket = free[--freeCount];
+            free[freeCount] = null;
+            ticket.reissue(vehicle, slot, entryTimeMillis, entryGate, profile);
+            ticket.setPooled(false);
+            reissued++;
+        } else if (created < free.length) {
+            created++;
+            ticket = new Ticket(String.format("%s%06d", ID_PREFIX, created), vehicle, slot, entryTimeMillis, entryGate);
+            ticket.setProfile(profile);
+            ticket.setPool(this);
+        } else {
+            fallbacks++;
+            return null;
+        }
+        return ticket;
+    }
+
+    /**
+     * Take back a record of this pool
+     * @return false if the ticket is not from this pool or has already been returned
+     */
+    synchronized boolean release(Ticket ticket) {
+        if (ticket.getPool() != this || ticket.isPooled()) {
+            return false;
+        }
+        ticket.setPooled(true);
+        free[freeCount++] = ticket;
+        return true;
+    }
+
+    // Getters
+    public int getCapacity() {
+        return free.length;
+    }
+
+    public synchronized int getCreatedCount() {
+        return created;
+    }
+
+    public synchronized int getAvailableCount() {
+        return freeCount;
+    }
+
+    public synchronized long getReissuedCount() {
+        return reissued;
+    }
+
+    /**
+     * Stays that got an ordinary ticket because every record was out
+     */
+    public synchronized long getFallbackCount() {
+        return fallbacks;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("TicketPool[capacity=%d, created=%d, available=%d, reissued=%d, fallbacks=%d]",
+                free.length, created, freeCount, reissued, fallbacks);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package models;
+
+import enums.FuelType;
+import enums.PermitStatus;
+import enums.VehicleType;
+import service.ServiceFactory;
+import java.util.Collections;
+
+/**
+ * What the lot knows about a registered vehicle: its identity, the services it
+ * always needs, its permit and where it prefers to park.
+ *
+ * Immutable. The Vehicle for the profile is built once, with its required services
+ * resolved from the precomputed service mask, so a repeat visitor does not need a new
+ * Vehicle and service list on every entry.
+ */
+public class VehicleProfile {
+    private final String vehicleId;
+    private final VehicleType vehicleType;
+    private final FuelType fuelType;
+    private final long serviceMask;
+    private final PermitStatus permitStatus;
+    private final long permitValidUntilMillis;
+    // Fraction of the base parking fee waived while the permit is valid
+    private final double permitDiscount;
+    private final String preferredZone;
+    private final String preferredSlotId;
+    private final Vehicle vehicle;
+
+    // Package-private constructor - only accessible via VehicleProfileBuilder
+    VehicleProfile(String vehicleId, VehicleType vehicleType, FuelType fuelType, long serviceMask,
+                   PermitStatus permitStatus, long permitValidUntilMillis, double permitDiscount,
+                   String preferredZone, String preferredSlotId) {
+        this.vehicleId = vehicleId;
+        this.vehicleType = vehicleType;
+        this.fuelType = fuelType;
+        this.serviceMask = serviceMask;
+        this.permitStatus = permitStatus;
+        this.permitValidUntilMillis = permitValidUntilMillis;
+        this.permitDiscount = permitDiscount;
+        this.preferredZone = preferredZone;
+        this.preferredSlotId = preferredSlotId;
+        this.vehicle = new Vehicle(vehicleId, vehicleType, fuelType,
+                Collections.unmodifiableList(ServiceFactory.getServices(serviceMask)));
+    }
+
+    /**
+     * True if the vehicle holds an active permit covering the given time
+     */
+    public boolean hasValidPermitAt(long timeMillis) {
+        return permitStatus == PermitStatus.ACTIVE && timeMillis <= permitValidUntilMillis;
+    }
+
+    // Getters
+    public String getVehicleId() {
+        return vehicleId;
+    }
+
+    public VehicleType getVehicleType() {
+        return vehicleType;
+    }
+
+    public FuelType getFuelType() {
+        return fuelType;
+    }
+
+    public long getServiceMask() {
+        return serviceMask;
+    }
+
+    public PermitStatus getPermitStatus() {
+        return permitStatus;
+    }
+
+    public long getPermitValidUntilMillis() {
+        return permitValidUntilMillis;
+    }
+
+    public double getPermitDiscount() {
+        return permitDiscount;
+    }
+
+    /**
+     * Preferred zone, or null for no preference
+     */
+    public String getPreferredZone() {
+        return preferredZone;
+    }
+
+    /**
+     * Preferred (e.g. assigned) slot ID, or null for no preference
+     */
+    public String getPreferredSlotId() {
+        return preferredSlotId;
+    }
+
+    /**
+     * Shared Vehicle for this profile; its service list is read-only
+     */
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+}
\ No newline at end of file
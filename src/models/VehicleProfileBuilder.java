@@ -0,0 +1,73 @@
+package models;
+
+import enums.FuelType;
+import enums.PermitStatus;
+import enums.VehicleType;
+import service.ServiceFactory;
+import service.interfaces.Service;
+
+public class VehicleProfileBuilder {
+    private String vehicleId;
+    private VehicleType vehicleType;
+    private FuelType fuelType = FuelType.PETROL;
+    private long serviceMask;
+    private PermitStatus permitStatus = PermitStatus.NONE;
+    private long permitValidUntilMillis = Long.MIN_VALUE;
+    private double permitDiscount;
+    private String preferredZone;
+    private String preferredSlotId;
+
+    public VehicleProfileBuilder withVehicleId(String vehicleId) {
+        this.vehicleId = vehicleId;
+        return this;
+    }
+
+    public VehicleProfileBuilder withVehicleType(VehicleType vehicleType) {
+        this.vehicleType = vehicleType;
+        return this;
+    }
+
+    public VehicleProfileBuilder withFuelType(FuelType fuelType) {
+        this.fuelType = fuelType;
+        return this;
+    }
+
+    public VehicleProfileBuilder withService(Service service) {
+        this.serviceMask |= 1L << ServiceFactory.getServiceId(service);
+        return this;
+    }
+
+    /**
+     * Permit with the fraction of the base parking fee it waives (0..1)
+     */
+    public VehicleProfileBuilder withPermit(PermitStatus permitStatus, long validUntilMillis, double discount) {
+        this.permitStatus = permitStatus;
+        this.permitValidUntilMillis = validUntilMillis;
+        this.permitDiscount = discount;
+        return this;
+    }
+
+    public VehicleProfileBuilder withPreferredZone(String preferredZone) {
+        this.preferredZone = preferredZone;
+        return this;
+    }
+
+    public VehicleProfileBuilder withPreferredSlot(String preferredSlotId) {
+        this.preferredSlotId = preferredSlotId;
+        return this;
+    }
+
+    public VehicleProfile build() {
+        if (vehicleId == null || vehicleType == null || fuelType == null) {
+            throw new IllegalArgumentException("VehicleId, VehicleType and FuelType are required");
+        }
+        if (permitStatus == null) {
+            throw new IllegalArgumentException("Permit status cannot be null");
+        }
+        if (permitDiscount < 0.0 || permitDiscount > 1.0) {
+            throw new IllegalArgumentException("Permit discount must be between 0 and 1: " + permitDiscount);
+        }
+        return new VehicleProfile(vehicleId, vehicleType, fuelType, serviceMask, permitStatus,
+                permitValidUntilMillis, permitDiscount, preferredZone, preferredSlotId);
+    }
+}
\ No newline at end of file
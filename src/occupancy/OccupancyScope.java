@@ -0,0 +1,85 @@
+package occupancy;
+
+import enums.OccupancyScopeType;
+import enums.SlotType;
+import java.util.Objects;
+
+/**
+ * What a subscriber watches: the whole lot, one zone subtree, or one SlotType
+ */
+public final class OccupancyScope {
+    private static final OccupancyScope LOT = new OccupancyScope(OccupancyScopeType.LOT, null, null);
+
+    private final OccupancyScopeType type;
+    private final String zonePath;
+    private final SlotType slotType;
+
+    private OccupancyScope(OccupancyScopeType type, String zonePath, SlotType slotType) {
+        this.type = type;
+        this.zonePath = zonePath;
+        this.slotType = slotType;
+    }
+
+    public static OccupancyScope lot() {
+        return LOT;
+    }
+
+    /**
+     * A zone path as used by ZoneTree, e.g. "L2" or "L2/B"
+     */
+    public static OccupancyScope zone(String zonePath) {
+        if (zonePath == null || zonePath.isEmpty()) {
+            throw new IllegalArgumentException("Zone path cannot be empty");
+        }
+        return new OccupancyScope(OccupancyScopeType.ZONE, zonePath, null);
+    }
+
+    public static OccupancyScope slotType(SlotType slotType) {
+        if (slotType == null) {
+            throw new IllegalArgumentException("SlotType cannot be null");
+        }
+        return new OccupancyScope(OccupancyScopeType.SLOT_TYPE, null, slotType);
+    }
+
+    // Getters
+    public OccupancyScopeType getType() {
+        return type;
+    }
+
+    public String getZonePath() {
+        return zonePath;
+    }
+
+    public SlotType getSlotType() {
+        return slotType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OccupancyScope)) {
+            return false;
+        }
+        OccupancyScope other = (OccupancyScope) o;
+        return type == other.type && Objects.equals(zonePath, other.zonePath) && slotType == other.slotType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, zonePath, slotType);
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case ZONE:
+                return "zone " + zonePath;
+            case SLOT_TYPE:
+                return "type " + slotType;
+            default:
+                return "lot";
+        }
+    }
+}
\ No newline at end of file
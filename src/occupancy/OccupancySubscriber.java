@@ -0,0 +1,11 @@
+package occupancy;
+
+/**
+ * Receives coalesced occupancy changes from an OccupancySubscriptionHub.
+ *
+ * Calls for one subscription never overlap. A subscriber slower than the tick interval
+ * is not queued up: it gets the latest update when it is ready for the next one.
+ */
+public interface OccupancySubscriber {
+    void onOccupancyChanged(OccupancyUpdate update);
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package occupancy;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One subscriber's registration with an OccupancySubscriptionHub.
+ *
+ * Updates go through a single-entry mailbox: offering a new update replaces one still
+ * waiting, and at most one delivery task per subscription is queued or running. A slow
+ * subscriber therefore costs one executor thread while it runs and never builds a backlog.
+ */
+public class OccupancySubscription {
+    private final OccupancySubscriptionHub hub;
+    private final OccupancyScope scope;
+    private final OccupancySubscriber subscriber;
+    private final Executor executor;
+
+    private final AtomicReference<OccupancyUpdate> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable deliveryTask = this::drain;
+    private volatile boolean cancelled;
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    OccupancySubscription(OccupancySubscriptionHub hub, OccupancyScope scope,
+                          OccupancySubscriber subscriber, Executor executor) {
+        this.hub = hub;
+        this.scope = scope;
+        this.subscriber = subscriber;
+        this.executor = executor;
+    }
+
+    /**
+     * Stop receiving updates. A delivery already running is allowed to finish.
+     */
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            pending.set(null);
+            hub.remove(this);
+        }
+    }
+
+    /**
+     * Called by the hub's dispatcher; never blocks on the subscriber
+     */
+    void offer(OccupancyUpdate update) {
+        if (cancelled) {
+            return;
+        }
+        if (pending.getAndSet(update) != null) {
+            coalescedCount.incrementAndGet();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(deliveryTask);
+            } catch (RejectedExecutionException e) {
+                // Hub closed
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            OccupancyUpdate update = pending.getAndSet(null);
+            if (update == null) {
+                scheduled.set(false);
+                // An offer may have slipped in between the empty read and the flag reset
+                if (pending.get() != null && scheduled.compareAndSet(false, true)) {
+                    continue;
+                }
+                return;
+            }
+            if (cancelled) {
+                continue;
+            }
+            try {
+                subscriber.onOccupancyChanged(update);
+                deliveredCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                failureCount.incrementAndGet();
+            }
+        }
+    }
+
+    // Getters
+    public OccupancyScope getScope() {
+        return scope;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Updates replaced by a newer one before the subscriber got to them
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Deliveries where the subscriber threw
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package occupancy;
+
+import enums.SlotAvailability;
+import enums.SlotType;
+import models.ParkingLot;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import zone.ZoneNode;
+import zone.ZoneTree;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Push notifications of free-slot counts per lot, zone or SlotType, coalesced per tick.
+ *
+ * Slot events only update the atomic counters of a ZoneTree and raise a dirty flag; no
+ * subscriber code runs under the lot's locks. Every intervalMillis a dispatcher thread
+ * reads the current count once per subscribed scope, and for the scopes that changed
+ * since the last tick builds one OccupancyUpdate and offers it to that scope's
+ * subscribers. So N subscribers to a scope cost one read and one update per tick,
+ * however many slot events happened in between, and nobody polls the lot.
+ *
+ * Subscribers are called on a separate delivery executor, each through its own
+ * single-entry mailbox (see OccupancySubscription): a slow subscriber only ever misses
+ * intermediate updates, it does not hold up parking, the dispatcher or other subscribers.
+ */
+public class OccupancySubscriptionHub implements SlotStateListener, AutoCloseable {
+    private static final int DEFAULT_DELIVERY_THREADS = 2;
+
+    private final ParkingLot parkingLot;
+    private final ZoneTree zoneTree = new ZoneTree();
+    private final Map<OccupancyScope, ScopeState> scopes = new ConcurrentHashMap<>();
+    private final Executor deliveryExecutor;
+    // Set when the hub created its own delivery executor and must shut it down
+    private final ExecutorService ownedDeliveryExecutor;
+    private final ScheduledExecutorService dispatcher;
+    private volatile boolean dirty = true;
+    private volatile boolean closed;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong tickCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+
+    /**
+     * Delivers on a pool of daemon threads owned by the hub
+     */
+    public OccupancySubscriptionHub(ParkingLot parkingLot, long intervalMillis) {
+        this(parkingLot, intervalMillis, null);
+    }
+
+    /**
+     * Creates the hub, registers it with the lot and starts the dispatcher
+     * @param intervalMillis coalescing interval between dispatcher ticks
+     * @param deliveryExecutor runs subscriber callbacks; null for a pool owned by the hub
+     */
+    public OccupancySubscriptionHub(ParkingLot parkingLot, long intervalMillis, Executor deliveryExecutor) {
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("ParkingLot cannot be null");
+        }
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Notification interval must be positive");
+        }
+        this.parkingLot = parkingLot;
+        if (deliveryExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.ownedDeliveryExecutor = Executors.newFixedThreadPool(DEFAULT_DELIVERY_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "occupancy-delivery-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.deliveryExecutor = ownedDeliveryExecutor;
+        } else {
+            this.ownedDeliveryExecutor = null;
+            this.deliveryExecutor = deliveryExecutor;
+        }
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "occupancy-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // The tree first, so its counts are current by the time the dirty flag is raised
+        parkingLot.addSlotStateListener(zoneTree);
+        parkingLot.addSlotStateListener(this);
+        dispatcher.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public OccupancySubscription subscribeLot(OccupancySubscriber subscriber) {
+        return subscribe(OccupancyScope.lot(), subscriber);
+    }
+
+    public OccupancySubscription subscribeZone(String zonePath, OccupancySubscriber subscriber) {
+        return subscribe(OccupancyScope.zone(zonePath), subscriber);
+    }
+
+    public OccupancySubscription subscribeSlotType(SlotType slotType, OccupancySubscriber subscriber) {
+        return subscribe(OccupancyScope.slotType(slotType), subscriber);
+    }
+
+    /**
+     * Register a subscriber. It is first sent a snapshot of the counts last published for
+     * the scope, then an update at each tick where they changed.
+     */
+    public OccupancySubscription subscribe(OccupancyScope scope, OccupancySubscriber subscriber) {
+        if (scope == null || subscriber == null) {
+            throw new IllegalArgumentException("Scope and subscriber are required");
+        }
+        if (closed) {
+            throw new IllegalStateException("Subscription hub is closed");
+        }
+        OccupancySubscription subscription = new OccupancySubscription(this, scope, subscriber, deliveryExecutor);
+        ScopeState state = scopes.computeIfAbsent(scope,
+                key -> new ScopeState(key, freeSlots(key), totalSlots(key)));
+        // Joining and the snapshot happen between ticks of this scope, so the snapshot can
+        // neither overwrite a newer tick update nor miss one
+        synchronized (state) {
+            if (state.subscriptions.isEmpty()) {
+                // Ticks skip scopes nobody watches, so the last published counts may be stale.
+                // With other subscribers they stay as they are: those still expect the
+                // next tick to report any change since then.
+                state.lastFree = freeSlots(scope);
+                state.lastTotal = totalSlots(scope);
+            }
+            state.subscriptions.add(subscription);
+            subscription.offer(new OccupancyUpdate(scope, state.lastFree, state.lastTotal,
+                    OccupancyUpdate.NO_PREVIOUS, parkingLot.getClock().currentTimeMillis()));
+        }
+        subscriberCount.incrementAndGet();
+        return subscription;
+    }
+
+    void remove(OccupancySubscription subscription) {
+        ScopeState state = scopes.get(subscription.getScope());
+        if (state != null && state.subscriptions.remove(subscription)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Free slots in the scope right now, read from the hub's counters without the lot lock
+     */
+    public int getFreeSlots(OccupancyScope scope) {
+        return freeSlots(scope);
+    }
+
+    public int getTotalSlots(OccupancyScope scope) {
+        return totalSlots(scope);
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        dirty = true;
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        dirty = true;
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from.isFree() != to.isFree()) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Stop the dispatcher and unregister from the lot. Pending deliveries are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        dispatcher.shutdownNow();
+        parkingLot.removeSlotStateListener(this);
+        parkingLot.removeSlotStateListener(zoneTree);
+        if (ownedDeliveryExecutor != null) {
+            ownedDeliveryExecutor.shutdownNow();
+        }
+    }
+
+    // Getters
+    public ZoneTree getZoneTree() {
+        return zoneTree;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Dispatcher ticks that found slot changes to look at
+     */
+    public long getTickCount() {
+        return tickCount.get();
+    }
+
+    /**
+     * Updates computed, one per changed scope per tick - not one per subscriber
+     */
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    private void tick() {
+        if (!dirty) {
+            return;
+        }
+        // Cleared before reading, so an event racing with this tick is picked up by the next
+        dirty = false;
+        try {
+            long now = parkingLot.getClock().currentTimeMillis();
+            for (ScopeState state : scopes.values()) {
+                if (!state.subscriptions.isEmpty()) {
+                    publish(state, now);
+                }
+            }
+            tickCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule; retry the whole tick next time
+            dirty = true;
+        }
+    }
+
+    /**
+     * Offer the scope's subscribers an update if its counts changed. Offers never block,
+     * so holding the scope's monitor here only ever delays a concurrent subscribe.
+     */
+    private void publish(ScopeState state, long now) {
+        synchronized (state) {
+            int free = freeSlots(state.scope);
+            int total = totalSlots(state.scope);
+            if (free == state.lastFree && total == state.lastTotal) {
+                return;
+            }
+            OccupancyUpdate update = new OccupancyUpdate(state.scope, free, total, state.lastFree, now);
+            state.lastFree = free;
+            state.lastTotal = total;
+            publishedCount.incrementAndGet();
+            for (OccupancySubscription subscription : state.subscriptions) {
+                subscription.offer(update);
+            }
+        }
+    }
+
+    private int freeSlots(OccupancyScope scope) {
+        ZoneNode root = zoneTree.getRoot();
+        switch (scope.getType()) {
+            case SLOT_TYPE:
+                return root.getFreeCount(scope.getSlotType());
+            case ZONE:
+                ZoneNode node = zoneTree.getNode(scope.getZonePath());
+                return node == null ? 0 : node.getFreeCount();
+            default:
+                return root.getFreeCount();
+        }
+    }
+
+    private int totalSlots(OccupancyScope scope) {
+        ZoneNode root = zoneTree.getRoot();
+        switch (scope.getType()) {
+            case SLOT_TYPE:
+                return root.getTotalCount(scope.getSlotType());
+            case ZONE:
+                ZoneNode node = zoneTree.getNode(scope.getZonePath());
+                return node == null ? 0 : node.getTotalCount();
+            default:
+                return root.getTotalCount();
+        }
+    }
+
+    /**
+     * Subscribers of one scope and the counts last published to them
+     */
+    private static final class ScopeState {
+        private final OccupancyScope scope;
+        private final List<OccupancySubscription> subscriptions = new CopyOnWriteArrayList<>();
+        // Guarded by the state's monitor
+        private int lastFree;
+        private int lastTotal;
+
+        private ScopeState(OccupancyScope scope, int free, int total) {
+            this.scope = scope;
+            this.lastFree = free;
+            this.lastTotal = total;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+package occupancy;
+
+import clock.Clock;
+import enums.SlotAvailability;
+import enums.SlotType;
+import models.ParkingLot;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import java.util.List;
+
+/**
+ * Live and time-weighted occupancy of a parking lot per SlotType.
+ *
+ * A slot counts as filled while it is not free (occupied, being cleaned or out of
+ * service). For each SlotType the tracker keeps the running integral of the filled
+ * fraction over time, advanced on every slot event, and a ring of checkpoints of that
+ * integral at fixed intervals. The average fill over any window inside the retained
+ * history is then two checkpoint lookups - O(1), no replay of events and no lot lock:
+ *   averageFill(t0, t1) = (I(t1) - I(t0)) / (t1 - t0)
+ * Between checkpoints the integral is interpolated linearly. Windows reaching further
+ * back than the history are clamped to the oldest checkpoint.
+ *
+ * Time comes from the lot's clock. If the lot's clock is replaced (a simulation
+ * installing a virtual clock) the history restarts from the current counts.
+ *
+ * Events arrive under the lot's slot lock, except RESERVED to OCCUPIED which gate slot
+ * caches apply under their own locks, so each SlotType's state has its own monitor and
+ * reads the clock inside it. Events from different threads can still carry timestamps
+ * a few milliseconds out of order; a step backwards counts as no time passing.
+ */
+public class OccupancyTracker implements SlotStateListener {
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+    private static final long DEFAULT_INTERVAL_MILLIS = 60_000L;
+    private static final int DEFAULT_CHECKPOINTS = 7 * 24 * 60;
+
+    private final ParkingLot parkingLot;
+    private final long intervalMillis;
+    private final int checkpointCount;
+    private final TypeOccupancy[] byType = new TypeOccupancy[SLOT_TYPES.length];
+
+    /**
+     * Tracks with one-minute checkpoints kept for a week
+     */
+    public OccupancyTracker(ParkingLot parkingLot) {
+        this(parkingLot, DEFAULT_INTERVAL_MILLIS, DEFAULT_CHECKPOINTS);
+    }
+
+    /**
+     * Creates the tracker and registers it with the lot
+     * @param intervalMillis time between checkpoints of the fill integral
+     * @param checkpointCount checkpoints kept; history covers intervalMillis * checkpointCount
+     */
+    public OccupancyTracker(ParkingLot parkingLot, long intervalMillis, int checkpointCount) {
+        if (intervalMillis <= 0 || checkpointCount < 2) {
+            throw new IllegalArgumentException("Interval must be positive and at least 2 checkpoints kept");
+        }
+        this.parkingLot = parkingLot;
+        this.intervalMillis = intervalMillis;
+        this.checkpointCount = checkpointCount;
+        for (SlotType slotType : SLOT_TYPES) {
+            byType[slotType.ordinal()] = new TypeOccupancy();
+        }
+        parkingLot.addSlotStateListener(this);
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        int[] totals = new int[SLOT_TYPES.length];
+        int[] filled = new int[SLOT_TYPES.length];
+        for (ParkingSlot slot : slots) {
+            totals[slot.getSlotType().ordinal()]++;
+            if (!slot.getAvailability().isFree()) {
+                filled[slot.getSlotType().ordinal()]++;
+            }
+        }
+        for (int i = 0; i < byType.length; i++) {
+            byType[i].reset(totals[i], filled[i]);
+        }
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        byType[slot.getSlotType().ordinal()].change(1, slot.getAvailability().isFree() ? 0 : 1);
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from.isFree() != to.isFree()) {
+            byType[slot.getSlotType().ordinal()].change(0, to.isFree() ? -1 : 1);
+        }
+    }
+
+    /**
+     * Fraction of slots of this type that are filled right now (0..1)
+     */
+    public double getCurrentFill(SlotType slotType) {
+        return byType[slotType.ordinal()].currentFill();
+    }
+
+    /**
+     * Time-weighted average fill of this slot type between two instants (epoch millis).
+     * An empty window, or one entirely before the retained history, gives the current fill.
+     */
+    public double getAverageFill(SlotType slotType, long fromMillis, long toMillis) {
+        return byType[slotType.ordinal()].averageFill(fromMillis, toMillis);
+    }
+
+    public int getFilledCount(SlotType slotType) {
+        return byType[slotType.ordinal()].filled();
+    }
+
+    public int getTotalCount(SlotType slotType) {
+        return byType[slotType.ordinal()].total();
+    }
+
+    /**
+     * Earliest instant the fill history still covers
+     */
+    public long getHistoryStartMillis(SlotType slotType) {
+        return byType[slotType.ordinal()].historyStart();
+    }
+
+    /**
+     * Fill state and integral history for one SlotType
+     */
+    private final class TypeOccupancy {
+        // Integral of the fill fraction at originMillis + k * intervalMillis, in ring slot k % length
+        private final double[] checkpoints = new double[checkpointCount];
+        private long originMillis;
+        // Index of the latest checkpoint written
+        private long lastCheckpoint;
+        private long lastEventMillis;
+        // Integral of the fill fraction from originMillis to lastEventMillis, in fraction-millis
+        private double integral;
+        private int total;
+        private int filled;
+        // The lot clock the history was measured with
+        private Clock clock;
+
+        synchronized void reset(int total, int filled) {
+            this.total = total;
+            this.filled = filled;
+            clock = parkingLot.getClock();
+            restart(clock.currentTimeMillis());
+        }
+
+        synchronized void change(int totalDelta, int filledDelta) {
+            Clock current = parkingLot.getClock();
+            if (current != clock) {
+                clock = current;
+                restart(current.currentTimeMillis());
+            } else {
+                advance(Math.max(current.currentTimeMillis(), lastEventMillis));
+            }
+            total += totalDelta;
+            filled += filledDelta;
+        }
+
+        synchronized double currentFill() {
+            return fraction();
+        }
+
+        synchronized int filled() {
+            return filled;
+        }
+
+        synchronized int total() {
+            return total;
+        }
+
+        synchronized long historyStart() {
+            return originMillis + firstCheckpoint() * intervalMillis;
+        }
+
+        synchronized double averageFill(long fromMillis, long toMillis) {
+            long start = Math.max(fromMillis, historyStart());
+            if (start >= toMillis) {
+                return fraction();
+            }
+            return (integralAt(toMillis) - integralAt(start)) / (toMillis - start);
+        }
+
+        /**
+         * Fill integral from originMillis to t. Caller holds the monitor; t must not be
+         * before the history start.
+         */
+        private double integralAt(long t) {
+            if (t >= lastEventMillis) {
+                return integral + fraction() * (t - lastEventMillis);
+            }
+            long k = (t - originMillis) / intervalMillis;
+            double lower = checkpoints[(int) (k % checkpointCount)];
+            long lowerMillis = originMillis + k * intervalMillis;
+            double upper;
+            long upperMillis;
+            if (k < lastCheckpoint) {
+                upper = checkpoints[(int) ((k + 1) % checkpointCount)];
+                upperMillis = lowerMillis + intervalMillis;
+            } else {
+                upper = integral;
+                upperMillis = lastEventMillis;
+            }
+            if (upperMillis == lowerMillis) {
+                return lower;
+            }
+            return lower + (upper - lower) * (t - lowerMillis) / (upperMillis - lowerMillis);
+        }
+
+        /**
+         * Bring the integral up to now (not before lastEventMillis), writing every
+         * checkpoint passed on the way
+         */
+        private void advance(long now) {
+            double fill = fraction();
+            long target = (now - originMillis) / intervalMillis;
+            // Only the last checkpointCount checkpoints survive in the ring
+            long k = Math.max(lastCheckpoint + 1, target - checkpointCount + 1);
+            for (; k <= target; k++) {
+                long checkpointMillis = originMillis + k * intervalMillis;
+                checkpoints[(int) (k % checkpointCount)] = integral + fill * (checkpointMillis - lastEventMillis);
+            }
+            if (target > lastCheckpoint) {
+                lastCheckpoint = target;
+            }
+            integral += fill * (now - lastEventMillis);
+            lastEventMillis = now;
+        }
+
+        private void restart(long now) {
+            originMillis = now;
+            lastEventMillis = now;
+            lastCheckpoint = 0;
+            integral = 0.0;
+            checkpoints[0] = 0.0;
+        }
+
+        private long firstCheckpoint() {
+            return Math.max(0, lastCheckpoint - checkpointCount + 1);
+        }
+
+        private double fraction() {
+            return total == 0 ? 0.0 : (double) filled / total;
+        }
+    }
+}
\ No newline at end of file
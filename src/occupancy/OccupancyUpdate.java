@@ -0,0 +1,60 @@
+package occupancy;
+
+/**
+ * Free and total slots of a scope at one dispatcher tick
+ */
+public class OccupancyUpdate {
+    public static final int NO_PREVIOUS = -1;
+
+    private final OccupancyScope scope;
+    private final int freeSlots;
+    private final int totalSlots;
+    // Free slots at the previous update of this scope, or NO_PREVIOUS for a first snapshot
+    private final int previousFreeSlots;
+    private final long timeMillis;
+
+    OccupancyUpdate(OccupancyScope scope, int freeSlots, int totalSlots, int previousFreeSlots, long timeMillis) {
+        this.scope = scope;
+        this.freeSlots = freeSlots;
+        this.totalSlots = totalSlots;
+        this.previousFreeSlots = previousFreeSlots;
+        this.timeMillis = timeMillis;
+    }
+
+    public boolean isSnapshot() {
+        return previousFreeSlots == NO_PREVIOUS;
+    }
+
+    /**
+     * Change in free slots since the previous update of the scope (0 for a snapshot)
+     */
+    public int getFreeDelta() {
+        return isSnapshot() ? 0 : freeSlots - previousFreeSlots;
+    }
+
+    // Getters
+    public OccupancyScope getScope() {
+        return scope;
+    }
+
+    public int getFreeSlots() {
+        return freeSlots;
+    }
+
+    public int getTotalSlots() {
+        return totalSlots;
+    }
+
+    public int getPreviousFreeSlots() {
+        return previousFreeSlots;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d/%d free (%+d)", scope, freeSlots, totalSlots, getFreeDelta());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package profile;
+
+/**
+ * Count-min sketch of recent access frequency with 4-bit counters, as used by TinyLFU.
+ *
+ * Sixteen counters are packed per long and each key touches four of them; the estimate
+ * is the smallest. Counters saturate at 15. After sampleSize increments every counter is
+ * halved, so the sketch reflects recent popularity rather than all-time counts.
+ * Memory is one long per entry of the cache it serves, regardless of how many distinct
+ * keys are seen.
+ *
+ * Not thread-safe - VehicleProfileCache calls it under its own lock.
+ */
+final class FrequencySketch {
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(16, maximumSize - 1) << 1);
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * Math.max(16, maximumSize);
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = 15;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            long slot = indexHash(hash, depth);
+            int shift = (int) ((slot >>> 32) & 15) << 2;
+            frequency = Math.min(frequency, (int) ((table[(int) slot & tableMask] >>> shift) & 15));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            long slot = indexHash(hash, depth);
+            int index = (int) slot & tableMask;
+            int shift = (int) ((slot >>> 32) & 15) << 2;
+            if (((table[index] >>> shift) & 15) != 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halve every counter (an aging step)
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private static long indexHash(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        return h ^ (h >>> 29);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 17;
+        hash *= 0xed5ad4bb;
+        hash ^= hash >>> 11;
+        hash *= 0xac4c1b51;
+        return hash ^ (hash >>> 15);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package profile;
+
+/**
+ * Snapshot of VehicleProfileCache behaviour.
+ *
+ * Rejections are candidates the TinyLFU filter turned away because the entry they
+ * would have evicted had been used more often; they are counted within evictions.
+ */
+public class ProfileCacheStats {
+    private final long hits;
+    private final long misses;
+    private final long loads;
+    private final long evictions;
+    private final long rejections;
+    private final int size;
+
+    ProfileCacheStats(long hits, long misses, long loads, long evictions, long rejections, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.loads = loads;
+        this.evictions = evictions;
+        this.rejections = rejections;
+        this.size = size;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public double getMissRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) misses / total;
+    }
+
+    // Getters
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Misses that found a profile in the source
+     */
+    public long getLoads() {
+        return loads;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d (hit rate %.1f%%) loads=%d evictions=%d rejections=%d size=%d",
+                hits, misses, getHitRate() * 100, loads, evictions, rejections, size);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package profile;
+
+import models.VehicleProfile;
+
+/**
+ * Backing store of vehicle profiles, e.g. the permit database. Called on cache misses.
+ */
+@FunctionalInterface
+public interface ProfileSource {
+    /**
+     * @return the profile for the vehicle, or null if it is not registered
+     */
+    VehicleProfile load(String vehicleId);
+}
\ No newline at end of file
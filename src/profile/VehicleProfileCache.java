@@ -0,0 +1,181 @@
+package profile;
+
+import models.VehicleProfile;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of vehicle profiles keyed by vehicleId, with W-TinyLFU eviction.
+ *
+ * New entries go into a small LRU window (1% of the capacity). An entry pushed out of
+ * the window only enters the main area if the frequency sketch says it has been seen
+ * more often than the main area's eviction victim. The main area is a segmented LRU:
+ * entries start on probation and move to the protected segment (80% of the main area)
+ * when hit again. Regulars such as permit holders therefore stay cached, while a
+ * stream of one-off visitors only churns the window.
+ *
+ * Lookups record frequency for every vehicleId, cached or not. Misses are loaded
+ * from the ProfileSource outside the cache lock; unregistered vehicles are not cached.
+ * All methods are thread-safe.
+ */
+public class VehicleProfileCache {
+    private static final double WINDOW_FRACTION = 0.01;
+    private static final double PROTECTED_FRACTION = 0.8;
+
+    private final ProfileSource source;
+    private final int maximumSize;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final FrequencySketch sketch;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, VehicleProfile> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, VehicleProfile> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, VehicleProfile> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long loads;
+    private long evictions;
+    private long rejections;
+
+    public VehicleProfileCache(ProfileSource source, int maximumSize) {
+        if (source == null) {
+            throw new IllegalArgumentException("Profile source cannot be null");
+        }
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("Maximum size must be at least 2");
+        }
+        this.source = source;
+        this.maximumSize = maximumSize;
+        this.windowCapacity = Math.max(1, (int) (maximumSize * WINDOW_FRACTION));
+        this.protectedCapacity = (int) ((maximumSize - windowCapacity) * PROTECTED_FRACTION);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Profile for the vehicle, loading it from the source on a miss
+     * @return the profile, or null if the vehicle is not registered
+     */
+    public VehicleProfile get(String vehicleId) {
+        VehicleProfile cached = lookup(vehicleId);
+        if (cached != null) {
+            return cached;
+        }
+        VehicleProfile loaded = source.load(vehicleId);
+        if (loaded != null) {
+            synchronized (this) {
+                loads++;
+            }
+            put(loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cached profile without recording an access or loading, or null
+     */
+    public synchronized VehicleProfile getIfPresent(String vehicleId) {
+        VehicleProfile profile = window.get(vehicleId);
+        if (profile == null) {
+            profile = probation.get(vehicleId);
+        }
+        return profile != null ? profile : protectedSegment.get(vehicleId);
+    }
+
+    /**
+     * Add or replace a profile, e.g. after a permit is bought or renewed
+     */
+    public synchronized void put(VehicleProfile profile) {
+        String vehicleId = profile.getVehicleId();
+        if (window.containsKey(vehicleId)) {
+            window.put(vehicleId, profile);
+        } else if (probation.containsKey(vehicleId)) {
+            probation.put(vehicleId, profile);
+        } else if (protectedSegment.containsKey(vehicleId)) {
+            protectedSegment.put(vehicleId, profile);
+        } else {
+            window.put(vehicleId, profile);
+            if (window.size() > windowCapacity) {
+                admit(removeEldest(window));
+            }
+        }
+    }
+
+    public synchronized void invalidate(String vehicleId) {
+        if (window.remove(vehicleId) == null && probation.remove(vehicleId) == null) {
+            protectedSegment.remove(vehicleId);
+        }
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized ProfileCacheStats getStats() {
+        return new ProfileCacheStats(hits, misses, loads, evictions, rejections, size());
+    }
+
+    private synchronized VehicleProfile lookup(String vehicleId) {
+        sketch.increment(vehicleId);
+        VehicleProfile profile = window.get(vehicleId);
+        if (profile == null) {
+            profile = protectedSegment.get(vehicleId);
+        }
+        if (profile == null) {
+            profile = probation.remove(vehicleId);
+            if (profile != null) {
+                promote(vehicleId, profile);
+            }
+        }
+        if (profile != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return profile;
+    }
+
+    /**
+     * A probation entry that is hit again moves to the protected segment; the
+     * protected segment's least recently used entry drops back to probation
+     */
+    private void promote(String vehicleId, VehicleProfile profile) {
+        protectedSegment.put(vehicleId, profile);
+        if (protectedSegment.size() > protectedCapacity) {
+            VehicleProfile demoted = removeEldest(protectedSegment);
+            probation.put(demoted.getVehicleId(), demoted);
+        }
+    }
+
+    /**
+     * TinyLFU admission of an entry leaving the window into the main area
+     */
+    private void admit(VehicleProfile candidate) {
+        if (probation.size() + protectedSegment.size() < maximumSize - windowCapacity) {
+            probation.put(candidate.getVehicleId(), candidate);
+            return;
+        }
+        LinkedHashMap<String, VehicleProfile> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+        String victimId = victimSegment.keySet().iterator().next();
+        evictions++;
+        if (sketch.frequency(candidate.getVehicleId()) > sketch.frequency(victimId)) {
+            victimSegment.remove(victimId);
+            probation.put(candidate.getVehicleId(), candidate);
+        } else {
+            rejections++;
+        }
+    }
+
+    private static VehicleProfile removeEldest(LinkedHashMap<String, VehicleProfile> segment) {
+        Iterator<Map.Entry<String, VehicleProfile>> eldest = segment.entrySet().iterator();
+        VehicleProfile profile = eldest.next().getValue();
+        eldest.remove();
+        return profile;
+    }
+}
\ No newline at end of file
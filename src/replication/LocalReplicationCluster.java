@@ -0,0 +1,169 @@
+package replication;
+
+import models.ParkingLot;
+import models.Ticket;
+import models.Vehicle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A whole replicated lot inside one JVM, for tests, demos and failure drills.
+ *
+ * Nodes talk over an InMemoryTransport. Writes are routed to the current leader and
+ * retried on NotLeaderException (nothing was logged), so callers ride through a failover.
+ * isolate() and heal() cut a node off and reconnect it, as a crash or partition would.
+ */
+public class LocalReplicationCluster implements AutoCloseable {
+    private static final long ROUTING_TIMEOUT_MILLIS = 5000;
+    private static final long ROUTING_RETRY_MILLIS = 5;
+
+    private final InMemoryTransport transport = new InMemoryTransport();
+    private final Map<String, ReplicaNode> nodes = new LinkedHashMap<>();
+
+    public LocalReplicationCluster(int size, Supplier<ParkingLot> parkingLotFactory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("A cluster needs at least one node");
+        }
+        List<String> nodeIds = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            nodeIds.add("node-" + i);
+        }
+        for (String nodeId : nodeIds) {
+            ReplicaNodeBuilder builder = new ReplicaNodeBuilder()
+                .withNodeId(nodeId)
+                .withTransport(transport)
+                .withParkingLotFactory(parkingLotFactory);
+            for (String peerId : nodeIds) {
+                if (!peerId.equals(nodeId)) {
+                    builder.withPeer(peerId);
+                }
+            }
+            nodes.put(nodeId, builder.build());
+        }
+        for (ReplicaNode node : nodes.values()) {
+            node.start();
+        }
+    }
+
+    /**
+     * Park through whichever node currently leads
+     */
+    public Ticket park(Vehicle vehicle, String entryGateId) {
+        long deadline = System.currentTimeMillis() + ROUTING_TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                return awaitLeader(remaining(deadline)).park(vehicle, entryGateId);
+            } catch (NotLeaderException e) {
+                pause(deadline, e);
+            }
+        }
+    }
+
+    /**
+     * Unpark through whichever node currently leads
+     * @return the amount due at the exit gate
+     */
+    public double unpark(String ticketId, String exitGateId) {
+        long deadline = System.currentTimeMillis() + ROUTING_TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                return awaitLeader(remaining(deadline)).unpark(ticketId, exitGateId);
+            } catch (NotLeaderException e) {
+                pause(deadline, e);
+            }
+        }
+    }
+
+    /**
+     * The reachable leader with the highest term, waiting for an election if there is none
+     */
+    public ReplicaNode awaitLeader(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            ReplicaNode leader = null;
+            for (ReplicaNode node : nodes.values()) {
+                if (!transport.isIsolated(node.getNodeId()) && node.isLeader()
+                        && (leader == null || node.getCurrentTerm() > leader.getCurrentTerm())) {
+                    leader = node;
+                }
+            }
+            if (leader != null) {
+                return leader;
+            }
+            pause(deadline, new IllegalStateException("No leader elected within " + timeoutMillis + "ms"));
+        }
+    }
+
+    /**
+     * Wait until every reachable node has applied the leader's committed log
+     * @return false if the timeout expired first
+     */
+    public boolean awaitConvergence(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long commitIndex = awaitLeader(timeoutMillis).getCommitIndex();
+        for (ReplicaNode node : nodes.values()) {
+            if (!transport.isIsolated(node.getNodeId())
+                    && !node.awaitApplied(commitIndex, Math.max(0, deadline - System.currentTimeMillis()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cut the node off from the rest of the cluster in both directions
+     */
+    public void isolate(String nodeId) {
+        node(nodeId);
+        transport.isolate(nodeId);
+    }
+
+    public void heal(String nodeId) {
+        node(nodeId);
+        transport.heal(nodeId);
+    }
+
+    public ReplicaNode node(String nodeId) {
+        ReplicaNode node = nodes.get(nodeId);
+        if (node == null) {
+            throw new IllegalArgumentException("Unknown node " + nodeId);
+        }
+        return node;
+    }
+
+    public Collection<ReplicaNode> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    public InMemoryTransport getTransport() {
+        return transport;
+    }
+
+    @Override
+    public void close() {
+        for (ReplicaNode node : nodes.values()) {
+            node.close();
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    private static void pause(long deadline, RuntimeException onTimeout) {
+        if (System.currentTimeMillis() >= deadline) {
+            throw onTimeout;
+        }
+        try {
+            Thread.sleep(ROUTING_RETRY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw onTimeout;
+        }
+    }
+}
\ No newline at end of file
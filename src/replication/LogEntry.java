@@ -0,0 +1,85 @@
+package replication;
+
+import enums.LogOperationType;
+import models.Vehicle;
+
+/**
+ * One replicated lot operation at a position in the log.
+ *
+ * Entries record the leader's decision, not the request: a park carries the slot the
+ * leader allotted, the ticket ID it issued and its entry time, so every replica applies
+ * exactly the same outcome without consulting its own strategy or clock.
+ */
+public class LogEntry {
+    private final long index;
+    private final long term;
+    private final LogOperationType type;
+    private final String ticketId;
+    private final Vehicle vehicle;
+    private final String slotId;
+    private final String gateId;
+    private final long timeMillis;
+
+    private LogEntry(long index, long term, LogOperationType type, String ticketId, Vehicle vehicle,
+                     String slotId, String gateId, long timeMillis) {
+        this.index = index;
+        this.term = term;
+        this.type = type;
+        this.ticketId = ticketId;
+        this.vehicle = vehicle;
+        this.slotId = slotId;
+        this.gateId = gateId;
+        this.timeMillis = timeMillis;
+    }
+
+    public static LogEntry park(long index, long term, String ticketId, Vehicle vehicle, String slotId,
+                                String entryGateId, long entryTimeMillis) {
+        return new LogEntry(index, term, LogOperationType.PARK, ticketId, vehicle, slotId, entryGateId, entryTimeMillis);
+    }
+
+    public static LogEntry unpark(long index, long term, String ticketId, String exitGateId, long exitTimeMillis) {
+        return new LogEntry(index, term, LogOperationType.UNPARK, ticketId, null, null, exitGateId, exitTimeMillis);
+    }
+
+    public static LogEntry noop(long index, long term) {
+        return new LogEntry(index, term, LogOperationType.NOOP, null, null, null, null, 0);
+    }
+
+    // Getters
+    public long getIndex() {
+        return index;
+    }
+
+    public long getTerm() {
+        return term;
+    }
+
+    public LogOperationType getType() {
+        return type;
+    }
+
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+
+    public String getSlotId() {
+        return slotId;
+    }
+
+    public String getGateId() {
+        return gateId;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return index + "@" + term + " " + type + (ticketId != null ? " " + ticketId : "");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package replication;
+
+/**
+ * Thrown when a write reaches a replica that is not the current leader. Nothing was
+ * logged, so the request can safely be retried against the leader.
+ */
+public class NotLeaderException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final String leaderId;
+
+    public NotLeaderException(String nodeId, String leaderId) {
+        super("Node " + nodeId + " is not the leader" + (leaderId != null ? "; leader is " + leaderId : ""));
+        this.leaderId = leaderId;
+    }
+
+    /**
+     * The leader this replica last heard from, or null if it does not know one
+     */
+    public String getLeaderId() {
+        return leaderId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,751 @@
+package replication;
+
+import enums.ReplicaRole;
+import enums.SlotAvailability;
+import models.Gate;
+import models.ParkingLot;
+import models.ParkingSlot;
+import models.Ticket;
+import models.Vehicle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * One replica of a parking lot, kept in step with its peers by a Raft-style replicated log.
+ *
+ * Roles and terms:
+ * - One leader per term accepts parks and unparks. It runs them against its own lot,
+ *   logs the outcome (slot, ticket ID, timestamp) and answers the caller once a majority
+ *   of replicas hold the entry, so an acknowledged ticket survives the loss of any minority.
+ * - Followers append the leader's entries and apply them to their lots once committed.
+ *   Their lots answer occupancy reads, at most a heartbeat behind the leader.
+ * - A follower that hears nothing for an election timeout starts an election; a replica
+ *   only votes for a candidate whose log is at least as up to date as its own, so a new
+ *   leader always holds every committed entry.
+ * - Every message carries a term. A leader that sees a higher term, or loses contact with
+ *   a majority, steps down; its uncommitted work fails and its lot is rebuilt from the
+ *   committed log. A deposed leader therefore cannot hand out a slot the new leader also
+ *   hands out - its entries never commit.
+ *
+ * Log shipping is batched and pipelined: up to maxInFlightBatches append messages per
+ * follower may await acknowledgement at once, each carrying up to maxBatchEntries. While
+ * the window is full, new entries queue in the log and leave together in the next batch,
+ * so the busier the lot, the more writes share each message.
+ *
+ * The log is kept in memory and is not compacted.
+ */
+public class ReplicaNode implements AutoCloseable {
+    private final String nodeId;
+    private final List<String> peerIds;
+    private final ReplicationTransport transport;
+    private final Supplier<ParkingLot> parkingLotFactory;
+    private final long heartbeatMillis;
+    private final long electionTimeoutMillis;
+    private final long commitTimeoutMillis;
+    private final int maxBatchEntries;
+    private final int maxInFlightBatches;
+    private final ScheduledExecutorService ticker;
+
+    // Raft state - guarded by stateLock
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition applied = stateLock.newCondition();
+    private ReplicaRole role = ReplicaRole.FOLLOWER;
+    private long currentTerm;
+    private String votedFor;
+    private String leaderId;
+    // Entry at list position i has log index i + 1
+    private final List<LogEntry> log = new ArrayList<>();
+    private long commitIndex;
+    private final Set<String> votes = new HashSet<>();
+    private final Map<String, PeerProgress> peers = new LinkedHashMap<>();
+    private final Map<Long, CompletableFuture<Void>> pendingCommits = new HashMap<>();
+    private long electionDeadlineMillis;
+    private long lastHeartbeatMillis;
+    private long leaderChanges;
+    private long tickFailures;
+    private long appendMessagesSent;
+    private long entriesShipped;
+
+    // Highest log index reflected in the lot - the leader's lot runs ahead of the commit index
+    private volatile long appliedIndex;
+    private volatile ParkingLot parkingLot;
+    private volatile Map<String, ParkingSlot> slotsById;
+    private volatile Map<String, Gate> gatesById;
+
+    // Package-private constructor - only accessible via ReplicaNodeBuilder
+    ReplicaNode(String nodeId, List<String> peerIds, ReplicationTransport transport,
+                Supplier<ParkingLot> parkingLotFactory, long heartbeatMillis, long electionTimeoutMillis,
+                long commitTimeoutMillis, int maxBatchEntries, int maxInFlightBatches) {
+        this.nodeId = nodeId;
+        this.peerIds = peerIds;
+        this.transport = transport;
+        this.parkingLotFactory = parkingLotFactory;
+        this.heartbeatMillis = heartbeatMillis;
+        this.electionTimeoutMillis = electionTimeoutMillis;
+        this.commitTimeoutMillis = commitTimeoutMillis;
+        this.maxBatchEntries = maxBatchEntries;
+        this.maxInFlightBatches = maxInFlightBatches;
+        for (String peerId : peerIds) {
+            peers.put(peerId, new PeerProgress());
+        }
+        installParkingLot(parkingLotFactory.get());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-ticker-" + nodeId);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Join the cluster as a follower and start the heartbeat and election timers
+     */
+    public void start() {
+        stateLock.lock();
+        try {
+            resetElectionDeadline(nowMillis());
+        } finally {
+            stateLock.unlock();
+        }
+        transport.register(nodeId, this::onMessage);
+        long tickMillis = Math.max(1, heartbeatMillis / 4);
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Park through the leader. Returns once the park is committed on a majority.
+     * @throws NotLeaderException if this replica is not the leader - nothing was logged
+     * @throws IllegalStateException if leadership was lost or the commit timed out before
+     *         the park was acknowledged; it may or may not take effect
+     */
+    public Ticket park(Vehicle vehicle, String entryGateId) {
+        Ticket ticket;
+        CompletableFuture<Void> commit;
+        List<Outgoing> outgoing;
+        long index;
+        stateLock.lock();
+        try {
+            requireLeader();
+            ticket = parkingLot.parkVehicle(vehicle, gate(entryGateId));
+            index = log.size() + 1;
+            log.add(LogEntry.park(index, currentTerm, ticket.getTicketId(), vehicle, ticket.getSlot().getSlotId(),
+                    entryGateId, ticket.getEntryTimeMillis()));
+            commit = registerPendingCommit(index);
+            outgoing = replicate(false);
+        } finally {
+            stateLock.unlock();
+        }
+        send(outgoing);
+        awaitCommit(commit, index);
+        return ticket;
+    }
+
+    /**
+     * Unpark through the leader, stamped with the leader's clock
+     * @return the amount due at the exit gate
+     * @throws NotLeaderException if this replica is not the leader - nothing was logged
+     */
+    public double unpark(String ticketId, String exitGateId) {
+        double amountDue;
+        CompletableFuture<Void> commit;
+        List<Outgoing> outgoing;
+        long index;
+        stateLock.lock();
+        try {
+            requireLeader();
+            long exitTimeMillis = parkingLot.getClock().currentTimeMillis();
+            amountDue = parkingLot.applyUnpark(ticketId, gate(exitGateId), exitTimeMillis);
+            index = log.size() + 1;
+            log.add(LogEntry.unpark(index, currentTerm, ticketId, exitGateId, exitTimeMillis));
+            commit = registerPendingCommit(index);
+            outgoing = replicate(false);
+        } finally {
+            stateLock.unlock();
+        }
+        send(outgoing);
+        awaitCommit(commit, index);
+        return amountDue;
+    }
+
+    /**
+     * Wait until this replica's lot reflects the log up to the index, e.g. the commit index
+     * a client saw on the leader, so a follower read observes that client's own writes
+     * @return false if the timeout expired first
+     */
+    public boolean awaitApplied(long index, long timeoutMillis) throws InterruptedException {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        stateLock.lock();
+        try {
+            while (appliedIndex < index) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = applied.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Slots in the given state on this replica's lot - a follower read, possibly stale
+     */
+    public int getSlotCount(SlotAvailability availability) {
+        return parkingLot.getSlotCount(availability);
+    }
+
+    public int getOccupiedSlotCount() {
+        return parkingLot.getOccupiedSlotCount();
+    }
+
+    /**
+     * Leave the cluster: stop the timers and fail any writes still waiting to commit
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        transport.unregister(nodeId);
+        stateLock.lock();
+        try {
+            failPendingCommits("Replica " + nodeId + " closed");
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    // Getters
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public ParkingLot getParkingLot() {
+        return parkingLot;
+    }
+
+    public long getAppliedIndex() {
+        return appliedIndex;
+    }
+
+    public ReplicaRole getRole() {
+        stateLock.lock();
+        try {
+            return role;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public boolean isLeader() {
+        return getRole() == ReplicaRole.LEADER;
+    }
+
+    public long getCurrentTerm() {
+        stateLock.lock();
+        try {
+            return currentTerm;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * The leader this replica last heard from in its current term, or null
+     */
+    public String getLeaderId() {
+        stateLock.lock();
+        try {
+            return leaderId;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public long getCommitIndex() {
+        stateLock.lock();
+        try {
+            return commitIndex;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public long getLastLogIndex() {
+        stateLock.lock();
+        try {
+            return log.size();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Times this replica has become leader
+     */
+    public long getLeaderChanges() {
+        stateLock.lock();
+        try {
+            return leaderChanges;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Timer ticks that threw and were retried on the next tick
+     */
+    public long getTickFailures() {
+        stateLock.lock();
+        try {
+            return tickFailures;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Mean entries per non-empty append message sent while leading
+     */
+    public double getAverageBatchSize() {
+        stateLock.lock();
+        try {
+            return appendMessagesSent == 0 ? 0.0 : (double) entriesShipped / appendMessagesSent;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void tick() {
+        List<Outgoing> outgoing = new ArrayList<>();
+        stateLock.lock();
+        try {
+            long now = nowMillis();
+            if (role == ReplicaRole.LEADER) {
+                if (!hasRecentQuorum(now)) {
+                    // Partitioned from the majority - stop accepting writes that cannot commit
+                    stepDown();
+                    resetElectionDeadline(now);
+                } else if (now - lastHeartbeatMillis >= heartbeatMillis) {
+                    for (PeerProgress peer : peers.values()) {
+                        // Batches in flight but nothing heard for a while - assume they were lost
+                        if (peer.inFlightBatches > 0 && now - peer.lastAckMillis > 2 * heartbeatMillis) {
+                            peer.nextIndex = peer.matchIndex + 1;
+                            peer.inFlightBatches = 0;
+                        }
+                    }
+                    outgoing = replicate(true);
+                }
+            } else if (now >= electionDeadlineMillis) {
+                outgoing = startElection(now);
+            }
+        } catch (RuntimeException e) {
+            // Keep the timer alive - a failed tick is retried on the next one
+            tickFailures++;
+        } finally {
+            stateLock.unlock();
+        }
+        send(outgoing);
+    }
+
+    private void onMessage(ReplicationMessage message) {
+        List<Outgoing> outgoing = new ArrayList<>();
+        stateLock.lock();
+        try {
+            if (message.getTerm() > currentTerm) {
+                adoptTerm(message.getTerm());
+            }
+            switch (message.getType()) {
+                case APPEND_ENTRIES:
+                    outgoing.add(new Outgoing(message.getSenderId(), handleAppendEntries(message)));
+                    break;
+                case APPEND_RESULT:
+                    outgoing = handleAppendResult(message);
+                    break;
+                case REQUEST_VOTE:
+                    outgoing.add(new Outgoing(message.getSenderId(), handleRequestVote(message)));
+                    break;
+                case VOTE_RESULT:
+                    outgoing = handleVoteResult(message);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown message type " + message.getType());
+            }
+        } finally {
+            stateLock.unlock();
+        }
+        send(outgoing);
+    }
+
+    private ReplicationMessage handleAppendEntries(ReplicationMessage message) {
+        if (message.getTerm() < currentTerm) {
+            return ReplicationMessage.appendResult(nodeId, currentTerm, false, log.size());
+        }
+        if (role != ReplicaRole.FOLLOWER) {
+            // A candidate that hears from the elected leader of its term
+            role = ReplicaRole.FOLLOWER;
+        }
+        leaderId = message.getSenderId();
+        resetElectionDeadline(nowMillis());
+
+        long prevLogIndex = message.getPrevLogIndex();
+        if (prevLogIndex > log.size() || termAt(prevLogIndex) != message.getPrevLogTerm()) {
+            // Resume from what is known to match - the committed prefix at worst
+            long hint = prevLogIndex > log.size() ? log.size() : Math.min(prevLogIndex - 1, commitIndex);
+            return ReplicationMessage.appendResult(nodeId, currentTerm, false, hint);
+        }
+        for (LogEntry entry : message.getEntries()) {
+            long index = entry.getIndex();
+            if (index <= log.size()) {
+                if (termAt(index) == entry.getTerm()) {
+                    continue;
+                }
+                if (index <= commitIndex) {
+                    throw new IllegalStateException("Leader " + leaderId + " conflicts with committed entry " + index);
+                }
+                // Uncommitted entries from a deposed leader - discard them
+                log.subList((int) index - 1, log.size()).clear();
+            }
+            log.add(entry);
+        }
+        long matchIndex = prevLogIndex + message.getEntries().size();
+        if (message.getLeaderCommit() > commitIndex) {
+            // A stale retry can carry a shorter match, so never move the commit index back
+            commitIndex = Math.max(commitIndex, Math.min(message.getLeaderCommit(), matchIndex));
+            applyCommitted();
+        }
+        return ReplicationMessage.appendResult(nodeId, currentTerm, true, matchIndex);
+    }
+
+    private List<Outgoing> handleAppendResult(ReplicationMessage message) {
+        PeerProgress peer = peers.get(message.getSenderId());
+        if (role != ReplicaRole.LEADER || message.getTerm() != currentTerm || peer == null) {
+            return new ArrayList<>();
+        }
+        peer.lastAckMillis = nowMillis();
+        peer.inFlightBatches = Math.max(0, peer.inFlightBatches - 1);
+        if (message.isSuccess()) {
+            peer.matchIndex = Math.max(peer.matchIndex, message.getMatchIndex());
+            peer.nextIndex = Math.max(peer.nextIndex, peer.matchIndex + 1);
+            advanceCommitIndex();
+        } else {
+            peer.nextIndex = Math.max(peer.matchIndex, message.getMatchIndex()) + 1;
+        }
+        // Acknowledgements open the in-flight window - keep the pipeline full
+        return replicate(false);
+    }
+
+    private ReplicationMessage handleRequestVote(ReplicationMessage message) {
+        long lastLogTerm = termAt(log.size());
+        boolean upToDate = message.getPrevLogTerm() > lastLogTerm
+                || (message.getPrevLogTerm() == lastLogTerm && message.getPrevLogIndex() >= log.size());
+        boolean grant = message.getTerm() == currentTerm && upToDate
+                && (votedFor == null || votedFor.equals(message.getSenderId()));
+        if (grant) {
+            votedFor = message.getSenderId();
+            resetElectionDeadline(nowMillis());
+        }
+        return ReplicationMessage.voteResult(nodeId, currentTerm, grant);
+    }
+
+    private List<Outgoing> handleVoteResult(ReplicationMessage message) {
+        if (role != ReplicaRole.CANDIDATE || message.getTerm() != currentTerm || !message.isSuccess()) {
+            return new ArrayList<>();
+        }
+        votes.add(message.getSenderId());
+        return votes.size() >= majority() ? becomeLeader() : new ArrayList<>();
+    }
+
+    private List<Outgoing> startElection(long now) {
+        role = ReplicaRole.CANDIDATE;
+        currentTerm++;
+        votedFor = nodeId;
+        leaderId = null;
+        votes.clear();
+        votes.add(nodeId);
+        resetElectionDeadline(now);
+        if (votes.size() >= majority()) {
+            return becomeLeader();
+        }
+        List<Outgoing> outgoing = new ArrayList<>();
+        ReplicationMessage request = ReplicationMessage.requestVote(nodeId, currentTerm, log.size(), termAt(log.size()));
+        for (String peerId : peerIds) {
+            outgoing.add(new Outgoing(peerId, request));
+        }
+        return outgoing;
+    }
+
+    private List<Outgoing> becomeLeader() {
+        role = ReplicaRole.LEADER;
+        leaderId = nodeId;
+        leaderChanges++;
+        long now = nowMillis();
+        for (PeerProgress peer : peers.values()) {
+            peer.nextIndex = log.size() + 1;
+            peer.matchIndex = 0;
+            peer.lastAckMillis = now;
+            peer.inFlightBatches = 0;
+        }
+        // Entries from earlier terms are this leader's to finish - reflect them in its lot,
+        // then log a no-op of its own term so they can commit
+        applyThrough(log.size());
+        log.add(LogEntry.noop(log.size() + 1, currentTerm));
+        appliedIndex = log.size();
+        advanceCommitIndex();
+        return replicate(true);
+    }
+
+    private void adoptTerm(long term) {
+        if (role == ReplicaRole.LEADER) {
+            stepDown();
+        }
+        currentTerm = term;
+        votedFor = null;
+        leaderId = null;
+        role = ReplicaRole.FOLLOWER;
+    }
+
+    /**
+     * Leave the leader role. The lot ran ahead of the commit index, so it is rebuilt from
+     * the committed log; entries past the commit index are left to the next leader.
+     */
+    private void stepDown() {
+        role = ReplicaRole.FOLLOWER;
+        leaderId = null;
+        failPendingCommits("Replica " + nodeId + " lost leadership in term " + currentTerm);
+        if (appliedIndex > commitIndex) {
+            installParkingLot(parkingLotFactory.get());
+            appliedIndex = 0;
+            applyThrough(commitIndex);
+        }
+    }
+
+    /**
+     * Ship entries to every follower, in batches, while each has room in its in-flight window.
+     * Caller holds stateLock.
+     */
+    private List<Outgoing> replicate(boolean heartbeat) {
+        List<Outgoing> outgoing = new ArrayList<>();
+        if (role != ReplicaRole.LEADER) {
+            return outgoing;
+        }
+        if (heartbeat) {
+            lastHeartbeatMillis = nowMillis();
+        }
+        long lastIndex = log.size();
+        for (Map.Entry<String, PeerProgress> entry : peers.entrySet()) {
+            PeerProgress peer = entry.getValue();
+            boolean sent = false;
+            while (peer.nextIndex <= lastIndex && peer.inFlightBatches < maxInFlightBatches) {
+                long from = peer.nextIndex;
+                long to = Math.min(lastIndex, from + maxBatchEntries - 1);
+                List<LogEntry> batch = new ArrayList<>(log.subList((int) from - 1, (int) to));
+                outgoing.add(new Outgoing(entry.getKey(), ReplicationMessage.appendEntries(nodeId, currentTerm,
+                        from - 1, termAt(from - 1), batch, commitIndex)));
+                appendMessagesSent++;
+                entriesShipped += batch.size();
+                peer.nextIndex = to + 1;
+                peer.inFlightBatches++;
+                sent = true;
+            }
+            if (!sent && heartbeat) {
+                long prevLogIndex = peer.nextIndex - 1;
+                outgoing.add(new Outgoing(entry.getKey(), ReplicationMessage.appendEntries(nodeId, currentTerm,
+                        prevLogIndex, termAt(prevLogIndex), new ArrayList<>(), commitIndex)));
+                peer.inFlightBatches++;
+            }
+        }
+        return outgoing;
+    }
+
+    /**
+     * Commit the highest entry of the current term held by a majority, and everything
+     * before it. Caller holds stateLock.
+     */
+    private void advanceCommitIndex() {
+        for (long index = log.size(); index > commitIndex; index--) {
+            if (termAt(index) != currentTerm) {
+                return;
+            }
+            int holders = 1;
+            for (PeerProgress peer : peers.values()) {
+                if (peer.matchIndex >= index) {
+                    holders++;
+                }
+            }
+            if (holders >= majority()) {
+                commitIndex = index;
+                completePendingCommits();
+                return;
+            }
+        }
+    }
+
+    private void completePendingCommits() {
+        Iterator<Map.Entry<Long, CompletableFuture<Void>>> pending = pendingCommits.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<Long, CompletableFuture<Void>> entry = pending.next();
+            if (entry.getKey() <= commitIndex) {
+                entry.getValue().complete(null);
+                pending.remove();
+            }
+        }
+    }
+
+    private void failPendingCommits(String reason) {
+        for (CompletableFuture<Void> commit : pendingCommits.values()) {
+            commit.completeExceptionally(new IllegalStateException(reason));
+        }
+        pendingCommits.clear();
+    }
+
+    private void applyCommitted() {
+        applyThrough(commitIndex);
+    }
+
+    /**
+     * Apply log entries to the lot up to the index. Caller holds stateLock.
+     */
+    private void applyThrough(long index) {
+        ParkingLot lot = parkingLot;
+        for (long next = appliedIndex + 1; next <= index; next++) {
+            LogEntry entry = log.get((int) next - 1);
+            switch (entry.getType()) {
+                case PARK:
+                    lot.applyPark(entry.getTicketId(), entry.getVehicle(), slotsById.get(entry.getSlotId()),
+                            entry.getTimeMillis(), gatesById.get(entry.getGateId()));
+                    break;
+                case UNPARK:
+                    lot.applyUnpark(entry.getTicketId(), gatesById.get(entry.getGateId()), entry.getTimeMillis());
+                    break;
+                default:
+                    break;
+            }
+            appliedIndex = next;
+        }
+        applied.signalAll();
+    }
+
+    private void installParkingLot(ParkingLot lot) {
+        Map<String, ParkingSlot> slots = new HashMap<>();
+        for (ParkingSlot slot : lot.getSlots()) {
+            slots.put(slot.getSlotId(), slot);
+        }
+        Map<String, Gate> gates = new HashMap<>();
+        for (Gate gate : lot.getGates()) {
+            gates.put(gate.getGateId(), gate);
+        }
+        slotsById = slots;
+        gatesById = gates;
+        parkingLot = lot;
+    }
+
+    /**
+     * Track a write the leader has just logged and applied. Caller holds stateLock.
+     */
+    private CompletableFuture<Void> registerPendingCommit(long index) {
+        appliedIndex = index;
+        CompletableFuture<Void> commit = new CompletableFuture<>();
+        pendingCommits.put(index, commit);
+        advanceCommitIndex();
+        return commit;
+    }
+
+    private void awaitCommit(CompletableFuture<Void> commit, long index) {
+        try {
+            commit.get(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Entry " + index + " not committed within " + commitTimeoutMillis
+                    + "ms; it may still take effect");
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for entry " + index + " to commit");
+        }
+    }
+
+    private void requireLeader() {
+        if (role != ReplicaRole.LEADER) {
+            throw new NotLeaderException(nodeId, leaderId);
+        }
+    }
+
+    private Gate gate(String gateId) {
+        Gate gate = gatesById.get(gateId);
+        if (gate == null) {
+            throw new IllegalArgumentException("Unknown gate " + gateId);
+        }
+        return gate;
+    }
+
+    private long termAt(long index) {
+        return index == 0 ? 0 : log.get((int) index - 1).getTerm();
+    }
+
+    private boolean hasRecentQuorum(long now) {
+        int reachable = 1;
+        for (PeerProgress peer : peers.values()) {
+            if (now - peer.lastAckMillis <= electionTimeoutMillis) {
+                reachable++;
+            }
+        }
+        return reachable >= majority();
+    }
+
+    private int majority() {
+        return (peers.size() + 1) / 2 + 1;
+    }
+
+    private void resetElectionDeadline(long now) {
+        electionDeadlineMillis = now + electionTimeoutMillis
+                + ThreadLocalRandom.current().nextLong(electionTimeoutMillis);
+    }
+
+    private void send(List<Outgoing> outgoing) {
+        for (Outgoing message : outgoing) {
+            transport.send(message.toNodeId, message.message);
+        }
+    }
+
+    private static long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Leader's view of one follower's log
+     */
+    private static final class PeerProgress {
+        // Next index to send, advanced optimistically as batches go out
+        private long nextIndex = 1;
+        // Highest index the follower has confirmed
+        private long matchIndex;
+        private long lastAckMillis;
+        // Append messages (heartbeats included) sent and not yet answered
+        private int inFlightBatches;
+    }
+
+    private static final class Outgoing {
+        private final String toNodeId;
+        private final ReplicationMessage message;
+
+        Outgoing(String toNodeId, ReplicationMessage message) {
+            this.toNodeId = toNodeId;
+            this.message = message;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package replication;
+
+import models.ParkingLot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class ReplicaNodeBuilder {
+    private String nodeId;
+    private List<String> peerIds = new ArrayList<>();
+    private ReplicationTransport transport;
+    private Supplier<ParkingLot> parkingLotFactory;
+    private long heartbeatMillis = 20;
+    private long electionTimeoutMillis = 150;
+    private long commitTimeoutMillis = 2000;
+    private int maxBatchEntries = 256;
+    private int maxInFlightBatches = 2;
+
+    public ReplicaNodeBuilder withNodeId(String nodeId) {
+        this.nodeId = nodeId;
+        return this;
+    }
+
+    public ReplicaNodeBuilder withPeer(String peerId) {
+        this.peerIds.add(peerId);
+        return this;
+    }
+
+    public ReplicaNodeBuilder withTransport(ReplicationTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Creates an empty lot with the site's gates and slots. Every replica needs its own
+     * lot instance; the factory is called again when a deposed leader rebuilds its state.
+     */
+    public ReplicaNodeBuilder withParkingLotFactory(Supplier<ParkingLot> parkingLotFactory) {
+        this.parkingLotFactory = parkingLotFactory;
+        return this;
+    }
+
+    public ReplicaNodeBuilder withHeartbeatMillis(long heartbeatMillis) {
+        this.heartbeatMillis = heartbeatMillis;
+        return this;
+    }
+
+    /**
+     * Silence after which a follower stands for election; randomised up to twice this
+     */
+    public ReplicaNodeBuilder withElectionTimeoutMillis(long electionTimeoutMillis) {
+        this.electionTimeoutMillis = electionTimeoutMillis;
+        return this;
+    }
+
+    public ReplicaNodeBuilder withCommitTimeoutMillis(long commitTimeoutMillis) {
+        this.commitTimeoutMillis = commitTimeoutMillis;
+        return this;
+    }
+
+    public ReplicaNodeBuilder withMaxBatchEntries(int maxBatchEntries) {
+        this.maxBatchEntries = maxBatchEntries;
+        return this;
+    }
+
+    /**
+     * Append messages per follower that may await acknowledgement at once
+     */
+    public ReplicaNodeBuilder withMaxInFlightBatches(int maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
+    public ReplicaNode build() {
+        if (nodeId == null || transport == null || parkingLotFactory == null) {
+            throw new IllegalArgumentException("NodeId, transport and parking lot factory are required");
+        }
+        if (peerIds.contains(nodeId)) {
+            throw new IllegalArgumentException("A node cannot be its own peer: " + nodeId);
+        }
+        if (heartbeatMillis <= 0 || electionTimeoutMillis <= 2 * heartbeatMillis || commitTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeouts must be positive, election timeout over two heartbeats");
+        }
+        if (maxBatchEntries <= 0 || maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("Batch size and in-flight batch limit must be positive");
+        }
+        return new ReplicaNode(nodeId, new ArrayList<>(peerIds), transport, parkingLotFactory, heartbeatMillis,
+                electionTimeoutMillis, commitTimeoutMillis, maxBatchEntries, maxInFlightBatches);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package replication;
+
+import enums.ReplicationMessageType;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A message between replicas. Every message carries the sender's term; a replica that
+ * sees a higher term than its own adopts it and, if it was leading, steps down.
+ *
+ * - APPEND_ENTRIES: leader ships a batch of entries following (prevLogIndex, prevLogTerm),
+ *   or none as a heartbeat, plus its commit index
+ * - APPEND_RESULT: follower's answer; matchIndex is the last index known to match the
+ *   leader's log on success, or a hint of where to resume on failure
+ * - REQUEST_VOTE: candidate asks for a vote, giving its last log index and term
+ * - VOTE_RESULT: whether the vote was granted
+ */
+public class ReplicationMessage {
+    private final ReplicationMessageType type;
+    private final String senderId;
+    private final long term;
+    private final long prevLogIndex;
+    private final long prevLogTerm;
+    private final List<LogEntry> entries;
+    private final long leaderCommit;
+    private final boolean success;
+    private final long matchIndex;
+
+    private ReplicationMessage(ReplicationMessageType type, String senderId, long term, long prevLogIndex,
+                               long prevLogTerm, List<LogEntry> entries, long leaderCommit,
+                               boolean success, long matchIndex) {
+        this.type = type;
+        this.senderId = senderId;
+        this.term = term;
+        this.prevLogIndex = prevLogIndex;
+        this.prevLogTerm = prevLogTerm;
+        this.entries = entries;
+        this.leaderCommit = leaderCommit;
+        this.success = success;
+        this.matchIndex = matchIndex;
+    }
+
+    public static ReplicationMessage appendEntries(String leaderId, long term, long prevLogIndex, long prevLogTerm,
+                                                   List<LogEntry> entries, long leaderCommit) {
+        return new ReplicationMessage(ReplicationMessageType.APPEND_ENTRIES, leaderId, term, prevLogIndex,
+                prevLogTerm, Collections.unmodifiableList(entries), leaderCommit, false, 0);
+    }
+
+    public static ReplicationMessage appendResult(String followerId, long term, boolean success, long matchIndex) {
+        return new ReplicationMessage(ReplicationMessageType.APPEND_RESULT, followerId, term, 0, 0,
+                Collections.emptyList(), 0, success, matchIndex);
+    }
+
+    public static ReplicationMessage requestVote(String candidateId, long term, long lastLogIndex, long lastLogTerm) {
+        return new ReplicationMessage(ReplicationMessageType.REQUEST_VOTE, candidateId, term, lastLogIndex,
+                lastLogTerm, Collections.emptyList(), 0, false, 0);
+    }
+
+    public static ReplicationMessage voteResult(String voterId, long term, boolean granted) {
+        return new ReplicationMessage(ReplicationMessageType.VOTE_RESULT, voterId, term, 0, 0,
+                Collections.emptyList(), 0, granted, 0);
+    }
+
+    // Getters
+    public ReplicationMessageType getType() {
+        return type;
+    }
+
+    public String getSenderId() {
+        return senderId;
+    }
+
+    public long getTerm() {
+        return term;
+    }
+
+    /**
+     * Index of the entry before the batch, or the candidate's last log index in a vote request
+     */
+    public long getPrevLogIndex() {
+        return prevLogIndex;
+    }
+
+    /**
+     * Term of the entry before the batch, or the candidate's last log term in a vote request
+     */
+    public long getPrevLogTerm() {
+        return prevLogTerm;
+    }
+
+    public List<LogEntry> getEntries() {
+        return entries;
+    }
+
+    public long getLeaderCommit() {
+        return leaderCommit;
+    }
+
+    /**
+     * Append accepted, or vote granted
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public long getMatchIndex() {
+        return matchIndex;
+    }
+}
\ No newline at end of file
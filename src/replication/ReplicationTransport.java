@@ -0,0 +1,21 @@
+package replication;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers messages between replicas by node ID.
+ *
+ * Sends never block on the receiver and may silently drop messages (a partition, a
+ * crashed node); the replication protocol retries. Messages from one sender to one
+ * receiver should arrive in order, though a dropped message may leave a gap.
+ */
+public interface ReplicationTransport {
+    /**
+     * Start delivering messages addressed to nodeId to the handler
+     */
+    void register(String nodeId, Consumer<ReplicationMessage> handler);
+
+    void unregister(String nodeId);
+
+    void send(String toNodeId, ReplicationMessage message);
+}
\ No newline at end of file
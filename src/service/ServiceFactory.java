@@ -2,6 +2,11 @@ package service;
 
 import service.interfaces.Service;
 import service.impl.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Factory class for creating standard parking lot services
@@ -14,6 +19,18 @@ public class ServiceFactory {
     private static final Service MAINTENANCE = new MaintenanceService();
     private static final Service TIRE_SERVICE = new TireService();
     
+    // Compact service IDs (0..63) so slot stores can keep supported services as a bitmask
+    public static final int MAX_SERVICE_IDS = 64;
+    private static final Map<String, Integer> SERVICE_IDS = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<Service> SERVICES_BY_ID = new AtomicReferenceArray<>(MAX_SERVICE_IDS);
+    
+    static {
+        getServiceId(EV_CHARGING);
+        getServiceId(CLEANING);
+        getServiceId(MAINTENANCE);
+        getServiceId(TIRE_SERVICE);
+    }
+    
     /**
      * Get EV Charging service
      */
@@ -42,6 +59,77 @@ public class ServiceFactory {
         return TIRE_SERVICE;
     }
     
+    /**
+     * Look up a standard service by its name, e.g. "EV_CHARGING"
+     * @return the shared instance, or null if the name is not a standard service
+     */
+    public static Service getServiceByName(String name) {
+        for (Service service : new Service[] {EV_CHARGING, CLEANING, MAINTENANCE, TIRE_SERVICE}) {
+            if (service.getName().equals(name)) {
+                return service;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get the compact ID for a service, assigning the next free one on first use.
+     * Services are identified by name, like Service.matches.
+     */
+    public static int getServiceId(Service service) {
+        Integer id = SERVICE_IDS.get(service.getName());
+        if (id != null) {
+            return id;
+        }
+        synchronized (SERVICES_BY_ID) {
+            id = SERVICE_IDS.get(service.getName());
+            if (id == null) {
+                int next = SERVICE_IDS.size();
+                if (next >= MAX_SERVICE_IDS) {
+                    throw new IllegalStateException("Too many distinct services (max " + MAX_SERVICE_IDS + ")");
+                }
+                SERVICES_BY_ID.set(next, service);
+                SERVICE_IDS.put(service.getName(), next);
+                id = next;
+            }
+            return id;
+        }
+    }
+    
+    /**
+     * Get the service registered under a compact ID, or null if none
+     */
+    public static Service getServiceById(int id) {
+        if (id < 0 || id >= MAX_SERVICE_IDS) {
+            return null;
+        }
+        return SERVICES_BY_ID.get(id);
+    }
+    
+    /**
+     * Bitmask of service IDs for a list of services
+     */
+    public static long getServiceMask(Iterable<Service> services) {
+        long mask = 0L;
+        for (Service service : services) {
+            mask |= 1L << getServiceId(service);
+        }
+        return mask;
+    }
+    
+    /**
+     * Services for a bitmask built by getServiceMask, in ID order
+     */
+    public static List<Service> getServices(long serviceMask) {
+        List<Service> services = new ArrayList<>(Long.bitCount(serviceMask));
+        long remaining = serviceMask;
+        while (remaining != 0) {
+            services.add(getServiceById(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+        return services;
+    }
+    
     /**
      * Create a custom service with specified name and cost
      */
@@ -0,0 +1,245 @@
+package service.scheduler;
+
+/**
+ * Bucketed priority queue ordering jobs by expected departure (a calendar queue).
+ *
+ * Departures are grouped into fixed-width time buckets held in a ring; a bitset
+ * over the ring lets poll() jump to the earliest non-empty bucket. Jobs within a
+ * bucket are served FIFO. Departures beyond the ring horizon wait in an overflow
+ * list and are pulled into the ring once it drains.
+ *
+ * Enqueue and remove are O(1); poll is O(1) amortized (a bitset word scan).
+ */
+final class DepartureQueue {
+    private static final long OVERFLOW = Long.MIN_VALUE;
+
+    private final long bucketMillis;
+    private final int ringSize;
+    private final int mask;
+    private final ServiceJob[] heads;
+    private final ServiceJob[] tails;
+    private final long[] occupied;
+
+    private long baseBucket;
+    private long horizonBucket;
+    private long maxBucket;
+    private int ringCount;
+
+    private ServiceJob overflowHead;
+    private int overflowCount;
+
+    DepartureQueue(long bucketMillis, int ringSize) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive");
+        }
+        if (ringSize < 64 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("Ring size must be a power of two >= 64");
+        }
+        this.bucketMillis = bucketMillis;
+        this.ringSize = ringSize;
+        this.mask = ringSize - 1;
+        this.heads = new ServiceJob[ringSize];
+        this.tails = new ServiceJob[ringSize];
+        this.occupied = new long[ringSize >>> 6];
+    }
+
+    void add(ServiceJob job) {
+        long bucket = Math.floorDiv(job.getExpectedDepartureMillis(), bucketMillis);
+
+        if (ringCount == 0 && overflowCount == 0) {
+            baseBucket = bucket;
+            horizonBucket = bucket + ringSize;
+            maxBucket = bucket;
+        } else if (ringCount == 0) {
+            baseBucket = bucket;
+            horizonBucket = Math.min(horizonBucket, bucket + ringSize);
+            maxBucket = bucket;
+        } else if (bucket < baseBucket) {
+            slideBack(bucket);
+        }
+
+        // The horizon only moves forward on rebase so nothing in the ring can
+        // overtake a job already parked in overflow
+        if (bucket >= horizonBucket) {
+            pushOverflow(job);
+            return;
+        }
+
+        linkIntoRing(job, bucket);
+    }
+
+    ServiceJob poll() {
+        if (ringCount == 0) {
+            if (overflowCount == 0) {
+                return null;
+            }
+            rebaseFromOverflow();
+        }
+
+        int index = nextOccupiedIndex((int) (baseBucket & mask));
+        ServiceJob job = heads[index];
+        // Everything left in the ring departs no earlier than this job
+        baseBucket = job.queueBucket;
+        unlinkFromRing(job);
+        return job;
+    }
+
+    boolean remove(ServiceJob job) {
+        if (job.queueBucket == OVERFLOW) {
+            if (job.queuePrev != null) {
+                job.queuePrev.queueNext = job.queueNext;
+            } else if (overflowHead == job) {
+                overflowHead = job.queueNext;
+            } else {
+                return false;
+            }
+            if (job.queueNext != null) {
+                job.queueNext.queuePrev = job.queuePrev;
+            }
+            job.queueNext = null;
+            job.queuePrev = null;
+            overflowCount--;
+            return true;
+        }
+        int index = (int) (job.queueBucket & mask);
+        if (job.queuePrev == null && heads[index] != job) {
+            return false;
+        }
+        unlinkFromRing(job);
+        return true;
+    }
+
+    int size() {
+        return ringCount + overflowCount;
+    }
+
+    private void pushOverflow(ServiceJob job) {
+        job.queueBucket = OVERFLOW;
+        job.queuePrev = null;
+        job.queueNext = overflowHead;
+        if (overflowHead != null) {
+            overflowHead.queuePrev = job;
+        }
+        overflowHead = job;
+        overflowCount++;
+    }
+
+    private void linkIntoRing(ServiceJob job, long bucket) {
+        int index = (int) (bucket & mask);
+        job.queueBucket = bucket;
+        job.queueNext = null;
+        job.queuePrev = tails[index];
+        if (tails[index] != null) {
+            tails[index].queueNext = job;
+        } else {
+            heads[index] = job;
+            occupied[index >>> 6] |= 1L << index;
+        }
+        tails[index] = job;
+        if (bucket > maxBucket) {
+            maxBucket = bucket;
+        }
+        ringCount++;
+    }
+
+    private void unlinkFromRing(ServiceJob job) {
+        int index = (int) (job.queueBucket & mask);
+        if (job.queuePrev != null) {
+            job.queuePrev.queueNext = job.queueNext;
+        } else {
+            heads[index] = job.queueNext;
+        }
+        if (job.queueNext != null) {
+            job.queueNext.queuePrev = job.queuePrev;
+        } else {
+            tails[index] = job.queuePrev;
+        }
+        if (heads[index] == null) {
+            occupied[index >>> 6] &= ~(1L << index);
+        }
+        job.queueNext = null;
+        job.queuePrev = null;
+        ringCount--;
+    }
+
+    /**
+     * Move the window back to start at bucket, spilling ring entries that no
+     * longer fit into overflow. Only happens when a job departs earlier than
+     * everything queued, so the spill is rare and bounded by the ring contents.
+     */
+    private void slideBack(long bucket) {
+        long newHorizon = bucket + ringSize;
+        if (maxBucket >= newHorizon) {
+            for (int word = 0; word < occupied.length; word++) {
+                long bits = occupied[word];
+                while (bits != 0) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (heads[index].queueBucket >= newHorizon) {
+                        spillBucket(index);
+                    }
+                }
+            }
+            maxBucket = newHorizon - 1;
+        }
+        baseBucket = bucket;
+        horizonBucket = Math.min(horizonBucket, newHorizon);
+    }
+
+    private void spillBucket(int index) {
+        ServiceJob job = heads[index];
+        while (job != null) {
+            ServiceJob next = job.queueNext;
+            pushOverflow(job);
+            ringCount--;
+            job = next;
+        }
+        heads[index] = null;
+        tails[index] = null;
+        occupied[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Find the first occupied ring index at or after start, wrapping around.
+     * Callers guarantee the ring is not empty.
+     */
+    private int nextOccupiedIndex(int start) {
+        int words = occupied.length;
+        int word = start >>> 6;
+        long bits = occupied[word] & (-1L << start);
+        for (int scanned = 0; scanned <= words; scanned++) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            word = (word + 1) % words;
+            bits = occupied[word];
+        }
+        throw new IllegalStateException("Departure ring reported non-empty but no bucket is occupied");
+    }
+
+    private void rebaseFromOverflow() {
+        long minBucket = Long.MAX_VALUE;
+        for (ServiceJob job = overflowHead; job != null; job = job.queueNext) {
+            minBucket = Math.min(minBucket, Math.floorDiv(job.getExpectedDepartureMillis(), bucketMillis));
+        }
+        baseBucket = minBucket;
+        horizonBucket = minBucket + ringSize;
+        maxBucket = minBucket;
+
+        ServiceJob job = overflowHead;
+        overflowHead = null;
+        overflowCount = 0;
+        while (job != null) {
+            ServiceJob next = job.queueNext;
+            job.queueNext = null;
+            job.queuePrev = null;
+            long bucket = Math.floorDiv(job.getExpectedDepartureMillis(), bucketMillis);
+            if (bucket < horizonBucket) {
+                linkIntoRing(job, bucket);
+            } else {
+                pushOverflow(job);
+            }
+            job = next;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package service.scheduler;
+
+import enums.ServiceJobState;
+import models.Ticket;
+import service.interfaces.Service;
+
+/**
+ * A single service request (charging, cleaning, ...) for a parked vehicle.
+ * Jobs are created by ServiceScheduler and move QUEUED -> RUNNING -> COMPLETED,
+ * or to CANCELLED when the vehicle leaves first.
+ */
+public class ServiceJob {
+    private final long jobId;
+    private final Ticket ticket;
+    private final Service service;
+    private final String zone;
+    private final long expectedDepartureMillis;
+    private final long submittedAtMillis;
+    private volatile ServiceJobState state = ServiceJobState.QUEUED;
+    private long startedAtMillis = -1;
+    private long completedAtMillis = -1;
+
+    // Intrusive links owned by DepartureQueue - avoids a node allocation per enqueue
+    ServiceJob queueNext;
+    ServiceJob queuePrev;
+    long queueBucket;
+
+    // Intrusive links owned by TimerWheel
+    ServiceJob wheelNext;
+    ServiceJob wheelPrev;
+    int wheelIndex = -1;
+    long wheelRounds;
+    long deadlineMillis;
+
+    ServiceLane lane;
+
+    ServiceJob(long jobId, Ticket ticket, Service service, String zone,
+               long expectedDepartureMillis, long submittedAtMillis) {
+        this.jobId = jobId;
+        this.ticket = ticket;
+        this.service = service;
+        this.zone = zone;
+        this.expectedDepartureMillis = expectedDepartureMillis;
+        this.submittedAtMillis = submittedAtMillis;
+    }
+
+    void markStarted(long nowMillis) {
+        this.state = ServiceJobState.RUNNING;
+        this.startedAtMillis = nowMillis;
+    }
+
+    void markFinished(ServiceJobState finalState, long nowMillis) {
+        this.state = finalState;
+        this.completedAtMillis = nowMillis;
+    }
+
+    // Getters
+    public long getJobId() {
+        return jobId;
+    }
+
+    public Ticket getTicket() {
+        return ticket;
+    }
+
+    public Service getService() {
+        return service;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public long getExpectedDepartureMillis() {
+        return expectedDepartureMillis;
+    }
+
+    public long getSubmittedAtMillis() {
+        return submittedAtMillis;
+    }
+
+    public ServiceJobState getState() {
+        return state;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public long getCompletedAtMillis() {
+        return completedAtMillis;
+    }
+}
\ No newline at end of file
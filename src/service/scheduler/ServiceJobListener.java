@@ -0,0 +1,15 @@
+package service.scheduler;
+
+/**
+ * Callback for service job lifecycle events.
+ * Invoked on the thread driving the scheduler while it holds the scheduler lock,
+ * so implementations should hand work off rather than block.
+ */
+public interface ServiceJobListener {
+    void onJobStarted(ServiceJob job);
+
+    void onJobCompleted(ServiceJob job);
+
+    default void onJobCancelled(ServiceJob job) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package service.scheduler;
+
+import service.interfaces.Service;
+
+/**
+ * Capacity budget for one service in one zone, e.g. the 4 chargers on circuit B
+ */
+final class ServiceLane {
+    final Service service;
+    final String zone;
+    final int capacity;
+    final long serviceDurationMillis;
+    final DepartureQueue queue;
+    int running;
+    long completed;
+
+    ServiceLane(Service service, String zone, int capacity, long serviceDurationMillis, DepartureQueue queue) {
+        this.service = service;
+        this.zone = zone;
+        this.capacity = capacity;
+        this.serviceDurationMillis = serviceDurationMillis;
+        this.queue = queue;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,295 @@
+package service.scheduler;
+
+import clock.Clock;
+import clock.SystemClock;
+import enums.ServiceJobState;
+import models.ParkingSlot;
+import models.Ticket;
+import service.interfaces.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules service jobs (EV charging, cleaning, maintenance, ...) for parked vehicles
+ * against limited per-zone capacity.
+ *
+ * Design:
+ * - Capacity is registered per Service (matched by name) per slot zone
+ * - Waiting jobs sit in a per-lane DepartureQueue so vehicles leaving soonest are served first
+ * - Running jobs complete through a single hashed TimerWheel instead of a thread per job
+ * - Time is passed in explicitly, so the scheduler can be driven by a ticker reading
+ *   any Clock (the lot's virtual clock in a simulation); all public methods are
+ *   synchronized on the scheduler
+ * - Attached to a ParkingLot (setServiceScheduler), it gets a job for each required
+ *   service on park, and the vehicle's unfinished jobs are cancelled when it leaves
+ */
+public class ServiceScheduler {
+    private static final long DEFAULT_TICK_MILLIS = 1000;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final long DEFAULT_DEPARTURE_BUCKET_MILLIS = 60_000;
+    private static final int DEFAULT_DEPARTURE_BUCKETS = 2048;
+
+    private final Map<String, Map<String, ServiceLane>> lanes = new HashMap<>();
+    private final TimerWheel timerWheel;
+    private final long departureBucketMillis;
+    private final int departureBuckets;
+    private final List<ServiceJobListener> listeners = new CopyOnWriteArrayList<>();
+    // Queued and running jobs per parked vehicle's ticket, so they can be cancelled on exit
+    private final Map<Ticket, List<ServiceJob>> openJobsByTicket = new IdentityHashMap<>();
+
+    private long jobSequence;
+    private long lastAdvanceMillis = Long.MIN_VALUE;
+    private ScheduledExecutorService ticker;
+
+    public ServiceScheduler() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE, DEFAULT_DEPARTURE_BUCKET_MILLIS, DEFAULT_DEPARTURE_BUCKETS);
+    }
+
+    /**
+     * @param tickMillis resolution of job completion timers
+     * @param wheelSize number of timer wheel buckets (power of two)
+     * @param departureBucketMillis granularity of departure-time priority
+     * @param departureBuckets departure buckets per lane (power of two, at least 64)
+     */
+    public ServiceScheduler(long tickMillis, int wheelSize, long departureBucketMillis, int departureBuckets) {
+        this.timerWheel = new TimerWheel(tickMillis, wheelSize);
+        this.departureBucketMillis = departureBucketMillis;
+        this.departureBuckets = departureBuckets;
+    }
+
+    /**
+     * Register how many vehicles a service can handle at once in a zone,
+     * and how long one job takes
+     */
+    public synchronized void registerCapacity(Service service, String zone, int capacity, long serviceDurationMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive for service: " + service.getName());
+        }
+        if (serviceDurationMillis <= 0) {
+            throw new IllegalArgumentException("Service duration must be positive for service: " + service.getName());
+        }
+        Map<String, ServiceLane> zones = lanes.computeIfAbsent(service.getName(), name -> new HashMap<>());
+        if (zones.containsKey(zone)) {
+            throw new IllegalStateException("Capacity already registered for " + service.getName() + " in zone " + zone);
+        }
+        zones.put(zone, new ServiceLane(service, zone, capacity, serviceDurationMillis,
+                new DepartureQueue(departureBucketMillis, departureBuckets)));
+    }
+
+    /**
+     * Queue a service job for a parked vehicle. The job starts immediately if the
+     * zone has spare capacity, otherwise it waits in departure order.
+     */
+    public synchronized ServiceJob submit(Ticket ticket, Service service, long expectedDepartureMillis, long nowMillis) {
+        String zone = ticket.getSlot().getZone();
+        ServiceLane lane = findLane(service, zone);
+        if (lane == null) {
+            throw new IllegalArgumentException("No capacity registered for " + service.getName() + " in zone " + zone);
+        }
+
+        advanceTo(nowMillis);
+        ServiceJob job = new ServiceJob(++jobSequence, ticket, service, zone, expectedDepartureMillis, nowMillis);
+        job.lane = lane;
+        openJobsByTicket.computeIfAbsent(ticket, t -> new ArrayList<>(1)).add(job);
+        lane.queue.add(job);
+        dispatch(lane, nowMillis);
+        return job;
+    }
+
+    /**
+     * Queue a job for every service the vehicle requires and its slot supports
+     * (the same services FixedPricingStrategy charges for)
+     */
+    public synchronized List<ServiceJob> submitRequiredServices(Ticket ticket, long expectedDepartureMillis, long nowMillis) {
+        List<ServiceJob> jobs = new ArrayList<>();
+        ParkingSlot slot = ticket.getSlot();
+        for (Service requiredService : ticket.getVehicle().getRequiredServices()) {
+            for (Service supportedService : slot.getSupportedServices()) {
+                if (supportedService.matches(requiredService)) {
+                    jobs.add(submit(ticket, supportedService, expectedDepartureMillis, nowMillis));
+                    break;
+                }
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Park hook: queue the vehicle's required services that have capacity registered in
+     * its slot's zone. Services without capacity there are skipped, not rejected.
+     */
+    public synchronized List<ServiceJob> onVehicleParked(Ticket ticket, long expectedDepartureMillis, long nowMillis) {
+        List<ServiceJob> jobs = new ArrayList<>();
+        ParkingSlot slot = ticket.getSlot();
+        for (Service requiredService : ticket.getVehicle().getRequiredServices()) {
+            for (Service supportedService : slot.getSupportedServices()) {
+                if (supportedService.matches(requiredService)) {
+                    if (findLane(supportedService, slot.getZone()) != null) {
+                        jobs.add(submit(ticket, supportedService, expectedDepartureMillis, nowMillis));
+                    }
+                    break;
+                }
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Exit hook: cancel the vehicle's queued and running jobs
+     * @return the number of jobs cancelled
+     */
+    public synchronized int onVehicleLeft(Ticket ticket, long nowMillis) {
+        List<ServiceJob> open = openJobsByTicket.remove(ticket);
+        if (open == null) {
+            return 0;
+        }
+        advanceTo(nowMillis);
+        int cancelled = 0;
+        for (ServiceJob job : new ArrayList<>(open)) {
+            if (cancel(job, nowMillis)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cancel a job, e.g. because the vehicle left early. A running job frees its
+     * capacity for the next queued vehicle.
+     */
+    public synchronized boolean cancel(ServiceJob job, long nowMillis) {
+        ServiceLane lane = job.lane;
+        if (job.getState() == ServiceJobState.QUEUED) {
+            lane.queue.remove(job);
+        } else if (job.getState() == ServiceJobState.RUNNING) {
+            timerWheel.cancel(job);
+            lane.running--;
+        } else {
+            return false;
+        }
+        job.markFinished(ServiceJobState.CANCELLED, nowMillis);
+        forget(job);
+        for (ServiceJobListener listener : listeners) {
+            listener.onJobCancelled(job);
+        }
+        dispatch(lane, nowMillis);
+        return true;
+    }
+
+    /**
+     * Complete every job due by nowMillis and start queued jobs on the freed capacity
+     */
+    public synchronized void advanceTo(long nowMillis) {
+        if (nowMillis < lastAdvanceMillis) {
+            return;
+        }
+        lastAdvanceMillis = nowMillis;
+        timerWheel.advanceTo(nowMillis, job -> complete(job, job.deadlineMillis));
+    }
+
+    /**
+     * Drive the scheduler from wall-clock time with a single background thread
+     */
+    public void startTicker(long periodMillis) {
+        startTicker(SystemClock.INSTANCE, periodMillis);
+    }
+
+    /**
+     * Drive the scheduler from the given clock - normally the lot's - with a single
+     * background thread polling it every periodMillis of real time
+     */
+    public synchronized void startTicker(Clock clock, long periodMillis) {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "service-scheduler-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> advanceTo(clock.currentTimeMillis()),
+                periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopTicker() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    public void addListener(ServiceJobListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ServiceJobListener listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized int getQueuedCount(Service service, String zone) {
+        ServiceLane lane = findLane(service, zone);
+        return lane == null ? 0 : lane.queue.size();
+    }
+
+    public synchronized int getRunningCount(Service service, String zone) {
+        ServiceLane lane = findLane(service, zone);
+        return lane == null ? 0 : lane.running;
+    }
+
+    public synchronized long getCompletedCount(Service service, String zone) {
+        ServiceLane lane = findLane(service, zone);
+        return lane == null ? 0 : lane.completed;
+    }
+
+    public synchronized int getCapacity(Service service, String zone) {
+        ServiceLane lane = findLane(service, zone);
+        return lane == null ? 0 : lane.capacity;
+    }
+
+    private ServiceLane findLane(Service service, String zone) {
+        Map<String, ServiceLane> zones = lanes.get(service.getName());
+        return zones == null ? null : zones.get(zone);
+    }
+
+    private void forget(ServiceJob job) {
+        List<ServiceJob> open = openJobsByTicket.get(job.getTicket());
+        if (open != null && open.remove(job) && open.isEmpty()) {
+            openJobsByTicket.remove(job.getTicket());
+        }
+    }
+
+    private void dispatch(ServiceLane lane, long nowMillis) {
+        while (lane.running < lane.capacity) {
+            ServiceJob next = lane.queue.poll();
+            if (next == null) {
+                return;
+            }
+            lane.running++;
+            next.markStarted(nowMillis);
+            timerWheel.schedule(next, nowMillis + lane.serviceDurationMillis, nowMillis);
+            for (ServiceJobListener listener : listeners) {
+                listener.onJobStarted(next);
+            }
+        }
+    }
+
+    private void complete(ServiceJob job, long completedAtMillis) {
+        ServiceLane lane = job.lane;
+        lane.running--;
+        lane.completed++;
+        job.markFinished(ServiceJobState.COMPLETED, completedAtMillis);
+        forget(job);
+        for (ServiceJobListener listener : listeners) {
+            listener.onJobCompleted(job);
+        }
+        // The next job starts when the previous one actually finished, not at the tick boundary
+        dispatch(lane, completedAtMillis);
+    }
+}
\ No newline at end of file
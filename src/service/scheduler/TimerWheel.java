@@ -0,0 +1,114 @@
+package service.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for service job completions.
+ *
+ * Each bucket covers one tick; deadlines further out than one revolution carry a
+ * remaining-rounds counter. Scheduling and cancelling are O(1); advancing costs one
+ * bucket visit per elapsed tick, so a single driver thread can expire any number of
+ * running jobs without a thread or timer per job.
+ */
+final class TimerWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final ServiceJob[] buckets;
+
+    private long nextTick = -1;
+    private int pending;
+
+    TimerWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ServiceJob[wheelSize];
+    }
+
+    void schedule(ServiceJob job, long deadlineMillis, long nowMillis) {
+        start(nowMillis);
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), nextTick);
+        int index = (int) (deadlineTick & mask);
+
+        job.deadlineMillis = deadlineMillis;
+        job.wheelRounds = (deadlineTick - nextTick) / buckets.length;
+        job.wheelIndex = index;
+        job.wheelPrev = null;
+        job.wheelNext = buckets[index];
+        if (buckets[index] != null) {
+            buckets[index].wheelPrev = job;
+        }
+        buckets[index] = job;
+        pending++;
+    }
+
+    boolean cancel(ServiceJob job) {
+        if (job.wheelIndex < 0) {
+            return false;
+        }
+        unlink(job);
+        return true;
+    }
+
+    /**
+     * Expire every job whose deadline is at or before nowMillis
+     */
+    void advanceTo(long nowMillis, Consumer<ServiceJob> onExpired) {
+        start(nowMillis);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (nextTick <= targetTick) {
+            if (pending == 0) {
+                // Nothing to expire - skip the idle ticks in one step
+                nextTick = targetTick + 1;
+                return;
+            }
+            // Advance first so jobs scheduled from the callback land in a later tick
+            long tick = nextTick++;
+            ServiceJob job = buckets[(int) (tick & mask)];
+            while (job != null) {
+                ServiceJob next = job.wheelNext;
+                if (job.wheelRounds <= 0) {
+                    unlink(job);
+                    onExpired.accept(job);
+                } else {
+                    job.wheelRounds--;
+                }
+                job = next;
+            }
+        }
+    }
+
+    int size() {
+        return pending;
+    }
+
+    private void start(long nowMillis) {
+        if (nextTick < 0) {
+            nextTick = Math.floorDiv(nowMillis, tickMillis);
+        }
+    }
+
+    private void unlink(ServiceJob job) {
+        if (job.wheelPrev != null) {
+            job.wheelPrev.wheelNext = job.wheelNext;
+        } else {
+            buckets[job.wheelIndex] = job.wheelNext;
+        }
+        if (job.wheelNext != null) {
+            job.wheelNext.wheelPrev = job.wheelPrev;
+        }
+        job.wheelNext = null;
+        job.wheelPrev = null;
+        job.wheelIndex = -1;
+        pending--;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
\ No newline at end of file
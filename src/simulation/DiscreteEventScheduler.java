@@ -0,0 +1,36 @@
+package simulation;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Future event list for the simulator, ordered by virtual time and then by
+ * scheduling order so runs are fully deterministic
+ */
+public class DiscreteEventScheduler {
+    private final PriorityQueue<SimulationEvent> events = new PriorityQueue<>(
+            Comparator.comparingLong(SimulationEvent::getTimeMillis)
+                    .thenComparingLong(SimulationEvent::getSequence));
+    private long nextSequence;
+
+    public void schedule(SimulationEvent event) {
+        event.setSequence(nextSequence++);
+        events.add(event);
+    }
+
+    public SimulationEvent peek() {
+        return events.peek();
+    }
+
+    public SimulationEvent poll() {
+        return events.poll();
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
\ No newline at end of file
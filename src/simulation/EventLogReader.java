@@ -0,0 +1,108 @@
+package simulation;
+
+import enums.FuelType;
+import enums.SimulationEventType;
+import enums.VehicleType;
+import models.Vehicle;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams a recorded event log (see EventLogWriter for the format) one line at a time.
+ * Events must be in non-decreasing time order.
+ */
+public class EventLogReader implements Iterator<SimulationEvent>, Closeable {
+    private final BufferedReader reader;
+    private SimulationEvent nextEvent;
+    private long lineNumber;
+    private long lastTimeMillis = Long.MIN_VALUE;
+
+    public EventLogReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextEvent != null;
+    }
+
+    @Override
+    public SimulationEvent next() {
+        if (nextEvent == null) {
+            throw new NoSuchElementException();
+        }
+        SimulationEvent event = nextEvent;
+        advance();
+        return event;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void advance() {
+        nextEvent = null;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.startsWith("#") || line.equals(EventLogWriter.HEADER)) {
+                    continue;
+                }
+                nextEvent = parse(line);
+                return;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read event log at line " + lineNumber, e);
+        }
+    }
+
+    private SimulationEvent parse(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 7) {
+            throw new IllegalArgumentException("Expected 7 fields at line " + lineNumber + ": " + line);
+        }
+        try {
+            long timeMillis = Long.parseLong(fields[0]);
+            if (timeMillis < lastTimeMillis) {
+                throw new IllegalArgumentException("Event log goes back in time at line " + lineNumber);
+            }
+            lastTimeMillis = timeMillis;
+
+            SimulationEventType type = SimulationEventType.valueOf(fields[1]);
+            String vehicleId = fields[2];
+            String gateId = fields[6];
+            if (type == SimulationEventType.DEPARTURE) {
+                Vehicle vehicle = new Vehicle(vehicleId, null, null, Collections.emptyList());
+                return SimulationEvent.departure(timeMillis, vehicle, gateId);
+            }
+
+            List<Service> services = new ArrayList<>();
+            if (!fields[5].isEmpty()) {
+                for (String name : fields[5].split("\\|")) {
+                    Service service = ServiceFactory.getServiceByName(name);
+                    if (service == null) {
+                        throw new IllegalArgumentException("Unknown service '" + name + "' at line " + lineNumber);
+                    }
+                    services.add(service);
+                }
+            }
+            Vehicle vehicle = new Vehicle(vehicleId, VehicleType.valueOf(fields[3]), FuelType.valueOf(fields[4]), services);
+            return SimulationEvent.arrival(timeMillis, vehicle, gateId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad timestamp at line " + lineNumber + ": " + line, e);
+        }
+    }
+}
\ No newline at end of file
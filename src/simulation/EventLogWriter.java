@@ -0,0 +1,63 @@
+package simulation;
+
+import enums.SimulationEventType;
+import models.Vehicle;
+import service.interfaces.Service;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes arrivals and departures as CSV lines that EventLogReader can replay:
+ *
+ *   timeMillis,ARRIVAL,vehicleId,vehicleType,fuelType,service|service,entryGateId
+ *   timeMillis,DEPARTURE,vehicleId,,,,exitGateId
+ */
+public class EventLogWriter implements Closeable {
+    static final String HEADER = "timeMillis,event,vehicleId,vehicleType,fuelType,services,gateId";
+
+    private final BufferedWriter writer;
+
+    public EventLogWriter(Writer writer) {
+        this.writer = new BufferedWriter(writer);
+        writeLine(HEADER);
+    }
+
+    public void writeArrival(long timeMillis, Vehicle vehicle, String entryGateId) {
+        StringBuilder line = new StringBuilder(96);
+        line.append(timeMillis).append(',').append(SimulationEventType.ARRIVAL).append(',')
+            .append(vehicle.getVehicleId()).append(',')
+            .append(vehicle.getVehicleType()).append(',')
+            .append(vehicle.getFuelType()).append(',');
+        boolean first = true;
+        for (Service service : vehicle.getRequiredServices()) {
+            if (!first) {
+                line.append('|');
+            }
+            line.append(service.getName());
+            first = false;
+        }
+        line.append(',').append(entryGateId);
+        writeLine(line.toString());
+    }
+
+    public void writeDeparture(long timeMillis, String vehicleId, String exitGateId) {
+        writeLine(timeMillis + "," + SimulationEventType.DEPARTURE + "," + vehicleId + ",,,," + exitGateId);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write event log", e);
+        }
+    }
+}
\ No newline at end of file
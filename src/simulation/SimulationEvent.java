@@ -0,0 +1,87 @@
+package simulation;
+
+import enums.SimulationEventType;
+import models.Vehicle;
+
+/**
+ * A timestamped arrival or departure in virtual time.
+ * Generated arrivals carry their dwell time; recorded logs carry explicit departures instead.
+ */
+public class SimulationEvent {
+    public static final long NO_DWELL = -1;
+
+    private final SimulationEventType type;
+    private final long timeMillis;
+    private final Vehicle vehicle;
+    private final String gateId;
+    private final long dwellMillis;
+    private final String exitGateId;
+    private long sequence;
+
+    private SimulationEvent(SimulationEventType type, long timeMillis, Vehicle vehicle, String gateId,
+                            long dwellMillis, String exitGateId) {
+        this.type = type;
+        this.timeMillis = timeMillis;
+        this.vehicle = vehicle;
+        this.gateId = gateId;
+        this.dwellMillis = dwellMillis;
+        this.exitGateId = exitGateId;
+    }
+
+    /**
+     * Arrival from a recorded log - the matching departure is a separate event
+     */
+    public static SimulationEvent arrival(long timeMillis, Vehicle vehicle, String entryGateId) {
+        return new SimulationEvent(SimulationEventType.ARRIVAL, timeMillis, vehicle, entryGateId, NO_DWELL, null);
+    }
+
+    /**
+     * Generated arrival - the simulator schedules the departure itself after dwellMillis
+     */
+    public static SimulationEvent arrival(long timeMillis, Vehicle vehicle, String entryGateId,
+                                          long dwellMillis, String exitGateId) {
+        return new SimulationEvent(SimulationEventType.ARRIVAL, timeMillis, vehicle, entryGateId, dwellMillis, exitGateId);
+    }
+
+    public static SimulationEvent departure(long timeMillis, Vehicle vehicle, String exitGateId) {
+        return new SimulationEvent(SimulationEventType.DEPARTURE, timeMillis, vehicle, exitGateId, NO_DWELL, null);
+    }
+
+    // Getters
+    public SimulationEventType getType() {
+        return type;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+
+    public String getGateId() {
+        return gateId;
+    }
+
+    public long getDwellMillis() {
+        return dwellMillis;
+    }
+
+    public boolean hasDwell() {
+        return dwellMillis != NO_DWELL;
+    }
+
+    public String getExitGateId() {
+        return exitGateId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    // Set by DiscreteEventScheduler to keep same-time events in submission order
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
\ No newline at end of file
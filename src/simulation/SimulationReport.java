@@ -0,0 +1,107 @@
+package simulation;
+
+/**
+ * Outcome of a simulation run: traffic counts, revenue and per-operation latency
+ */
+public class SimulationReport {
+    private final long arrivals;
+    private final long parked;
+    private final long rejected;
+    private final long departures;
+    private final double revenue;
+    private final int peakOccupied;
+    private final long virtualDurationMillis;
+    private final long wallDurationNanos;
+    private final LatencyRecorder parkLatency;
+    private final LatencyRecorder unparkLatency;
+
+    SimulationReport(long arrivals, long parked, long rejected, long departures, double revenue, int peakOccupied,
+                     long virtualDurationMillis, long wallDurationNanos,
+                     LatencyRecorder parkLatency, LatencyRecorder unparkLatency) {
+        this.arrivals = arrivals;
+        this.parked = parked;
+        this.rejected = rejected;
+        this.departures = departures;
+        this.revenue = revenue;
+        this.peakOccupied = peakOccupied;
+        this.virtualDurationMillis = virtualDurationMillis;
+        this.wallDurationNanos = wallDurationNanos;
+        this.parkLatency = parkLatency;
+        this.unparkLatency = unparkLatency;
+    }
+
+    public double getRejectionRate() {
+        return arrivals == 0 ? 0.0 : (double) rejected / arrivals;
+    }
+
+    /**
+     * Lot operations (park + unpark attempts) per wall-clock second
+     */
+    public double getOperationsPerSecond() {
+        return wallDurationNanos == 0 ? 0.0 : (arrivals + departures) / (wallDurationNanos / 1e9);
+    }
+
+    /**
+     * Vehicles admitted per simulated hour
+     */
+    public double getParkedPerVirtualHour() {
+        return virtualDurationMillis == 0 ? 0.0 : parked / (virtualDurationMillis / 3_600_000.0);
+    }
+
+    // Getters
+    public long getArrivals() {
+        return arrivals;
+    }
+
+    public long getParked() {
+        return parked;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getDepartures() {
+        return departures;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+
+    public int getPeakOccupied() {
+        return peakOccupied;
+    }
+
+    public long getVirtualDurationMillis() {
+        return virtualDurationMillis;
+    }
+
+    public long getWallDurationNanos() {
+        return wallDurationNanos;
+    }
+
+    public LatencyRecorder getParkLatency() {
+        return parkLatency;
+    }
+
+    public LatencyRecorder getUnparkLatency() {
+        return unparkLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "arrivals=%d parked=%d rejected=%d (%.2f%%) departures=%d peakOccupied=%d revenue=$%.2f%n"
+                + "  simulated %.1fh in %.0fms wall, %.0f ops/s, %.1f parked/h%n"
+                + "  park   latency p50=%dns p99=%dns p99.9=%dns max=%dns%n"
+                + "  unpark latency p50=%dns p99=%dns p99.9=%dns max=%dns",
+                arrivals, parked, rejected, getRejectionRate() * 100, departures, peakOccupied, revenue,
+                virtualDurationMillis / 3_600_000.0, wallDurationNanos / 1e6, getOperationsPerSecond(),
+                getParkedPerVirtualHour(),
+                parkLatency.percentile(50), parkLatency.percentile(99), parkLatency.percentile(99.9),
+                parkLatency.getMaxNanos(),
+                unparkLatency.percentile(50), unparkLatency.percentile(99), unparkLatency.percentile(99.9),
+                unparkLatency.getMaxNanos());
+    }
+}
\ No newline at end of file
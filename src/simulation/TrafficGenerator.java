@@ -0,0 +1,114 @@
+package simulation;
+
+import enums.FuelType;
+import enums.VehicleType;
+import models.Vehicle;
+import service.interfaces.Service;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, reproducible arrival stream for a TrafficProfile.
+ *
+ * Arrivals are produced lazily in time order, so a long run only keeps the
+ * vehicles currently parked in memory. The same profile and seed always
+ * produce the same stream.
+ */
+public class TrafficGenerator implements Iterator<SimulationEvent> {
+    private final TrafficProfile profile;
+    private final SplittableRandom random;
+    private final long endMillis;
+    private final double meanInterArrivalMillis;
+    private final VehicleType[] vehicleTypes;
+    private final double[] vehicleTypeCdf;
+    private final FuelType[] fuelTypes;
+    private final double[] fuelTypeCdf;
+
+    private long nextArrivalMillis;
+    private long vehicleCounter;
+
+    public TrafficGenerator(TrafficProfile profile, long startMillis, long endMillis) {
+        this.profile = profile;
+        this.random = new SplittableRandom(profile.getSeed());
+        this.endMillis = endMillis;
+        this.meanInterArrivalMillis = 3_600_000.0 / profile.getArrivalsPerHour();
+        this.vehicleTypes = profile.getVehicleTypeWeights().keySet().toArray(new VehicleType[0]);
+        this.vehicleTypeCdf = cumulative(profile.getVehicleTypeWeights());
+        this.fuelTypes = profile.getFuelTypeWeights().keySet().toArray(new FuelType[0]);
+        this.fuelTypeCdf = cumulative(profile.getFuelTypeWeights());
+        this.nextArrivalMillis = startMillis + nextInterArrival();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextArrivalMillis < endMillis;
+    }
+
+    @Override
+    public SimulationEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long arrivalMillis = nextArrivalMillis;
+        nextArrivalMillis += nextInterArrival();
+
+        VehicleType vehicleType = vehicleTypes[pick(vehicleTypeCdf)];
+        FuelType fuelType = fuelTypes[pick(fuelTypeCdf)];
+        List<Service> services = new ArrayList<>();
+        for (Map.Entry<Service, Double> entry : profile.getServiceProbabilities().entrySet()) {
+            if (random.nextDouble() < entry.getValue()) {
+                services.add(entry.getKey());
+            }
+        }
+        String vehicleId = "SIM-" + (++vehicleCounter);
+        List<String> entryGates = profile.getEntryGateIds();
+        List<String> exitGates = profile.getExitGateIds();
+        String entryGateId = entryGates.get(random.nextInt(entryGates.size()));
+        String exitGateId = exitGates.get(random.nextInt(exitGates.size()));
+
+        Vehicle vehicle = new Vehicle(vehicleId, vehicleType, fuelType, services);
+        return SimulationEvent.arrival(arrivalMillis, vehicle, entryGateId, nextDwell(), exitGateId);
+    }
+
+    private long nextInterArrival() {
+        // Exponential inter-arrival times give a Poisson arrival process
+        return Math.max(1, (long) (-Math.log(1.0 - random.nextDouble()) * meanInterArrivalMillis));
+    }
+
+    private long nextDwell() {
+        double gaussian = nextGaussian();
+        return Math.max(60_000L, (long) (profile.getMedianDwellMillis() * Math.exp(profile.getDwellSigma() * gaussian)));
+    }
+
+    private double nextGaussian() {
+        // Box-Muller by hand so the stream stays identical across JDK versions
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private int pick(double[] cdf) {
+        double draw = random.nextDouble() * cdf[cdf.length - 1];
+        for (int i = 0; i < cdf.length; i++) {
+            if (draw < cdf[i]) {
+                return i;
+            }
+        }
+        return cdf.length - 1;
+    }
+
+    private static double[] cumulative(Map<?, Double> weights) {
+        double[] cdf = new double[weights.size()];
+        double total = 0;
+        int i = 0;
+        for (double weight : weights.values()) {
+            total += weight;
+            cdf[i++] = total;
+        }
+        return cdf;
+    }
+}
\ No newline at end of file
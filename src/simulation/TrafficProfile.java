@@ -0,0 +1,77 @@
+package simulation;
+
+import enums.FuelType;
+import enums.VehicleType;
+import service.interfaces.Service;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameters for generated traffic. Instances are created through TrafficProfileBuilder.
+ *
+ * Arrivals are a Poisson process; dwell times are log-normal with the given median and
+ * shape (sigma), which matches the long right tail of real parking stays.
+ */
+public class TrafficProfile {
+    private final long seed;
+    private final double arrivalsPerHour;
+    private final long medianDwellMillis;
+    private final double dwellSigma;
+    private final Map<VehicleType, Double> vehicleTypeWeights;
+    private final Map<FuelType, Double> fuelTypeWeights;
+    private final Map<Service, Double> serviceProbabilities;
+    private final List<String> entryGateIds;
+    private final List<String> exitGateIds;
+
+    TrafficProfile(long seed, double arrivalsPerHour, long medianDwellMillis, double dwellSigma,
+                   Map<VehicleType, Double> vehicleTypeWeights, Map<FuelType, Double> fuelTypeWeights,
+                   Map<Service, Double> serviceProbabilities, List<String> entryGateIds, List<String> exitGateIds) {
+        this.seed = seed;
+        this.arrivalsPerHour = arrivalsPerHour;
+        this.medianDwellMillis = medianDwellMillis;
+        this.dwellSigma = dwellSigma;
+        this.vehicleTypeWeights = Collections.unmodifiableMap(vehicleTypeWeights);
+        this.fuelTypeWeights = Collections.unmodifiableMap(fuelTypeWeights);
+        this.serviceProbabilities = Collections.unmodifiableMap(serviceProbabilities);
+        this.entryGateIds = Collections.unmodifiableList(entryGateIds);
+        this.exitGateIds = Collections.unmodifiableList(exitGateIds);
+    }
+
+    // Getters
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getArrivalsPerHour() {
+        return arrivalsPerHour;
+    }
+
+    public long getMedianDwellMillis() {
+        return medianDwellMillis;
+    }
+
+    public double getDwellSigma() {
+        return dwellSigma;
+    }
+
+    public Map<VehicleType, Double> getVehicleTypeWeights() {
+        return vehicleTypeWeights;
+    }
+
+    public Map<FuelType, Double> getFuelTypeWeights() {
+        return fuelTypeWeights;
+    }
+
+    public Map<Service, Double> getServiceProbabilities() {
+        return serviceProbabilities;
+    }
+
+    public List<String> getEntryGateIds() {
+        return entryGateIds;
+    }
+
+    public List<String> getExitGateIds() {
+        return exitGateIds;
+    }
+}
\ No newline at end of file
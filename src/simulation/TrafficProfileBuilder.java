@@ -0,0 +1,89 @@
+package simulation;
+
+import enums.FuelType;
+import enums.VehicleType;
+import service.interfaces.Service;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TrafficProfileBuilder {
+    private long seed = 42L;
+    private double arrivalsPerHour = 600;
+    private long medianDwellMillis = 2 * 60 * 60 * 1000L;
+    private double dwellSigma = 0.8;
+    private Map<VehicleType, Double> vehicleTypeWeights = new EnumMap<>(VehicleType.class);
+    private Map<FuelType, Double> fuelTypeWeights = new EnumMap<>(FuelType.class);
+    private Map<Service, Double> serviceProbabilities = new LinkedHashMap<>();
+    private List<String> entryGateIds = new ArrayList<>();
+    private List<String> exitGateIds = new ArrayList<>();
+
+    public TrafficProfileBuilder withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public TrafficProfileBuilder withArrivalsPerHour(double arrivalsPerHour) {
+        this.arrivalsPerHour = arrivalsPerHour;
+        return this;
+    }
+
+    public TrafficProfileBuilder withMedianDwellMillis(long medianDwellMillis) {
+        this.medianDwellMillis = medianDwellMillis;
+        return this;
+    }
+
+    public TrafficProfileBuilder withDwellSigma(double dwellSigma) {
+        this.dwellSigma = dwellSigma;
+        return this;
+    }
+
+    public TrafficProfileBuilder withVehicleType(VehicleType vehicleType, double weight) {
+        this.vehicleTypeWeights.put(vehicleType, weight);
+        return this;
+    }
+
+    public TrafficProfileBuilder withFuelType(FuelType fuelType, double weight) {
+        this.fuelTypeWeights.put(fuelType, weight);
+        return this;
+    }
+
+    /**
+     * Probability (0..1) that an arriving vehicle requires the service
+     */
+    public TrafficProfileBuilder withService(Service service, double probability) {
+        this.serviceProbabilities.put(service, probability);
+        return this;
+    }
+
+    public TrafficProfileBuilder withEntryGate(String gateId) {
+        this.entryGateIds.add(gateId);
+        return this;
+    }
+
+    public TrafficProfileBuilder withExitGate(String gateId) {
+        this.exitGateIds.add(gateId);
+        return this;
+    }
+
+    public TrafficProfile build() {
+        if (arrivalsPerHour <= 0 || medianDwellMillis <= 0 || dwellSigma < 0) {
+            throw new IllegalArgumentException("Arrival rate and dwell median must be positive, sigma non-negative");
+        }
+        if (entryGateIds.isEmpty() || exitGateIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one entry and one exit gate are required");
+        }
+        if (vehicleTypeWeights.isEmpty()) {
+            vehicleTypeWeights.put(VehicleType.CAR, 1.0);
+        }
+        if (fuelTypeWeights.isEmpty()) {
+            fuelTypeWeights.put(FuelType.PETROL, 1.0);
+        }
+        return new TrafficProfile(seed, arrivalsPerHour, medianDwellMillis, dwellSigma,
+                new EnumMap<>(vehicleTypeWeights), new EnumMap<>(fuelTypeWeights),
+                new LinkedHashMap<>(serviceProbabilities),
+                new ArrayList<>(entryGateIds), new ArrayList<>(exitGateIds));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package simulation;
+
+import clock.Clock;
+import clock.VirtualClock;
+import enums.SimulationEventType;
+import models.Gate;
+import models.ParkingLot;
+import models.Ticket;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Discrete-event driver that replays an arrival stream against a ParkingLot in virtual time.
+ *
+ * The lot is exercised through its public park/unpark API, so any combination of
+ * SlotAllotmentStrategy and PricingStrategy can be compared on the same traffic.
+ * Arrivals are pulled lazily from the source iterator and merged with the departures
+ * scheduled so far; no wall-clock waiting happens, so a simulated day runs in seconds.
+ *
+ * The simulator installs a VirtualClock on the lot and moves it to each event's time,
+ * so tickets and fees are stamped in virtual time by the lot itself.
+ */
+public class TrafficSimulator {
+    private final ParkingLot parkingLot;
+    private final Map<String, Gate> gatesById = new HashMap<>();
+    private EventLogWriter recorder;
+
+    public TrafficSimulator(ParkingLot parkingLot) {
+        this.parkingLot = parkingLot;
+        for (Gate gate : parkingLot.getGates()) {
+            gatesById.put(gate.getGateId(), gate);
+        }
+    }
+
+    /**
+     * Record every processed arrival and departure so the run can be replayed later
+     */
+    public void setRecorder(EventLogWriter recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Run until the source is exhausted and every admitted vehicle has left
+     */
+    public SimulationReport run(Iterator<SimulationEvent> source) {
+        // The lot runs on simulated time for the run only, then goes back to its own clock
+        Clock previousClock = parkingLot.getClock();
+        VirtualClock clock = new VirtualClock(Long.MIN_VALUE);
+        parkingLot.setClock(clock);
+        try {
+            return simulate(source, clock);
+        } finally {
+            parkingLot.setClock(previousClock);
+        }
+    }
+
+    private SimulationReport simulate(Iterator<SimulationEvent> source, VirtualClock clock) {
+        DiscreteEventScheduler scheduler = new DiscreteEventScheduler();
+        Map<String, Ticket> activeTickets = new HashMap<>();
+        LatencyRecorder parkLatency = new LatencyRecorder();
+        LatencyRecorder unparkLatency = new LatencyRecorder();
+
+        long arrivals = 0;
+        long parked = 0;
+        long rejected = 0;
+        long departures = 0;
+        double revenue = 0.0;
+        int peakOccupied = 0;
+        long firstEventMillis = Long.MIN_VALUE;
+        long lastEventMillis = Long.MIN_VALUE;
+
+        SimulationEvent pendingArrival = source.hasNext() ? source.next() : null;
+        long wallStart = System.nanoTime();
+
+        while (pendingArrival != null || !scheduler.isEmpty()) {
+            SimulationEvent event;
+            // Departures win ties so a freed slot is visible to a same-instant arrival
+            if (pendingArrival == null
+                    || (!scheduler.isEmpty() && scheduler.peek().getTimeMillis() <= pendingArrival.getTimeMillis())) {
+                event = scheduler.poll();
+            } else {
+                event = pendingArrival;
+                pendingArrival = source.hasNext() ? source.next() : null;
+                if (event.getType() == SimulationEventType.DEPARTURE) {
+                    // Recorded departures go through the scheduler to keep the merge ordered
+                    scheduler.schedule(event);
+                    continue;
+                }
+            }
+
+            long now = event.getTimeMillis();
+            clock.setTimeMillis(now);
+            if (firstEventMillis == Long.MIN_VALUE) {
+                firstEventMillis = now;
+            }
+            lastEventMillis = now;
+
+            if (event.getType() == SimulationEventType.ARRIVAL) {
+                arrivals++;
+                Gate entryGate = gate(event.getGateId());
+                long start = System.nanoTime();
+                Ticket ticket;
+                try {
+                    ticket = parkingLot.parkVehicle(event.getVehicle(), entryGate);
+                } catch (RuntimeException e) {
+                    ticket = null;
+                }
+                parkLatency.record(System.nanoTime() - start);
+
+                if (ticket == null) {
+                    rejected++;
+                    continue;
+                }
+                parked++;
+                activeTickets.put(event.getVehicle().getVehicleId(), ticket);
+                peakOccupied = Math.max(peakOccupied, activeTickets.size());
+                if (recorder != null) {
+                    recorder.writeArrival(now, event.getVehicle(), event.getGateId());
+                }
+                if (event.hasDwell()) {
+                    scheduler.schedule(SimulationEvent.departure(now + event.getDwellMillis(),
+                            event.getVehicle(), event.getExitGateId()));
+                }
+            } else {
+                Ticket ticket = activeTickets.remove(event.getVehicle().getVehicleId());
+                if (ticket == null) {
+                    // Vehicle was turned away on arrival in this run
+                    continue;
+                }
+                departures++;
+                Gate exitGate = gate(event.getGateId());
+                long start = System.nanoTime();
+                double fee = parkingLot.unparkVehicle(ticket, exitGate);
+                unparkLatency.record(System.nanoTime() - start);
+                revenue += fee;
+                if (recorder != null) {
+                    recorder.writeDeparture(now, ticket.getVehicle().getVehicleId(), event.getGateId());
+                }
+            }
+        }
+
+        long wallNanos = System.nanoTime() - wallStart;
+        long virtualMillis = firstEventMillis == Long.MIN_VALUE ? 0 : lastEventMillis - firstEventMillis;
+        return new SimulationReport(arrivals, parked, rejected, departures, revenue, peakOccupied,
+                virtualMillis, wallNanos, parkLatency, unparkLatency);
+    }
+
+    private Gate gate(String gateId) {
+        Gate gate = gatesById.get(gateId);
+        if (gate == null) {
+            throw new IllegalArgumentException("Unknown gate in simulation: " + gateId);
+        }
+        return gate;
+    }
+}
\ No newline at end of file
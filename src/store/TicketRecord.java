@@ -0,0 +1,86 @@
+package store;
+
+import enums.FuelType;
+import enums.VehicleType;
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable cursor over one fixed-width ticket record in a TicketStore.
+ *
+ * Scans move the same cursor from record to record, so reading history allocates
+ * nothing unless a String field is asked for. Do not keep a cursor past the visit.
+ */
+public class TicketRecord {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final FuelType[] FUEL_TYPES = FuelType.values();
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    void moveTo(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    public String getTicketId() {
+        return TicketStore.readAscii(buffer, offset + TicketStore.TICKET_ID, TicketStore.TICKET_ID_BYTES);
+    }
+
+    public String getVehicleId() {
+        return TicketStore.readAscii(buffer, offset + TicketStore.VEHICLE_ID, TicketStore.VEHICLE_ID_BYTES);
+    }
+
+    public VehicleType getVehicleType() {
+        return VEHICLE_TYPES[buffer.get(offset + TicketStore.VEHICLE_TYPE)];
+    }
+
+    public FuelType getFuelType() {
+        return FUEL_TYPES[buffer.get(offset + TicketStore.FUEL_TYPE)];
+    }
+
+    public long getServiceMask() {
+        return buffer.getLong(offset + TicketStore.SERVICE_MASK);
+    }
+
+    public int getSlotIndex() {
+        return buffer.getInt(offset + TicketStore.SLOT_INDEX);
+    }
+
+    public int getEntryGateIndex() {
+        return buffer.getShort(offset + TicketStore.ENTRY_GATE);
+    }
+
+    /**
+     * -1 while the ticket is active
+     */
+    public int getExitGateIndex() {
+        return buffer.getShort(offset + TicketStore.EXIT_GATE);
+    }
+
+    public long getEntryTimeMillis() {
+        return buffer.getLong(offset + TicketStore.ENTRY_MILLIS);
+    }
+
+    public long getExitTimeMillis() {
+        return buffer.getLong(offset + TicketStore.EXIT_MILLIS);
+    }
+
+    public long getAmountPaidCents() {
+        return buffer.getLong(offset + TicketStore.PAID_CENTS);
+    }
+
+    public long getPaidUntilMillis() {
+        return buffer.getLong(offset + TicketStore.PAID_UNTIL);
+    }
+
+    /**
+     * Total fee collected (pre-payments plus the amount charged at exit), in cents
+     */
+    public long getFeeCents() {
+        return buffer.getLong(offset + TicketStore.FEE_CENTS);
+    }
+
+    public boolean isClosed() {
+        return buffer.get(offset + TicketStore.STATE) == TicketStore.STATE_CLOSED;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,489 @@
+package store;
+
+import models.Gate;
+import models.ParkingSlot;
+import models.Ticket;
+import models.Vehicle;
+import enums.FuelType;
+import enums.VehicleType;
+import service.ServiceFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Ticket store made of fixed-width records held outside the Java heap.
+ *
+ * Active tickets live in a fixed-capacity region with an open-addressing hash index on
+ * ticket ID. On close a ticket's record is copied to an append-only log of closed tickets,
+ * which keeps per-block exit time bounds so reconciliation can scan a time range
+ * without reading the whole history.
+ *
+ * Records reference the vehicle by ID, type, fuel and service mask, and the slot and
+ * gates by their index in the lot's lists, so a Ticket can be restored at exit time
+ * from a few primitives. Times are the lot Clock's epoch millis.
+ *
+ * inMemory() uses direct buffers; open() memory-maps two files in a directory so the
+ * history survives restarts. All methods are synchronized.
+ */
+public class TicketStore implements AutoCloseable {
+    // Record layout (bytes)
+    static final int TICKET_ID = 0;
+    static final int TICKET_ID_BYTES = 24;
+    static final int VEHICLE_ID = 24;
+    static final int VEHICLE_ID_BYTES = 16;
+    static final int SERVICE_MASK = 40;
+    static final int ENTRY_MILLIS = 48;
+    static final int EXIT_MILLIS = 56;
+    static final int FEE_CENTS = 64;
+    static final int PAID_CENTS = 72;
+    static final int PAID_UNTIL = 80;
+    static final int SLOT_INDEX = 88;
+    static final int ENTRY_GATE = 92;
+    static final int EXIT_GATE = 94;
+    static final int VEHICLE_TYPE = 96;
+    static final int FUEL_TYPE = 97;
+    static final int STATE = 98;
+    static final int RECORD_BYTES = 112;
+
+    static final byte STATE_FREE = 0;
+    static final byte STATE_ACTIVE = 1;
+    static final byte STATE_CLOSED = 2;
+
+    private static final int SEGMENT_RECORDS = 1 << 16;
+    private static final int SEGMENT_BYTES = SEGMENT_RECORDS * RECORD_BYTES;
+    private static final int BLOCK_RECORDS = 1024;
+    private static final String ACTIVE_FILE = "active.tickets";
+    private static final String CLOSED_FILE = "closed.tickets";
+
+    // Active region, its free record list and the hash index (table holds record + 1)
+    private final ByteBuffer active;
+    private final int activeCapacity;
+    private final int[] freeRecords;
+    private int freeCount;
+    private final int[] recordHashes;
+    private final int[] table;
+    private final int tableMask;
+
+    // Closed log, in segments, with exit time bounds per block of records
+    private final List<ByteBuffer> closedSegments = new ArrayList<>();
+    private long closedCount;
+    private long[] blockMinExit = new long[16];
+    private long[] blockMaxExit = new long[16];
+
+    private final FileChannel activeChannel;
+    private final FileChannel closedChannel;
+    private final TicketRecord scratch = new TicketRecord();
+
+    private TicketStore(ByteBuffer active, int activeCapacity, FileChannel activeChannel, FileChannel closedChannel) {
+        this.active = active;
+        this.activeCapacity = activeCapacity;
+        this.activeChannel = activeChannel;
+        this.closedChannel = closedChannel;
+        this.freeRecords = new int[activeCapacity];
+        this.recordHashes = new int[activeCapacity];
+        int tableSize = Integer.highestOneBit(Math.max(2, activeCapacity) * 2 - 1) << 1;
+        this.table = new int[tableSize];
+        this.tableMask = tableSize - 1;
+    }
+
+    /**
+     * Store in direct (off-heap) buffers; contents are lost when the process exits
+     */
+    public static TicketStore inMemory(int maxActiveTickets) {
+        checkCapacity(maxActiveTickets);
+        TicketStore store = new TicketStore(ByteBuffer.allocateDirect(maxActiveTickets * RECORD_BYTES),
+                maxActiveTickets, null, null);
+        store.recover();
+        return store;
+    }
+
+    /**
+     * Store memory-mapped from files in the directory, reopening any existing contents.
+     * The active capacity never shrinks below what the existing file holds.
+     */
+    public static TicketStore open(Path directory, int maxActiveTickets) throws IOException {
+        checkCapacity(maxActiveTickets);
+        Files.createDirectories(directory);
+        FileChannel activeChannel = FileChannel.open(directory.resolve(ACTIVE_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel closedChannel = FileChannel.open(directory.resolve(CLOSED_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int capacity = (int) Math.max(maxActiveTickets, activeChannel.size() / RECORD_BYTES);
+        checkCapacity(capacity);
+        MappedByteBuffer active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_BYTES);
+        TicketStore store = new TicketStore(active, capacity, activeChannel, closedChannel);
+        long existingSegments = (closedChannel.size() + SEGMENT_BYTES - 1) / SEGMENT_BYTES;
+        for (long i = 0; i < existingSegments; i++) {
+            store.closedSegments.add(closedChannel.map(FileChannel.MapMode.READ_WRITE, i * SEGMENT_BYTES, SEGMENT_BYTES));
+        }
+        store.recover();
+        return store;
+    }
+
+    /**
+     * Record a newly issued ticket
+     */
+    public synchronized void openTicket(Ticket ticket, int slotIndex, int entryGateIndex) {
+        String ticketId = ticket.getTicketId();
+        Vehicle vehicle = ticket.getVehicle();
+        checkAscii(ticketId, TICKET_ID_BYTES, "Ticket ID");
+        checkAscii(vehicle.getVehicleId(), VEHICLE_ID_BYTES, "Vehicle ID");
+        int hash = hash(ticketId);
+        if (find(ticketId, hash) >= 0) {
+            throw new IllegalStateException("Ticket is already active: " + ticketId);
+        }
+        if (freeCount == 0) {
+            throw new IllegalStateException("Ticket store is full (" + activeCapacity + " active tickets)");
+        }
+
+        int record = freeRecords[--freeCount];
+        int offset = record * RECORD_BYTES;
+        writeAscii(active, offset + TICKET_ID, TICKET_ID_BYTES, ticketId);
+        writeAscii(active, offset + VEHICLE_ID, VEHICLE_ID_BYTES, vehicle.getVehicleId());
+        active.putLong(offset + SERVICE_MASK, ServiceFactory.getServiceMask(vehicle.getRequiredServices()));
+        active.putLong(offset + ENTRY_MILLIS, ticket.getEntryTimeMillis());
+        active.putLong(offset + EXIT_MILLIS, 0L);
+        active.putLong(offset + FEE_CENTS, 0L);
+        active.putLong(offset + PAID_CENTS, toCents(ticket.getAmountPaid()));
+        active.putLong(offset + PAID_UNTIL, ticket.getPaidUntilMillis());
+        active.putInt(offset + SLOT_INDEX, slotIndex);
+        active.putShort(offset + ENTRY_GATE, (short) entryGateIndex);
+        active.putShort(offset + EXIT_GATE, (short) -1);
+        active.put(offset + VEHICLE_TYPE, (byte) vehicle.getVehicleType().ordinal());
+        active.put(offset + FUEL_TYPE, (byte) vehicle.getFuelType().ordinal());
+        active.put(offset + STATE, STATE_ACTIVE);
+
+        recordHashes[record] = hash;
+        insert(record, hash);
+    }
+
+    /**
+     * Copy the ticket's pre-payment state into its record
+     */
+    public synchronized void recordPayment(Ticket ticket) {
+        int record = requireActive(ticket.getTicketId());
+        int offset = record * RECORD_BYTES;
+        active.putLong(offset + PAID_CENTS, toCents(ticket.getAmountPaid()));
+        active.putLong(offset + PAID_UNTIL, ticket.getPaidUntilMillis());
+    }
+
+    /**
+     * Rebuild a Ticket for an active record, e.g. to unpark it
+     * @return the ticket, or null if no active ticket has this ID
+     */
+    public synchronized Ticket restore(String ticketId, List<ParkingSlot> slots, List<Gate> gates) {
+        int tablePosition = find(ticketId, hash(ticketId));
+        if (tablePosition < 0) {
+            return null;
+        }
+        int offset = (table[tablePosition] - 1) * RECORD_BYTES;
+        Vehicle vehicle = new Vehicle(
+                readAscii(active, offset + VEHICLE_ID, VEHICLE_ID_BYTES),
+                VehicleType.values()[active.get(offset + VEHICLE_TYPE)],
+                FuelType.values()[active.get(offset + FUEL_TYPE)],
+                ServiceFactory.getServices(active.getLong(offset + SERVICE_MASK)));
+        Ticket ticket = new Ticket(ticketId, vehicle, slots.get(active.getInt(offset + SLOT_INDEX)),
+                active.getLong(offset + ENTRY_MILLIS), gates.get(active.getShort(offset + ENTRY_GATE)));
+        long paidCents = active.getLong(offset + PAID_CENTS);
+        long paidUntilMillis = active.getLong(offset + PAID_UNTIL);
+        if (paidCents != 0 || paidUntilMillis != Ticket.NOT_PAID) {
+            ticket.recordPayment(paidCents / 100.0, paidUntilMillis);
+        }
+        return ticket;
+    }
+
+    /**
+     * Move an active ticket to the closed log
+     * @param amountCharged what was charged at the exit gate, on top of any pre-payment
+     */
+    public synchronized void closeTicket(String ticketId, long exitTimeMillis, int exitGateIndex, double amountCharged) {
+        int tablePosition = find(ticketId, hash(ticketId));
+        if (tablePosition < 0) {
+            throw new IllegalStateException("No active ticket: " + ticketId);
+        }
+        int record = table[tablePosition] - 1;
+        int from = record * RECORD_BYTES;
+
+        long position = closedCount;
+        ByteBuffer segment = closedSegment(position);
+        int to = (int) (position % SEGMENT_RECORDS) * RECORD_BYTES;
+        for (int i = 0; i < RECORD_BYTES; i += Long.BYTES) {
+            segment.putLong(to + i, active.getLong(from + i));
+        }
+        segment.putLong(to + EXIT_MILLIS, exitTimeMillis);
+        segment.putShort(to + EXIT_GATE, (short) exitGateIndex);
+        segment.putLong(to + FEE_CENTS, segment.getLong(to + PAID_CENTS) + toCents(amountCharged));
+        segment.put(to + STATE, STATE_CLOSED);
+        closedCount++;
+        trackExitTime(position, exitTimeMillis);
+
+        removeAt(tablePosition);
+        active.put(from + STATE, STATE_FREE);
+        freeRecords[freeCount++] = record;
+    }
+
+    public synchronized boolean isActive(String ticketId) {
+        return find(ticketId, hash(ticketId)) >= 0;
+    }
+
+    public synchronized void forEachActive(Consumer<TicketRecord> visitor) {
+        for (int record = 0; record < activeCapacity; record++) {
+            int offset = record * RECORD_BYTES;
+            if (active.get(offset + STATE) == STATE_ACTIVE) {
+                scratch.moveTo(active, offset);
+                visitor.accept(scratch);
+            }
+        }
+    }
+
+    /**
+     * Visit closed tickets with fromMillis <= exit time < toMillis, in close order.
+     * Blocks whose exit time bounds miss the range are skipped without being read.
+     * @return number of tickets visited
+     */
+    public synchronized long scanClosedByExitTime(long fromMillis, long toMillis, Consumer<TicketRecord> visitor) {
+        long visited = 0;
+        long blocks = (closedCount + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        for (int block = 0; block < blocks; block++) {
+            if (blockMaxExit[block] < fromMillis || blockMinExit[block] >= toMillis) {
+                continue;
+            }
+            long end = Math.min(closedCount, (long) (block + 1) * BLOCK_RECORDS);
+            for (long position = (long) block * BLOCK_RECORDS; position < end; position++) {
+                ByteBuffer segment = closedSegments.get((int) (position / SEGMENT_RECORDS));
+                int offset = (int) (position % SEGMENT_RECORDS) * RECORD_BYTES;
+                long exitTimeMillis = segment.getLong(offset + EXIT_MILLIS);
+                if (exitTimeMillis >= fromMillis && exitTimeMillis < toMillis) {
+                    scratch.moveTo(segment, offset);
+                    visitor.accept(scratch);
+                    visited++;
+                }
+            }
+        }
+        return visited;
+    }
+
+    public synchronized int getActiveCount() {
+        return activeCapacity - freeCount;
+    }
+
+    public synchronized long getClosedCount() {
+        return closedCount;
+    }
+
+    public int getActiveCapacity() {
+        return activeCapacity;
+    }
+
+    /**
+     * Write mapped contents through to the files (no-op for in-memory stores)
+     */
+    public synchronized void flush() {
+        if (active instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) active).force();
+        }
+        for (ByteBuffer segment : closedSegments) {
+            if (segment instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) segment).force();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        if (activeChannel != null) {
+            activeChannel.close();
+        }
+        if (closedChannel != null) {
+            closedChannel.close();
+        }
+    }
+
+    /**
+     * Rebuild the free list, hash index and block bounds from the record states
+     */
+    private void recover() {
+        freeCount = 0;
+        for (int record = activeCapacity - 1; record >= 0; record--) {
+            int offset = record * RECORD_BYTES;
+            if (active.get(offset + STATE) == STATE_ACTIVE) {
+                int hash = hashStored(active, offset + TICKET_ID);
+                recordHashes[record] = hash;
+                insert(record, hash);
+            } else {
+                freeRecords[freeCount++] = record;
+            }
+        }
+        closedCount = 0;
+        long capacity = (long) closedSegments.size() * SEGMENT_RECORDS;
+        while (closedCount < capacity) {
+            ByteBuffer segment = closedSegments.get((int) (closedCount / SEGMENT_RECORDS));
+            int offset = (int) (closedCount % SEGMENT_RECORDS) * RECORD_BYTES;
+            if (segment.get(offset + STATE) != STATE_CLOSED) {
+                break;
+            }
+            trackExitTime(closedCount, segment.getLong(offset + EXIT_MILLIS));
+            closedCount++;
+        }
+    }
+
+    private ByteBuffer closedSegment(long position) {
+        int segmentIndex = (int) (position / SEGMENT_RECORDS);
+        while (closedSegments.size() <= segmentIndex) {
+            long start = (long) closedSegments.size() * SEGMENT_BYTES;
+            try {
+                closedSegments.add(closedChannel == null
+                        ? ByteBuffer.allocateDirect(SEGMENT_BYTES)
+                        : closedChannel.map(FileChannel.MapMode.READ_WRITE, start, SEGMENT_BYTES));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not grow the closed ticket log", e);
+            }
+        }
+        return closedSegments.get(segmentIndex);
+    }
+
+    private void trackExitTime(long position, long exitTimeMillis) {
+        int block = (int) (position / BLOCK_RECORDS);
+        if (block >= blockMinExit.length) {
+            blockMinExit = Arrays.copyOf(blockMinExit, blockMinExit.length * 2);
+            blockMaxExit = Arrays.copyOf(blockMaxExit, blockMaxExit.length * 2);
+        }
+        if (position % BLOCK_RECORDS == 0) {
+            blockMinExit[block] = exitTimeMillis;
+            blockMaxExit[block] = exitTimeMillis;
+        } else {
+            blockMinExit[block] = Math.min(blockMinExit[block], exitTimeMillis);
+            blockMaxExit[block] = Math.max(blockMaxExit[block], exitTimeMillis);
+        }
+    }
+
+    private int requireActive(String ticketId) {
+        int tablePosition = find(ticketId, hash(ticketId));
+        if (tablePosition < 0) {
+            throw new IllegalStateException("No active ticket: " + ticketId);
+        }
+        return table[tablePosition] - 1;
+    }
+
+    // Hash index - linear probing with backward-shift deletion, so no tombstones build up
+
+    private int find(String ticketId, int hash) {
+        for (int i = hash & tableMask; table[i] != 0; i = (i + 1) & tableMask) {
+            int record = table[i] - 1;
+            if (recordHashes[record] == hash && idEquals(record * RECORD_BYTES + TICKET_ID, ticketId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int record, int hash) {
+        int i = hash & tableMask;
+        while (table[i] != 0) {
+            i = (i + 1) & tableMask;
+        }
+        table[i] = record + 1;
+    }
+
+    private void removeAt(int hole) {
+        int next = hole;
+        while (true) {
+            next = (next + 1) & tableMask;
+            if (table[next] == 0) {
+                break;
+            }
+            int home = recordHashes[table[next] - 1] & tableMask;
+            // Move the entry back unless its home lies cyclically in (hole, next]
+            boolean stays = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+            if (!stays) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private boolean idEquals(int offset, String ticketId) {
+        int length = ticketId.length();
+        if (length > TICKET_ID_BYTES) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (active.get(offset + i) != (byte) ticketId.charAt(i)) {
+                return false;
+            }
+        }
+        return length == TICKET_ID_BYTES || active.get(offset + length) == 0;
+    }
+
+    // FNV-1a over the ASCII bytes, computed the same way from a String or a stored field
+    private static int hash(String value) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ (value.charAt(i) & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hashStored(ByteBuffer buffer, int offset) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < TICKET_ID_BYTES; i++) {
+            byte b = buffer.get(offset + i);
+            if (b == 0) {
+                break;
+            }
+            hash = (hash ^ (b & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    static String readAscii(ByteBuffer buffer, int offset, int width) {
+        int length = 0;
+        while (length < width && buffer.get(offset + length) != 0) {
+            length++;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) buffer.get(offset + i);
+        }
+        return new String(chars);
+    }
+
+    private static void writeAscii(ByteBuffer buffer, int offset, int width, String value) {
+        for (int i = 0; i < width; i++) {
+            buffer.put(offset + i, i < value.length() ? (byte) value.charAt(i) : 0);
+        }
+    }
+
+    private static void checkAscii(String value, int width, String what) {
+        if (value.isEmpty() || value.length() > width) {
+            throw new IllegalArgumentException(what + " must be 1 to " + width + " characters: " + value);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == 0 || c > 0x7F) {
+                throw new IllegalArgumentException(what + " must be ASCII: " + value);
+            }
+        }
+    }
+
+    private static void checkCapacity(int maxActiveTickets) {
+        if (maxActiveTickets <= 0 || (long) maxActiveTickets * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Active ticket capacity out of range: " + maxActiveTickets);
+        }
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package strategy;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import enums.SlotAvailability;
+import enums.SlotType;
+import enums.VehicleType;
+import strategy.index.FreeSlotPool;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Best-fit allotment that weighs walking distance against the cost of putting a vehicle
+ * in a bigger slot than it needs.
+ *
+ * Each compatible SlotType contributes its nearest free slot; the candidate's score is
+ *   distance + upsizePenalty * (size steps above the smallest fit) / freeFraction(slotType)
+ * so using a LARGE slot for a bike is cheap while LARGE slots are plentiful and becomes
+ * prohibitive as they run out, keeping them for trucks.
+ *
+ * Free slots are kept in per-type pools updated through SlotStateListener events,
+ * so a decision is a handful of O(log n) lookups rather than a full scan.
+ */
+public class BestFitSlotStrategy implements SlotAllotmentStrategy, SlotStateListener {
+    private static final int DEFAULT_UPSIZE_PENALTY = 50;
+    private static final double MIN_FREE_FRACTION = 0.01;
+
+    private final int upsizePenalty;
+    private final Map<SlotType, FreeSlotPool> freePools = new EnumMap<>(SlotType.class);
+    private final int[] totalByType = new int[SlotType.values().length];
+
+    private List<ParkingSlot> indexedSlots;
+
+    public BestFitSlotStrategy() {
+        this(DEFAULT_UPSIZE_PENALTY);
+    }
+
+    /**
+     * @param upsizePenalty distance units charged per size step above the best fit,
+     *                      when the larger type is completely free
+     */
+    public BestFitSlotStrategy(int upsizePenalty) {
+        if (upsizePenalty < 0) {
+            throw new IllegalArgumentException("Upsize penalty cannot be negative");
+        }
+        this.upsizePenalty = upsizePenalty;
+        for (SlotType slotType : SlotType.values()) {
+            freePools.put(slotType, new FreeSlotPool());
+        }
+    }
+
+    @Override
+    public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        if (slots != indexedSlots) {
+            reset(slots);
+        }
+
+        SlotType bestFit = smallestFit(vehicle.getVehicleType());
+        if (bestFit == null) {
+            return null;
+        }
+
+        ParkingSlot bestSlot = null;
+        double bestScore = Double.MAX_VALUE;
+        for (SlotType slotType : SlotType.values()) {
+            if (!SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slotType)) {
+                continue;
+            }
+            ParkingSlot candidate = freePools.get(slotType).nearest(entryGate, slot ->
+                    SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices()));
+            if (candidate == null) {
+                continue;
+            }
+            int distance = candidate.getDistanceFromGate(entryGate);
+            if (distance == Integer.MAX_VALUE) {
+                continue;
+            }
+            double score = distance + upsizeCost(slotType.ordinal() - bestFit.ordinal(), slotType);
+            if (score < bestScore) {
+                bestScore = score;
+                bestSlot = candidate;
+            }
+        }
+        return bestSlot;
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        for (FreeSlotPool pool : freePools.values()) {
+            pool.clear();
+        }
+        Arrays.fill(totalByType, 0);
+        indexedSlots = slots;
+        for (ParkingSlot slot : slots) {
+            onSlotAdded(slot);
+        }
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        totalByType[slot.getSlotType().ordinal()]++;
+        if (slot.getAvailability() == SlotAvailability.AVAILABLE) {
+            freePools.get(slot.getSlotType()).add(slot);
+        }
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from == to) {
+            return;
+        }
+        if (from == SlotAvailability.AVAILABLE) {
+            freePools.get(slot.getSlotType()).remove(slot);
+        } else if (to == SlotAvailability.AVAILABLE) {
+            freePools.get(slot.getSlotType()).add(slot);
+        }
+    }
+
+    /**
+     * Fraction of slots of this type that are currently free (0..1)
+     */
+    public double getFreeFraction(SlotType slotType) {
+        int total = totalByType[slotType.ordinal()];
+        return total == 0 ? 0.0 : (double) freePools.get(slotType).size() / total;
+    }
+
+    private double upsizeCost(int steps, SlotType slotType) {
+        if (steps <= 0) {
+            return 0.0;
+        }
+        return (double) upsizePenalty * steps / Math.max(getFreeFraction(slotType), MIN_FREE_FRACTION);
+    }
+
+    private static SlotType smallestFit(VehicleType vehicleType) {
+        for (SlotType slotType : SlotType.values()) {
+            if (SlotCompatibility.isSlotCompatible(vehicleType, slotType)) {
+                return slotType;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
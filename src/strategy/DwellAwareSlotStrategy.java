@@ -0,0 +1,154 @@
+package strategy;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import enums.SlotAvailability;
+import enums.SlotType;
+import forecast.DwellTimeEstimator;
+import strategy.index.FreeSlotPool;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allotment that places vehicles by how long they are expected to stay.
+ *
+ * The DwellTimeEstimator ranks the vehicle's expected stay by the share of occupied slots
+ * held by shorter stays (0 shortest, 1 longest). The strategy then aims for the free slot
+ * whose distance from the entry gate is closest to
+ *   nearestDistance + depthBias * rank * occupiedFraction * (farthestDistance - nearestDistance)
+ * so quick visits get the slots next to the gate, where they turn over many times a day,
+ * and all-day stays are sent deeper in - but only as deep as the lot is full, so a quiet
+ * lot still parks everyone close. With a cold estimator every rank is 0 and this behaves
+ * like nearest-slot allotment.
+ *
+ * Free slots are kept in per-type pools updated through SlotStateListener events.
+ */
+public class DwellAwareSlotStrategy implements SlotAllotmentStrategy, SlotStateListener {
+    private final DwellTimeEstimator dwellTimeEstimator;
+    private final double depthBias;
+    private final Map<SlotType, FreeSlotPool> freePools = new EnumMap<>(SlotType.class);
+    // Nearest and farthest slot distance per gate, over all slots
+    private final Map<Gate, int[]> distanceRanges = new HashMap<>();
+
+    private List<ParkingSlot> indexedSlots;
+
+    /**
+     * @param depthBias how far into the lot the longest stays are pushed, from 0 (nearest
+     *                  slot for everyone) to 1 (the farthest slot)
+     */
+    public DwellAwareSlotStrategy(DwellTimeEstimator dwellTimeEstimator, double depthBias) {
+        if (dwellTimeEstimator == null) {
+            throw new IllegalArgumentException("Dwell time estimator cannot be null");
+        }
+        if (depthBias < 0.0 || depthBias > 1.0) {
+            throw new IllegalArgumentException("Depth bias must be between 0 and 1: " + depthBias);
+        }
+        this.dwellTimeEstimator = dwellTimeEstimator;
+        this.depthBias = depthBias;
+        for (SlotType slotType : SlotType.values()) {
+            freePools.put(slotType, new FreeSlotPool());
+        }
+    }
+
+    @Override
+    public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        if (slots != indexedSlots) {
+            reset(slots);
+        }
+
+        int[] range = distanceRange(entryGate);
+        if (range == null) {
+            return null;
+        }
+        double depth = depthBias * dwellTimeEstimator.dwellRank(vehicle) * occupiedFraction();
+        int targetDistance = (int) Math.round(range[0] + depth * ((long) range[1] - range[0]));
+
+        ParkingSlot bestSlot = null;
+        long bestGap = Long.MAX_VALUE;
+        for (SlotType slotType : SlotType.values()) {
+            if (!SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slotType)) {
+                continue;
+            }
+            ParkingSlot candidate = freePools.get(slotType).nearestTo(entryGate, targetDistance, slot ->
+                    slot.getDistanceFromGate(entryGate) != Integer.MAX_VALUE
+                    && SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices()));
+            if (candidate == null) {
+                continue;
+            }
+            long gap = Math.abs((long) candidate.getDistanceFromGate(entryGate) - targetDistance);
+            if (gap < bestGap) {
+                bestGap = gap;
+                bestSlot = candidate;
+            }
+        }
+        return bestSlot;
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        for (FreeSlotPool pool : freePools.values()) {
+            pool.clear();
+        }
+        distanceRanges.clear();
+        indexedSlots = slots;
+        for (ParkingSlot slot : slots) {
+            if (slot.getAvailability() == SlotAvailability.AVAILABLE) {
+                freePools.get(slot.getSlotType()).add(slot);
+            }
+        }
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        distanceRanges.clear();
+        if (slot.getAvailability() == SlotAvailability.AVAILABLE) {
+            freePools.get(slot.getSlotType()).add(slot);
+        }
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from == to) {
+            return;
+        }
+        if (from == SlotAvailability.AVAILABLE) {
+            freePools.get(slot.getSlotType()).remove(slot);
+        } else if (to == SlotAvailability.AVAILABLE) {
+            freePools.get(slot.getSlotType()).add(slot);
+        }
+    }
+
+    private double occupiedFraction() {
+        int free = 0;
+        for (FreeSlotPool pool : freePools.values()) {
+            free += pool.size();
+        }
+        return indexedSlots.isEmpty() ? 0.0 : 1.0 - (double) free / indexedSlots.size();
+    }
+
+    /**
+     * {nearest, farthest} reachable slot distance from the gate, or null if none is reachable
+     */
+    private int[] distanceRange(Gate gate) {
+        int[] range = distanceRanges.get(gate);
+        if (range == null && !distanceRanges.containsKey(gate)) {
+            int nearest = Integer.MAX_VALUE;
+            int farthest = Integer.MIN_VALUE;
+            for (ParkingSlot slot : indexedSlots) {
+                int distance = slot.getDistanceFromGate(gate);
+                if (distance == Integer.MAX_VALUE) {
+                    continue;
+                }
+                nearest = Math.min(nearest, distance);
+                farthest = Math.max(farthest, distance);
+            }
+            range = nearest == Integer.MAX_VALUE ? null : new int[] {nearest, farthest};
+            distanceRanges.put(gate, range);
+        }
+        return range;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package strategy;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import enums.FuelType;
+import enums.SlotAvailability;
+import enums.SlotType;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import strategy.index.FreeSlotPool;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allotment strategy that keeps EV-capable slots for electric vehicles.
+ *
+ * - ELECTRIC vehicles are steered to EV-capable slots even if they did not ask for charging
+ * - Other vehicles only get EV-capable slots once lot occupancy reaches evReleaseThreshold
+ *   (or if they explicitly require EV charging)
+ * - Charging demand is spread across zones (electrical circuits): each zone is capped at
+ *   maxChargingPerZone occupied EV slots and busier zones are penalised when scoring
+ *
+ * Free slots are indexed per zone and SlotType with one distance-ordered view per gate,
+ * maintained through SlotStateListener events, so a decision costs O(zones * log n)
+ * rather than a scan of every slot.
+ */
+public class EVAwareSlotStrategy implements SlotAllotmentStrategy, SlotStateListener {
+    private static final double DEFAULT_EV_RELEASE_THRESHOLD = 0.85;
+    private static final Service EV_CHARGING = ServiceFactory.getEVChargingService();
+
+    private final double evReleaseThreshold;
+    private final int maxChargingPerZone;
+    private final int zoneLoadPenalty;
+
+    // Free EV-capable slots: zone -> slot type -> pool
+    private final Map<String, Map<SlotType, FreeSlotPool>> evPools = new HashMap<>();
+    private final Map<SlotType, FreeSlotPool> regularPools = new EnumMap<>(SlotType.class);
+    // Occupied EV-capable slots per zone
+    private final Map<String, int[]> evInUseByZone = new HashMap<>();
+
+    private List<ParkingSlot> indexedSlots;
+    private int totalSlots;
+    private int freeSlots;
+
+    public EVAwareSlotStrategy() {
+        this(DEFAULT_EV_RELEASE_THRESHOLD, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * @param evReleaseThreshold lot occupancy (0..1) at which non-electric vehicles may use EV slots
+     * @param maxChargingPerZone cap on occupied EV-capable slots per zone
+     * @param zoneLoadPenalty distance units added per occupied EV slot in a zone when scoring
+     */
+    public EVAwareSlotStrategy(double evReleaseThreshold, int maxChargingPerZone, int zoneLoadPenalty) {
+        if (evReleaseThreshold < 0 || evReleaseThreshold > 1) {
+            throw new IllegalArgumentException("EV release threshold must be between 0 and 1");
+        }
+        if (maxChargingPerZone <= 0) {
+            throw new IllegalArgumentException("Charging cap per zone must be positive");
+        }
+        this.evReleaseThreshold = evReleaseThreshold;
+        this.maxChargingPerZone = maxChargingPerZone;
+        this.zoneLoadPenalty = zoneLoadPenalty;
+    }
+
+    @Override
+    public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        if (slots != indexedSlots) {
+            // Used without a ParkingLot registering us - index the list we were given
+            reset(slots);
+        }
+
+        boolean electric = vehicle.getFuelType() == FuelType.ELECTRIC;
+        boolean needsCharging = SlotCompatibility.supportsService(vehicle.getRequiredServices(), EV_CHARGING);
+
+        if (electric || needsCharging) {
+            ParkingSlot evSlot = findEvSlot(vehicle, entryGate, true);
+            if (evSlot != null || needsCharging) {
+                return evSlot;
+            }
+            return findInPools(regularPools, vehicle, entryGate);
+        }
+
+        ParkingSlot slot = findInPools(regularPools, vehicle, entryGate);
+        if (slot == null && isEvReserveReleased()) {
+            slot = findEvSlot(vehicle, entryGate, false);
+        }
+        return slot;
+    }
+
+    /**
+     * EV-capable slots only for electric or charging vehicles, and those only on EV-capable
+     * slots. Whether the reserve is released depends on the index, so non-electric
+     * vehicles reach released EV slots through findSlot.
+     */
+    @Override
+    public boolean isEligible(Vehicle vehicle, Gate entryGate, ParkingSlot slot) {
+        boolean wantsEv = vehicle.getFuelType() == FuelType.ELECTRIC
+                || SlotCompatibility.supportsService(vehicle.getRequiredServices(), EV_CHARGING);
+        return isEvCapable(slot) == wantsEv;
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        evPools.clear();
+        regularPools.clear();
+        evInUseByZone.clear();
+        totalSlots = 0;
+        freeSlots = 0;
+        indexedSlots = slots;
+        for (ParkingSlot slot : slots) {
+            onSlotAdded(slot);
+        }
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        totalSlots++;
+        if (isEvCapable(slot)) {
+            evInUseByZone.computeIfAbsent(slot.getZone(), zone -> new int[1]);
+        }
+        if (slot.getAvailability() == SlotAvailability.AVAILABLE) {
+            freeSlots++;
+            poolFor(slot).add(slot);
+        } else if (isEvCapable(slot)) {
+            evInUseByZone.get(slot.getZone())[0]++;
+        }
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from == to) {
+            return;
+        }
+        if (from == SlotAvailability.AVAILABLE) {
+            freeSlots--;
+            poolFor(slot).remove(slot);
+            if (isEvCapable(slot)) {
+                evInUseByZone.get(slot.getZone())[0]++;
+            }
+        } else if (to == SlotAvailability.AVAILABLE) {
+            freeSlots++;
+            poolFor(slot).add(slot);
+            if (isEvCapable(slot)) {
+                evInUseByZone.get(slot.getZone())[0]--;
+            }
+        }
+    }
+
+    /**
+     * Lot occupancy as seen by this strategy's index (0..1)
+     */
+    public double getOccupancy() {
+        return totalSlots == 0 ? 1.0 : 1.0 - (double) freeSlots / totalSlots;
+    }
+
+    public int getChargingLoad(String zone) {
+        int[] inUse = evInUseByZone.get(zone);
+        return inUse == null ? 0 : inUse[0];
+    }
+
+    private boolean isEvReserveReleased() {
+        return getOccupancy() >= evReleaseThreshold;
+    }
+
+    /**
+     * Best EV-capable slot across zones. With balancing on, zones at the charging cap are
+     * skipped and each zone's candidate is scored by distance plus a load penalty.
+     */
+    private ParkingSlot findEvSlot(Vehicle vehicle, Gate entryGate, boolean balanceLoad) {
+        ParkingSlot bestSlot = null;
+        long bestScore = Long.MAX_VALUE;
+
+        for (Map.Entry<String, Map<SlotType, FreeSlotPool>> zoneEntry : evPools.entrySet()) {
+            int load = evInUseByZone.get(zoneEntry.getKey())[0];
+            if (balanceLoad && load >= maxChargingPerZone) {
+                continue;
+            }
+            ParkingSlot candidate = findInPools(zoneEntry.getValue(), vehicle, entryGate);
+            if (candidate == null) {
+                continue;
+            }
+            long score = candidate.getDistanceFromGate(entryGate);
+            if (balanceLoad) {
+                score += (long) zoneLoadPenalty * load;
+            }
+            if (score < bestScore) {
+                bestScore = score;
+                bestSlot = candidate;
+            }
+        }
+        return bestSlot;
+    }
+
+    private ParkingSlot findInPools(Map<SlotType, FreeSlotPool> pools, Vehicle vehicle, Gate entryGate) {
+        ParkingSlot bestSlot = null;
+        int minDistance = Integer.MAX_VALUE;
+
+        for (Map.Entry<SlotType, FreeSlotPool> entry : pools.entrySet()) {
+            if (!SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), entry.getKey())) {
+                continue;
+            }
+            ParkingSlot candidate = entry.getValue().nearest(entryGate, slot ->
+                    SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices()));
+            if (candidate == null) {
+                continue;
+            }
+            int distance = candidate.getDistanceFromGate(entryGate);
+            if (distance < minDistance) {
+                minDistance = distance;
+                bestSlot = candidate;
+            }
+        }
+        return bestSlot;
+    }
+
+    private FreeSlotPool poolFor(ParkingSlot slot) {
+        Map<SlotType, FreeSlotPool> pools = isEvCapable(slot)
+                ? evPools.computeIfAbsent(slot.getZone(), zone -> new EnumMap<>(SlotType.class))
+                : regularPools;
+        return pools.computeIfAbsent(slot.getSlotType(), type -> new FreeSlotPool());
+    }
+
+    private static boolean isEvCapable(ParkingSlot slot) {
+        return SlotCompatibility.supportsService(slot.getSupportedServices(), EV_CHARGING);
+    }
+}
\ No newline at end of file
@@ -1,48 +1,102 @@
 package strategy;
 
+import billing.FeeBreakdown;
 import models.Ticket;
+import service.ServiceFactory;
 import service.interfaces.Service;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.List;
 
 public class FixedPricingStrategy implements PricingStrategy {
     private static final double FIXED_FEE_PER_HOUR = 50.0;
+    private static final long FIXED_FEE_PER_HOUR_CENTS = FeeBreakdown.toCents(FIXED_FEE_PER_HOUR);
+    private static final long HOUR_MILLIS = 60L * 60 * 1000;
 
     @Override
-    public double calculateFee(Ticket ticket, Date exitTime) {
-        long entryTimeMillis = ticket.getEntryTime().getTime();
-        long exitTimeMillis = exitTime.getTime();
+    public double calculateFee(Ticket ticket, long exitTimeMillis) {
+        return calculateBreakdown(ticket, exitTimeMillis).getTotalCents() / 100.0;
+    }
+
+    /**
+     * Base fee per started hour plus each required service the slot provides, in exact cents
+     */
+    @Override
+    public FeeBreakdown calculateBreakdown(Ticket ticket, long exitTimeMillis) {
+        long entryTimeMillis = ticket.getEntryTimeMillis();
         long durationMillis = exitTimeMillis - entryTimeMillis;
         
         // Convert to hours (rounded up)
-        double hours = Math.ceil(durationMillis / (1000.0 * 60 * 60));
+        long hours = (long) Math.ceil(durationMillis / (1000.0 * 60 * 60));
         
         // Calculate base parking fee
-        double baseFee = hours * FIXED_FEE_PER_HOUR;
+        long baseCents = hours * FIXED_FEE_PER_HOUR_CENTS;
         
         // Calculate service costs for the vehicle's required services
-        double serviceCosts = calculateServiceCosts(ticket);
-        
-        return baseFee + serviceCosts;
+        return calculateServiceCosts(ticket, hours, baseCents);
+    }
+
+    /**
+     * Hours are rounded up, so the fee holds until the end of the current billed hour
+     */
+    @Override
+    public long nextBillingBoundary(Ticket ticket, long atMillis) {
+        long entryTimeMillis = ticket.getEntryTimeMillis();
+        long durationMillis = atMillis - entryTimeMillis;
+        if (durationMillis <= 0) {
+            return atMillis;
+        }
+        long billedHours = (durationMillis + HOUR_MILLIS - 1) / HOUR_MILLIS;
+        return entryTimeMillis + billedHours * HOUR_MILLIS;
     }
     
     /**
-     * Calculate the total cost of services required by the vehicle
+     * Calculate the cost of each service required by the vehicle, in cents, keyed by service ID
      * Only charges for services that the vehicle actually requires
      */
-    private double calculateServiceCosts(Ticket ticket) {
-        double totalServiceCost = 0.0;
+    private FeeBreakdown calculateServiceCosts(Ticket ticket, long hours, long baseCents) {
+        List<Service> requiredServices = ticket.getVehicle().getRequiredServices();
+        if (requiredServices.isEmpty()) {
+            return FeeBreakdown.ofBase(hours, baseCents);
+        }
+        int[] serviceIds = new int[requiredServices.size()];
+        long[] serviceCents = new long[requiredServices.size()];
+        int lines = 0;
         
         // Get the services required by the vehicle
-        for (Service requiredService : ticket.getVehicle().getRequiredServices()) {
+        for (Service requiredService : requiredServices) {
             // Check if the parking slot supports this service
             for (Service supportedService : ticket.getSlot().getSupportedServices()) {
                 if (supportedService.matches(requiredService)) {
-                    totalServiceCost += supportedService.getCost();
+                    lines = addServiceLine(serviceIds, serviceCents, lines,
+                            ServiceFactory.getServiceId(supportedService), FeeBreakdown.toCents(supportedService.getCost()));
                     break; // Only charge once per required service
                 }
             }
         }
         
-        return totalServiceCost;
+        if (lines == 0) {
+            return FeeBreakdown.ofBase(hours, baseCents);
+        }
+        if (lines < serviceIds.length) {
+            serviceIds = Arrays.copyOf(serviceIds, lines);
+            serviceCents = Arrays.copyOf(serviceCents, lines);
+        }
+        return new FeeBreakdown(hours, baseCents, serviceIds, serviceCents);
+    }
+
+    /**
+     * Add cents to the line for the service, appending a line if it has none yet
+     * @return the new number of lines
+     */
+    private static int addServiceLine(int[] serviceIds, long[] serviceCents, int lines, int serviceId, long cents) {
+        for (int line = 0; line < lines; line++) {
+            if (serviceIds[line] == serviceId) {
+                serviceCents[line] += cents;
+                return lines;
+            }
+        }
+        serviceIds[lines] = serviceId;
+        serviceCents[lines] = cents;
+        return lines + 1;
     }
 }
\ No newline at end of file
@@ -3,16 +3,21 @@ package strategy;
 import models.Vehicle;
 import models.Gate;
 import models.ParkingSlot;
+import models.SlotStore;
 import enums.SlotAvailability;
-import enums.SlotType;
-import enums.VehicleType;
-import service.interfaces.Service;
 import java.util.List;
 
 public class NearestMatchingSlotStrategy implements SlotAllotmentStrategy {
     
     @Override
     public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        // Array-backed lots are scanned directly without materialising slot views
+        SlotStore store = SlotStore.backing(slots);
+        if (store != null) {
+            int index = store.findNearestAvailable(vehicle, entryGate);
+            return index < 0 ? null : store.slot(index);
+        }
+        
         ParkingSlot bestSlot = null;
         int minDistance = Integer.MAX_VALUE;
         
@@ -23,12 +28,12 @@ public class NearestMatchingSlotStrategy implements SlotAllotmentStrategy {
             }
             
             // Check if slot type matches vehicle type
-            if (!isSlotCompatible(vehicle.getVehicleType(), slot.getSlotType())) {
+            if (!SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slot.getSlotType())) {
                 continue;
             }
             
             // Check if slot supports all required services
-            if (!supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices())) {
+            if (!SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices())) {
                 continue;
             }
             
@@ -42,37 +47,4 @@ public class NearestMatchingSlotStrategy implements SlotAllotmentStrategy {
         
         return bestSlot;
     }
-    
-    private boolean isSlotCompatible(VehicleType vehicleType, SlotType slotType) {
-        switch (vehicleType) {
-            case BIKE:
-                return slotType == SlotType.SMALL || slotType == SlotType.MEDIUM || slotType == SlotType.LARGE;
-            case CAR:
-                return slotType == SlotType.MEDIUM || slotType == SlotType.LARGE;
-            case TRUCK:
-                return slotType == SlotType.LARGE;
-            default:
-                return false;
-        }
-    }
-    
-    /**
-     * Check if the slot's supported services include all the required services
-     * Services are matched by name
-     */
-    private boolean supportsAllRequiredServices(List<Service> supportedServices, List<Service> requiredServices) {
-        for (Service requiredService : requiredServices) {
-            boolean serviceFound = false;
-            for (Service supportedService : supportedServices) {
-                if (supportedService.matches(requiredService)) {
-                    serviceFound = true;
-                    break;
-                }
-            }
-            if (!serviceFound) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
\ No newline at end of file
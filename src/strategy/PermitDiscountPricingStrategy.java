@@ -0,0 +1,49 @@
+package strategy;
+
+import billing.FeeBreakdown;
+import models.Ticket;
+import models.VehicleProfile;
+
+/**
+ * Wraps another pricing strategy and takes the permit discount off the base parking fee
+ * of tickets whose vehicle held a valid permit on entry. Service charges are not
+ * discounted. Tickets without a profile pay the delegate's fee unchanged.
+ */
+public class PermitDiscountPricingStrategy implements PricingStrategy {
+    private final PricingStrategy delegate;
+
+    public PermitDiscountPricingStrategy(PricingStrategy delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate pricing strategy cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public double calculateFee(Ticket ticket, long exitTimeMillis) {
+        return calculateBreakdown(ticket, exitTimeMillis).getTotalCents() / 100.0;
+    }
+
+    @Override
+    public FeeBreakdown calculateBreakdown(Ticket ticket, long exitTimeMillis) {
+        FeeBreakdown breakdown = delegate.calculateBreakdown(ticket, exitTimeMillis);
+        VehicleProfile profile = ticket.getProfile();
+        if (profile == null || !profile.hasValidPermitAt(ticket.getEntryTimeMillis())) {
+            return breakdown;
+        }
+        long discountCents = Math.round(breakdown.getBaseCents() * profile.getPermitDiscount());
+        return breakdown.withBaseCents(breakdown.getBaseCents() - discountCents);
+    }
+
+    /**
+     * The discount is fixed for the stay, so the fee changes exactly when the delegate's does
+     */
+    @Override
+    public long nextBillingBoundary(Ticket ticket, long atMillis) {
+        return delegate.nextBillingBoundary(ticket, atMillis);
+    }
+
+    public PricingStrategy getDelegate() {
+        return delegate;
+    }
+}
\ No newline at end of file
@@ -1,8 +1,32 @@
 package strategy;
 
+import billing.FeeBreakdown;
 import models.Ticket;
 import java.util.Date;
 
 public interface PricingStrategy {
-    double calculateFee(Ticket ticket, Date exitTime);
+    /**
+     * Fee for a stay ending at exitTimeMillis (epoch millis)
+     */
+    double calculateFee(Ticket ticket, long exitTimeMillis);
+
+    default double calculateFee(Ticket ticket, Date exitTime) {
+        return calculateFee(ticket, exitTime.getTime());
+    }
+
+    /**
+     * Itemised fee in cents, recorded in the billing ledger. Strategies without
+     * line items report their total as the base fee.
+     */
+    default FeeBreakdown calculateBreakdown(Ticket ticket, long exitTimeMillis) {
+        return FeeBreakdown.ofTotal(FeeBreakdown.toCents(calculateFee(ticket, exitTimeMillis)));
+    }
+
+    /**
+     * Last instant (inclusive) at which calculateFee still returns the fee for atMillis.
+     * Fee quotes are cached until then. The default assumes the fee may change at any time.
+     */
+    default long nextBillingBoundary(Ticket ticket, long atMillis) {
+        return atMillis;
+    }
 }
\ No newline at end of file
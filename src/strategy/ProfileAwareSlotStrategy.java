@@ -0,0 +1,149 @@
+package strategy;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import models.VehicleProfile;
+import enums.SlotAvailability;
+import profile.VehicleProfileCache;
+import strategy.index.FreeSlotPool;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Allotment that honours a registered vehicle's parking preferences.
+ *
+ * The vehicle's profile is read from the cache without recording an access (the lot has
+ * already looked it up on entry). If the profile names a preferred slot that is free and
+ * fits, that slot is used; otherwise the nearest fitting free slot in the preferred zone;
+ * otherwise - and for vehicles without a profile - the delegate strategy decides.
+ *
+ * Slots by ID and free slots per zone are kept up to date from SlotStateListener events,
+ * and events are forwarded to the delegate when it is an indexed strategy itself.
+ */
+public class ProfileAwareSlotStrategy implements SlotAllotmentStrategy, SlotStateListener {
+    private final SlotAllotmentStrategy delegate;
+    private final VehicleProfileCache profileCache;
+    private final Map<String, ParkingSlot> slotsById = new HashMap<>();
+    private final Map<String, FreeSlotPool> freeByZone = new HashMap<>();
+
+    private List<ParkingSlot> indexedSlots;
+    private long preferredSlotHits;
+    private long preferredZoneHits;
+
+    public ProfileAwareSlotStrategy(SlotAllotmentStrategy delegate, VehicleProfileCache profileCache) {
+        if (delegate == null || profileCache == null) {
+            throw new IllegalArgumentException("Delegate strategy and profile cache are required");
+        }
+        this.delegate = delegate;
+        this.profileCache = profileCache;
+    }
+
+    @Override
+    public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        if (slots != indexedSlots) {
+            reset(slots);
+        }
+        VehicleProfile profile = profileCache.getIfPresent(vehicle.getVehicleId());
+        if (profile != null) {
+            // A preferred slot still has to be one the delegate could have chosen
+            Predicate<ParkingSlot> fits = slot ->
+                    SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slot.getSlotType())
+                    && SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices())
+                    && slot.getDistanceFromGate(entryGate) != Integer.MAX_VALUE
+                    && delegate.isEligible(vehicle, entryGate, slot);
+            if (profile.getPreferredSlotId() != null) {
+                ParkingSlot preferred = slotsById.get(profile.getPreferredSlotId());
+                if (preferred != null && preferred.getAvailability() == SlotAvailability.AVAILABLE
+                        && fits.test(preferred)) {
+                    preferredSlotHits++;
+                    return preferred;
+                }
+            }
+            if (profile.getPreferredZone() != null) {
+                FreeSlotPool zonePool = freeByZone.get(profile.getPreferredZone());
+                ParkingSlot inZone = zonePool == null ? null : zonePool.nearest(entryGate, fits);
+                if (inZone != null) {
+                    preferredZoneHits++;
+                    return inZone;
+                }
+            }
+        }
+        return delegate.findSlot(vehicle, entryGate, slots);
+    }
+
+    /**
+     * Profiles are preferences, not rules; the delegate's rules still apply
+     */
+    @Override
+    public boolean isEligible(Vehicle vehicle, Gate entryGate, ParkingSlot slot) {
+        return delegate.isEligible(vehicle, entryGate, slot);
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        slotsById.clear();
+        freeByZone.clear();
+        indexedSlots = slots;
+        for (ParkingSlot slot : slots) {
+            index(slot);
+        }
+        if (delegate instanceof SlotStateListener) {
+            ((SlotStateListener) delegate).reset(slots);
+        }
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        index(slot);
+        if (delegate instanceof SlotStateListener) {
+            ((SlotStateListener) delegate).onSlotAdded(slot);
+        }
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from != to) {
+            if (from == SlotAvailability.AVAILABLE) {
+                zonePool(slot).remove(slot);
+            } else if (to == SlotAvailability.AVAILABLE) {
+                zonePool(slot).add(slot);
+            }
+        }
+        if (delegate instanceof SlotStateListener) {
+            ((SlotStateListener) delegate).onAvailabilityChanged(slot, from, to);
+        }
+    }
+
+    /**
+     * Allotments that went to the vehicle's preferred slot
+     */
+    public long getPreferredSlotHits() {
+        return preferredSlotHits;
+    }
+
+    /**
+     * Allotments that went to a slot in the vehicle's preferred zone
+     */
+    public long getPreferredZoneHits() {
+        return preferredZoneHits;
+    }
+
+    public SlotAllotmentStrategy getDelegate() {
+        return delegate;
+    }
+
+    private void index(ParkingSlot slot) {
+        slotsById.put(slot.getSlotId(), slot);
+        if (slot.getAvailability() == SlotAvailability.AVAILABLE) {
+            zonePool(slot).add(slot);
+        }
+    }
+
+    private FreeSlotPool zonePool(ParkingSlot slot) {
+        return freeByZone.computeIfAbsent(slot.getZone(), zone -> new FreeSlotPool());
+    }
+}
\ No newline at end of file
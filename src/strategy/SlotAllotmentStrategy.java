@@ -7,4 +7,14 @@ import java.util.List;
 
 public interface SlotAllotmentStrategy {
     ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots);
+
+    /**
+     * Whether the strategy's policy lets this vehicle have a slot picked earlier, e.g. one
+     * a gate cache pre-claimed while serving another vehicle. Type and service fit are
+     * checked by the caller. Called without the lot's slot lock, so it must not read the
+     * strategy's index; when in doubt answer false and the park goes through findSlot.
+     */
+    default boolean isEligible(Vehicle vehicle, Gate entryGate, ParkingSlot slot) {
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package strategy;
+
+import enums.SlotType;
+import enums.VehicleType;
+import service.interfaces.Service;
+import java.util.List;
+
+/**
+ * Shared slot matching rules used by the allotment strategies
+ */
+public final class SlotCompatibility {
+
+    private SlotCompatibility() {
+    }
+
+    public static boolean isSlotCompatible(VehicleType vehicleType, SlotType slotType) {
+        switch (vehicleType) {
+            case BIKE:
+                return slotType == SlotType.SMALL || slotType == SlotType.MEDIUM || slotType == SlotType.LARGE;
+            case CAR:
+                return slotType == SlotType.MEDIUM || slotType == SlotType.LARGE;
+            case TRUCK:
+                return slotType == SlotType.LARGE;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Check if the slot's supported services include all the required services
+     * Services are matched by name. Called once per slot scanned, so the (short, array-backed)
+     * lists are walked by index: an iterator per call is garbage whenever the JIT cannot
+     * prove it does not escape, e.g. with several List implementations in play.
+     */
+    public static boolean supportsAllRequiredServices(List<Service> supportedServices, List<Service> requiredServices) {
+        for (int i = 0; i < requiredServices.size(); i++) {
+            if (!supportsService(supportedServices, requiredServices.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean supportsService(List<Service> supportedServices, Service service) {
+        for (int i = 0; i < supportedServices.size(); i++) {
+            if (supportedServices.get(i).matches(service)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package strategy;
+
+import billing.FeeBreakdown;
+import enums.SlotType;
+import models.Ticket;
+import occupancy.OccupancyTracker;
+
+/**
+ * Wraps another pricing strategy and scales its base parking fee by how congested the
+ * ticket's slot type was during the stay.
+ *
+ * The congestion measure is the time-weighted average fill of the slot type between
+ * entry and exit, read from an OccupancyTracker in O(1). Below surgeThreshold the fee is
+ * unchanged; from there the multiplier rises linearly to maxMultiplier at a full lot:
+ *   multiplier = 1 + (maxMultiplier - 1) * (averageFill - surgeThreshold) / (1 - surgeThreshold)
+ * Service charges are not surged.
+ */
+public class SurgePricingStrategy implements PricingStrategy {
+    private final PricingStrategy delegate;
+    private final OccupancyTracker occupancyTracker;
+    private final double surgeThreshold;
+    private final double maxMultiplier;
+
+    /**
+     * @param surgeThreshold average fill (0..1) above which the surcharge starts
+     * @param maxMultiplier multiplier applied to the base fee when the slot type was full all stay
+     */
+    public SurgePricingStrategy(PricingStrategy delegate, OccupancyTracker occupancyTracker,
+                                double surgeThreshold, double maxMultiplier) {
+        if (delegate == null || occupancyTracker == null) {
+            throw new IllegalArgumentException("Delegate pricing strategy and occupancy tracker are required");
+        }
+        if (surgeThreshold < 0.0 || surgeThreshold >= 1.0) {
+            throw new IllegalArgumentException("Surge threshold must be in [0, 1): " + surgeThreshold);
+        }
+        if (maxMultiplier < 1.0) {
+            throw new IllegalArgumentException("Maximum multiplier cannot be below 1: " + maxMultiplier);
+        }
+        this.delegate = delegate;
+        this.occupancyTracker = occupancyTracker;
+        this.surgeThreshold = surgeThreshold;
+        this.maxMultiplier = maxMultiplier;
+    }
+
+    @Override
+    public double calculateFee(Ticket ticket, long exitTimeMillis) {
+        return calculateBreakdown(ticket, exitTimeMillis).getTotalCents() / 100.0;
+    }
+
+    @Override
+    public FeeBreakdown calculateBreakdown(Ticket ticket, long exitTimeMillis) {
+        FeeBreakdown breakdown = delegate.calculateBreakdown(ticket, exitTimeMillis);
+        double multiplier = getMultiplier(ticket, exitTimeMillis);
+        if (multiplier == 1.0) {
+            return breakdown;
+        }
+        return breakdown.withBaseCents(Math.round(breakdown.getBaseCents() * multiplier));
+    }
+
+    /**
+     * Multiplier on the base fee for a stay ending at exitTimeMillis
+     */
+    public double getMultiplier(Ticket ticket, long exitTimeMillis) {
+        SlotType slotType = ticket.getSlot().getSlotType();
+        double averageFill = occupancyTracker.getAverageFill(slotType, ticket.getEntryTimeMillis(), exitTimeMillis);
+        if (averageFill <= surgeThreshold) {
+            return 1.0;
+        }
+        double surge = Math.min(1.0, (averageFill - surgeThreshold) / (1.0 - surgeThreshold));
+        return 1.0 + (maxMultiplier - 1.0) * surge;
+    }
+
+    /**
+     * The multiplier moves with every park and unpark, so quotes are never cached ahead
+     */
+    @Override
+    public long nextBillingBoundary(Ticket ticket, long atMillis) {
+        return atMillis;
+    }
+
+    public PricingStrategy getDelegate() {
+        return delegate;
+    }
+
+    public OccupancyTracker getOccupancyTracker() {
+        return occupancyTracker;
+    }
+}
\ No newline at end of file
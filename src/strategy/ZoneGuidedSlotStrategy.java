@@ -0,0 +1,129 @@
+package strategy;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import enums.SlotAvailability;
+import service.interfaces.Service;
+import zone.ZoneNode;
+import zone.ZoneTree;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Nearest-slot allotment that walks the lot's zone tree instead of scanning every slot.
+ *
+ * From the root it descends into children in order of their nearest slot to the gate,
+ * skipping any subtree whose aggregated free counts show no slot of a compatible type
+ * or no free slot with one of the required services, and any subtree that cannot beat
+ * the best slot found so far. Only rows that may hold a fit are scanned.
+ *
+ * The counts are per type and per service, not per combination, so a subtree that passes
+ * may still hold no single slot with both; the search then backtracks.
+ */
+public class ZoneGuidedSlotStrategy implements SlotAllotmentStrategy, SlotStateListener {
+    private final ZoneTree zoneTree;
+    private List<ParkingSlot> indexedSlots;
+
+    public ZoneGuidedSlotStrategy() {
+        this(ZoneTree.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param zoneSeparator separator between levels of a slot's zone, e.g. "/" in "L2/B/R3"
+     */
+    public ZoneGuidedSlotStrategy(String zoneSeparator) {
+        this.zoneTree = new ZoneTree(zoneSeparator);
+    }
+
+    @Override
+    public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        if (slots != indexedSlots) {
+            reset(slots);
+        }
+        Search search = new Search(vehicle, entryGate);
+        search.visit(zoneTree.getRoot());
+        return search.bestSlot;
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        indexedSlots = slots;
+        zoneTree.reset(slots);
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        zoneTree.onSlotAdded(slot);
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        zoneTree.onAvailabilityChanged(slot, from, to);
+    }
+
+    /**
+     * The tree this strategy keeps current - read it for signage
+     */
+    public ZoneTree getZoneTree() {
+        return zoneTree;
+    }
+
+    private static final class Search {
+        private final Vehicle vehicle;
+        private final Gate gate;
+        private final Comparator<ZoneNode> nearestFirst;
+        private ParkingSlot bestSlot;
+        private int bestDistance = Integer.MAX_VALUE;
+
+        Search(Vehicle vehicle, Gate gate) {
+            this.vehicle = vehicle;
+            this.gate = gate;
+            this.nearestFirst = Comparator.comparingInt(node -> node.getMinDistance(gate));
+        }
+
+        void visit(ZoneNode node) {
+            if (node.getMinDistance(gate) >= bestDistance || !mayFit(node)) {
+                return;
+            }
+            for (ParkingSlot slot : node.getOwnSlots()) {
+                if (slot.getAvailability() != SlotAvailability.AVAILABLE
+                        || !SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slot.getSlotType())
+                        || !SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices())) {
+                    continue;
+                }
+                int distance = slot.getDistanceFromGate(gate);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestSlot = slot;
+                }
+            }
+            List<ZoneNode> children = node.getChildren();
+            if (children.isEmpty()) {
+                return;
+            }
+            ZoneNode[] ordered = children.toArray(new ZoneNode[0]);
+            Arrays.sort(ordered, nearestFirst);
+            for (ZoneNode child : ordered) {
+                if (child.getMinDistance(gate) >= bestDistance) {
+                    break;
+                }
+                visit(child);
+            }
+        }
+
+        private boolean mayFit(ZoneNode node) {
+            if (node.getFreeCountFor(vehicle.getVehicleType()) == 0) {
+                return false;
+            }
+            for (Service service : vehicle.getRequiredServices()) {
+                if (node.getFreeCount(service) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package strategy.index;
+
+import enums.SlotType;
+import models.Gate;
+import models.ParkingSlot;
+import models.ParkingSlotBuilder;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * A set of free slots with a distance-ordered view per entry gate.
+ *
+ * Gate views are built lazily on the first lookup from that gate and then kept in
+ * step with add/remove, so nearest-slot queries are O(log n) instead of a scan.
+ * Slot distances must not change while a slot is in the pool.
+ *
+ * Not thread-safe - owners call it under the parking lot's slot lock.
+ */
+public class FreeSlotPool {
+    private final Set<ParkingSlot> members = new LinkedHashSet<>();
+    private final Map<Gate, TreeSet<ParkingSlot>> byGate = new HashMap<>();
+
+    public boolean add(ParkingSlot slot) {
+        if (!members.add(slot)) {
+            return false;
+        }
+        for (TreeSet<ParkingSlot> view : byGate.values()) {
+            view.add(slot);
+        }
+        return true;
+    }
+
+    public boolean remove(ParkingSlot slot) {
+        if (!members.remove(slot)) {
+            return false;
+        }
+        for (TreeSet<ParkingSlot> view : byGate.values()) {
+            view.remove(slot);
+        }
+        return true;
+    }
+
+    public boolean contains(ParkingSlot slot) {
+        return members.contains(slot);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    public void clear() {
+        members.clear();
+        byGate.clear();
+    }
+
+    /**
+     * Nearest free slot to the gate accepted by the filter (null filter accepts all)
+     */
+    public ParkingSlot nearest(Gate gate, Predicate<ParkingSlot> filter) {
+        for (ParkingSlot slot : view(gate)) {
+            if (filter == null || filter.test(slot)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Free slot accepted by the filter whose distance from the gate is closest to
+     * targetDistance, walking outwards from the target in both directions
+     */
+    public ParkingSlot nearestTo(Gate gate, int targetDistance, Predicate<ParkingSlot> filter) {
+        TreeSet<ParkingSlot> view = view(gate);
+        ParkingSlot probe = new ParkingSlotBuilder()
+            .withSlotId("")
+            .withSlotType(SlotType.SMALL)
+            .withDistance(gate, targetDistance)
+            .build();
+        Iterator<ParkingSlot> farther = view.tailSet(probe, true).iterator();
+        Iterator<ParkingSlot> nearer = view.headSet(probe, false).descendingIterator();
+        ParkingSlot nextFarther = next(farther, filter);
+        ParkingSlot nextNearer = next(nearer, filter);
+        if (nextFarther == null || nextNearer == null) {
+            return nextFarther != null ? nextFarther : nextNearer;
+        }
+        long fartherGap = (long) nextFarther.getDistanceFromGate(gate) - targetDistance;
+        long nearerGap = (long) targetDistance - nextNearer.getDistanceFromGate(gate);
+        return nearerGap <= fartherGap ? nextNearer : nextFarther;
+    }
+
+    /**
+     * Free slots in ascending distance from the gate (read-only view)
+     */
+    public NavigableSet<ParkingSlot> inDistanceOrder(Gate gate) {
+        return Collections.unmodifiableNavigableSet(view(gate));
+    }
+
+    private static ParkingSlot next(Iterator<ParkingSlot> slots, Predicate<ParkingSlot> filter) {
+        while (slots.hasNext()) {
+            ParkingSlot slot = slots.next();
+            if (filter == null || filter.test(slot)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private TreeSet<ParkingSlot> view(Gate gate) {
+        TreeSet<ParkingSlot> view = byGate.get(gate);
+        if (view == null) {
+            view = new TreeSet<>(byDistanceFrom(gate));
+            view.addAll(members);
+            byGate.put(gate, view);
+        }
+        return view;
+    }
+
+    /**
+     * Total order on slots by distance from a gate, ties broken by slot ID.
+     * The final hashCode tie-break keeps flyweight views of the same slot equal.
+     */
+    public static Comparator<ParkingSlot> byDistanceFrom(Gate gate) {
+        return Comparator.<ParkingSlot>comparingInt(slot -> slot.getDistanceFromGate(gate))
+                .thenComparing(ParkingSlot::getSlotId)
+                .thenComparingInt(ParkingSlot::hashCode);
+    }
+}
\ No newline at end of file
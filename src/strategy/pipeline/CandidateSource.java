@@ -0,0 +1,23 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import strategy.index.FreeSlotPool;
+import java.util.List;
+
+/**
+ * Index-backed supply of candidate slots for a vehicle.
+ *
+ * The returned pools together must contain every free slot the vehicle could be given,
+ * so the pipeline is free to pick whichever applicable source is currently smallest.
+ */
+public interface CandidateSource {
+    /**
+     * Pools whose union covers all acceptable slots, or null if this source places no
+     * restriction on the vehicle. An empty list means nothing can fit.
+     */
+    List<FreeSlotPool> pools(Vehicle vehicle, SlotIndex index);
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import enums.SlotType;
+import service.interfaces.Service;
+import strategy.SlotCompatibility;
+import strategy.index.FreeSlotPool;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Built-in candidate sources
+ */
+public final class CandidateSources {
+
+    private CandidateSources() {
+    }
+
+    /**
+     * Free slots of every type the vehicle fits - always applicable
+     */
+    public static CandidateSource bySlotType() {
+        return new CandidateSource() {
+            @Override
+            public List<FreeSlotPool> pools(Vehicle vehicle, SlotIndex index) {
+                List<FreeSlotPool> pools = new ArrayList<>(SlotType.values().length);
+                for (SlotType slotType : SlotType.values()) {
+                    if (SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slotType)) {
+                        pools.add(index.typePool(slotType));
+                    }
+                }
+                return pools;
+            }
+
+            @Override
+            public String getName() {
+                return "slotType";
+            }
+        };
+    }
+
+    /**
+     * Free slots offering the vehicle's rarest required service
+     */
+    public static CandidateSource byRequiredService() {
+        return new CandidateSource() {
+            @Override
+            public List<FreeSlotPool> pools(Vehicle vehicle, SlotIndex index) {
+                if (vehicle.getRequiredServices().isEmpty()) {
+                    return null;
+                }
+                FreeSlotPool rarest = null;
+                for (Service service : vehicle.getRequiredServices()) {
+                    FreeSlotPool pool = index.servicePool(service);
+                    if (pool == null || pool.isEmpty()) {
+                        return Collections.emptyList();
+                    }
+                    if (rarest == null || pool.size() < rarest.size()) {
+                        rarest = pool;
+                    }
+                }
+                return Collections.singletonList(rarest);
+            }
+
+            @Override
+            public String getName() {
+                return "requiredService";
+            }
+        };
+    }
+
+    /**
+     * Free slots in the zone the vehicle is restricted to (null zone means unrestricted).
+     * Must be paired with SlotFilters.inZone on the same function.
+     */
+    public static CandidateSource byZone(Function<Vehicle, String> zoneOf) {
+        return new CandidateSource() {
+            @Override
+            public List<FreeSlotPool> pools(Vehicle vehicle, SlotIndex index) {
+                String zone = zoneOf.apply(vehicle);
+                if (zone == null) {
+                    return null;
+                }
+                FreeSlotPool pool = index.zonePool(zone);
+                return pool == null ? Collections.emptyList() : Collections.singletonList(pool);
+            }
+
+            @Override
+            public String getName() {
+                return "zone";
+            }
+        };
+    }
+}
\ No newline at end of file
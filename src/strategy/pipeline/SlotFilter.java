@@ -0,0 +1,17 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+
+/**
+ * Hard rule a candidate slot must pass. The pipeline tracks each filter's pass rate
+ * and runs the most selective ones first.
+ */
+public interface SlotFilter {
+    boolean test(Vehicle vehicle, Gate entryGate, ParkingSlot slot);
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import strategy.SlotCompatibility;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Built-in slot filters
+ */
+public final class SlotFilters {
+
+    private SlotFilters() {
+    }
+
+    public static SlotFilter slotTypeCompatible() {
+        return named("slotTypeCompatible", (vehicle, entryGate, slot) ->
+                SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slot.getSlotType()));
+    }
+
+    public static SlotFilter supportsRequiredServices() {
+        return named("supportsRequiredServices", (vehicle, entryGate, slot) ->
+                SlotCompatibility.supportsAllRequiredServices(slot.getSupportedServices(), vehicle.getRequiredServices()));
+    }
+
+    /**
+     * Keeps the vehicle inside the zone given by zoneOf (null zone means unrestricted)
+     */
+    public static SlotFilter inZone(Function<Vehicle, String> zoneOf) {
+        return named("inZone", (vehicle, entryGate, slot) -> {
+            String zone = zoneOf.apply(vehicle);
+            return zone == null || zone.equals(slot.getZone());
+        });
+    }
+
+    /**
+     * Slots in the zone are held for eligible vehicles only - e.g. VIP or accessible bays
+     */
+    public static SlotFilter reservedZone(String zone, Predicate<Vehicle> eligible) {
+        return named("reservedZone:" + zone, (vehicle, entryGate, slot) ->
+                !zone.equals(slot.getZone()) || eligible.test(vehicle));
+    }
+
+    /**
+     * Give a filter a readable name for the pipeline's statistics
+     */
+    public static SlotFilter named(String name, SlotFilter rule) {
+        return new SlotFilter() {
+            @Override
+            public boolean test(Vehicle vehicle, Gate entryGate, ParkingSlot slot) {
+                return rule.test(vehicle, entryGate, slot);
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
\ No newline at end of file
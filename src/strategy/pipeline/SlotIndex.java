@@ -0,0 +1,109 @@
+package strategy.pipeline;
+
+import models.ParkingSlot;
+import models.SlotStateListener;
+import enums.SlotAvailability;
+import enums.SlotType;
+import service.interfaces.Service;
+import strategy.index.FreeSlotPool;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Free slots indexed by slot type, supported service (by name) and zone.
+ *
+ * Each dimension is a FreeSlotPool, so candidate sources get distance-ordered
+ * views per gate and the pool sizes double as live cardinality statistics.
+ */
+public class SlotIndex implements SlotStateListener {
+    private final Map<SlotType, FreeSlotPool> byType = new EnumMap<>(SlotType.class);
+    private final Map<String, FreeSlotPool> byService = new HashMap<>();
+    private final Map<String, FreeSlotPool> byZone = new HashMap<>();
+    private int freeSlots;
+
+    public SlotIndex() {
+        for (SlotType slotType : SlotType.values()) {
+            byType.put(slotType, new FreeSlotPool());
+        }
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        for (FreeSlotPool pool : byType.values()) {
+            pool.clear();
+        }
+        byService.clear();
+        byZone.clear();
+        freeSlots = 0;
+        for (ParkingSlot slot : slots) {
+            onSlotAdded(slot);
+        }
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        if (slot.getAvailability() == SlotAvailability.AVAILABLE) {
+            index(slot);
+        }
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from == to) {
+            return;
+        }
+        if (from == SlotAvailability.AVAILABLE) {
+            unindex(slot);
+        } else if (to == SlotAvailability.AVAILABLE) {
+            index(slot);
+        }
+    }
+
+    public FreeSlotPool typePool(SlotType slotType) {
+        return byType.get(slotType);
+    }
+
+    /**
+     * Free slots offering the service, or null if no free slot does
+     */
+    public FreeSlotPool servicePool(Service service) {
+        return byService.get(service.getName());
+    }
+
+    /**
+     * Free slots in the zone, or null if the zone has none
+     */
+    public FreeSlotPool zonePool(String zone) {
+        return byZone.get(zone);
+    }
+
+    public int getFreeSlotCount() {
+        return freeSlots;
+    }
+
+    private void index(ParkingSlot slot) {
+        freeSlots++;
+        byType.get(slot.getSlotType()).add(slot);
+        for (Service service : slot.getSupportedServices()) {
+            byService.computeIfAbsent(service.getName(), name -> new FreeSlotPool()).add(slot);
+        }
+        byZone.computeIfAbsent(slot.getZone(), zone -> new FreeSlotPool()).add(slot);
+    }
+
+    private void unindex(ParkingSlot slot) {
+        freeSlots--;
+        byType.get(slot.getSlotType()).remove(slot);
+        for (Service service : slot.getSupportedServices()) {
+            FreeSlotPool pool = byService.get(service.getName());
+            if (pool != null) {
+                pool.remove(slot);
+            }
+        }
+        FreeSlotPool zonePool = byZone.get(slot.getZone());
+        if (zonePool != null) {
+            zonePool.remove(slot);
+        }
+    }
+}
\ No newline at end of file
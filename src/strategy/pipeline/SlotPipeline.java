@@ -0,0 +1,259 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import enums.SlotAvailability;
+import strategy.SlotAllotmentStrategy;
+import strategy.index.FreeSlotPool;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Allotment strategy composed of candidate sources, filters and scorers.
+ *
+ * For each vehicle the pipeline:
+ * 1. asks every source for its pools and takes the smallest applicable one (live pool sizes)
+ * 2. walks that source's free slots in distance order from the gate
+ * 3. drops slots failing any filter - filters are periodically re-ordered by observed
+ *    pass rate so the most selective run first and short-circuit the rest
+ * 4. scores survivors as distance + scorer penalties and stops as soon as the distance
+ *    alone can no longer beat the best score
+ *
+ * Nothing walks the full slot list; new policies plug in as a filter or scorer.
+ * Build with SlotPipelineBuilder.
+ */
+public class SlotPipeline implements SlotAllotmentStrategy, SlotStateListener {
+    private static final int REORDER_INTERVAL = 256;
+
+    private final SlotIndex index = new SlotIndex();
+    private final List<CandidateSource> sources;
+    private final FilterStats[] filters;
+    // Declaration order, never re-sorted - read without the slot lock by isEligible
+    private final List<SlotFilter> rules;
+    private final List<SlotScorer> scorers;
+    private final long[] sourceSelections;
+
+    private List<ParkingSlot> indexedSlots;
+    private int decisionsSinceReorder;
+
+    SlotPipeline(List<CandidateSource> sources, List<SlotFilter> filters, List<SlotScorer> scorers) {
+        this.sources = new ArrayList<>(sources);
+        this.filters = new FilterStats[filters.size()];
+        for (int i = 0; i < filters.size(); i++) {
+            this.filters[i] = new FilterStats(filters.get(i));
+        }
+        this.rules = new ArrayList<>(filters);
+        this.scorers = new ArrayList<>(scorers);
+        this.sourceSelections = new long[sources.size()];
+    }
+
+    @Override
+    public ParkingSlot findSlot(Vehicle vehicle, Gate entryGate, List<ParkingSlot> slots) {
+        if (slots != indexedSlots) {
+            reset(slots);
+        }
+        if (++decisionsSinceReorder >= REORDER_INTERVAL) {
+            reorderFilters();
+        }
+
+        List<FreeSlotPool> candidates = null;
+        int candidateCount = Integer.MAX_VALUE;
+        int selected = -1;
+        for (int i = 0; i < sources.size(); i++) {
+            List<FreeSlotPool> pools = sources.get(i).pools(vehicle, index);
+            if (pools == null) {
+                continue;
+            }
+            int count = 0;
+            for (FreeSlotPool pool : pools) {
+                count += pool.size();
+            }
+            if (count < candidateCount) {
+                candidates = pools;
+                candidateCount = count;
+                selected = i;
+            }
+        }
+        if (candidates == null || candidateCount == 0) {
+            return null;
+        }
+        sourceSelections[selected]++;
+
+        ParkingSlot bestSlot = null;
+        double bestScore = Double.MAX_VALUE;
+        Iterator<ParkingSlot> inDistanceOrder = inDistanceOrder(candidates, entryGate);
+        while (inDistanceOrder.hasNext()) {
+            ParkingSlot slot = inDistanceOrder.next();
+            int distance = slot.getDistanceFromGate(entryGate);
+            if (distance == Integer.MAX_VALUE || distance >= bestScore) {
+                break;
+            }
+            if (!passesFilters(vehicle, entryGate, slot)) {
+                continue;
+            }
+            double score = distance;
+            for (SlotScorer scorer : scorers) {
+                score += scorer.penalty(vehicle, entryGate, slot);
+            }
+            if (score < bestScore) {
+                bestScore = score;
+                bestSlot = slot;
+            }
+        }
+        return bestSlot;
+    }
+
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        indexedSlots = slots;
+        index.reset(slots);
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        index.onSlotAdded(slot);
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        index.onAvailabilityChanged(slot, from, to);
+    }
+
+    /**
+     * Filters in their current evaluation order with their pass rates
+     */
+    public Map<String, Double> getFilterPassRates() {
+        Map<String, Double> passRates = new LinkedHashMap<>();
+        for (FilterStats stats : filters) {
+            passRates.put(stats.filter.getName(), stats.passRate());
+        }
+        return passRates;
+    }
+
+    /**
+     * How often each candidate source was the smallest and got used
+     */
+    public Map<String, Long> getSourceSelections() {
+        Map<String, Long> selections = new LinkedHashMap<>();
+        for (int i = 0; i < sources.size(); i++) {
+            selections.put(sources.get(i).getName(), sourceSelections[i]);
+        }
+        return selections;
+    }
+
+    public SlotIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * A slot picked earlier must still pass every filter
+     */
+    @Override
+    public boolean isEligible(Vehicle vehicle, Gate entryGate, ParkingSlot slot) {
+        for (SlotFilter rule : rules) {
+            if (!rule.test(vehicle, entryGate, slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean passesFilters(Vehicle vehicle, Gate entryGate, ParkingSlot slot) {
+        for (FilterStats stats : filters) {
+            stats.tested++;
+            if (!stats.filter.test(vehicle, entryGate, slot)) {
+                return false;
+            }
+            stats.passed++;
+        }
+        return true;
+    }
+
+    /**
+     * Most selective filters first; counts are halved so the order follows recent traffic
+     */
+    private void reorderFilters() {
+        decisionsSinceReorder = 0;
+        Arrays.sort(filters, Comparator.comparingDouble(FilterStats::passRate));
+        for (FilterStats stats : filters) {
+            stats.tested >>= 1;
+            stats.passed >>= 1;
+        }
+    }
+
+    private static Iterator<ParkingSlot> inDistanceOrder(List<FreeSlotPool> pools, Gate entryGate) {
+        if (pools.size() == 1) {
+            return pools.get(0).inDistanceOrder(entryGate).iterator();
+        }
+        return new MergingIterator(pools, entryGate);
+    }
+
+    private static final class FilterStats {
+        private final SlotFilter filter;
+        private long tested;
+        private long passed;
+
+        FilterStats(SlotFilter filter) {
+            this.filter = filter;
+        }
+
+        double passRate() {
+            // Untested filters sort last until they have data
+            return tested == 0 ? 1.0 : (double) passed / tested;
+        }
+    }
+
+    /**
+     * Merges several distance-ordered pools into one distance-ordered stream
+     */
+    private static final class MergingIterator implements Iterator<ParkingSlot> {
+        private final List<Iterator<ParkingSlot>> iterators = new ArrayList<>();
+        private final ParkingSlot[] heads;
+        private final Comparator<ParkingSlot> order;
+
+        MergingIterator(List<FreeSlotPool> pools, Gate entryGate) {
+            this.order = FreeSlotPool.byDistanceFrom(entryGate);
+            this.heads = new ParkingSlot[pools.size()];
+            for (int i = 0; i < pools.size(); i++) {
+                Iterator<ParkingSlot> iterator = pools.get(i).inDistanceOrder(entryGate).iterator();
+                iterators.add(iterator);
+                heads[i] = iterator.hasNext() ? iterator.next() : null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (ParkingSlot head : heads) {
+                if (head != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public ParkingSlot next() {
+            int min = -1;
+            for (int i = 0; i < heads.length; i++) {
+                if (heads[i] != null && (min < 0 || order.compare(heads[i], heads[min]) < 0)) {
+                    min = i;
+                }
+            }
+            if (min < 0) {
+                throw new NoSuchElementException();
+            }
+            ParkingSlot next = heads[min];
+            Iterator<ParkingSlot> iterator = iterators.get(min);
+            heads[min] = iterator.hasNext() ? iterator.next() : null;
+            return next;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builder for SlotPipeline. Slot type and required-service matching are always
+ * included, so the pipeline never hands out a slot the plain strategies would refuse.
+ */
+public class SlotPipelineBuilder {
+    private final List<CandidateSource> sources = new ArrayList<>();
+    private final List<SlotFilter> filters = new ArrayList<>();
+    private final List<SlotScorer> scorers = new ArrayList<>();
+
+    public SlotPipelineBuilder() {
+        sources.add(CandidateSources.bySlotType());
+        sources.add(CandidateSources.byRequiredService());
+        filters.add(SlotFilters.slotTypeCompatible());
+        filters.add(SlotFilters.supportsRequiredServices());
+    }
+
+    public SlotPipelineBuilder withSource(CandidateSource source) {
+        this.sources.add(source);
+        return this;
+    }
+
+    public SlotPipelineBuilder withFilter(SlotFilter filter) {
+        this.filters.add(filter);
+        return this;
+    }
+
+    public SlotPipelineBuilder withScorer(SlotScorer scorer) {
+        this.scorers.add(scorer);
+        return this;
+    }
+
+    /**
+     * Keep vehicles inside the zone returned for them (null means anywhere);
+     * adds both the zone candidate source and the matching filter
+     */
+    public SlotPipelineBuilder withZoneRestriction(Function<Vehicle, String> zoneOf) {
+        this.sources.add(CandidateSources.byZone(zoneOf));
+        this.filters.add(SlotFilters.inZone(zoneOf));
+        return this;
+    }
+
+    public SlotPipeline build() {
+        return new SlotPipeline(sources, filters, scorers);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package strategy.pipeline;
+
+import models.Vehicle;
+import models.Gate;
+import models.ParkingSlot;
+
+/**
+ * Soft preference, expressed as a cost added on top of the slot's distance from the gate.
+ *
+ * Penalties must not be negative: candidates are visited in distance order and the
+ * pipeline stops once the distance alone exceeds the best score found.
+ */
+public interface SlotScorer {
+    double penalty(Vehicle vehicle, Gate entryGate, ParkingSlot slot);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package strategy.pipeline;
+
+import enums.FuelType;
+import enums.SlotType;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import strategy.SlotCompatibility;
+
+/**
+ * Built-in slot scorers
+ */
+public final class SlotScorers {
+    private static final Service EV_CHARGING = ServiceFactory.getEVChargingService();
+
+    private SlotScorers() {
+    }
+
+    /**
+     * Keep charging bays for electric vehicles: others pay extra distance to use one
+     */
+    public static SlotScorer evPriority(double penalty) {
+        return (vehicle, entryGate, slot) -> {
+            boolean wantsCharging = vehicle.getFuelType() == FuelType.ELECTRIC
+                    || SlotCompatibility.supportsService(vehicle.getRequiredServices(), EV_CHARGING);
+            return !wantsCharging && SlotCompatibility.supportsService(slot.getSupportedServices(), EV_CHARGING)
+                    ? penalty : 0.0;
+        };
+    }
+
+    /**
+     * Extra distance per size step above the smallest slot type the vehicle fits
+     */
+    public static SlotScorer upsize(double penaltyPerStep) {
+        return (vehicle, entryGate, slot) -> {
+            for (SlotType slotType : SlotType.values()) {
+                if (SlotCompatibility.isSlotCompatible(vehicle.getVehicleType(), slotType)) {
+                    return penaltyPerStep * (slot.getSlotType().ordinal() - slotType.ordinal());
+                }
+            }
+            return 0.0;
+        };
+    }
+}
\ No newline at end of file
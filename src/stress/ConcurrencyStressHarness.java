@@ -0,0 +1,366 @@
+package stress;
+
+import enums.FuelType;
+import enums.GateType;
+import enums.SlotAvailability;
+import enums.SlotType;
+import enums.StressOperationType;
+import enums.StressOutcome;
+import enums.VehicleType;
+import models.Gate;
+import models.ParkingLot;
+import models.ParkingSlot;
+import models.ParkingSlotBuilder;
+import models.Ticket;
+import models.Vehicle;
+import service.ServiceFactory;
+import strategy.FixedPricingStrategy;
+import strategy.SlotAllotmentStrategy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency stress runs against a real ParkingLot.
+ *
+ * Worker threads start together and hammer one lot with a seeded random mix of
+ * park, unpark (including racing unparks of the same ticket), repeat entries of a
+ * parked vehicle, addParkingSlot and getOccupiedSlotCount calls. Each call is
+ * recorded with its invoke and response time, and the run is then checked twice:
+ * - the merged history, by HistoryChecker: no slot or vehicle held twice at once,
+ *   no ticket unparked twice, and every FULL, REFUSED and count result explainable
+ *   by some ordering of the overlapping calls
+ * - the quiescent lot: ticket, slot and vehicle bookkeeping agree with each other
+ *   and with the tickets the workers still hold, before and after draining them
+ *
+ * Passing is necessary, not sufficient - a clean run does not prove the lot correct,
+ * but any violation is a real bug. Runs are seeded; thread interleaving is not.
+ */
+public class ConcurrencyStressHarness {
+    private static final int PARK_PERCENT = 45;
+    private static final int UNPARK_PERCENT = 35;
+    private static final int REPEAT_ENTRY_PERCENT = 5;
+    private static final int ADD_SLOT_PERCENT = 2;
+
+    private final int threads;
+    private final int operationsPerThread;
+    private final int initialSlots;
+    private final int maxAddedSlots;
+
+    public ConcurrencyStressHarness(int threads, int operationsPerThread, int initialSlots) {
+        if (threads <= 0 || operationsPerThread <= 0 || initialSlots <= 0) {
+            throw new IllegalArgumentException("Threads, operations per thread and initial slots must be positive");
+        }
+        this.threads = threads;
+        this.operationsPerThread = operationsPerThread;
+        this.initialSlots = initialSlots;
+        this.maxAddedSlots = Math.max(1, initialSlots / 4);
+    }
+
+    /**
+     * One run against a fresh lot.
+     * @param gateCacheBatchSize if positive, entry gates use local slot caches of this batch size
+     */
+    public StressRunResult run(String scenario, Supplier<SlotAllotmentStrategy> strategyFactory,
+                               int gateCacheBatchSize, long seed) throws InterruptedException {
+        List<Gate> entryGates = Arrays.asList(new Gate("ENTRY-1", GateType.ENTRY), new Gate("ENTRY-2", GateType.ENTRY));
+        Gate exitGate = new Gate("EXIT-1", GateType.EXIT);
+        List<Gate> gates = new ArrayList<>(entryGates);
+        gates.add(exitGate);
+
+        List<ParkingSlot> slots = new ArrayList<>();
+        for (int i = 0; i < initialSlots; i++) {
+            slots.add(slot("SLOT-" + i, i, entryGates));
+        }
+        ParkingLot lot = new ParkingLot(gates, slots, new FixedPricingStrategy(), strategyFactory.get());
+        if (gateCacheBatchSize > 0) {
+            lot.enableGateCaches(gateCacheBatchSize, 50);
+        }
+
+        // Room for a ticket per slot plus one per thread for tickets whose unpark is still in flight
+        AtomicReferenceArray<HeldTicket> held = new AtomicReferenceArray<>(initialSlots + maxAddedSlots + threads);
+        AtomicInteger addedSlots = new AtomicInteger();
+        List<List<StressOperation>> histories = new ArrayList<>();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        CyclicBarrier start = new CyclicBarrier(threads);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<StressOperation> history = new ArrayList<>(operationsPerThread);
+            histories.add(history);
+            Worker worker = new Worker(t, seed, lot, entryGates, exitGate, held, addedSlots, history, errors, start);
+            workers.add(new Thread(worker, "stress-" + t));
+        }
+        long startNanos = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long wallDurationNanos = System.nanoTime() - startNanos;
+
+        List<StressOperation> operations = new ArrayList<>();
+        for (List<StressOperation> history : histories) {
+            operations.addAll(history);
+        }
+        operations.sort(Comparator.comparingLong(StressOperation::getInvokeNanos));
+
+        List<String> violations = new ArrayList<>(errors);
+        violations.addAll(new HistoryChecker(operations, initialSlots).check());
+        checkQuiescent(lot, held, initialSlots + addedSlots.get(), exitGate, violations);
+
+        Map<StressOperationType, Integer> operationCounts = new EnumMap<>(StressOperationType.class);
+        Map<StressOutcome, Integer> outcomeCounts = new EnumMap<>(StressOutcome.class);
+        for (StressOperation operation : operations) {
+            operationCounts.merge(operation.getType(), 1, Integer::sum);
+            if (operation.getType() == StressOperationType.PARK || operation.getType() == StressOperationType.UNPARK) {
+                outcomeCounts.merge(operation.getOutcome(), 1, Integer::sum);
+            }
+        }
+        return new StressRunResult(scenario, seed, operationCounts, outcomeCounts, wallDurationNanos, violations);
+    }
+
+    /**
+     * Bookkeeping checks once all workers have stopped, then again after unparking
+     * every ticket still held
+     */
+    private static void checkQuiescent(ParkingLot lot, AtomicReferenceArray<HeldTicket> held, int expectedSlots,
+                                       Gate exitGate, List<String> violations) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < held.length(); i++) {
+            HeldTicket entry = held.get(i);
+            if (entry != null) {
+                tickets.add(entry.ticket);
+            }
+        }
+
+        Set<String> heldSlots = new HashSet<>();
+        for (Ticket ticket : tickets) {
+            if (!lot.isTicketActive(ticket)) {
+                violations.add("Held ticket is not active: " + ticket.getTicketId());
+            }
+            if (ticket.getSlot().getAvailability() != SlotAvailability.OCCUPIED) {
+                violations.add("Held ticket's slot is " + ticket.getSlot().getAvailability() + ": " + ticket.getTicketId());
+            }
+            if (!heldSlots.add(ticket.getSlot().getSlotId())) {
+                violations.add("Two held tickets share slot " + ticket.getSlot().getSlotId());
+            }
+            if (!lot.isVehicleInside(ticket.getVehicle().getVehicleId())) {
+                violations.add("Parked vehicle is not marked inside: " + ticket.getVehicle().getVehicleId());
+            }
+        }
+        checkCounts(lot, tickets.size(), expectedSlots, "after run", violations);
+
+        for (Ticket ticket : tickets) {
+            try {
+                lot.unparkVehicle(ticket, exitGate);
+            } catch (RuntimeException e) {
+                violations.add("Draining unpark failed for " + ticket.getTicketId() + ": " + e.getMessage());
+            }
+        }
+        checkCounts(lot, 0, expectedSlots, "after drain", violations);
+        for (Ticket ticket : tickets) {
+            if (lot.isVehicleInside(ticket.getVehicle().getVehicleId())) {
+                violations.add("Vehicle still marked inside after drain: " + ticket.getVehicle().getVehicleId());
+            }
+        }
+    }
+
+    private static void checkCounts(ParkingLot lot, int parked, int expectedSlots, String when, List<String> violations) {
+        if (lot.getActiveTicketCount() != parked || lot.getOccupiedSlotCount() != parked) {
+            violations.add("Counts disagree " + when + ": " + parked + " parked, " + lot.getActiveTicketCount()
+                    + " active tickets, " + lot.getOccupiedSlotCount() + " occupied slots");
+        }
+        List<ParkingSlot> slots = lot.getSlots();
+        if (slots.size() != expectedSlots) {
+            violations.add("Slot list has " + slots.size() + " slots " + when + ", expected " + expectedSlots);
+        }
+        int[] scanned = new int[SlotAvailability.values().length];
+        for (ParkingSlot slot : slots) {
+            scanned[slot.getAvailability().ordinal()]++;
+        }
+        for (SlotAvailability availability : SlotAvailability.values()) {
+            if (lot.getSlotCount(availability) != scanned[availability.ordinal()]) {
+                violations.add(availability + " count " + lot.getSlotCount(availability) + " " + when
+                        + " but " + scanned[availability.ordinal()] + " slots are in that state");
+            }
+        }
+    }
+
+    private static ParkingSlot slot(String slotId, int position, List<Gate> entryGates) {
+        return new ParkingSlotBuilder()
+            .withSlotId(slotId)
+            .withSlotType(SlotType.MEDIUM)
+            .withService(ServiceFactory.getCleaningService())
+            .withDistance(entryGates.get(0), 10 + position)
+            .withDistance(entryGates.get(1), 1000 - position)
+            .build();
+    }
+
+    private final class Worker implements Runnable {
+        private final int id;
+        private final Random random;
+        private final ParkingLot lot;
+        private final List<Gate> entryGates;
+        private final Gate exitGate;
+        private final AtomicReferenceArray<HeldTicket> held;
+        private final AtomicInteger addedSlots;
+        private final List<StressOperation> history;
+        private final List<String> errors;
+        private final CyclicBarrier start;
+        private int vehicleCount;
+
+        Worker(int id, long seed, ParkingLot lot, List<Gate> entryGates, Gate exitGate,
+               AtomicReferenceArray<HeldTicket> held, AtomicInteger addedSlots, List<StressOperation> history,
+               List<String> errors, CyclicBarrier start) {
+            this.id = id;
+            this.random = new Random(seed + id);
+            this.lot = lot;
+            this.entryGates = entryGates;
+            this.exitGate = exitGate;
+            this.held = held;
+            this.addedSlots = addedSlots;
+            this.history = history;
+            this.errors = errors;
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+            } catch (InterruptedException | BrokenBarrierException e) {
+                Thread.currentThread().interrupt();
+                errors.add("Worker " + id + " did not start: " + e);
+                return;
+            }
+            for (int i = 0; i < operationsPerThread; i++) {
+                int roll = random.nextInt(100);
+                try {
+                    if (roll < PARK_PERCENT) {
+                        park(new Vehicle("T" + id + "-" + vehicleCount++, VehicleType.CAR, FuelType.PETROL,
+                                Collections.singletonList(ServiceFactory.getCleaningService())));
+                    } else if (roll < PARK_PERCENT + UNPARK_PERCENT) {
+                        unpark();
+                    } else if (roll < PARK_PERCENT + UNPARK_PERCENT + REPEAT_ENTRY_PERCENT) {
+                        HeldTicket entry = held.get(random.nextInt(held.length()));
+                        if (entry != null) {
+                            park(entry.ticket.getVehicle());
+                        }
+                    } else if (roll < PARK_PERCENT + UNPARK_PERCENT + REPEAT_ENTRY_PERCENT + ADD_SLOT_PERCENT) {
+                        addSlot();
+                    } else {
+                        long invoke = System.nanoTime();
+                        int occupied = lot.getOccupiedSlotCount();
+                        record(StressOperationType.COUNT_OCCUPIED, invoke, StressOutcome.OK, null, null, null, occupied, null);
+                    }
+                } catch (RuntimeException e) {
+                    errors.add("Unexpected " + e + " in worker " + id);
+                }
+                if (random.nextInt(16) == 0) {
+                    Thread.yield();
+                }
+            }
+        }
+
+        private void park(Vehicle vehicle) {
+            Gate gate = entryGates.get(random.nextInt(entryGates.size()));
+            long invoke = System.nanoTime();
+            Ticket ticket;
+            try {
+                ticket = lot.parkVehicle(vehicle, gate);
+            } catch (IllegalStateException e) {
+                if (e.getMessage() == null || !e.getMessage().startsWith("Vehicle is already inside")) {
+                    throw e;
+                }
+                record(StressOperationType.PARK, invoke, StressOutcome.REFUSED, vehicle.getVehicleId(), null, null, 0, null);
+                return;
+            } catch (RuntimeException e) {
+                record(StressOperationType.PARK, invoke, StressOutcome.FULL, vehicle.getVehicleId(), null, null, 0, null);
+                return;
+            }
+            StressOperation park = record(StressOperationType.PARK, invoke, StressOutcome.OK, vehicle.getVehicleId(),
+                    ticket.getTicketId(), ticket.getSlot().getSlotId(), 0, null);
+            HeldTicket entry = new HeldTicket(ticket, park);
+            // Cannot spin forever: held tickets never outnumber slots plus in-flight unparks
+            int index = random.nextInt(held.length());
+            while (!held.compareAndSet(index, null, entry)) {
+                index = (index + 1) % held.length();
+            }
+        }
+
+        /**
+         * Unpark a held ticket. The ticket stays visible to other workers until the
+         * unpark returns, so two workers may race to unpark it; only one may succeed.
+         */
+        private void unpark() {
+            int index = random.nextInt(held.length());
+            HeldTicket entry = held.get(index);
+            if (entry == null) {
+                return;
+            }
+            Ticket ticket = entry.ticket;
+            long invoke = System.nanoTime();
+            try {
+                lot.unparkVehicle(ticket, exitGate);
+            } catch (IllegalStateException e) {
+                if (e.getMessage() == null || !e.getMessage().startsWith("Ticket was not issued")) {
+                    throw e;
+                }
+                record(StressOperationType.UNPARK, invoke, StressOutcome.REFUSED, ticket.getVehicle().getVehicleId(),
+                        ticket.getTicketId(), ticket.getSlot().getSlotId(), 0, entry.park);
+                return;
+            }
+            record(StressOperationType.UNPARK, invoke, StressOutcome.OK, ticket.getVehicle().getVehicleId(),
+                    ticket.getTicketId(), ticket.getSlot().getSlotId(), 0, entry.park);
+            held.compareAndSet(index, entry, null);
+        }
+
+        private void addSlot() {
+            int added = addedSlots.getAndIncrement();
+            if (added >= maxAddedSlots) {
+                addedSlots.decrementAndGet();
+                return;
+            }
+            ParkingSlot slot = slot("SLOT-X" + id + "-" + added, initialSlots + added, entryGates);
+            long invoke = System.nanoTime();
+            lot.addParkingSlot(slot);
+            record(StressOperationType.ADD_SLOT, invoke, StressOutcome.OK, null, null, slot.getSlotId(), 0, null);
+        }
+
+        private StressOperation record(StressOperationType type, long invoke, StressOutcome outcome,
+                                       String vehicleId, String ticketId, String slotId, int value,
+                                       StressOperation park) {
+            StressOperation operation = new StressOperation(type, id, invoke, System.nanoTime(), outcome,
+                    vehicleId, ticketId, slotId, value, park);
+            history.add(operation);
+            return operation;
+        }
+    }
+
+    /**
+     * A ticket a worker may unpark, with the park that issued it
+     */
+    private static final class HeldTicket {
+        private final Ticket ticket;
+        private final StressOperation park;
+
+        private HeldTicket(Ticket ticket, StressOperation park) {
+            this.ticket = ticket;
+            this.park = park;
+        }
+    }
+}
\ No newline at end of file
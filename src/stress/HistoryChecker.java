@@ -0,0 +1,196 @@
+package stress;
+
+import enums.StressOperationType;
+import enums.StressOutcome;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks a recorded concurrent history against the sequential specification of a lot
+ * with interchangeable slots.
+ *
+ * Every operation took effect at some instant between its invocation and its response.
+ * For each kind of result the checker asks whether any such choice of instants can
+ * explain it, using only what is certain from the intervals:
+ * - a vehicle is definitely parked between its park's response and its unpark's invocation,
+ *   and possibly parked between its park's invocation and its unpark's response
+ * - two successful parks of the same slot (or vehicle) need an unpark of the first
+ *   invoked before the second responded, in one order or the other
+ * - "lot full" needs a moment when the possibly-parked vehicles could fill every slot
+ *   that definitely existed
+ * - an occupied count must lie between the definitely and the possibly parked vehicles
+ * - a refused park needs the vehicle possibly inside; a refused unpark needs the ticket
+ *   possibly already used
+ *
+ * A violation is a result no linearization can produce. The checks are necessary, not
+ * sufficient: a clean history is strong evidence, not proof.
+ */
+class HistoryChecker {
+    private static final int MAX_REPORTED = 20;
+
+    private final List<StressOperation> parks = new ArrayList<>();
+    // Keyed by the park operation itself: ticket IDs are reused once a stay has ended
+    private final Map<StressOperation, StressOperation> unparkByPark = new IdentityHashMap<>();
+    private final List<StressOperation> operations;
+    private final int initialSlots;
+    private final List<String> violations = new ArrayList<>();
+    private int violationCount;
+
+    HistoryChecker(List<StressOperation> operations, int initialSlots) {
+        this.operations = operations;
+        this.initialSlots = initialSlots;
+    }
+
+    /**
+     * @return descriptions of the first violations found (empty if none)
+     */
+    List<String> check() {
+        for (StressOperation operation : operations) {
+            if (operation.getType() == StressOperationType.PARK && operation.isOk()) {
+                parks.add(operation);
+            }
+        }
+        for (StressOperation operation : operations) {
+            if (operation.getType() == StressOperationType.UNPARK && operation.isOk()) {
+                StressOperation park = operation.getPark();
+                if (park == null || !park.isOk()) {
+                    violation("Unpark accepted a ticket that was never issued: " + operation);
+                } else if (unparkByPark.putIfAbsent(park, operation) != null) {
+                    violation("Ticket unparked twice: " + operation + " and " + unparkByPark.get(park));
+                }
+            }
+        }
+        checkExclusive(groupBy(true), "Slot");
+        checkExclusive(groupBy(false), "Vehicle");
+        for (StressOperation operation : operations) {
+            switch (operation.getType()) {
+                case PARK:
+                    if (operation.getOutcome() == StressOutcome.FULL) {
+                        checkFull(operation);
+                    } else if (operation.getOutcome() == StressOutcome.REFUSED) {
+                        checkRefusedPark(operation);
+                    }
+                    break;
+                case UNPARK:
+                    if (operation.getOutcome() == StressOutcome.REFUSED) {
+                        checkRefusedUnpark(operation);
+                    }
+                    break;
+                case COUNT_OCCUPIED:
+                    checkCount(operation);
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (violationCount > violations.size()) {
+            violations.add("... and " + (violationCount - violations.size()) + " more");
+        }
+        return violations;
+    }
+
+    private Map<String, List<StressOperation>> groupBy(boolean bySlot) {
+        Map<String, List<StressOperation>> groups = new HashMap<>();
+        for (StressOperation park : parks) {
+            String key = bySlot ? park.getSlotId() : park.getVehicleId();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(park);
+        }
+        return groups;
+    }
+
+    private void checkExclusive(Map<String, List<StressOperation>> groups, String what) {
+        for (List<StressOperation> group : groups.values()) {
+            group.sort(Comparator.comparingLong(StressOperation::getInvokeNanos));
+            for (int i = 1; i < group.size(); i++) {
+                StressOperation first = group.get(i - 1);
+                StressOperation second = group.get(i);
+                if (!releasedBefore(first, second) && !releasedBefore(second, first)) {
+                    violation(what + " held twice at once: " + first + " and " + second);
+                }
+            }
+        }
+    }
+
+    /**
+     * True if the earlier park's ticket was unparked in time for the later park to reuse its slot
+     */
+    private boolean releasedBefore(StressOperation earlier, StressOperation later) {
+        StressOperation unpark = unparkByPark.get(earlier);
+        return unpark != null && unpark.getInvokeNanos() < later.getResponseNanos();
+    }
+
+    private void checkFull(StressOperation full) {
+        int minimumSlots = initialSlots;
+        for (StressOperation operation : operations) {
+            if (operation.getType() == StressOperationType.ADD_SLOT && operation.getResponseNanos() < full.getInvokeNanos()) {
+                minimumSlots++;
+            }
+        }
+        int possiblyParked = 0;
+        for (StressOperation park : parks) {
+            if (possiblyParkedDuring(park, full)) {
+                possiblyParked++;
+            }
+        }
+        if (possiblyParked < minimumSlots) {
+            violation("Lot reported full with at most " + possiblyParked + " of at least " + minimumSlots
+                    + " slots taken: " + full);
+        }
+    }
+
+    private void checkCount(StressOperation count) {
+        int definitely = 0;
+        int possibly = 0;
+        for (StressOperation park : parks) {
+            StressOperation unpark = unparkByPark.get(park);
+            if (park.getResponseNanos() < count.getInvokeNanos()
+                    && (unpark == null || unpark.getInvokeNanos() > count.getResponseNanos())) {
+                definitely++;
+            }
+            if (possiblyParkedDuring(park, count)) {
+                possibly++;
+            }
+        }
+        if (count.getValue() < definitely || count.getValue() > possibly) {
+            violation("Occupied count " + count.getValue() + " outside [" + definitely + ", " + possibly + "]: " + count);
+        }
+    }
+
+    private void checkRefusedPark(StressOperation refused) {
+        for (StressOperation park : parks) {
+            if (park.getVehicleId().equals(refused.getVehicleId()) && possiblyParkedDuring(park, refused)) {
+                return;
+            }
+        }
+        violation("Park refused although the vehicle was not inside: " + refused);
+    }
+
+    private void checkRefusedUnpark(StressOperation refused) {
+        StressOperation unpark = unparkByPark.get(refused.getPark());
+        if (unpark == null || unpark.getInvokeNanos() > refused.getResponseNanos()) {
+            violation("Unpark refused an active ticket: " + refused);
+        }
+    }
+
+    /**
+     * True if the park's vehicle may have been in the lot at some point of the operation's interval
+     */
+    private boolean possiblyParkedDuring(StressOperation park, StressOperation operation) {
+        if (park == operation || park.getInvokeNanos() > operation.getResponseNanos()) {
+            return false;
+        }
+        StressOperation unpark = unparkByPark.get(park);
+        return unpark == null || unpark.getResponseNanos() > operation.getInvokeNanos();
+    }
+
+    private void violation(String description) {
+        violationCount++;
+        if (violations.size() < MAX_REPORTED) {
+            violations.add(description);
+        }
+    }
+}
\ No newline at end of file
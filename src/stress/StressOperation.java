@@ -0,0 +1,93 @@
+package stress;
+
+import enums.StressOperationType;
+import enums.StressOutcome;
+
+/**
+ * One completed call against the lot, with the interval (System.nanoTime) in which it ran.
+ * Operations are recorded per thread and merged after the run for checking.
+ */
+class StressOperation {
+    private final StressOperationType type;
+    private final int threadId;
+    private final long invokeNanos;
+    private final long responseNanos;
+    private final StressOutcome outcome;
+    private final String vehicleId;
+    private final String ticketId;
+    private final String slotId;
+    // Count returned by COUNT_OCCUPIED
+    private final int value;
+    // For UNPARK, the successful park that issued the ticket. Ticket IDs are only unique
+    // among live tickets, so the ID alone cannot tell two stays apart.
+    private final StressOperation park;
+
+    StressOperation(StressOperationType type, int threadId, long invokeNanos, long responseNanos,
+                    StressOutcome outcome, String vehicleId, String ticketId, String slotId, int value,
+                    StressOperation park) {
+        this.type = type;
+        this.threadId = threadId;
+        this.invokeNanos = invokeNanos;
+        this.responseNanos = responseNanos;
+        this.outcome = outcome;
+        this.vehicleId = vehicleId;
+        this.ticketId = ticketId;
+        this.slotId = slotId;
+        this.value = value;
+        this.park = park;
+    }
+
+    boolean isOk() {
+        return outcome == StressOutcome.OK;
+    }
+
+    // Getters
+    StressOperationType getType() {
+        return type;
+    }
+
+    int getThreadId() {
+        return threadId;
+    }
+
+    long getInvokeNanos() {
+        return invokeNanos;
+    }
+
+    long getResponseNanos() {
+        return responseNanos;
+    }
+
+    StressOutcome getOutcome() {
+        return outcome;
+    }
+
+    String getVehicleId() {
+        return vehicleId;
+    }
+
+    String getTicketId() {
+        return ticketId;
+    }
+
+    String getSlotId() {
+        return slotId;
+    }
+
+    int getValue() {
+        return value;
+    }
+
+    StressOperation getPark() {
+        return park;
+    }
+
+    @Override
+    public String toString() {
+        return type + "[t" + threadId + " " + invokeNanos + ".." + responseNanos + " " + outcome
+                + (vehicleId != null ? " vehicle=" + vehicleId : "")
+                + (ticketId != null ? " ticket=" + ticketId : "")
+                + (slotId != null ? " slot=" + slotId : "")
+                + (type == StressOperationType.COUNT_OCCUPIED ? " value=" + value : "") + "]";
+    }
+}
\ No newline at end of file
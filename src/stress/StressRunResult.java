@@ -0,0 +1,77 @@
+package stress;
+
+import enums.StressOperationType;
+import enums.StressOutcome;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of one stress run: what was executed and every violation found
+ */
+public class StressRunResult {
+    private final String scenario;
+    private final long seed;
+    private final Map<StressOperationType, Integer> operationCounts;
+    private final Map<StressOutcome, Integer> outcomeCounts;
+    private final long wallDurationNanos;
+    private final List<String> violations;
+
+    StressRunResult(String scenario, long seed, Map<StressOperationType, Integer> operationCounts,
+                    Map<StressOutcome, Integer> outcomeCounts, long wallDurationNanos, List<String> violations) {
+        this.scenario = scenario;
+        this.seed = seed;
+        this.operationCounts = Collections.unmodifiableMap(new EnumMap<>(operationCounts));
+        this.outcomeCounts = Collections.unmodifiableMap(new EnumMap<>(outcomeCounts));
+        this.wallDurationNanos = wallDurationNanos;
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    public boolean isClean() {
+        return violations.isEmpty();
+    }
+
+    public int getOperationCount() {
+        int total = 0;
+        for (int count : operationCounts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    // Getters
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Map<StressOperationType, Integer> getOperationCounts() {
+        return operationCounts;
+    }
+
+    /**
+     * Outcomes of park and unpark calls
+     */
+    public Map<StressOutcome, Integer> getOutcomeCounts() {
+        return outcomeCounts;
+    }
+
+    public long getWallDurationNanos() {
+        return wallDurationNanos;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s seed=%d: %d ops %s outcomes %s in %.0f ms - %s", scenario, seed, getOperationCount(),
+                operationCounts, outcomeCounts, wallDurationNanos / 1e6,
+                isClean() ? "OK" : violations.size() + " VIOLATIONS");
+    }
+}
\ No newline at end of file
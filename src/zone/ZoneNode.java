@@ -0,0 +1,187 @@
+package zone;
+
+import enums.SlotType;
+import enums.VehicleType;
+import models.Gate;
+import models.ParkingSlot;
+import service.ServiceFactory;
+import service.interfaces.Service;
+import strategy.SlotCompatibility;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * One level, zone or row of a ZoneTree.
+ *
+ * Each node keeps the free and total slot counts of its whole subtree per SlotType,
+ * and the free count per service ID, as atomic counters. A slot state change adds
+ * +1/-1 on the path from its node to the root, so reading a sign is a few volatile
+ * loads and never touches the lot's slot lock.
+ *
+ * Structure (children, own slots, gate distances) only changes under the lot's slot lock.
+ */
+public class ZoneNode {
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+
+    private final String name;
+    private final String path;
+    private final ZoneNode parent;
+    private final Map<String, ZoneNode> childByName = new ConcurrentHashMap<>();
+    // Copy-on-write so routing can iterate without locking
+    private volatile ZoneNode[] children = new ZoneNode[0];
+    private final List<ParkingSlot> ownSlots = new ArrayList<>();
+    // Nearest slot of the subtree to each gate, whatever its state - a lower bound for routing
+    private final Map<Gate, Integer> minDistanceByGate = new ConcurrentHashMap<>();
+
+    private final AtomicIntegerArray freeByType = new AtomicIntegerArray(SLOT_TYPES.length);
+    private final AtomicIntegerArray totalByType = new AtomicIntegerArray(SLOT_TYPES.length);
+    private final AtomicIntegerArray freeByService = new AtomicIntegerArray(ServiceFactory.MAX_SERVICE_IDS);
+
+    ZoneNode(String name, String path, ZoneNode parent) {
+        this.name = name;
+        this.path = path;
+        this.parent = parent;
+    }
+
+    public int getFreeCount() {
+        int free = 0;
+        for (int i = 0; i < SLOT_TYPES.length; i++) {
+            free += freeByType.get(i);
+        }
+        return free;
+    }
+
+    public int getFreeCount(SlotType slotType) {
+        return freeByType.get(slotType.ordinal());
+    }
+
+    /**
+     * Free slots in the subtree offering the service
+     */
+    public int getFreeCount(Service service) {
+        return freeByService.get(ServiceFactory.getServiceId(service));
+    }
+
+    /**
+     * Free slots in the subtree a vehicle of this type fits in
+     */
+    public int getFreeCountFor(VehicleType vehicleType) {
+        int free = 0;
+        for (SlotType slotType : SLOT_TYPES) {
+            if (SlotCompatibility.isSlotCompatible(vehicleType, slotType)) {
+                free += freeByType.get(slotType.ordinal());
+            }
+        }
+        return free;
+    }
+
+    public int getTotalCount() {
+        int total = 0;
+        for (int i = 0; i < SLOT_TYPES.length; i++) {
+            total += totalByType.get(i);
+        }
+        return total;
+    }
+
+    public int getTotalCount(SlotType slotType) {
+        return totalByType.get(slotType.ordinal());
+    }
+
+    /**
+     * Distance from the gate to the nearest slot anywhere in the subtree, free or not
+     */
+    public int getMinDistance(Gate gate) {
+        return minDistanceByGate.getOrDefault(gate, Integer.MAX_VALUE);
+    }
+
+    public ZoneNode getChild(String childName) {
+        return childByName.get(childName);
+    }
+
+    public List<ZoneNode> getChildren() {
+        return Collections.unmodifiableList(Arrays.asList(children));
+    }
+
+    /**
+     * Slots placed directly at this node rather than in a child
+     */
+    public List<ParkingSlot> getOwnSlots() {
+        return Collections.unmodifiableList(ownSlots);
+    }
+
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Full path from the root, e.g. "L2/B/R3"; empty for the root
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public ZoneNode getParent() {
+        return parent;
+    }
+
+    ZoneNode childFor(String childName, String separator) {
+        ZoneNode child = childByName.get(childName);
+        if (child == null) {
+            child = new ZoneNode(childName, isRoot() ? childName : path + separator + childName, this);
+            childByName.put(childName, child);
+            ZoneNode[] grown = Arrays.copyOf(children, children.length + 1);
+            grown[children.length] = child;
+            children = grown;
+        }
+        return child;
+    }
+
+    void addOwnSlot(ParkingSlot slot) {
+        ownSlots.add(slot);
+    }
+
+    /**
+     * Count a new slot in this node and its ancestors
+     */
+    void addSlot(ParkingSlot slot, long serviceMask, boolean free) {
+        for (ZoneNode node = this; node != null; node = node.parent) {
+            node.totalByType.incrementAndGet(slot.getSlotType().ordinal());
+            for (Map.Entry<Gate, Integer> distance : slot.getDistanceFromGate().entrySet()) {
+                node.minDistanceByGate.merge(distance.getKey(), distance.getValue(), Math::min);
+            }
+        }
+        if (free) {
+            addFree(slot.getSlotType(), serviceMask, 1);
+        }
+    }
+
+    /**
+     * Add delta (+1 or -1) to the free counters of this node and its ancestors
+     */
+    void addFree(SlotType slotType, long serviceMask, int delta) {
+        int type = slotType.ordinal();
+        for (ZoneNode node = this; node != null; node = node.parent) {
+            node.freeByType.addAndGet(type, delta);
+            long remaining = serviceMask;
+            while (remaining != 0) {
+                node.freeByService.addAndGet(Long.numberOfTrailingZeros(remaining), delta);
+                remaining &= remaining - 1;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (isRoot() ? "(lot)" : path) + ": " + getFreeCount() + "/" + getTotalCount() + " free";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package zone;
+
+import enums.SlotAvailability;
+import models.ParkingSlot;
+import models.SlotStateListener;
+import service.ServiceFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Level -> zone -> row hierarchy of a lot with aggregated free counts, for guidance
+ * signage and routing.
+ *
+ * A slot's place in the tree is its zone split on the separator, so "L2/B/R3" puts it
+ * in row R3 of zone B on level L2 (a plain "ZONE-1" is a single level). The tree is a
+ * SlotStateListener: register it with ParkingLot.addSlotStateListener, or use
+ * ZoneGuidedSlotStrategy, which owns one. Each state change costs O(depth) atomic
+ * increments; each sign read is O(1) on its node, O(depth) to look the node up.
+ */
+public class ZoneTree implements SlotStateListener {
+    public static final String DEFAULT_SEPARATOR = "/";
+
+    private final String separator;
+    private final Pattern splitter;
+    private volatile ZoneNode root = new ZoneNode("", "", null);
+    private volatile Map<String, SlotPlacement> placements = new ConcurrentHashMap<>();
+
+    public ZoneTree() {
+        this(DEFAULT_SEPARATOR);
+    }
+
+    public ZoneTree(String separator) {
+        if (separator == null || separator.isEmpty()) {
+            throw new IllegalArgumentException("Zone separator cannot be empty");
+        }
+        this.separator = separator;
+        this.splitter = Pattern.compile(Pattern.quote(separator));
+    }
+
+    /**
+     * Rebuilt into fresh nodes and swapped in, so readers never see a half-built tree
+     */
+    @Override
+    public void reset(List<ParkingSlot> slots) {
+        ZoneNode newRoot = new ZoneNode("", "", null);
+        Map<String, SlotPlacement> newPlacements = new ConcurrentHashMap<>();
+        for (ParkingSlot slot : slots) {
+            place(newRoot, newPlacements, slot);
+        }
+        placements = newPlacements;
+        root = newRoot;
+    }
+
+    @Override
+    public void onSlotAdded(ParkingSlot slot) {
+        place(root, placements, slot);
+    }
+
+    @Override
+    public void onAvailabilityChanged(ParkingSlot slot, SlotAvailability from, SlotAvailability to) {
+        if (from.isFree() == to.isFree()) {
+            return;
+        }
+        SlotPlacement placement = placements.get(slot.getSlotId());
+        if (placement != null) {
+            placement.node.addFree(slot.getSlotType(), placement.serviceMask, to.isFree() ? 1 : -1);
+        }
+    }
+
+    public ZoneNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Node for a zone path such as "L2/B", or null if no slot lies under it
+     */
+    public ZoneNode getNode(String path) {
+        ZoneNode node = root;
+        if (path == null || path.isEmpty()) {
+            return node;
+        }
+        for (String part : splitter.split(path)) {
+            node = node.getChild(part);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Node holding the slot, or null if the slot is not in the tree
+     */
+    public ZoneNode getNodeOf(ParkingSlot slot) {
+        SlotPlacement placement = placements.get(slot.getSlotId());
+        return placement == null ? null : placement.node;
+    }
+
+    public String getSeparator() {
+        return separator;
+    }
+
+    private void place(ZoneNode treeRoot, Map<String, SlotPlacement> slotPlacements, ParkingSlot slot) {
+        ZoneNode node = treeRoot;
+        String zone = slot.getZone();
+        if (zone != null && !zone.isEmpty()) {
+            for (String part : splitter.split(zone)) {
+                node = node.childFor(part, separator);
+            }
+        }
+        long serviceMask = ServiceFactory.getServiceMask(slot.getSupportedServices());
+        node.addOwnSlot(slot);
+        node.addSlot(slot, serviceMask, slot.getAvailability().isFree());
+        slotPlacements.put(slot.getSlotId(), new SlotPlacement(node, serviceMask));
+    }
+
+    private static final class SlotPlacement {
+        private final ZoneNode node;
+        private final long serviceMask;
+
+        SlotPlacement(ZoneNode node, long serviceMask) {
+            this.node = node;
+            this.serviceMask = serviceMask;
+        }
+    }
+}
\ No newline at end of file